@@ -0,0 +1,458 @@
+package com.fullcontact.apilib.generator;
+
+import com.google.googlejavaformat.java.Formatter;
+import com.google.googlejavaformat.java.FormatterException;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates ResponseTypeAdapters, the streaming TypeAdapters of the response classes, from the
+ * fields of the compiled classes. Run it with {@code ./gradlew
+ * :java-common-artifacts:generateResponseAdapters} after adding, removing or reordering a field of
+ * a response class.
+ *
+ * <p>Every class of the Response package gets an adapter, except the classes listed in {@link
+ * #EXCLUDED_CLASSES}, and so do the models shared with the requests in {@link #SHARED_MODELS}.
+ * Fields are read in their declaration order, which is the order of the constructor arguments, and
+ * the fields of FCResponse are set after the response is built. The shared models are built with
+ * their builders.
+ */
+public class ResponseAdapterGenerator {
+  private static final String MODELS_PACKAGE = "com.fullcontact.apilib.models";
+  private static final String RESPONSE_PACKAGE = MODELS_PACKAGE + ".Response";
+  private static final String OUTPUT_CLASS = "ResponseTypeAdapters";
+
+  /** Classes of the Response package whose adapters are written by hand, or which have none */
+  private static final Set<String> EXCLUDED_CLASSES =
+      new HashSet<>(
+          Arrays.asList(
+              "ResponseTypeAdapterFactory",
+              OUTPUT_CLASS,
+              "FieldMask",
+              "PersonResponse",
+              "LazyDetailsPersonResponse"));
+
+  private static final List<String> SHARED_MODELS = Arrays.asList("Location", "PersonName", "Tag");
+
+  /** Classes whose adapters can skip the fields which aren't in a FieldMask */
+  private static final Set<String> FIELD_MASK_CLASSES = new HashSet<>(Arrays.asList("Details"));
+
+  private static final Map<Class<?>, String> DEFAULT_VALUES = new HashMap<>();
+
+  static {
+    DEFAULT_VALUES.put(int.class, "0");
+    DEFAULT_VALUES.put(long.class, "0");
+    DEFAULT_VALUES.put(double.class, "0");
+    DEFAULT_VALUES.put(float.class, "0");
+    DEFAULT_VALUES.put(boolean.class, "false");
+  }
+
+  private final StringBuilder out = new StringBuilder();
+  private final Set<String> imports = new LinkedHashSet<>();
+
+  /** @param args source directory of the main source set, like src/main/java */
+  public static void main(String[] args)
+      throws IOException, ClassNotFoundException, FormatterException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: ResponseAdapterGenerator <source directory>");
+    }
+    Path responseDir = Paths.get(args[0], RESPONSE_PACKAGE.split("\\."));
+    List<Class<?>> classes = new ArrayList<>();
+    try (Stream<Path> files = Files.list(responseDir)) {
+      for (String className :
+          files
+              .map(file -> file.getFileName().toString())
+              .filter(fileName -> fileName.endsWith(".java"))
+              .map(fileName -> fileName.substring(0, fileName.length() - ".java".length()))
+              .filter(className -> !EXCLUDED_CLASSES.contains(className))
+              .collect(Collectors.toList())) {
+        classes.add(Class.forName(RESPONSE_PACKAGE + "." + className));
+      }
+    }
+    for (String sharedModel : SHARED_MODELS) {
+      classes.add(Class.forName(MODELS_PACKAGE + "." + sharedModel));
+    }
+    classes.sort(Comparator.comparing(Class::getSimpleName));
+    String source = new Formatter().formatSource(new ResponseAdapterGenerator().generate(classes));
+    Path output = responseDir.resolve(OUTPUT_CLASS + ".java");
+    Files.write(output, source.getBytes(StandardCharsets.UTF_8));
+    System.out.println("Generated " + classes.size() + " adapters in " + output);
+  }
+
+  private String generate(List<Class<?>> classes) {
+    for (Class<?> responseClass : classes) {
+      this.adapter(responseClass);
+    }
+    String adapters = this.out.toString();
+    this.out.setLength(0);
+    this.line("package " + RESPONSE_PACKAGE + ";");
+    this.line("");
+    for (Class<?> responseClass : classes) {
+      if (!responseClass.getPackage().getName().equals(RESPONSE_PACKAGE)) {
+        this.line("import " + responseClass.getName() + ";");
+      }
+    }
+    this.line("import com.google.gson.Gson;");
+    this.line("import com.google.gson.TypeAdapter;");
+    if (this.imports.contains("TypeToken")) {
+      this.line("import com.google.gson.reflect.TypeToken;");
+    }
+    this.line("import com.google.gson.stream.JsonReader;");
+    this.line("import com.google.gson.stream.JsonToken;");
+    this.line("import com.google.gson.stream.JsonWriter;");
+    this.line("");
+    this.line("import java.io.IOException;");
+    this.line("import java.util.HashMap;");
+    if (this.imports.contains("List")) {
+      this.line("import java.util.List;");
+    }
+    this.line("import java.util.Map;");
+    this.line("import java.util.function.Function;");
+    this.line("");
+    this.line("/**");
+    this.line(
+        " * Streaming TypeAdapters of the response classes, used by {@link"
+            + " ResponseTypeAdapterFactory}.");
+    this.line(" *");
+    this.line(
+        " * <p>Generated by ResponseAdapterGenerator from the fields of the response classes, don't"
+            + " edit it. Regenerate it with {@code ./gradlew"
+            + " :java-common-artifacts:generateResponseAdapters} after changing the fields of a"
+            + " response class.");
+    this.line(" */");
+    this.line("final class " + OUTPUT_CLASS + " {");
+    this.line(
+        "  static final Map<Class<?>, Function<Gson, TypeAdapter<?>>> ADAPTERS = new HashMap<>();");
+    this.line("");
+    this.line("  static {");
+    for (Class<?> responseClass : classes) {
+      String name = responseClass.getSimpleName();
+      this.line("    ADAPTERS.put(" + name + ".class, " + name + "Adapter::new);");
+    }
+    this.line("  }");
+    this.line("");
+    this.line("  private " + OUTPUT_CLASS + "() {}");
+    this.line("");
+    this.line(
+        "  /** Value read for a primitive field, or its current value if the JSON value is null */");
+    this.line("  static <T> T valueOrElse(T value, T currentValue) {");
+    this.line("    return value != null ? value : currentValue;");
+    this.line("  }");
+    this.line("");
+    this.out.append(adapters);
+    this.line("}");
+    return this.out.toString();
+  }
+
+  /** Field of a response class, with the Java source of its type and of its value in src */
+  private static final class ResponseField {
+    private final Field field;
+    private final String type;
+    private final String getter;
+
+    private ResponseField(Field field, String type, String getter) {
+      this.field = field;
+      this.type = type;
+      this.getter = getter;
+    }
+
+    private String name() {
+      return this.field.getName();
+    }
+
+    private boolean isPrimitive() {
+      return this.field.getType().isPrimitive();
+    }
+  }
+
+  private void adapter(Class<?> responseClass) {
+    String name = responseClass.getSimpleName();
+    boolean fieldMask = FIELD_MASK_CLASSES.contains(name);
+    Class<?> superclass = responseClass.getSuperclass();
+    if (superclass != Object.class && superclass.getSuperclass() != Object.class) {
+      throw new IllegalStateException(
+          name + " extends a class which isn't a direct subclass of Object");
+    }
+    List<ResponseField> ownFields = this.fields(responseClass, false);
+    List<ResponseField> superFields =
+        superclass != Object.class ? this.fields(superclass, true) : new ArrayList<>();
+    List<ResponseField> fields = new ArrayList<>(ownFields);
+    fields.addAll(superFields);
+    Map<String, String> adapters = new LinkedHashMap<>();
+    for (ResponseField field : fields) {
+      adapters.putIfAbsent(adapterName(field.field.getGenericType()), this.boxed(field));
+    }
+
+    this.line("  static final class " + name + "Adapter extends TypeAdapter<" + name + "> {");
+    adapters.forEach(
+        (adapterName, type) ->
+            this.line("    private final TypeAdapter<" + type + "> " + adapterName + ";"));
+    if (fieldMask) {
+      this.line("    private final FieldMask fieldMask;");
+    }
+    this.line("");
+    if (fieldMask) {
+      this.line("    " + name + "Adapter(Gson gson) {");
+      this.line("      this(gson, null);");
+      this.line("    }");
+      this.line("");
+      this.line("    " + name + "Adapter(Gson gson, FieldMask fieldMask) {");
+    } else {
+      this.line("    " + name + "Adapter(Gson gson) {");
+    }
+    adapters.forEach(
+        (adapterName, type) ->
+            this.line(
+                "      this."
+                    + adapterName
+                    + " = gson.getAdapter("
+                    + (type.contains("<") ? "new TypeToken<" + type + ">() {}" : type + ".class")
+                    + ");"));
+    if (fieldMask) {
+      this.line("      this.fieldMask = fieldMask;");
+    }
+    this.line("    }");
+    this.line("");
+
+    this.line("    @Override");
+    this.line("    public void write(JsonWriter writer, " + name + " src) throws IOException {");
+    this.line("      if (src == null) {");
+    this.line("        writer.nullValue();");
+    this.line("        return;");
+    this.line("      }");
+    this.line("      writer.beginObject();");
+    for (ResponseField field : fields) {
+      this.line("      writer.name(\"" + field.name() + "\");");
+      this.line(
+          "      this."
+              + adapterName(field.field.getGenericType())
+              + ".write(writer, "
+              + field.getter
+              + ");");
+    }
+    this.line("      writer.endObject();");
+    this.line("    }");
+    this.line("");
+
+    this.line("    @Override");
+    this.line("    public " + name + " read(JsonReader reader) throws IOException {");
+    this.line("      if (reader.peek() == JsonToken.NULL) {");
+    this.line("        reader.nextNull();");
+    this.line("        return null;");
+    this.line("      }");
+    for (ResponseField field : fields) {
+      this.line(
+          "      "
+              + field.type
+              + " "
+              + field.name()
+              + " = "
+              + DEFAULT_VALUES.getOrDefault(field.field.getType(), "null")
+              + ";");
+    }
+    this.line("      reader.beginObject();");
+    this.line("      while (reader.hasNext()) {");
+    if (fieldMask) {
+      this.line("        String field = reader.nextName();");
+      this.line("        if (this.fieldMask != null && !this.fieldMask.includes(field)) {");
+      this.line("          reader.skipValue();");
+      this.line("          continue;");
+      this.line("        }");
+      this.line("        switch (field) {");
+    } else {
+      this.line("        switch (reader.nextName()) {");
+    }
+    for (ResponseField field : fields) {
+      String read = "this." + adapterName(field.field.getGenericType()) + ".read(reader)";
+      this.line("          case \"" + field.name() + "\":");
+      this.line(
+          "            "
+              + field.name()
+              + " = "
+              + (field.isPrimitive() ? "valueOrElse(" + read + ", " + field.name() + ")" : read)
+              + ";");
+      this.line("            break;");
+    }
+    this.line("          default:");
+    this.line("            reader.skipValue();");
+    this.line("        }");
+    this.line("      }");
+    this.line("      reader.endObject();");
+    String arguments =
+        ownFields.stream().map(ResponseField::name).collect(Collectors.joining(", "));
+    if (!responseClass.getPackage().getName().equals(RESPONSE_PACKAGE)) {
+      // Shared models have protected constructors, outside of the Response package
+      this.line(
+          "      return "
+              + name
+              + ".builder()"
+              + ownFields.stream()
+                  .map(field -> "." + field.name() + "(" + field.name() + ")")
+                  .collect(Collectors.joining())
+              + ".build();");
+    } else if (!superFields.isEmpty()) {
+      this.line("      " + name + " response = new " + name + "(" + arguments + ");");
+      for (ResponseField field : superFields) {
+        this.line("      response." + field.name() + " = " + field.name() + ";");
+      }
+      this.line("      return response;");
+    } else {
+      this.line("      return new " + name + "(" + arguments + ");");
+    }
+    this.line("    }");
+    this.line("  }");
+    this.line("");
+  }
+
+  /**
+   * @param inherited whether the fields are inherited, these are set directly rather than passed to
+   *     the constructor
+   */
+  private List<ResponseField> fields(Class<?> declaringClass, boolean inherited) {
+    List<ResponseField> fields = new ArrayList<>();
+    for (Field field : declaringClass.getDeclaredFields()) {
+      int modifiers = field.getModifiers();
+      if (field.isSynthetic() || Modifier.isStatic(modifiers)) {
+        continue;
+      }
+      if (Modifier.isTransient(modifiers)) {
+        throw new IllegalStateException("Transient field " + field + " isn't supported");
+      }
+      if (field.getType().isPrimitive() && !DEFAULT_VALUES.containsKey(field.getType())) {
+        throw new IllegalStateException("Field " + field + " isn't supported");
+      }
+      if (Arrays.asList("reader", "src", "gson", "response", "field").contains(field.getName())) {
+        throw new IllegalStateException("Field " + field + " clashes with a generated variable");
+      }
+      String getter =
+          inherited || Modifier.isPublic(modifiers)
+              ? "src." + field.getName()
+              : "src." + getter(declaringClass, field);
+      fields.add(new ResponseField(field, this.typeName(field.getGenericType()), getter));
+    }
+    return fields;
+  }
+
+  /** Call of the Lombok getter of the field, unwrapping Optionals */
+  private static String getter(Class<?> declaringClass, Field field) {
+    String name = field.getName();
+    String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    String getterName =
+        field.getType() == boolean.class
+            ? name.matches("^is[A-Z].*") ? name : "is" + capitalized
+            : "get" + capitalized;
+    Method getter;
+    try {
+      getter = declaringClass.getMethod(getterName);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException("Field " + field + " has no getter " + getterName, e);
+    }
+    return getterName + "()" + (getter.getReturnType() == Optional.class ? ".orElse(null)" : "");
+  }
+
+  /** Java source of the type */
+  private String typeName(Type type) {
+    if (type instanceof ParameterizedType) {
+      ParameterizedType parameterizedType = (ParameterizedType) type;
+      String rawType = this.typeName(parameterizedType.getRawType());
+      return rawType
+          + Arrays.stream(parameterizedType.getActualTypeArguments())
+              .map(this::typeName)
+              .collect(Collectors.joining(", ", "<", ">"));
+    }
+    Class<?> typeClass = (Class<?>) type;
+    if (typeClass.isArray()) {
+      return this.typeName(typeClass.getComponentType()) + "[]";
+    }
+    if (typeClass == List.class) {
+      this.imports.add("List");
+    } else if (typeClass != Map.class
+        && !typeClass.isPrimitive()
+        && !typeClass.getPackage().getName().equals("java.lang")
+        && !typeClass.getPackage().getName().startsWith(MODELS_PACKAGE)) {
+      throw new IllegalStateException("Type " + typeClass + " isn't supported");
+    }
+    return typeClass.getSimpleName();
+  }
+
+  /** Java source of the type of the adapter of the field, boxing primitive types */
+  private String boxed(ResponseField field) {
+    String type = this.typeName(field.field.getGenericType());
+    if (type.contains("<")) {
+      this.imports.add("TypeToken");
+    }
+    return field.isPrimitive() ? boxedClass(field.field.getType()).getSimpleName() : type;
+  }
+
+  private static Class<?> boxedClass(Class<?> primitiveClass) {
+    if (primitiveClass == int.class) {
+      return Integer.class;
+    } else if (primitiveClass == long.class) {
+      return Long.class;
+    } else if (primitiveClass == double.class) {
+      return Double.class;
+    } else if (primitiveClass == float.class) {
+      return Float.class;
+    } else {
+      return Boolean.class;
+    }
+  }
+
+  /** Name of the adapter field of a type, like stringListAdapter for List&lt;String&gt; */
+  private static String adapterName(Type type) {
+    if (type instanceof ParameterizedType) {
+      ParameterizedType parameterizedType = (ParameterizedType) type;
+      Type[] typeArguments = parameterizedType.getActualTypeArguments();
+      if (parameterizedType.getRawType() == List.class) {
+        return withoutSuffix(adapterName(typeArguments[0])) + "ListAdapter";
+      }
+      String valueAdapter = withoutSuffix(adapterName(typeArguments[1]));
+      return decapitalize(((Class<?>) typeArguments[0]).getSimpleName())
+          + "To"
+          + Character.toUpperCase(valueAdapter.charAt(0))
+          + valueAdapter.substring(1)
+          + "MapAdapter";
+    }
+    Class<?> typeClass = (Class<?>) type;
+    if (typeClass == byte[].class) {
+      return "byteArrayAdapter";
+    }
+    return decapitalize(
+            (typeClass.isPrimitive() ? boxedClass(typeClass) : typeClass).getSimpleName())
+        + "Adapter";
+  }
+
+  private static String withoutSuffix(String adapterName) {
+    return adapterName.substring(0, adapterName.length() - "Adapter".length());
+  }
+
+  private static String decapitalize(String name) {
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private void line(String line) {
+    this.out.append(line).append('\n');
+  }
+}
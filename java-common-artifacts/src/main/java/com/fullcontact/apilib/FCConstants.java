@@ -16,6 +16,7 @@ public class FCConstants {
 
   // Response Messages
   public static final String HTTP_RESPONSE_STATUS_200_MESSAGE = "OK";
+  public static final String HTTP_RESPONSE_STATUS_404_MESSAGE = "Not Found";
   public static final String HTTP_RESPONSE_STATUS_50X_MESSAGE = "SERVER ERROR";
 
   // Resolve endpoints
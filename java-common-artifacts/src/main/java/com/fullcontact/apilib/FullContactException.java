@@ -8,4 +8,8 @@ public class FullContactException extends Exception {
   public FullContactException(String message) {
     super(message);
   }
+
+  public FullContactException(String message, Throwable cause) {
+    super(message, cause);
+  }
 }
@@ -0,0 +1,20 @@
+package com.fullcontact.apilib;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/** Outcome of warming up the connections of a FullContact client to the API host */
+@Getter
+@ToString
+@AllArgsConstructor
+public class WarmUpResult {
+  /** Number of connections asked for */
+  private final int requestedConnections;
+
+  /** Number of warm-up requests which got a response from the API host */
+  private final int connections;
+
+  /** Time taken by the warm-up, until all warm-up requests completed */
+  private final long durationMillis;
+}
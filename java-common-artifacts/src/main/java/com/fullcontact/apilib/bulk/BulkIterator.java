@@ -0,0 +1,117 @@
+package com.fullcontact.apilib.bulk;
+
+import com.fullcontact.apilib.models.Response.FCResponse;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Iterator over the results of a bulk request, returned in the order they complete. Input requests
+ * are pulled lazily from the source iterator, on the thread calling {@link #hasNext()}, so that no
+ * more than {@link BulkOptions#getMaxInFlight()} requests are ever sent but not yet returned by
+ * {@link #next()}. This keeps both the number of concurrent API calls and the memory used by
+ * buffered results bounded, independent of the size of the input.
+ *
+ * <p>Failures are captured per record in {@link BulkResult#getThrowable()}, so a single invalid
+ * request or network error doesn't abort the rest of the batch.
+ *
+ * @param <T> request type
+ * @param <R> response type
+ */
+public class BulkIterator<T, R extends FCResponse>
+    implements Iterator<BulkResult<T, R>>, AutoCloseable {
+  private final Iterator<? extends T> requests;
+  private final BulkRequestSender<T, R> sender;
+  private final int maxInFlight;
+  private final BlockingQueue<BulkResult<T, R>> completed = new LinkedBlockingQueue<>();
+  private int outstanding = 0;
+  private long submittedCount = 0;
+  private long failedCount = 0;
+  private boolean isClosed = false;
+
+  public BulkIterator(
+      Iterator<? extends T> requests, BulkOptions bulkOptions, BulkRequestSender<T, R> sender) {
+    this.requests = requests;
+    this.sender = sender;
+    this.maxInFlight = bulkOptions.getMaxInFlight();
+  }
+
+  /**
+   * Sends requests from the source iterator until the in-flight limit is reached.
+   *
+   * @return true if there is at least one result left to be returned
+   */
+  @Override
+  public boolean hasNext() {
+    while (!this.isClosed && this.outstanding < this.maxInFlight && this.requests.hasNext()) {
+      this.submit(this.requests.next());
+    }
+    return this.outstanding > 0 && !this.isClosed;
+  }
+
+  /**
+   * Waits for the next request to complete.
+   *
+   * @return result of the first request to complete, which has not already been returned
+   * @throws NoSuchElementException if all the requests have been returned
+   */
+  @Override
+  public BulkResult<T, R> next() {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException();
+    }
+    BulkResult<T, R> result;
+    try {
+      result = this.completed.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for bulk request results", e);
+    }
+    this.outstanding--;
+    if (!result.isSuccessful()) {
+      this.failedCount++;
+    }
+    return result;
+  }
+
+  private void submit(T request) {
+    this.outstanding++;
+    this.submittedCount++;
+    CompletableFuture<R> responseCF;
+    try {
+      responseCF = this.sender.send(request);
+    } catch (Exception e) {
+      this.completed.add(BulkResult.failure(request, e));
+      return;
+    }
+    responseCF.whenComplete(
+        (response, throwable) ->
+            this.completed.add(
+                throwable != null
+                    ? BulkResult.failure(request, throwable)
+                    : BulkResult.success(request, response)));
+  }
+
+  /** @return number of requests taken from the source iterator so far */
+  public long getSubmittedCount() {
+    return this.submittedCount;
+  }
+
+  /** @return number of results returned so far which were not successful */
+  public long getFailedCount() {
+    return this.failedCount;
+  }
+
+  /**
+   * Stops sending new requests. Results of requests still in flight are discarded, and the source
+   * iterator is not read any further.
+   */
+  @Override
+  public void close() {
+    this.isClosed = true;
+    this.completed.clear();
+  }
+}
@@ -0,0 +1,27 @@
+package com.fullcontact.apilib.bulk;
+
+import com.fullcontact.apilib.retry.RetryHandler;
+import lombok.Builder;
+import lombok.Getter;
+
+/** Options used by FullContact client for bulk requests */
+@Getter
+@Builder(toBuilder = true)
+public class BulkOptions {
+  public static final int DEFAULT_MAX_IN_FLIGHT = 10;
+
+  /** Maximum number of requests sent but not yet handed back to the caller */
+  @Builder.Default private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+  /** RetryHandler used for every request of the batch, defaults to the client's RetryHandler */
+  private RetryHandler retryHandler;
+
+  /** @return BulkOptions with all default values */
+  public static BulkOptions defaults() {
+    return BulkOptions.builder().build();
+  }
+
+  public int getMaxInFlight() {
+    return Math.max(this.maxInFlight, 1);
+  }
+}
@@ -0,0 +1,17 @@
+package com.fullcontact.apilib.bulk;
+
+import com.fullcontact.apilib.FullContactException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends a single request of a bulk batch, usually a method reference to one of the FullContact
+ * client API methods.
+ *
+ * @param <T> request type
+ * @param <R> response type
+ */
+@FunctionalInterface
+public interface BulkRequestSender<T, R> {
+  CompletableFuture<R> send(T request) throws FullContactException;
+}
@@ -0,0 +1,40 @@
+package com.fullcontact.apilib.bulk;
+
+import com.fullcontact.apilib.models.Response.FCResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Result of a single record of a bulk request. Exactly one of response and throwable is populated.
+ *
+ * @param <T> request type
+ * @param <R> response type
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkResult<T, R extends FCResponse> {
+  private final T request;
+  private final R response;
+  private final Throwable throwable;
+
+  static <T, R extends FCResponse> BulkResult<T, R> success(T request, R response) {
+    return new BulkResult<>(request, response, null);
+  }
+
+  static <T, R extends FCResponse> BulkResult<T, R> failure(T request, Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      throwable = throwable.getCause();
+    }
+    return new BulkResult<>(request, null, throwable);
+  }
+
+  /** @return true if the request completed and the API reported a successful status code */
+  public boolean isSuccessful() {
+    return this.throwable == null && this.response != null && this.response.isSuccessful();
+  }
+}
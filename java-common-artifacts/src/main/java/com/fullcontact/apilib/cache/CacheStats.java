@@ -0,0 +1,27 @@
+package com.fullcontact.apilib.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/** Snapshot of the statistics of a {@link ResponseCache} */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CacheStats {
+  private final long hitCount;
+  private final long missCount;
+  /** Entries removed to keep the cache within its maximum size */
+  private final long evictionCount;
+  /** Entries removed because their time to live had passed */
+  private final long expirationCount;
+
+  private final long entryCount;
+  private final long sizeBytes;
+
+  /** @return ratio of lookups which were answered from the cache, 0 if there were no lookups */
+  public double getHitRate() {
+    long requestCount = this.hitCount + this.missCount;
+    return requestCount == 0 ? 0 : (double) this.hitCount / requestCount;
+  }
+}
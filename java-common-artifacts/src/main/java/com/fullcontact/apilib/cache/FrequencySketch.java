@@ -0,0 +1,78 @@
+package com.fullcontact.apilib.cache;
+
+/**
+ * Count-min sketch estimating how often keys were accessed recently, using four rows of 4-bit
+ * counters packed sixteen to a long, so a sketch sized for n keys takes between 2n and 4n bytes.
+ * Once the number of increments reaches ten times the width of the sketch, all counters are halved,
+ * so that the estimate follows changes in popularity over time.
+ */
+class FrequencySketch {
+  private static final int DEPTH = 4;
+  private static final int MAX_COUNT = 15;
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final int[] SEEDS = {0x97cb3127, 0xc2b2ae35, 0x85ebca6b, 0x27d4eb2f};
+
+  private final long[] table;
+  private final int mask;
+  private final int sampleSize;
+  private int size;
+
+  /** @param expectedKeys number of distinct keys expected to be tracked */
+  FrequencySketch(int expectedKeys) {
+    int width = Integer.highestOneBit(Math.max(64, Math.min(expectedKeys, 1 << 22)) - 1) << 1;
+    this.table = new long[DEPTH * width / 16];
+    this.mask = width - 1;
+    this.sampleSize = 10 * width;
+  }
+
+  /** @return estimated number of recent accesses of the key, at most 15 */
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int frequency = MAX_COUNT;
+    for (int i = 0; i < DEPTH; i++) {
+      frequency = Math.min(frequency, this.count(this.index(hash, i)));
+    }
+    return frequency;
+  }
+
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int i = 0; i < DEPTH; i++) {
+      int index = this.index(hash, i);
+      if (this.count(index) < MAX_COUNT) {
+        this.table[index >>> 4] += 1L << ((index & 15) << 2);
+        added = true;
+      }
+    }
+    if (added && ++this.size >= this.sampleSize) {
+      this.reset();
+    }
+  }
+
+  private int count(int index) {
+    return (int) (this.table[index >>> 4] >>> ((index & 15) << 2)) & MAX_COUNT;
+  }
+
+  private void reset() {
+    // Halves the sixteen counters of each long at once, dropping the bits shifted across counters
+    for (int i = 0; i < this.table.length; i++) {
+      this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+    }
+    this.size /= 2;
+  }
+
+  /** @return index of the counter of the hash in the row, counting across the rows */
+  private int index(int hash, int row) {
+    int h = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+    h ^= h >>> 16;
+    return row * (this.mask + 1) + (h & this.mask);
+  }
+
+  private static int spread(int hash) {
+    hash ^= hash >>> 17;
+    hash *= 0xed5ad4bb;
+    hash ^= hash >>> 11;
+    return hash;
+  }
+}
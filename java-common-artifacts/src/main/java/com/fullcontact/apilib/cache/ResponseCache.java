@@ -0,0 +1,28 @@
+package com.fullcontact.apilib.cache;
+
+/**
+ * Cache of API responses, used by the FullContact client in front of Person and Company Enrich.
+ * Keys are built from the endpoint and the request serialized to JSON, and values are the response
+ * serialized to JSON, so that every cache hit is deserialized into a new response object.
+ * Implementations must be thread safe.
+ */
+public interface ResponseCache {
+
+  /**
+   * @param key cache key of the request
+   * @return cached response json, or null if it's not cached or has expired
+   */
+  String get(String key);
+
+  /**
+   * @param key cache key of the request
+   * @param response response json
+   */
+  void put(String key, String response);
+
+  /** Removes all entries from the cache */
+  void invalidateAll();
+
+  /** @return hit, miss and eviction counts of the cache */
+  CacheStats getStats();
+}
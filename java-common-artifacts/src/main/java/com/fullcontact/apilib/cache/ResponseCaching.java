@@ -0,0 +1,191 @@
+package com.fullcontact.apilib.cache;
+
+import com.fullcontact.apilib.FCConstants;
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.coalescing.RequestCoalescer;
+import com.fullcontact.apilib.models.Response.FCResponse;
+import com.fullcontact.apilib.models.Response.ResponseTypeAdapterFactory;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+
+/**
+ * Caching stage of the FullContact clients, in front of the {@link
+ * com.fullcontact.apilib.transport.RequestPipeline}. The response cache is used for enrich
+ * endpoints, and the response store also for the resolve and verify endpoints which don't modify
+ * any data. Requests which had no match are answered with a 404 response from the negative cache,
+ * for enrich and resolve endpoints.
+ */
+public class ResponseCaching {
+  private static final Set<FCApiEndpoint> RESPONSE_CACHE_ENDPOINTS =
+      readOnly(EnumSet.of(FCApiEndpoint.PERSON_ENRICH, FCApiEndpoint.COMPANY_ENRICH));
+  private static final Set<FCApiEndpoint> RESPONSE_STORE_ENDPOINTS =
+      readOnly(
+          EnumSet.of(
+              FCApiEndpoint.PERSON_ENRICH,
+              FCApiEndpoint.COMPANY_ENRICH,
+              FCApiEndpoint.IDENTITY_RESOLVE,
+              FCApiEndpoint.IDENTITY_RESOLVE_WITH_TAGS,
+              FCApiEndpoint.VERIFY_SIGNALS,
+              FCApiEndpoint.VERIFY_MATCH,
+              FCApiEndpoint.VERIFY_ACTIVITY));
+  private static final Set<FCApiEndpoint> NEGATIVE_CACHE_ENDPOINTS =
+      readOnly(
+          EnumSet.of(
+              FCApiEndpoint.PERSON_ENRICH,
+              FCApiEndpoint.COMPANY_ENRICH,
+              FCApiEndpoint.IDENTITY_RESOLVE,
+              FCApiEndpoint.IDENTITY_RESOLVE_WITH_TAGS));
+  private static final Gson defaultGson =
+      new GsonBuilder().registerTypeAdapterFactory(new ResponseTypeAdapterFactory()).create();
+
+  private final ResponseCache responseCache;
+  private final ResponseCache responseStore;
+  private final ResponseCache negativeCache;
+  private final Gson gson;
+
+  /**
+   * @param responseCache cache for Person and Company Enrich responses, null for none
+   * @param responseStore persistent cache for enrich, resolve and verify responses, null for none
+   * @param negativeCache cache of enrich and resolve requests which had no match, null for none
+   */
+  public ResponseCaching(
+      ResponseCache responseCache, ResponseCache responseStore, ResponseCache negativeCache) {
+    this(responseCache, responseStore, negativeCache, defaultGson);
+  }
+
+  /**
+   * @param responseCache cache for Person and Company Enrich responses, null for none
+   * @param responseStore persistent cache for enrich, resolve and verify responses, null for none
+   * @param negativeCache cache of enrich and resolve requests which had no match, null for none
+   * @param gson Gson used to serialize the cached responses and deserialize them, like the one of
+   *     the client
+   */
+  public ResponseCaching(
+      ResponseCache responseCache,
+      ResponseCache responseStore,
+      ResponseCache negativeCache,
+      Gson gson) {
+    this.responseCache = responseCache;
+    this.responseStore = responseStore;
+    this.negativeCache = negativeCache;
+    this.gson = gson;
+  }
+
+  /**
+   * Checks that the endpoints don't modify any data, responses of requests which do must not be
+   * cached.
+   */
+  private static Set<FCApiEndpoint> readOnly(Set<FCApiEndpoint> fcApiEndpoints) {
+    for (FCApiEndpoint fcApiEndpoint : fcApiEndpoints) {
+      if (!fcApiEndpoint.isReadOnly()) {
+        throw new IllegalStateException(fcApiEndpoint + " modifies data and can't be cached");
+      }
+    }
+    return fcApiEndpoints;
+  }
+
+  /**
+   * Returns the response from the response cache or the response store if there is one, otherwise
+   * sends the request using the call and adds a successful response to both of them.
+   *
+   * @param fcApiEndpoint API endpoint of the request
+   * @param requestJson request serialized to JSON, part of the cache key
+   * @param fcResponseClass response class to deserialize cached responses into
+   * @param call sends the request
+   * @param completion applied to the response, from the caches or from the call once it has been
+   *     cached, like to complete it on the callback executor of the client
+   * @return CompletableFuture with the response
+   * @throws FullContactException exception if the call fails to send the request
+   */
+  public <R extends FCResponse> CompletableFuture<R> cached(
+      FCApiEndpoint fcApiEndpoint,
+      String requestJson,
+      Class<R> fcResponseClass,
+      RequestCoalescer.Call<R> call,
+      UnaryOperator<CompletableFuture<R>> completion)
+      throws FullContactException {
+    ResponseCache responseCache =
+        RESPONSE_CACHE_ENDPOINTS.contains(fcApiEndpoint) ? this.responseCache : null;
+    ResponseCache responseStore =
+        RESPONSE_STORE_ENDPOINTS.contains(fcApiEndpoint) ? this.responseStore : null;
+    ResponseCache negativeCache =
+        NEGATIVE_CACHE_ENDPOINTS.contains(fcApiEndpoint) ? this.negativeCache : null;
+    if (responseCache == null && responseStore == null && negativeCache == null) {
+      return completion.apply(call.call());
+    }
+    // Keyed by endpoint rather than path, resolve with and without tags share their path
+    String cacheKey = fcApiEndpoint.name() + ":" + requestJson;
+    String cachedResponse = responseCache != null ? responseCache.get(cacheKey) : null;
+    if (cachedResponse == null && negativeCache != null) {
+      String notFoundResponse = negativeCache.get(cacheKey);
+      if (notFoundResponse != null) {
+        return completion.apply(
+            CompletableFuture.completedFuture(
+                this.notFoundResponse(fcResponseClass, notFoundResponse)));
+      }
+    }
+    if (cachedResponse == null && responseStore != null) {
+      cachedResponse = responseStore.get(cacheKey);
+      if (cachedResponse != null) {
+        putQuietly(responseCache, cacheKey, cachedResponse);
+      }
+    }
+    if (cachedResponse != null) {
+      return completion.apply(
+          CompletableFuture.completedFuture(this.gson.fromJson(cachedResponse, fcResponseClass)));
+    }
+    return completion.apply(
+        call.call()
+            .thenApply(
+                response -> {
+                  if (response.getStatusCode() == 200) {
+                    String responseJson = this.gson.toJson(response);
+                    putQuietly(responseCache, cacheKey, responseJson);
+                    putQuietly(responseStore, cacheKey, responseJson);
+                  } else if (response.getStatusCode() == 404) {
+                    putQuietly(
+                        negativeCache,
+                        cacheKey,
+                        this.gson.toJson(
+                            new FCResponse(
+                                true,
+                                404,
+                                response.getMessage() != null
+                                    ? response.getMessage()
+                                    : FCConstants.HTTP_RESPONSE_STATUS_404_MESSAGE)));
+                  }
+                  return response;
+                }));
+  }
+
+  /**
+   * Builds the response of a request which is known to have no match, without calling the API
+   *
+   * @param fcResponseClass response class
+   * @param notFoundResponse 404 FCResponse from the negative cache, serialized to JSON
+   */
+  private <R extends FCResponse> R notFoundResponse(
+      Class<R> fcResponseClass, String notFoundResponse) {
+    R fcResponse = this.gson.fromJson(notFoundResponse, fcResponseClass);
+    fcResponse.isSuccessful = true;
+    fcResponse.statusCode = 404;
+    return fcResponse;
+  }
+
+  private static void putQuietly(ResponseCache responseCache, String cacheKey, String response) {
+    if (responseCache == null) {
+      return;
+    }
+    try {
+      responseCache.put(cacheKey, response);
+    } catch (RuntimeException e) {
+      // Failing to cache a response, like on a full disk, must not fail the request itself
+    }
+  }
+}
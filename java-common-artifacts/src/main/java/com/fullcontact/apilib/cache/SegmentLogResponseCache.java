@@ -0,0 +1,371 @@
+package com.fullcontact.apilib.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent {@link ResponseCache} which stores responses on disk, so that they survive restarts of
+ * the JVM. Re-running a job which crashed partway, or with a different transform of the responses,
+ * then doesn't call the API again for the records already processed.
+ *
+ * <p>Responses are appended to a log of fixed size segment files in the directory, which are
+ * written and read through memory-mapped buffers. Each record holds the SHA-256 fingerprint of the
+ * cache key, its expiry time, the response and a checksum. The index from fingerprint to record is
+ * kept in memory and rebuilt by scanning the segments when the cache is opened, where a record with
+ * a bad checksum, from a crash in the middle of a write, ends the segment.
+ *
+ * <p>Responses added again and expired responses leave dead records in the log. They are removed by
+ * {@link #compact()}, which copies the live records to new segments and deletes the old ones.
+ * Compaction also runs automatically when a segment is full and more than half of the log is dead.
+ */
+public class SegmentLogResponseCache implements ResponseCache, Closeable {
+  public static final int DEFAULT_SEGMENT_SIZE_BYTES = 64 * 1024 * 1024;
+
+  private static final String SEGMENT_PREFIX = "responses-";
+  private static final String SEGMENT_SUFFIX = ".seg";
+  private static final Pattern SEGMENT_NAME =
+      Pattern.compile(Pattern.quote(SEGMENT_PREFIX) + "(\\d+)" + Pattern.quote(SEGMENT_SUFFIX));
+  private static final int FINGERPRINT_BYTES = 32;
+  // record length, expiry, fingerprint and response length, followed by response and checksum
+  private static final int HEADER_BYTES = 4 + 8 + FINGERPRINT_BYTES + 4;
+  private static final int CHECKSUM_BYTES = 8;
+
+  private final Path directory;
+  private final long ttlMillis;
+  private final int segmentSizeBytes;
+  private final List<Segment> segments = new ArrayList<>();
+  private final Map<ByteBuffer, Location> index = new HashMap<>();
+  private Segment activeSegment;
+  private long nextSegmentId = 1;
+  private long liveBytes;
+  private long totalBytes;
+  private boolean compacting;
+
+  private long hitCount;
+  private long missCount;
+  private long expirationCount;
+
+  /**
+   * Opens the cache in the directory with segments of {@link #DEFAULT_SEGMENT_SIZE_BYTES}, loading
+   * the responses already stored there.
+   *
+   * @param directory directory of the segment files, created if it doesn't exist
+   * @param ttlMillis time in milliseconds a response stays in the cache after it was added
+   * @throws IOException if the directory or segments can't be read or created
+   */
+  public SegmentLogResponseCache(Path directory, long ttlMillis) throws IOException {
+    this(directory, ttlMillis, DEFAULT_SEGMENT_SIZE_BYTES);
+  }
+
+  /**
+   * Opens the cache in the directory, loading the responses already stored there.
+   *
+   * @param directory directory of the segment files, created if it doesn't exist
+   * @param ttlMillis time in milliseconds a response stays in the cache after it was added
+   * @param segmentSizeBytes size of each segment file, responses larger than this are not stored
+   * @throws IOException if the directory or segments can't be read or created
+   */
+  public SegmentLogResponseCache(Path directory, long ttlMillis, int segmentSizeBytes)
+      throws IOException {
+    if (ttlMillis <= 0) {
+      throw new IllegalArgumentException("ttlMillis must be positive");
+    }
+    if (segmentSizeBytes < 1024) {
+      throw new IllegalArgumentException("segmentSizeBytes must be at least 1024");
+    }
+    this.directory = directory;
+    this.ttlMillis = ttlMillis;
+    this.segmentSizeBytes = segmentSizeBytes;
+    Files.createDirectories(directory);
+    this.load();
+  }
+
+  @Override
+  public synchronized String get(String key) {
+    ByteBuffer fingerprint = fingerprint(key);
+    Location location = this.index.get(fingerprint);
+    if (location == null) {
+      this.missCount++;
+      return null;
+    }
+    if (location.expireAtMillis <= System.currentTimeMillis()) {
+      this.index.remove(fingerprint);
+      this.liveBytes -= location.length;
+      this.expirationCount++;
+      this.missCount++;
+      return null;
+    }
+    this.hitCount++;
+    return new String(read(location), StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public synchronized void put(String key, String response) {
+    try {
+      this.append(
+          fingerprint(key),
+          System.currentTimeMillis() + this.ttlMillis,
+          response.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public synchronized void invalidateAll() {
+    try {
+      for (Segment segment : this.segments) {
+        segment.delete();
+      }
+      this.segments.clear();
+      this.index.clear();
+      this.liveBytes = 0;
+      this.totalBytes = 0;
+      this.activeSegment = this.newSegment();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public synchronized CacheStats getStats() {
+    return new CacheStats(
+        this.hitCount, this.missCount, 0, this.expirationCount, this.index.size(), this.liveBytes);
+  }
+
+  /** @return size in bytes of all records in the log, including dead records */
+  public synchronized long getLogSizeBytes() {
+    return this.totalBytes;
+  }
+
+  /**
+   * Copies the live records to new segments and deletes the old segments, removing responses which
+   * were replaced or have expired.
+   *
+   * @throws IOException if the new segments can't be written
+   */
+  public synchronized void compact() throws IOException {
+    this.compacting = true;
+    try {
+      List<Segment> oldSegments = new ArrayList<>(this.segments);
+      this.segments.clear();
+      this.liveBytes = 0;
+      this.totalBytes = 0;
+      this.activeSegment = this.newSegment();
+      long now = System.currentTimeMillis();
+      Map<ByteBuffer, Location> liveRecords = new HashMap<>();
+      for (Map.Entry<ByteBuffer, Location> entry : this.index.entrySet()) {
+        if (entry.getValue().expireAtMillis <= now) {
+          this.expirationCount++;
+        } else {
+          liveRecords.put(entry.getKey(), entry.getValue());
+        }
+      }
+      this.index.clear();
+      for (Map.Entry<ByteBuffer, Location> entry : liveRecords.entrySet()) {
+        Location location = entry.getValue();
+        this.append(entry.getKey(), location.expireAtMillis, read(location));
+      }
+      for (Segment segment : oldSegments) {
+        segment.delete();
+      }
+    } finally {
+      this.compacting = false;
+    }
+  }
+
+  /** Flushes the segments to disk */
+  @Override
+  public synchronized void close() {
+    for (Segment segment : this.segments) {
+      segment.buffer.force();
+    }
+  }
+
+  private void append(ByteBuffer fingerprint, long expireAtMillis, byte[] response)
+      throws IOException {
+    int length = HEADER_BYTES + response.length + CHECKSUM_BYTES;
+    if (length > this.segmentSizeBytes) {
+      return;
+    }
+    if (this.activeSegment.writePosition + length > this.segmentSizeBytes) {
+      if (!this.compacting && this.totalBytes - this.liveBytes > this.totalBytes / 2) {
+        this.compact();
+      }
+      if (this.activeSegment.writePosition + length > this.segmentSizeBytes) {
+        this.activeSegment = this.newSegment();
+      }
+    }
+    Segment segment = this.activeSegment;
+    int offset = segment.writePosition;
+    ByteBuffer buffer = segment.buffer.duplicate();
+    buffer.position(offset + 4);
+    buffer.putLong(expireAtMillis);
+    buffer.put(fingerprint.duplicate());
+    buffer.putInt(response.length);
+    buffer.put(response);
+    buffer.putLong(checksum(segment.buffer, offset + 4, length - 4 - CHECKSUM_BYTES));
+    // The length is written last, so a record is only visible once it's complete
+    segment.buffer.putInt(offset, length);
+    segment.writePosition += length;
+    this.totalBytes += length;
+    this.index(fingerprint, new Location(segment, offset, length, expireAtMillis));
+  }
+
+  private void index(ByteBuffer fingerprint, Location location) {
+    Location previous = this.index.put(fingerprint, location);
+    if (previous != null) {
+      this.liveBytes -= previous.length;
+    }
+    this.liveBytes += location.length;
+  }
+
+  /** Maps the existing segments in order and rebuilds the index from their records */
+  private void load() throws IOException {
+    List<Long> segmentIds = new ArrayList<>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory)) {
+      for (Path file : files) {
+        Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+          segmentIds.add(Long.parseLong(matcher.group(1)));
+        }
+      }
+    }
+    segmentIds.sort(null);
+    long now = System.currentTimeMillis();
+    for (long segmentId : segmentIds) {
+      Segment segment = this.openSegment(segmentId);
+      this.segments.add(segment);
+      ByteBuffer buffer = segment.buffer.duplicate();
+      int offset = 0;
+      while (offset + HEADER_BYTES + CHECKSUM_BYTES <= buffer.capacity()) {
+        int length = buffer.getInt(offset);
+        if (length < HEADER_BYTES + CHECKSUM_BYTES || offset + length > buffer.capacity()) {
+          break;
+        }
+        long storedChecksum = buffer.getLong(offset + length - CHECKSUM_BYTES);
+        if (storedChecksum != checksum(buffer, offset + 4, length - 4 - CHECKSUM_BYTES)) {
+          break;
+        }
+        long expireAtMillis = buffer.getLong(offset + 4);
+        byte[] fingerprint = new byte[FINGERPRINT_BYTES];
+        buffer.position(offset + 12);
+        buffer.get(fingerprint);
+        this.totalBytes += length;
+        if (expireAtMillis > now) {
+          this.index(
+              ByteBuffer.wrap(fingerprint), new Location(segment, offset, length, expireAtMillis));
+        } else {
+          // A newer record of the same key would have been added later in the log
+          Location previous = this.index.remove(ByteBuffer.wrap(fingerprint));
+          if (previous != null) {
+            this.liveBytes -= previous.length;
+          }
+        }
+        offset += length;
+      }
+      segment.writePosition = offset;
+    }
+    if (this.segments.isEmpty()) {
+      this.activeSegment = this.newSegment();
+    } else {
+      this.activeSegment = this.segments.get(this.segments.size() - 1);
+    }
+  }
+
+  private Segment newSegment() throws IOException {
+    Segment segment = this.openSegment(this.nextSegmentId);
+    this.segments.add(segment);
+    return segment;
+  }
+
+  private Segment openSegment(long segmentId) throws IOException {
+    this.nextSegmentId = Math.max(this.nextSegmentId, segmentId + 1);
+    Path file =
+        this.directory.resolve(
+            String.format("%s%010d%s", SEGMENT_PREFIX, segmentId, SEGMENT_SUFFIX));
+    try (FileChannel channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      long size = Math.max(channel.size(), this.segmentSizeBytes);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      return new Segment(segmentId, file, buffer);
+    }
+  }
+
+  private static byte[] read(Location location) {
+    ByteBuffer buffer = location.segment.buffer.duplicate();
+    buffer.position(location.offset + HEADER_BYTES - 4);
+    byte[] response = new byte[buffer.getInt()];
+    buffer.get(response);
+    return response;
+  }
+
+  private static long checksum(ByteBuffer buffer, int offset, int length) {
+    byte[] bytes = new byte[length];
+    ByteBuffer slice = buffer.duplicate();
+    slice.position(offset);
+    slice.get(bytes);
+    CRC32 crc32 = new CRC32();
+    crc32.update(bytes, 0, length);
+    return crc32.getValue();
+  }
+
+  private static ByteBuffer fingerprint(String key) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return ByteBuffer.wrap(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class Segment {
+    private final long id;
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+
+    private Segment(long id, Path file, MappedByteBuffer buffer) {
+      this.id = id;
+      this.file = file;
+      this.buffer = buffer;
+    }
+
+    private void delete() throws IOException {
+      Files.deleteIfExists(this.file);
+    }
+  }
+
+  private static final class Location {
+    private final Segment segment;
+    private final int offset;
+    private final int length;
+    private final long expireAtMillis;
+
+    private Location(Segment segment, int offset, int length, long expireAtMillis) {
+      this.segment = segment;
+      this.offset = offset;
+      this.length = length;
+      this.expireAtMillis = expireAtMillis;
+    }
+  }
+}
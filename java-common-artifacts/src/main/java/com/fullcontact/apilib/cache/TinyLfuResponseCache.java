@@ -0,0 +1,268 @@
+package com.fullcontact.apilib.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory {@link ResponseCache} bounded by size in bytes, with a time to live for each entry. It
+ * uses the W-TinyLFU eviction policy: new entries go into a small LRU window, and when they leave
+ * the window they are only admitted to the main cache if they have been used more often recently
+ * than the entry they would replace. The main cache is a segmented LRU, where entries used again
+ * are protected from being evicted by entries used only once. This keeps frequently enriched
+ * records in the cache even when many records are enriched only once.
+ *
+ * <p>The size of an entry is estimated from the length of its key and response json. Expired
+ * entries are removed when they are looked up or when they reach the end of the LRU order.
+ */
+public class TinyLfuResponseCache implements ResponseCache {
+  private static final double WINDOW_RATIO = 0.01;
+  private static final double PROTECTED_RATIO = 0.8;
+  private static final int ENTRY_OVERHEAD_BYTES = 64;
+  // Small estimate of the entry size, so the frequency sketch has room for every entry
+  private static final int ESTIMATED_ENTRY_BYTES = 512;
+
+  private final long maxSizeBytes;
+  private final long ttlNanos;
+  private final long windowMaxBytes;
+  private final long protectedMaxBytes;
+  private final FrequencySketch sketch;
+
+  private final Map<String, Entry> entries = new HashMap<>();
+  // Insertion ordered, so the first entry of each segment is the least recently used
+  private final LinkedHashMap<String, Entry> window = new LinkedHashMap<>();
+  private final LinkedHashMap<String, Entry> probation = new LinkedHashMap<>();
+  private final LinkedHashMap<String, Entry> protectedSegment = new LinkedHashMap<>();
+  private long sizeBytes;
+  private long windowBytes;
+  private long protectedBytes;
+
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+  private long expirationCount;
+
+  /**
+   * @param maxSizeBytes maximum estimated size of all cached responses in bytes
+   * @param ttlMillis time in milliseconds a response stays in the cache after it was added
+   */
+  public TinyLfuResponseCache(long maxSizeBytes, long ttlMillis) {
+    if (maxSizeBytes <= 0) {
+      throw new IllegalArgumentException("maxSizeBytes must be positive");
+    }
+    if (ttlMillis <= 0) {
+      throw new IllegalArgumentException("ttlMillis must be positive");
+    }
+    this.maxSizeBytes = maxSizeBytes;
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    this.windowMaxBytes = (long) (maxSizeBytes * WINDOW_RATIO);
+    this.protectedMaxBytes = (long) ((maxSizeBytes - this.windowMaxBytes) * PROTECTED_RATIO);
+    this.sketch =
+        new FrequencySketch((int) Math.min(Integer.MAX_VALUE, maxSizeBytes / ESTIMATED_ENTRY_BYTES));
+  }
+
+  @Override
+  public synchronized String get(String key) {
+    this.sketch.increment(key);
+    Entry entry = this.entries.get(key);
+    if (entry == null) {
+      this.missCount++;
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime())) {
+      this.remove(entry);
+      this.expirationCount++;
+      this.missCount++;
+      return null;
+    }
+    this.hitCount++;
+    this.onAccess(entry);
+    return entry.response;
+  }
+
+  @Override
+  public synchronized void put(String key, String response) {
+    Entry existing = this.entries.get(key);
+    if (existing != null) {
+      this.remove(existing);
+    }
+    long weight = 2L * (key.length() + response.length()) + ENTRY_OVERHEAD_BYTES;
+    if (weight > this.maxSizeBytes) {
+      return;
+    }
+    this.sketch.increment(key);
+    Entry entry = new Entry(key, response, weight, System.nanoTime() + this.ttlNanos);
+    this.entries.put(key, entry);
+    this.window.put(key, entry);
+    this.windowBytes += weight;
+    this.sizeBytes += weight;
+    this.evict();
+  }
+
+  @Override
+  public synchronized void invalidateAll() {
+    this.entries.clear();
+    this.window.clear();
+    this.probation.clear();
+    this.protectedSegment.clear();
+    this.sizeBytes = 0;
+    this.windowBytes = 0;
+    this.protectedBytes = 0;
+  }
+
+  @Override
+  public synchronized CacheStats getStats() {
+    return new CacheStats(
+        this.hitCount,
+        this.missCount,
+        this.evictionCount,
+        this.expirationCount,
+        this.entries.size(),
+        this.sizeBytes);
+  }
+
+  /** Moves an entry which was used again towards the protected segment */
+  private void onAccess(Entry entry) {
+    switch (entry.segment) {
+      case WINDOW:
+        this.window.remove(entry.key);
+        this.window.put(entry.key, entry);
+        break;
+      case PROBATION:
+        this.probation.remove(entry.key);
+        entry.segment = Segment.PROTECTED;
+        this.protectedSegment.put(entry.key, entry);
+        this.protectedBytes += entry.weight;
+        // Entries pushed out of the protected segment get another chance in probation
+        while (this.protectedBytes > this.protectedMaxBytes && this.protectedSegment.size() > 1) {
+          Entry demoted = removeFirst(this.protectedSegment);
+          this.protectedBytes -= demoted.weight;
+          demoted.segment = Segment.PROBATION;
+          this.probation.put(demoted.key, demoted);
+        }
+        break;
+      case PROTECTED:
+        this.protectedSegment.remove(entry.key);
+        this.protectedSegment.put(entry.key, entry);
+        break;
+    }
+  }
+
+  private void evict() {
+    while (this.windowBytes > this.windowMaxBytes) {
+      Entry candidate = removeFirst(this.window);
+      this.windowBytes -= candidate.weight;
+      candidate.segment = Segment.PROBATION;
+      this.probation.put(candidate.key, candidate);
+      this.admit(candidate);
+    }
+    // The window can't overflow, but a new entry can still push the total over the maximum
+    while (this.sizeBytes > this.maxSizeBytes) {
+      this.evictEntry(this.victim(null));
+    }
+  }
+
+  /**
+   * Makes room for a candidate which just left the window, by evicting either the least recently
+   * used entries of the main cache or the candidate itself, whichever was used less often.
+   */
+  private void admit(Entry candidate) {
+    long now = System.nanoTime();
+    while (this.sizeBytes > this.maxSizeBytes) {
+      Entry victim = this.victim(candidate);
+      if (victim == null || candidate.isExpired(now)) {
+        this.evictEntry(candidate);
+        return;
+      }
+      if (victim.isExpired(now)
+          || this.sketch.frequency(candidate.key) > this.sketch.frequency(victim.key)) {
+        this.evictEntry(victim);
+      } else {
+        this.evictEntry(candidate);
+        return;
+      }
+    }
+  }
+
+  /** @return least recently used entry other than the candidate, preferring probation entries */
+  private Entry victim(Entry candidate) {
+    Entry victim = firstExcept(this.probation, candidate);
+    if (victim == null) {
+      victim = firstExcept(this.protectedSegment, candidate);
+    }
+    if (victim == null) {
+      victim = firstExcept(this.window, candidate);
+    }
+    return victim;
+  }
+
+  private static Entry firstExcept(LinkedHashMap<String, Entry> segment, Entry excluded) {
+    for (Entry entry : segment.values()) {
+      if (entry != excluded) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private void evictEntry(Entry entry) {
+    this.remove(entry);
+    if (entry.isExpired(System.nanoTime())) {
+      this.expirationCount++;
+    } else {
+      this.evictionCount++;
+    }
+  }
+
+  private void remove(Entry entry) {
+    this.entries.remove(entry.key);
+    this.sizeBytes -= entry.weight;
+    switch (entry.segment) {
+      case WINDOW:
+        this.window.remove(entry.key);
+        this.windowBytes -= entry.weight;
+        break;
+      case PROBATION:
+        this.probation.remove(entry.key);
+        break;
+      case PROTECTED:
+        this.protectedSegment.remove(entry.key);
+        this.protectedBytes -= entry.weight;
+        break;
+    }
+  }
+
+  private static Entry removeFirst(LinkedHashMap<String, Entry> segment) {
+    Iterator<Entry> iterator = segment.values().iterator();
+    Entry first = iterator.next();
+    iterator.remove();
+    return first;
+  }
+
+  private enum Segment {
+    WINDOW,
+    PROBATION,
+    PROTECTED
+  }
+
+  private static final class Entry {
+    private final String key;
+    private final String response;
+    private final long weight;
+    private final long expireAtNanos;
+    private Segment segment = Segment.WINDOW;
+
+    private Entry(String key, String response, long weight, long expireAtNanos) {
+      this.key = key;
+      this.response = response;
+      this.weight = weight;
+      this.expireAtNanos = expireAtNanos;
+    }
+
+    private boolean isExpired(long now) {
+      return now - this.expireAtNanos >= 0;
+    }
+  }
+}
@@ -0,0 +1,279 @@
+package com.fullcontact.apilib.circuitbreaker;
+
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Circuit breaker for a single API endpoint. While closed, the outcome of the most recent calls is
+ * kept in a sliding window, and once the failure rate or the slow call rate in it reaches its
+ * threshold the circuit opens. While open, requests fail right away with a {@link
+ * CircuitBreakerOpenException} instead of being sent. After the open duration the circuit becomes
+ * half open and lets a limited number of probe calls through: if they succeed the circuit closes
+ * again, otherwise it opens for another open duration.
+ *
+ * <p>Exceptions and server errors (5xx) count as failures. Other responses, including 4xx and 429,
+ * are answers from a healthy API and count as successful calls.
+ */
+public class CircuitBreaker {
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  /** Called when the circuit breaker of an endpoint changes state */
+  @FunctionalInterface
+  public interface StateListener {
+    void onStateChange(FCApiEndpoint fcApiEndpoint, State fromState, State toState);
+  }
+
+  private final FCApiEndpoint fcApiEndpoint;
+  private final CircuitBreakerConfig config;
+  private final long slowCallDurationNanos;
+  private final List<StateListener> stateListeners = new CopyOnWriteArrayList<>();
+
+  private State state = State.CLOSED;
+  // Outcomes of the most recent calls while closed, or of the probe calls while half open
+  private final boolean[] failedCalls;
+  private final boolean[] slowCalls;
+  private int callCount;
+  private int nextCall;
+  private int failedCallCount;
+  private int slowCallCount;
+  private long openedAtNanos;
+  private int permittedProbeCalls;
+
+  public CircuitBreaker(FCApiEndpoint fcApiEndpoint, CircuitBreakerConfig config) {
+    if (config.getFailureRateThreshold() <= 0 || config.getFailureRateThreshold() > 1) {
+      throw new IllegalArgumentException("failureRateThreshold must be between 0 and 1");
+    }
+    if (config.getSlowCallRateThreshold() <= 0 || config.getSlowCallRateThreshold() > 1) {
+      throw new IllegalArgumentException("slowCallRateThreshold must be between 0 and 1");
+    }
+    this.fcApiEndpoint = fcApiEndpoint;
+    this.config = config;
+    this.slowCallDurationNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDurationMillis());
+    int windowSize =
+        Math.max(config.getSlidingWindowSize(), config.getPermittedCallsInHalfOpenState());
+    this.failedCalls = new boolean[windowSize];
+    this.slowCalls = new boolean[windowSize];
+  }
+
+  /**
+   * Creates a circuit breaker for every API endpoint, all of them using the same config.
+   *
+   * @param config options of the circuit breakers
+   * @return CircuitBreaker for each FCApiEndpoint
+   */
+  public static Map<FCApiEndpoint, CircuitBreaker> forAllEndpoints(CircuitBreakerConfig config) {
+    Map<FCApiEndpoint, CircuitBreaker> circuitBreakers = new EnumMap<>(FCApiEndpoint.class);
+    for (FCApiEndpoint fcApiEndpoint : FCApiEndpoint.values()) {
+      circuitBreakers.put(fcApiEndpoint, new CircuitBreaker(fcApiEndpoint, config));
+    }
+    return Collections.unmodifiableMap(circuitBreakers);
+  }
+
+  public FCApiEndpoint getFcApiEndpoint() {
+    return this.fcApiEndpoint;
+  }
+
+  public CircuitBreakerConfig getConfig() {
+    return this.config;
+  }
+
+  /**
+   * Adds a listener called on every state change, on the thread which caused the change.
+   *
+   * @param stateListener listener to add
+   */
+  public void addStateListener(StateListener stateListener) {
+    this.stateListeners.add(stateListener);
+  }
+
+  /** @return current state, moving from open to half open if the open duration has passed */
+  public State getState() {
+    State fromState;
+    State state;
+    synchronized (this) {
+      fromState = this.state;
+      this.halfOpenIfOpenDurationPassed();
+      state = this.state;
+    }
+    this.notifyStateChange(fromState, state);
+    return state;
+  }
+
+  /** @return fraction of failed calls in the sliding window, 0 if there were no calls */
+  public synchronized double getFailureRate() {
+    return this.callCount == 0 ? 0 : (double) this.failedCallCount / this.callCount;
+  }
+
+  /** @return fraction of slow calls in the sliding window, 0 if there were no calls */
+  public synchronized double getSlowCallRate() {
+    return this.callCount == 0 ? 0 : (double) this.slowCallCount / this.callCount;
+  }
+
+  /**
+   * Sends the request using the call if the circuit breaker permits it and records its outcome.
+   * Cancelling the returned CompletableFuture cancels the one of the call.
+   *
+   * @param call sends the request
+   * @param statusCode returns the HTTP status code of a response
+   * @param <T> response type
+   * @return CompletableFuture with the response, or completed exceptionally with a {@link
+   *     CircuitBreakerOpenException} if the circuit is open
+   */
+  public <T> CompletableFuture<T> execute(
+      Supplier<CompletableFuture<T>> call, ToIntFunction<T> statusCode) {
+    if (!this.tryAcquirePermission()) {
+      CompletableFuture<T> rejectedCF = new CompletableFuture<>();
+      rejectedCF.completeExceptionally(new CircuitBreakerOpenException(this.fcApiEndpoint));
+      return rejectedCF;
+    }
+    long startNanos = System.nanoTime();
+    CompletableFuture<T> responseCF;
+    try {
+      responseCF = call.get();
+    } catch (RuntimeException e) {
+      this.onResult(System.nanoTime() - startNanos, true);
+      throw e;
+    }
+    CompletableFuture<T> resultCF = new CompletableFuture<>();
+    responseCF.whenComplete(
+        (response, throwable) -> {
+          try {
+            this.onResult(
+                System.nanoTime() - startNanos,
+                throwable != null || statusCode.applyAsInt(response) >= 500);
+          } finally {
+            if (throwable != null) {
+              resultCF.completeExceptionally(throwable);
+            } else {
+              resultCF.complete(response);
+            }
+          }
+        });
+    resultCF.whenComplete(
+        (response, throwable) -> {
+          if (throwable != null) {
+            responseCF.cancel(true);
+          }
+        });
+    return resultCF;
+  }
+
+  /**
+   * Checks whether a call can be made. While half open, every permitted call is a probe call whose
+   * outcome has to be reported using {@link #onResult(long, boolean)}.
+   *
+   * @return true if the call can be made, false if the circuit is open
+   */
+  public boolean tryAcquirePermission() {
+    State fromState;
+    State toState;
+    boolean permitted;
+    synchronized (this) {
+      fromState = this.state;
+      this.halfOpenIfOpenDurationPassed();
+      if (this.state == State.CLOSED) {
+        permitted = true;
+      } else if (this.state == State.HALF_OPEN
+          && this.permittedProbeCalls < this.config.getPermittedCallsInHalfOpenState()) {
+        this.permittedProbeCalls++;
+        permitted = true;
+      } else {
+        permitted = false;
+      }
+      toState = this.state;
+    }
+    this.notifyStateChange(fromState, toState);
+    return permitted;
+  }
+
+  /**
+   * Records the outcome of a call.
+   *
+   * @param durationNanos time the call took
+   * @param failed true if the call failed
+   */
+  public void onResult(long durationNanos, boolean failed) {
+    State fromState;
+    State toState;
+    synchronized (this) {
+      fromState = this.state;
+      if (this.state == State.OPEN
+          || (this.state == State.HALF_OPEN && this.callCount >= this.permittedProbeCalls)) {
+        // Calls made before the circuit opened, or more calls than probes were let through
+        return;
+      }
+      this.record(failed, durationNanos >= this.slowCallDurationNanos);
+      if (this.state == State.CLOSED) {
+        if (this.callCount >= this.config.getMinimumNumberOfCalls() && this.isOverThreshold()) {
+          this.transitionTo(State.OPEN);
+        }
+      } else if (this.callCount >= this.config.getPermittedCallsInHalfOpenState()) {
+        this.transitionTo(this.isOverThreshold() ? State.OPEN : State.CLOSED);
+      }
+      toState = this.state;
+    }
+    this.notifyStateChange(fromState, toState);
+  }
+
+  private void record(boolean failed, boolean slow) {
+    int windowSize =
+        this.state == State.CLOSED ? this.config.getSlidingWindowSize() : this.failedCalls.length;
+    if (this.callCount == windowSize) {
+      this.failedCallCount -= this.failedCalls[this.nextCall] ? 1 : 0;
+      this.slowCallCount -= this.slowCalls[this.nextCall] ? 1 : 0;
+    } else {
+      this.callCount++;
+    }
+    this.failedCalls[this.nextCall] = failed;
+    this.slowCalls[this.nextCall] = slow;
+    this.failedCallCount += failed ? 1 : 0;
+    this.slowCallCount += slow ? 1 : 0;
+    this.nextCall = (this.nextCall + 1) % windowSize;
+  }
+
+  private boolean isOverThreshold() {
+    return this.failedCallCount >= this.config.getFailureRateThreshold() * this.callCount
+        || this.slowCallCount >= this.config.getSlowCallRateThreshold() * this.callCount;
+  }
+
+  private void halfOpenIfOpenDurationPassed() {
+    if (this.state == State.OPEN
+        && System.nanoTime() - this.openedAtNanos
+            >= TimeUnit.MILLISECONDS.toNanos(this.config.getOpenDurationMillis())) {
+      this.transitionTo(State.HALF_OPEN);
+    }
+  }
+
+  private void transitionTo(State state) {
+    this.state = state;
+    this.callCount = 0;
+    this.nextCall = 0;
+    this.failedCallCount = 0;
+    this.slowCallCount = 0;
+    this.permittedProbeCalls = 0;
+    if (state == State.OPEN) {
+      this.openedAtNanos = System.nanoTime();
+    }
+  }
+
+  private void notifyStateChange(State fromState, State toState) {
+    if (fromState != toState) {
+      for (StateListener stateListener : this.stateListeners) {
+        stateListener.onStateChange(this.fcApiEndpoint, fromState, toState);
+      }
+    }
+  }
+}
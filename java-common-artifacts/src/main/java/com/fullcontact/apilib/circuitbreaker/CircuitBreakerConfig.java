@@ -0,0 +1,56 @@
+package com.fullcontact.apilib.circuitbreaker;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/** Options used by {@link CircuitBreaker} to decide when to stop sending requests to an endpoint */
+@Getter
+@Builder(toBuilder = true)
+public class CircuitBreakerConfig {
+  public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+  public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 0.5;
+  public static final long DEFAULT_SLOW_CALL_DURATION_MILLIS = 5000;
+  public static final int DEFAULT_SLIDING_WINDOW_SIZE = 50;
+  public static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 20;
+  public static final long DEFAULT_OPEN_DURATION_MILLIS = 30000;
+  public static final int DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 5;
+
+  /** Fraction of failed calls in the sliding window at which the circuit opens */
+  @Builder.Default private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+
+  /** Fraction of slow calls in the sliding window at which the circuit opens */
+  @Builder.Default private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+
+  /** Calls taking at least this long are counted as slow */
+  @Builder.Default private long slowCallDurationMillis = DEFAULT_SLOW_CALL_DURATION_MILLIS;
+
+  /** Number of most recent calls the failure and slow call rates are calculated on */
+  @Builder.Default private int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+
+  /** Number of calls needed in the sliding window before the circuit can open */
+  @Builder.Default private int minimumNumberOfCalls = DEFAULT_MINIMUM_NUMBER_OF_CALLS;
+
+  /** Time the circuit stays open before probe calls are let through */
+  @Builder.Default private long openDurationMillis = DEFAULT_OPEN_DURATION_MILLIS;
+
+  /** Number of probe calls let through while half open, to decide whether to close the circuit */
+  @Builder.Default
+  private int permittedCallsInHalfOpenState = DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+
+  /** @return CircuitBreakerConfig with all default values */
+  public static CircuitBreakerConfig defaults() {
+    return CircuitBreakerConfig.builder().build();
+  }
+
+  public int getSlidingWindowSize() {
+    return Math.max(this.slidingWindowSize, 1);
+  }
+
+  public int getMinimumNumberOfCalls() {
+    return Math.max(Math.min(this.minimumNumberOfCalls, this.getSlidingWindowSize()), 1);
+  }
+
+  public int getPermittedCallsInHalfOpenState() {
+    return Math.max(this.permittedCallsInHalfOpenState, 1);
+  }
+}
@@ -0,0 +1,22 @@
+package com.fullcontact.apilib.circuitbreaker;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+
+/** Thrown when a request is not sent because the circuit breaker of its endpoint is open */
+public class CircuitBreakerOpenException extends FullContactException {
+
+  private static final long serialVersionUID = 2386015410945826471L;
+
+  private final FCApiEndpoint fcApiEndpoint;
+
+  public CircuitBreakerOpenException(FCApiEndpoint fcApiEndpoint) {
+    super("Circuit breaker for " + fcApiEndpoint + " is open, request not sent");
+    this.fcApiEndpoint = fcApiEndpoint;
+  }
+
+  /** @return endpoint whose circuit breaker rejected the request */
+  public FCApiEndpoint getFcApiEndpoint() {
+    return this.fcApiEndpoint;
+  }
+}
@@ -0,0 +1,102 @@
+package com.fullcontact.apilib.coalescing;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import lombok.EqualsAndHashCode;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Single-flight coalescing of identical requests. While a request to an endpoint is in flight,
+ * equal requests to the same endpoint don't go over the wire again, they wait for the response of
+ * the request in flight instead. Requests are compared using their equals and hashCode, so they
+ * must not be modified after they are sent. Once the response arrives, the next equal request is
+ * sent again, as this is not a cache.
+ *
+ * <p>Each caller gets its own CompletableFuture, but all of them are completed with the same
+ * response object.
+ */
+public class RequestCoalescer {
+  private final ConcurrentMap<Key, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder coalescedCount = new LongAdder();
+
+  /** Sends a request, returning a CompletableFuture with the response */
+  @FunctionalInterface
+  public interface Call<R> {
+    CompletableFuture<R> call() throws FullContactException;
+  }
+
+  /**
+   * Sends the request using the call, unless an equal request to the same endpoint is already in
+   * flight, in which case the response of that request is shared.
+   *
+   * @param fcApiEndpoint endpoint of the request
+   * @param request request used to detect duplicates
+   * @param call sends the request if no equal request is in flight
+   * @param <R> response type
+   * @return CompletableFuture with the response
+   * @throws FullContactException if the call fails to send the request
+   */
+  @SuppressWarnings("unchecked")
+  public <R> CompletableFuture<R> coalesce(
+      FCApiEndpoint fcApiEndpoint, Object request, Call<R> call) throws FullContactException {
+    this.requestCount.increment();
+    Key key = new Key(fcApiEndpoint, request);
+    CompletableFuture<R> sharedCF = new CompletableFuture<>();
+    CompletableFuture<R> inFlightCF =
+        (CompletableFuture<R>) this.inFlight.putIfAbsent(key, sharedCF);
+    if (inFlightCF != null) {
+      this.coalescedCount.increment();
+      return inFlightCF.thenApply(Function.identity());
+    }
+    try {
+      call.call()
+          .whenComplete(
+              (response, throwable) -> {
+                // Removed before completing, so requests made after the response is out are sent
+                this.inFlight.remove(key, sharedCF);
+                if (throwable != null) {
+                  sharedCF.completeExceptionally(throwable);
+                } else {
+                  sharedCF.complete(response);
+                }
+              });
+    } catch (FullContactException | RuntimeException e) {
+      this.inFlight.remove(key, sharedCF);
+      sharedCF.completeExceptionally(e);
+      throw e;
+    }
+    return sharedCF.thenApply(Function.identity());
+  }
+
+  /** @return number of requests passed to the coalescer */
+  public long getRequestCount() {
+    return this.requestCount.sum();
+  }
+
+  /** @return number of requests which shared the response of an equal request in flight */
+  public long getCoalescedCount() {
+    return this.coalescedCount.sum();
+  }
+
+  /** @return number of distinct requests currently in flight */
+  public int getInFlightCount() {
+    return this.inFlight.size();
+  }
+
+  @EqualsAndHashCode
+  private static final class Key {
+    private final FCApiEndpoint fcApiEndpoint;
+    private final Object request;
+
+    private Key(FCApiEndpoint fcApiEndpoint, Object request) {
+      this.fcApiEndpoint = fcApiEndpoint;
+      this.request = request;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.fullcontact.apilib.hedging;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/** Options used by {@link RequestHedger} to decide when to send a hedged request */
+@Getter
+@Builder(toBuilder = true)
+public class HedgingPolicy {
+  public static final double DEFAULT_LATENCY_PERCENTILE = 0.95;
+  public static final long DEFAULT_MIN_DELAY_MILLIS = 10;
+  public static final double DEFAULT_MAX_HEDGE_RATIO = 0.1;
+
+  /** Fixed delay before the hedged request is sent, 0 to use the observed latency percentile */
+  private long delayMillis;
+
+  /** Percentile of the observed latencies used as delay when no fixed delay is set */
+  @Builder.Default private double latencyPercentile = DEFAULT_LATENCY_PERCENTILE;
+
+  /** Lower bound of the delay taken from the observed latencies */
+  @Builder.Default private long minDelayMillis = DEFAULT_MIN_DELAY_MILLIS;
+
+  /** Maximum number of hedged requests, as a fraction of the requests sent */
+  @Builder.Default private double maxHedgeRatio = DEFAULT_MAX_HEDGE_RATIO;
+
+  /** @return HedgingPolicy with all default values */
+  public static HedgingPolicy defaults() {
+    return HedgingPolicy.builder().build();
+  }
+}
@@ -0,0 +1,263 @@
+package com.fullcontact.apilib.hedging;
+
+import com.fullcontact.apilib.retry.RetryBudget;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Hedging of requests to a single endpoint, to cut tail latency. If the response hasn't arrived
+ * after a delay, usually the 95th percentile of the observed latencies, the same request is sent a
+ * second time. The first response is used and the other request is cancelled. Hedged requests are
+ * limited to maxHedgeRatio of the requests sent over the last 10 seconds, so that a slow API
+ * doesn't get twice the load. Only requests which don't modify any data must be hedged.
+ *
+ * <p>When the delay is taken from the observed latencies, requests are not hedged until enough
+ * latencies have been observed.
+ */
+public class RequestHedger {
+  static final int LATENCY_SAMPLES = 200;
+  static final int MIN_LATENCY_SAMPLES = 20;
+  private static final int SAMPLES_PER_DELAY_UPDATE = 20;
+  private static final long HEDGE_BUDGET_WINDOW_MILLIS = 10_000;
+
+  private final HedgingPolicy hedgingPolicy;
+  private final RetryBudget hedgeBudget;
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder hedgeCount = new LongAdder();
+  private final LongAdder hedgeWinCount = new LongAdder();
+
+  // Latencies of the most recent successful requests
+  private final long[] latencyNanos = new long[LATENCY_SAMPLES];
+  private int latencyCount;
+  private int nextLatency;
+  private int latenciesSinceDelayUpdate;
+  private volatile long percentileDelayNanos = -1;
+
+  public RequestHedger(HedgingPolicy hedgingPolicy) {
+    if (hedgingPolicy.getLatencyPercentile() <= 0 || hedgingPolicy.getLatencyPercentile() > 1) {
+      throw new IllegalArgumentException("latencyPercentile must be between 0 and 1");
+    }
+    this.hedgingPolicy = hedgingPolicy;
+    this.hedgeBudget =
+        new RetryBudget(hedgingPolicy.getMaxHedgeRatio(), 0, HEDGE_BUDGET_WINDOW_MILLIS);
+  }
+
+  public HedgingPolicy getHedgingPolicy() {
+    return this.hedgingPolicy;
+  }
+
+  /** @return number of requests sent through the hedger */
+  public long getRequestCount() {
+    return this.requestCount.sum();
+  }
+
+  /** @return number of hedged requests sent */
+  public long getHedgeCount() {
+    return this.hedgeCount.sum();
+  }
+
+  /** @return number of hedged requests whose response arrived first */
+  public long getHedgeWinCount() {
+    return this.hedgeWinCount.sum();
+  }
+
+  /**
+   * @return delay in milliseconds before a hedged request is sent, -1 if not enough latencies have
+   *     been observed yet
+   */
+  public long getDelayMillis() {
+    long delayNanos = this.getDelayNanos();
+    return delayNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(delayNanos);
+  }
+
+  /**
+   * Sends the request using the call, and sends it once more if there is no response after the
+   * delay and the hedge budget allows it.
+   *
+   * @param call sends the request, invoked at most twice
+   * @param discardResponse releases a response which is not used, because the other one won
+   * @param scheduler used to send the hedged request after the delay
+   * @param <T> response type
+   * @return CompletableFuture with the first successful response, or completed exceptionally if all
+   *     requests sent failed. Cancelling it cancels the requests in flight.
+   */
+  public <T> CompletableFuture<T> execute(
+      Supplier<CompletableFuture<T>> call,
+      Consumer<T> discardResponse,
+      ScheduledExecutorService scheduler) {
+    this.requestCount.increment();
+    this.hedgeBudget.recordRequest();
+    HedgedCall<T> hedgedCall = new HedgedCall<>(call, discardResponse);
+    hedgedCall.send(false);
+    hedgedCall.resultCF.whenComplete(
+        (response, throwable) -> {
+          if (hedgedCall.resultCF.isCancelled()) {
+            hedgedCall.cancel();
+          }
+        });
+    long delayNanos = this.getDelayNanos();
+    if (delayNanos >= 0 && !hedgedCall.resultCF.isDone()) {
+      ScheduledFuture<?> hedgeTask =
+          scheduler.schedule(
+              () -> {
+                if (!hedgedCall.resultCF.isDone() && this.hedgeBudget.tryAcquireRetry()) {
+                  this.hedgeCount.increment();
+                  hedgedCall.send(true);
+                }
+              },
+              delayNanos,
+              TimeUnit.NANOSECONDS);
+      hedgedCall.resultCF.whenComplete((response, throwable) -> hedgeTask.cancel(false));
+    }
+    return hedgedCall.resultCF;
+  }
+
+  private long getDelayNanos() {
+    if (this.hedgingPolicy.getDelayMillis() > 0) {
+      return TimeUnit.MILLISECONDS.toNanos(this.hedgingPolicy.getDelayMillis());
+    }
+    long percentileDelayNanos = this.percentileDelayNanos;
+    return percentileDelayNanos < 0
+        ? -1
+        : Math.max(
+            percentileDelayNanos,
+            TimeUnit.MILLISECONDS.toNanos(this.hedgingPolicy.getMinDelayMillis()));
+  }
+
+  void recordLatency(long nanos) {
+    long[] latencies = null;
+    synchronized (this) {
+      this.latencyNanos[this.nextLatency] = nanos;
+      this.nextLatency = (this.nextLatency + 1) % LATENCY_SAMPLES;
+      this.latencyCount = Math.min(this.latencyCount + 1, LATENCY_SAMPLES);
+      this.latenciesSinceDelayUpdate++;
+      if (this.latencyCount >= MIN_LATENCY_SAMPLES
+          && (this.percentileDelayNanos < 0
+              || this.latenciesSinceDelayUpdate >= SAMPLES_PER_DELAY_UPDATE)) {
+        latencies = Arrays.copyOf(this.latencyNanos, this.latencyCount);
+        this.latenciesSinceDelayUpdate = 0;
+      }
+    }
+    // Sorting a copy every few samples keeps the lock short
+    if (latencies != null) {
+      Arrays.sort(latencies);
+      int index = (int) Math.ceil(this.hedgingPolicy.getLatencyPercentile() * latencies.length) - 1;
+      this.percentileDelayNanos = latencies[Math.max(index, 0)];
+    }
+  }
+
+  /** A request and its hedged copy, of which the first successful response is used */
+  private final class HedgedCall<T> {
+    private final Supplier<CompletableFuture<T>> call;
+    private final Consumer<T> discardResponse;
+    private final CompletableFuture<T> resultCF = new CompletableFuture<>();
+    private final List<CompletableFuture<T>> attempts = new ArrayList<>(2);
+    private int pendingAttempts;
+    private boolean completed;
+
+    private HedgedCall(Supplier<CompletableFuture<T>> call, Consumer<T> discardResponse) {
+      this.call = call;
+      this.discardResponse = discardResponse;
+    }
+
+    private void send(boolean hedge) {
+      synchronized (this) {
+        if (this.completed) {
+          return;
+        }
+        this.pendingAttempts++;
+      }
+      long startNanos = System.nanoTime();
+      CompletableFuture<T> attemptCF;
+      try {
+        attemptCF = this.call.get();
+      } catch (RuntimeException e) {
+        attemptCF = new CompletableFuture<>();
+        attemptCF.completeExceptionally(e);
+      }
+      boolean lost;
+      synchronized (this) {
+        this.attempts.add(attemptCF);
+        lost = this.completed;
+      }
+      if (lost) {
+        attemptCF.cancel(true);
+      }
+      CompletableFuture<T> sentCF = attemptCF;
+      attemptCF.whenComplete(
+          (response, throwable) ->
+              this.onComplete(sentCF, response, throwable, System.nanoTime() - startNanos, hedge));
+    }
+
+    private void onComplete(
+        CompletableFuture<T> attemptCF,
+        T response,
+        Throwable throwable,
+        long latencyNanos,
+        boolean hedge) {
+      List<CompletableFuture<T>> losers = new ArrayList<>(2);
+      boolean won;
+      synchronized (this) {
+        this.pendingAttempts--;
+        if (!this.completed && throwable != null && this.pendingAttempts > 0) {
+          // The other request can still succeed
+          return;
+        }
+        won = !this.completed;
+        this.completed = true;
+        if (won) {
+          for (CompletableFuture<T> otherCF : this.attempts) {
+            if (otherCF != attemptCF) {
+              losers.add(otherCF);
+            }
+          }
+        }
+      }
+      if (!won) {
+        if (response != null) {
+          this.discardResponse.accept(response);
+        }
+        return;
+      }
+      if (throwable != null) {
+        this.resultCF.completeExceptionally(throwable);
+      } else {
+        RequestHedger.this.recordLatency(latencyNanos);
+        if (hedge) {
+          RequestHedger.this.hedgeWinCount.increment();
+        }
+        if (!this.resultCF.complete(response)) {
+          // The caller cancelled the request meanwhile
+          this.discardResponse.accept(response);
+        }
+      }
+      for (CompletableFuture<T> loserCF : losers) {
+        loserCF.cancel(true);
+      }
+    }
+
+    /**
+     * Cancels the requests in flight once the caller cancelled the result. The responses of those
+     * which complete anyway are discarded, like the ones of requests which lost.
+     */
+    private void cancel() {
+      List<CompletableFuture<T>> pending;
+      synchronized (this) {
+        this.completed = true;
+        pending = new ArrayList<>(this.attempts);
+      }
+      for (CompletableFuture<T> attemptCF : pending) {
+        attemptCF.cancel(true);
+      }
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.fullcontact.apilib.models.Response;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fields of the responses to decode, as dot separated paths like {@code details.employment}. The
+ * other fields are skipped in the JSON without building any object for them, which saves parsing
+ * time and heap for callers needing only part of the responses, like bulk jobs keeping millions of
+ * them.
+ *
+ * <p>A path selects its field with all of its subfields, and the fields leading to it only for
+ * their fields in the mask. Fields of {@link FCResponse} are always decoded.
+ */
+public final class FieldMask {
+  // Mask of the subfields of each field in the mask, null for all of them
+  private final Map<String, FieldMask> fields = new TreeMap<>();
+
+  private FieldMask() {}
+
+  /**
+   * @param paths dot separated paths of the fields to decode, like {@code details.employment}. Each
+   *     one can also be a comma separated list of paths, like {@code
+   *     details.employment,details.locations}.
+   * @return FieldMask with the fields of the paths
+   */
+  public static FieldMask of(String... paths) {
+    FieldMask fieldMask = new FieldMask();
+    for (String commaSeparatedPaths : paths) {
+      for (String path : commaSeparatedPaths.split(",")) {
+        if (!path.trim().isEmpty()) {
+          fieldMask.add(path.trim().split("\\."), 0);
+        }
+      }
+    }
+    if (fieldMask.fields.isEmpty()) {
+      throw new IllegalArgumentException("FieldMask needs at least one path");
+    }
+    return fieldMask;
+  }
+
+  private void add(String[] path, int index) {
+    String field = path[index];
+    if (field.isEmpty()) {
+      throw new IllegalArgumentException("Invalid path in FieldMask: " + String.join(".", path));
+    }
+    if (index == path.length - 1) {
+      this.fields.put(field, null);
+    } else if (!this.fields.containsKey(field) || this.fields.get(field) != null) {
+      // A field already included as a whole stays so
+      this.fields.computeIfAbsent(field, key -> new FieldMask()).add(path, index + 1);
+    }
+  }
+
+  /**
+   * @param field name of a field
+   * @return true if the field, or some of its subfields, are in the mask
+   */
+  public boolean includes(String field) {
+    return this.fields.containsKey(field);
+  }
+
+  /**
+   * @param field name of a field
+   * @return mask of the subfields of the field, null if the field is in the mask with all of them
+   *     or isn't in the mask
+   */
+  public FieldMask get(String field) {
+    return this.fields.get(field);
+  }
+
+  /** @return comma separated paths of the mask, in alphabetical order */
+  @Override
+  public String toString() {
+    StringBuilder paths = new StringBuilder();
+    this.fields.forEach(
+        (field, fieldMask) -> {
+          if (fieldMask == null) {
+            paths.append(paths.length() > 0 ? "," : "").append(field);
+          } else {
+            for (String path : fieldMask.toString().split(",")) {
+              paths.append(paths.length() > 0 ? "," : "").append(field).append('.').append(path);
+            }
+          }
+        });
+    return paths.toString();
+  }
+}
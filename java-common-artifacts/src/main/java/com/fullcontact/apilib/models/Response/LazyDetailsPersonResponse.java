@@ -0,0 +1,85 @@
+package com.fullcontact.apilib.models.Response;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * PersonResponse whose details are kept as JSON until they are first read, for callers reading only
+ * the top level fields of the responses.
+ */
+class LazyDetailsPersonResponse extends PersonResponse {
+  private final transient TypeAdapter<Details> detailsAdapter;
+  // UTF-8 JSON of the details, null once they are decoded
+  private transient volatile byte[] detailsJson;
+  private transient volatile Details decodedDetails;
+
+  LazyDetailsPersonResponse(
+      String email,
+      String twitter,
+      String phone,
+      String fullName,
+      String ageRange,
+      String gender,
+      String location,
+      String title,
+      String organization,
+      String linkedin,
+      String bio,
+      String avatar,
+      String website,
+      byte[] detailsJson,
+      Map<String, String> extended,
+      TypeAdapter<Details> detailsAdapter) {
+    super(
+        email,
+        twitter,
+        phone,
+        fullName,
+        ageRange,
+        gender,
+        location,
+        title,
+        organization,
+        linkedin,
+        bio,
+        avatar,
+        website,
+        null,
+        extended);
+    this.detailsJson = detailsJson;
+    this.detailsAdapter = detailsAdapter;
+  }
+
+  @Override
+  public Optional<Details> getDetails() {
+    if (this.detailsJson != null) {
+      synchronized (this) {
+        byte[] detailsJson = this.detailsJson;
+        if (detailsJson != null) {
+          try {
+            this.decodedDetails =
+                this.detailsAdapter.fromJson(
+                    new InputStreamReader(
+                        new ByteArrayInputStream(detailsJson), StandardCharsets.UTF_8));
+          } catch (IOException e) {
+            throw new JsonIOException(e);
+          }
+          this.detailsJson = null;
+        }
+      }
+    }
+    return Optional.ofNullable(this.decodedDetails);
+  }
+
+  /** @return JSON of the details if they haven't been decoded yet, otherwise null */
+  byte[] getDetailsJson() {
+    return this.detailsJson;
+  }
+}
@@ -0,0 +1,359 @@
+package com.fullcontact.apilib.models.Response;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Streaming TypeAdapters for the response model, so that Gson neither looks up the fields of the
+ * responses nor sets them by reflection. Responses are read field by field from the JsonReader and
+ * built with their constructors, or builders for the models shared with the requests, and written
+ * with their getters. Unknown fields are skipped, and JSON nulls leave primitive fields at their
+ * default value, as with the reflective adapters of Gson.
+ *
+ * <p>The adapters of the response classes are in {@link ResponseTypeAdapters}, which is generated
+ * from the fields of the classes by {@code ./gradlew
+ * :java-common-artifacts:generateResponseAdapters}. The PersonResponse adapter, which can keep the
+ * details as JSON or skip the fields outside of a FieldMask, is written here by hand. Subclasses of
+ * the response classes are left to Gson.
+ */
+public class ResponseTypeAdapterFactory implements TypeAdapterFactory {
+  private static final Set<String> FC_RESPONSE_FIELDS =
+      new HashSet<>(Arrays.asList("isSuccessful", "statusCode", "message"));
+
+  private final boolean lazyPersonDetails;
+  private final FieldMask personFieldMask;
+
+  public ResponseTypeAdapterFactory() {
+    this(false);
+  }
+
+  /**
+   * @param lazyPersonDetails keep the details of PersonResponses as JSON until {@link
+   *     PersonResponse#getDetails()} is first called, so that callers reading only the top level
+   *     fields don't pay for decoding them
+   */
+  public ResponseTypeAdapterFactory(boolean lazyPersonDetails) {
+    this(lazyPersonDetails, null);
+  }
+
+  /**
+   * @param lazyPersonDetails keep the details of PersonResponses as JSON until {@link
+   *     PersonResponse#getDetails()} is first called
+   * @param personFieldMask fields of the PersonResponses to decode, null for all of them. Paths
+   *     below the sections of the details, like {@code details.employment.name}, select their whole
+   *     section.
+   */
+  public ResponseTypeAdapterFactory(boolean lazyPersonDetails, FieldMask personFieldMask) {
+    this.lazyPersonDetails = lazyPersonDetails;
+    this.personFieldMask = personFieldMask;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    Class<? super T> rawType = type.getRawType();
+    if (rawType == PersonResponse.class || rawType == LazyDetailsPersonResponse.class) {
+      return (TypeAdapter<T>)
+          new PersonResponseAdapter(gson, this.lazyPersonDetails, this.personFieldMask);
+    }
+    Function<Gson, TypeAdapter<?>> adapter = ResponseTypeAdapters.ADAPTERS.get(rawType);
+    return adapter != null ? (TypeAdapter<T>) adapter.apply(gson) : null;
+  }
+
+  /**
+   * Reads the next value as UTF-8 JSON, without binding it to any object
+   *
+   * @param reader reader positioned at the value
+   * @param fieldMask fields of the value to keep if it is an object, null for all of them
+   */
+  private static byte[] readJson(JsonReader reader, FieldMask fieldMask) throws IOException {
+    ByteArrayOutputStream json = new ByteArrayOutputStream();
+    JsonWriter writer = new JsonWriter(new OutputStreamWriter(json, StandardCharsets.UTF_8));
+    int depth = 0;
+    do {
+      switch (reader.peek()) {
+        case BEGIN_OBJECT:
+          reader.beginObject();
+          writer.beginObject();
+          depth++;
+          break;
+        case END_OBJECT:
+          reader.endObject();
+          writer.endObject();
+          depth--;
+          break;
+        case BEGIN_ARRAY:
+          reader.beginArray();
+          writer.beginArray();
+          depth++;
+          break;
+        case END_ARRAY:
+          reader.endArray();
+          writer.endArray();
+          depth--;
+          break;
+        case NAME:
+          String name = reader.nextName();
+          if (depth == 1 && fieldMask != null && !fieldMask.includes(name)) {
+            reader.skipValue();
+          } else {
+            writer.name(name);
+          }
+          break;
+        case STRING:
+          writer.value(reader.nextString());
+          break;
+        case NUMBER:
+          // Copied as written, without going through a double or long
+          writer.jsonValue(reader.nextString());
+          break;
+        case BOOLEAN:
+          writer.value(reader.nextBoolean());
+          break;
+        case NULL:
+          reader.nextNull();
+          writer.nullValue();
+          break;
+        default:
+          throw new IllegalStateException("Unexpected JSON token: " + reader.peek());
+      }
+    } while (depth > 0);
+    writer.flush();
+    return json.toByteArray();
+  }
+
+  private static final class PersonResponseAdapter extends TypeAdapter<PersonResponse> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Details> detailsAdapter;
+    private final TypeAdapter<Map<String, String>> stringToStringMapAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final boolean lazyDetails;
+    private final FieldMask fieldMask;
+
+    PersonResponseAdapter(Gson gson, boolean lazyDetails, FieldMask fieldMask) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.detailsAdapter =
+          fieldMask != null && fieldMask.get("details") != null
+              ? new ResponseTypeAdapters.DetailsAdapter(gson, fieldMask.get("details"))
+              : gson.getAdapter(Details.class);
+      this.stringToStringMapAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.lazyDetails = lazyDetails;
+      this.fieldMask = fieldMask;
+    }
+
+    @Override
+    public void write(JsonWriter writer, PersonResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("email");
+      this.stringAdapter.write(writer, src.getEmail());
+      writer.name("twitter");
+      this.stringAdapter.write(writer, src.getTwitter());
+      writer.name("phone");
+      this.stringAdapter.write(writer, src.getPhone());
+      writer.name("fullName");
+      this.stringAdapter.write(writer, src.getFullName());
+      writer.name("ageRange");
+      this.stringAdapter.write(writer, src.getAgeRange());
+      writer.name("gender");
+      this.stringAdapter.write(writer, src.getGender());
+      writer.name("location");
+      this.stringAdapter.write(writer, src.getLocation());
+      writer.name("title");
+      this.stringAdapter.write(writer, src.getTitle());
+      writer.name("organization");
+      this.stringAdapter.write(writer, src.getOrganization());
+      writer.name("linkedin");
+      this.stringAdapter.write(writer, src.getLinkedin());
+      writer.name("bio");
+      this.stringAdapter.write(writer, src.getBio());
+      writer.name("avatar");
+      this.stringAdapter.write(writer, src.getAvatar());
+      writer.name("website");
+      this.stringAdapter.write(writer, src.getWebsite());
+      writer.name("details");
+      byte[] detailsJson =
+          src instanceof LazyDetailsPersonResponse
+              ? ((LazyDetailsPersonResponse) src).getDetailsJson()
+              : null;
+      // Writers of JSON trees can't take raw JSON values
+      if (detailsJson != null && writer.getClass() == JsonWriter.class) {
+        writer.jsonValue(new String(detailsJson, StandardCharsets.UTF_8));
+      } else {
+        this.detailsAdapter.write(writer, src.getDetails().orElse(null));
+      }
+      writer.name("extended");
+      this.stringToStringMapAdapter.write(writer, src.getExtended());
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public PersonResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String email = null;
+      String twitter = null;
+      String phone = null;
+      String fullName = null;
+      String ageRange = null;
+      String gender = null;
+      String location = null;
+      String title = null;
+      String organization = null;
+      String linkedin = null;
+      String bio = null;
+      String avatar = null;
+      String website = null;
+      Details details = null;
+      byte[] detailsJson = null;
+      Map<String, String> extended = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String field = reader.nextName();
+        if (this.fieldMask != null
+            && !this.fieldMask.includes(field)
+            && !FC_RESPONSE_FIELDS.contains(field)) {
+          reader.skipValue();
+          continue;
+        }
+        switch (field) {
+          case "email":
+            email = this.stringAdapter.read(reader);
+            break;
+          case "twitter":
+            twitter = this.stringAdapter.read(reader);
+            break;
+          case "phone":
+            phone = this.stringAdapter.read(reader);
+            break;
+          case "fullName":
+            fullName = this.stringAdapter.read(reader);
+            break;
+          case "ageRange":
+            ageRange = this.stringAdapter.read(reader);
+            break;
+          case "gender":
+            gender = this.stringAdapter.read(reader);
+            break;
+          case "location":
+            location = this.stringAdapter.read(reader);
+            break;
+          case "title":
+            title = this.stringAdapter.read(reader);
+            break;
+          case "organization":
+            organization = this.stringAdapter.read(reader);
+            break;
+          case "linkedin":
+            linkedin = this.stringAdapter.read(reader);
+            break;
+          case "bio":
+            bio = this.stringAdapter.read(reader);
+            break;
+          case "avatar":
+            avatar = this.stringAdapter.read(reader);
+            break;
+          case "website":
+            website = this.stringAdapter.read(reader);
+            break;
+          case "details":
+            if (this.lazyDetails && reader.peek() != JsonToken.NULL) {
+              detailsJson =
+                  readJson(reader, this.fieldMask != null ? this.fieldMask.get("details") : null);
+            } else {
+              details = this.detailsAdapter.read(reader);
+            }
+            break;
+          case "extended":
+            extended = this.stringToStringMapAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful =
+                ResponseTypeAdapters.valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode =
+                ResponseTypeAdapters.valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      PersonResponse response =
+          detailsJson != null
+              ? new LazyDetailsPersonResponse(
+                  email,
+                  twitter,
+                  phone,
+                  fullName,
+                  ageRange,
+                  gender,
+                  location,
+                  title,
+                  organization,
+                  linkedin,
+                  bio,
+                  avatar,
+                  website,
+                  detailsJson,
+                  extended,
+                  this.detailsAdapter)
+              : new PersonResponse(
+                  email,
+                  twitter,
+                  phone,
+                  fullName,
+                  ageRange,
+                  gender,
+                  location,
+                  title,
+                  organization,
+                  linkedin,
+                  bio,
+                  avatar,
+                  website,
+                  details,
+                  extended);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+}
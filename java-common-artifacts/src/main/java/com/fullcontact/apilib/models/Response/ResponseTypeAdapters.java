@@ -0,0 +1,7098 @@
+package com.fullcontact.apilib.models.Response;
+
+import com.fullcontact.apilib.models.Location;
+import com.fullcontact.apilib.models.PersonName;
+import com.fullcontact.apilib.models.Tag;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Streaming TypeAdapters of the response classes, used by {@link ResponseTypeAdapterFactory}.
+ *
+ * <p>Generated by ResponseAdapterGenerator from the fields of the response classes, don't edit it.
+ * Regenerate it with {@code ./gradlew :java-common-artifacts:generateResponseAdapters} after
+ * changing the fields of a response class.
+ */
+final class ResponseTypeAdapters {
+  static final Map<Class<?>, Function<Gson, TypeAdapter<?>>> ADAPTERS = new HashMap<>();
+
+  static {
+    ADAPTERS.put(ActivityResponse.class, ActivityResponseAdapter::new);
+    ADAPTERS.put(Age.class, AgeAdapter::new);
+    ADAPTERS.put(Apparel.class, ApparelAdapter::new);
+    ADAPTERS.put(AudienceResponse.class, AudienceResponseAdapter::new);
+    ADAPTERS.put(Automotive.class, AutomotiveAdapter::new);
+    ADAPTERS.put(Average.class, AverageAdapter::new);
+    ADAPTERS.put(Buyer.class, BuyerAdapter::new);
+    ADAPTERS.put(Card.class, CardAdapter::new);
+    ADAPTERS.put(Census.class, CensusAdapter::new);
+    ADAPTERS.put(Collectibles.class, CollectiblesAdapter::new);
+    ADAPTERS.put(CompanyCategories.class, CompanyCategoriesAdapter::new);
+    ADAPTERS.put(CompanyDetails.class, CompanyDetailsAdapter::new);
+    ADAPTERS.put(CompanyRegion.class, CompanyRegionAdapter::new);
+    ADAPTERS.put(CompanyResponse.class, CompanyResponseAdapter::new);
+    ADAPTERS.put(CompanyTraffic.class, CompanyTrafficAdapter::new);
+    ADAPTERS.put(ConsentPurposeResponse.class, ConsentPurposeResponseAdapter::new);
+    ADAPTERS.put(CreditCards.class, CreditCardsAdapter::new);
+    ADAPTERS.put(Date.class, DateAdapter::new);
+    ADAPTERS.put(Demographics.class, DemographicsAdapter::new);
+    ADAPTERS.put(Details.class, DetailsAdapter::new);
+    ADAPTERS.put(DietConcerns.class, DietConcernsAdapter::new);
+    ADAPTERS.put(Education.class, EducationAdapter::new);
+    ADAPTERS.put(Electronics.class, ElectronicsAdapter::new);
+    ADAPTERS.put(EmailAndPhone.class, EmailAndPhoneAdapter::new);
+    ADAPTERS.put(Employment.class, EmploymentAdapter::new);
+    ADAPTERS.put(Entity.class, EntityAdapter::new);
+    ADAPTERS.put(FCResponse.class, FCResponseAdapter::new);
+    ADAPTERS.put(FamilyInfo.class, FamilyInfoAdapter::new);
+    ADAPTERS.put(Finance.class, FinanceAdapter::new);
+    ADAPTERS.put(Gardening.class, GardeningAdapter::new);
+    ADAPTERS.put(Hobby.class, HobbyAdapter::new);
+    ADAPTERS.put(HomeInfo.class, HomeInfoAdapter::new);
+    ADAPTERS.put(Household.class, HouseholdAdapter::new);
+    ADAPTERS.put(Identifiers.class, IdentifiersAdapter::new);
+    ADAPTERS.put(Industry.class, IndustryAdapter::new);
+    ADAPTERS.put(Interest.class, InterestAdapter::new);
+    ADAPTERS.put(IpAddress.class, IpAddressAdapter::new);
+    ADAPTERS.put(Locale.class, LocaleAdapter::new);
+    ADAPTERS.put(Location.class, LocationAdapter::new);
+    ADAPTERS.put(LocationInfo.class, LocationInfoAdapter::new);
+    ADAPTERS.put(Maids.class, MaidsAdapter::new);
+    ADAPTERS.put(MatchResponse.class, MatchResponseAdapter::new);
+    ADAPTERS.put(Median.class, MedianAdapter::new);
+    ADAPTERS.put(Music.class, MusicAdapter::new);
+    ADAPTERS.put(Name.class, NameAdapter::new);
+    ADAPTERS.put(NonId.class, NonIdAdapter::new);
+    ADAPTERS.put(Own.class, OwnAdapter::new);
+    ADAPTERS.put(Ownership.class, OwnershipAdapter::new);
+    ADAPTERS.put(PanoId.class, PanoIdAdapter::new);
+    ADAPTERS.put(Payment.class, PaymentAdapter::new);
+    ADAPTERS.put(People.class, PeopleAdapter::new);
+    ADAPTERS.put(Percent.class, PercentAdapter::new);
+    ADAPTERS.put(PermissionCurrentResponseMap.class, PermissionCurrentResponseMapAdapter::new);
+    ADAPTERS.put(PermissionResponse.class, PermissionResponseAdapter::new);
+    ADAPTERS.put(PermissionResponseList.class, PermissionResponseListAdapter::new);
+    ADAPTERS.put(PersonName.class, PersonNameAdapter::new);
+    ADAPTERS.put(Photo.class, PhotoAdapter::new);
+    ADAPTERS.put(PopulationDensity.class, PopulationDensityAdapter::new);
+    ADAPTERS.put(Presence.class, PresenceAdapter::new);
+    ADAPTERS.put(ProfileData.class, ProfileDataAdapter::new);
+    ADAPTERS.put(Profiles.class, ProfilesAdapter::new);
+    ADAPTERS.put(Purchase.class, PurchaseAdapter::new);
+    ADAPTERS.put(PurchaseBehavior.class, PurchaseBehaviorAdapter::new);
+    ADAPTERS.put(Rank.class, RankAdapter::new);
+    ADAPTERS.put(Reading.class, ReadingAdapter::new);
+    ADAPTERS.put(ResolveResponse.class, ResolveResponseAdapter::new);
+    ADAPTERS.put(ResolveResponseWithTags.class, ResolveResponseWithTagsAdapter::new);
+    ADAPTERS.put(SignalsResponse.class, SignalsResponseAdapter::new);
+    ADAPTERS.put(SocialProfile.class, SocialProfileAdapter::new);
+    ADAPTERS.put(Sporting.class, SportingAdapter::new);
+    ADAPTERS.put(Survey.class, SurveyAdapter::new);
+    ADAPTERS.put(Tag.class, TagAdapter::new);
+    ADAPTERS.put(TagsResponse.class, TagsResponseAdapter::new);
+    ADAPTERS.put(TrafficRank.class, TrafficRankAdapter::new);
+    ADAPTERS.put(Travel.class, TravelAdapter::new);
+    ADAPTERS.put(URL.class, URLAdapter::new);
+    ADAPTERS.put(Vehicle.class, VehicleAdapter::new);
+    ADAPTERS.put(VerifiedDemographics.class, VerifiedDemographicsAdapter::new);
+    ADAPTERS.put(VerifiedEmployment.class, VerifiedEmploymentAdapter::new);
+    ADAPTERS.put(Year2010.class, Year2010Adapter::new);
+  }
+
+  private ResponseTypeAdapters() {}
+
+  /** Value read for a primitive field, or its current value if the JSON value is null */
+  static <T> T valueOrElse(T value, T currentValue) {
+    return value != null ? value : currentValue;
+  }
+
+  static final class ActivityResponseAdapter extends TypeAdapter<ActivityResponse> {
+    private final TypeAdapter<Double> doubleAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    ActivityResponseAdapter(Gson gson) {
+      this.doubleAdapter = gson.getAdapter(Double.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, ActivityResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("emails");
+      this.doubleAdapter.write(writer, src.getEmails());
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public ActivityResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      Double emails = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "emails":
+            emails = this.doubleAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      ActivityResponse response = new ActivityResponse(emails);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class AgeAdapter extends TypeAdapter<Age> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    AgeAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Age src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("range");
+      this.stringAdapter.write(writer, src.getRange());
+      writer.name("value");
+      this.integerAdapter.write(writer, src.getValue());
+      writer.name("birthday");
+      this.dateAdapter.write(writer, src.getBirthday());
+      writer.endObject();
+    }
+
+    @Override
+    public Age read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String range = null;
+      int value = 0;
+      Date birthday = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "range":
+            range = this.stringAdapter.read(reader);
+            break;
+          case "value":
+            value = valueOrElse(this.integerAdapter.read(reader), value);
+            break;
+          case "birthday":
+            birthday = this.dateAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Age(range, value, birthday);
+    }
+  }
+
+  static final class ApparelAdapter extends TypeAdapter<Apparel> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    ApparelAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Apparel src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("general");
+      this.booleanAdapter.write(writer, src.isGeneral());
+      writer.name("children");
+      this.booleanAdapter.write(writer, src.isChildren());
+      writer.name("men");
+      this.booleanAdapter.write(writer, src.isMen());
+      writer.name("mensBigTall");
+      this.booleanAdapter.write(writer, src.isMensBigTall());
+      writer.name("nonGenderSpecific");
+      this.booleanAdapter.write(writer, src.isNonGenderSpecific());
+      writer.name("teenagers");
+      this.booleanAdapter.write(writer, src.isTeenagers());
+      writer.name("women");
+      this.booleanAdapter.write(writer, src.isWomen());
+      writer.name("womenPetiteSize");
+      this.booleanAdapter.write(writer, src.isWomenPetiteSize());
+      writer.name("womenPlusSize");
+      this.booleanAdapter.write(writer, src.isWomenPlusSize());
+      writer.endObject();
+    }
+
+    @Override
+    public Apparel read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean general = false;
+      boolean children = false;
+      boolean men = false;
+      boolean mensBigTall = false;
+      boolean nonGenderSpecific = false;
+      boolean teenagers = false;
+      boolean women = false;
+      boolean womenPetiteSize = false;
+      boolean womenPlusSize = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "general":
+            general = valueOrElse(this.booleanAdapter.read(reader), general);
+            break;
+          case "children":
+            children = valueOrElse(this.booleanAdapter.read(reader), children);
+            break;
+          case "men":
+            men = valueOrElse(this.booleanAdapter.read(reader), men);
+            break;
+          case "mensBigTall":
+            mensBigTall = valueOrElse(this.booleanAdapter.read(reader), mensBigTall);
+            break;
+          case "nonGenderSpecific":
+            nonGenderSpecific = valueOrElse(this.booleanAdapter.read(reader), nonGenderSpecific);
+            break;
+          case "teenagers":
+            teenagers = valueOrElse(this.booleanAdapter.read(reader), teenagers);
+            break;
+          case "women":
+            women = valueOrElse(this.booleanAdapter.read(reader), women);
+            break;
+          case "womenPetiteSize":
+            womenPetiteSize = valueOrElse(this.booleanAdapter.read(reader), womenPetiteSize);
+            break;
+          case "womenPlusSize":
+            womenPlusSize = valueOrElse(this.booleanAdapter.read(reader), womenPlusSize);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Apparel(
+          general,
+          children,
+          men,
+          mensBigTall,
+          nonGenderSpecific,
+          teenagers,
+          women,
+          womenPetiteSize,
+          womenPlusSize);
+    }
+  }
+
+  static final class AudienceResponseAdapter extends TypeAdapter<AudienceResponse> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<byte[]> byteArrayAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    AudienceResponseAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.byteArrayAdapter = gson.getAdapter(byte[].class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, AudienceResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("requestId");
+      this.stringAdapter.write(writer, src.getRequestId());
+      writer.name("audienceBytes");
+      this.byteArrayAdapter.write(writer, src.getAudienceBytes());
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public AudienceResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String requestId = null;
+      byte[] audienceBytes = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "requestId":
+            requestId = this.stringAdapter.read(reader);
+            break;
+          case "audienceBytes":
+            audienceBytes = this.byteArrayAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      AudienceResponse response = new AudienceResponse(requestId, audienceBytes);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class AutomotiveAdapter extends TypeAdapter<Automotive> {
+    private final TypeAdapter<Ownership> ownershipAdapter;
+
+    AutomotiveAdapter(Gson gson) {
+      this.ownershipAdapter = gson.getAdapter(Ownership.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Automotive src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("ownership");
+      this.ownershipAdapter.write(writer, src.getOwnership());
+      writer.endObject();
+    }
+
+    @Override
+    public Automotive read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      Ownership ownership = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "ownership":
+            ownership = this.ownershipAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Automotive(ownership);
+    }
+  }
+
+  static final class AverageAdapter extends TypeAdapter<Average> {
+    private final TypeAdapter<Double> doubleAdapter;
+
+    AverageAdapter(Gson gson) {
+      this.doubleAdapter = gson.getAdapter(Double.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Average src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("numberOfCarsInHousehold");
+      this.doubleAdapter.write(writer, src.getNumberOfCarsInHousehold());
+      writer.endObject();
+    }
+
+    @Override
+    public Average read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      double numberOfCarsInHousehold = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "numberOfCarsInHousehold":
+            numberOfCarsInHousehold =
+                valueOrElse(this.doubleAdapter.read(reader), numberOfCarsInHousehold);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Average(numberOfCarsInHousehold);
+    }
+  }
+
+  static final class BuyerAdapter extends TypeAdapter<Buyer> {
+    private final TypeAdapter<PurchaseBehavior> purchaseBehaviorAdapter;
+
+    BuyerAdapter(Gson gson) {
+      this.purchaseBehaviorAdapter = gson.getAdapter(PurchaseBehavior.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Buyer src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("catalog");
+      this.purchaseBehaviorAdapter.write(writer, src.getCatalog());
+      writer.name("retail");
+      this.purchaseBehaviorAdapter.write(writer, src.getRetail());
+      writer.endObject();
+    }
+
+    @Override
+    public Buyer read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      PurchaseBehavior catalog = null;
+      PurchaseBehavior retail = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "catalog":
+            catalog = this.purchaseBehaviorAdapter.read(reader);
+            break;
+          case "retail":
+            retail = this.purchaseBehaviorAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Buyer(catalog, retail);
+    }
+  }
+
+  static final class CardAdapter extends TypeAdapter<Card> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    CardAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Card src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("amex");
+      this.booleanAdapter.write(writer, src.isAmex());
+      writer.name("discover");
+      this.booleanAdapter.write(writer, src.isDiscover());
+      writer.name("other");
+      this.booleanAdapter.write(writer, src.isOther());
+      writer.name("store");
+      this.booleanAdapter.write(writer, src.isStore());
+      writer.name("visaOrMasterCard");
+      this.booleanAdapter.write(writer, src.isVisaOrMasterCard());
+      writer.endObject();
+    }
+
+    @Override
+    public Card read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean amex = false;
+      boolean discover = false;
+      boolean other = false;
+      boolean store = false;
+      boolean visaOrMasterCard = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "amex":
+            amex = valueOrElse(this.booleanAdapter.read(reader), amex);
+            break;
+          case "discover":
+            discover = valueOrElse(this.booleanAdapter.read(reader), discover);
+            break;
+          case "other":
+            other = valueOrElse(this.booleanAdapter.read(reader), other);
+            break;
+          case "store":
+            store = valueOrElse(this.booleanAdapter.read(reader), store);
+            break;
+          case "visaOrMasterCard":
+            visaOrMasterCard = valueOrElse(this.booleanAdapter.read(reader), visaOrMasterCard);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Card(amex, discover, other, store, visaOrMasterCard);
+    }
+  }
+
+  static final class CensusAdapter extends TypeAdapter<Census> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Year2010> year2010Adapter;
+
+    CensusAdapter(Gson gson) {
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.year2010Adapter = gson.getAdapter(Year2010.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Census src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("basicTractNumber");
+      this.integerAdapter.write(writer, src.getBasicTractNumber());
+      writer.name("basicBlockGroup");
+      this.integerAdapter.write(writer, src.getBasicBlockGroup());
+      writer.name("year2010");
+      this.year2010Adapter.write(writer, src.getYear2010());
+      writer.endObject();
+    }
+
+    @Override
+    public Census read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      int basicTractNumber = 0;
+      int basicBlockGroup = 0;
+      Year2010 year2010 = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "basicTractNumber":
+            basicTractNumber = valueOrElse(this.integerAdapter.read(reader), basicTractNumber);
+            break;
+          case "basicBlockGroup":
+            basicBlockGroup = valueOrElse(this.integerAdapter.read(reader), basicBlockGroup);
+            break;
+          case "year2010":
+            year2010 = this.year2010Adapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Census(basicTractNumber, basicBlockGroup, year2010);
+    }
+  }
+
+  static final class CollectiblesAdapter extends TypeAdapter<Collectibles> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    CollectiblesAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Collectibles src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("general");
+      this.booleanAdapter.write(writer, src.isGeneral());
+      writer.name("coins");
+      this.booleanAdapter.write(writer, src.isCoins());
+      writer.name("dolls");
+      this.booleanAdapter.write(writer, src.isDolls());
+      writer.name("figurines");
+      this.booleanAdapter.write(writer, src.isFigurines());
+      writer.name("other");
+      this.booleanAdapter.write(writer, src.isOther());
+      writer.name("plates");
+      this.booleanAdapter.write(writer, src.isPlates());
+      writer.name("sportsMemorabilia");
+      this.booleanAdapter.write(writer, src.isSportsMemorabilia());
+      writer.name("stamps");
+      this.booleanAdapter.write(writer, src.isStamps());
+      writer.name("fineArts");
+      this.booleanAdapter.write(writer, src.isFineArts());
+      writer.endObject();
+    }
+
+    @Override
+    public Collectibles read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean general = false;
+      boolean coins = false;
+      boolean dolls = false;
+      boolean figurines = false;
+      boolean other = false;
+      boolean plates = false;
+      boolean sportsMemorabilia = false;
+      boolean stamps = false;
+      boolean fineArts = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "general":
+            general = valueOrElse(this.booleanAdapter.read(reader), general);
+            break;
+          case "coins":
+            coins = valueOrElse(this.booleanAdapter.read(reader), coins);
+            break;
+          case "dolls":
+            dolls = valueOrElse(this.booleanAdapter.read(reader), dolls);
+            break;
+          case "figurines":
+            figurines = valueOrElse(this.booleanAdapter.read(reader), figurines);
+            break;
+          case "other":
+            other = valueOrElse(this.booleanAdapter.read(reader), other);
+            break;
+          case "plates":
+            plates = valueOrElse(this.booleanAdapter.read(reader), plates);
+            break;
+          case "sportsMemorabilia":
+            sportsMemorabilia = valueOrElse(this.booleanAdapter.read(reader), sportsMemorabilia);
+            break;
+          case "stamps":
+            stamps = valueOrElse(this.booleanAdapter.read(reader), stamps);
+            break;
+          case "fineArts":
+            fineArts = valueOrElse(this.booleanAdapter.read(reader), fineArts);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Collectibles(
+          general, coins, dolls, figurines, other, plates, sportsMemorabilia, stamps, fineArts);
+    }
+  }
+
+  static final class CompanyCategoriesAdapter extends TypeAdapter<CompanyCategories> {
+    private final TypeAdapter<String> stringAdapter;
+
+    CompanyCategoriesAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, CompanyCategories src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("code");
+      this.stringAdapter.write(writer, src.getCode());
+      writer.name("name");
+      this.stringAdapter.write(writer, src.getName());
+      writer.endObject();
+    }
+
+    @Override
+    public CompanyCategories read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String code = null;
+      String name = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "code":
+            code = this.stringAdapter.read(reader);
+            break;
+          case "name":
+            name = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new CompanyCategories(code, name);
+    }
+  }
+
+  static final class CompanyDetailsAdapter extends TypeAdapter<CompanyDetails> {
+    private final TypeAdapter<List<Locale>> localeListAdapter;
+    private final TypeAdapter<Entity> entityAdapter;
+    private final TypeAdapter<List<CompanyCategories>> companyCategoriesListAdapter;
+    private final TypeAdapter<List<Industry>> industryListAdapter;
+    private final TypeAdapter<List<EmailAndPhone>> emailAndPhoneListAdapter;
+    private final TypeAdapter<List<Location>> locationListAdapter;
+    private final TypeAdapter<List<Photo>> photoListAdapter;
+    private final TypeAdapter<List<URL>> uRLListAdapter;
+    private final TypeAdapter<List<String>> stringListAdapter;
+    private final TypeAdapter<List<People>> peopleListAdapter;
+    private final TypeAdapter<CompanyTraffic> companyTrafficAdapter;
+    private final TypeAdapter<Profiles> profilesAdapter;
+
+    CompanyDetailsAdapter(Gson gson) {
+      this.localeListAdapter = gson.getAdapter(new TypeToken<List<Locale>>() {});
+      this.entityAdapter = gson.getAdapter(Entity.class);
+      this.companyCategoriesListAdapter =
+          gson.getAdapter(new TypeToken<List<CompanyCategories>>() {});
+      this.industryListAdapter = gson.getAdapter(new TypeToken<List<Industry>>() {});
+      this.emailAndPhoneListAdapter = gson.getAdapter(new TypeToken<List<EmailAndPhone>>() {});
+      this.locationListAdapter = gson.getAdapter(new TypeToken<List<Location>>() {});
+      this.photoListAdapter = gson.getAdapter(new TypeToken<List<Photo>>() {});
+      this.uRLListAdapter = gson.getAdapter(new TypeToken<List<URL>>() {});
+      this.stringListAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+      this.peopleListAdapter = gson.getAdapter(new TypeToken<List<People>>() {});
+      this.companyTrafficAdapter = gson.getAdapter(CompanyTraffic.class);
+      this.profilesAdapter = gson.getAdapter(Profiles.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, CompanyDetails src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("locales");
+      this.localeListAdapter.write(writer, src.getLocales());
+      writer.name("entity");
+      this.entityAdapter.write(writer, src.getEntity());
+      writer.name("categories");
+      this.companyCategoriesListAdapter.write(writer, src.getCategories());
+      writer.name("industries");
+      this.industryListAdapter.write(writer, src.getIndustries());
+      writer.name("emails");
+      this.emailAndPhoneListAdapter.write(writer, src.getEmails());
+      writer.name("phones");
+      this.emailAndPhoneListAdapter.write(writer, src.getPhones());
+      writer.name("locations");
+      this.locationListAdapter.write(writer, src.getLocations());
+      writer.name("images");
+      this.photoListAdapter.write(writer, src.getImages());
+      writer.name("urls");
+      this.uRLListAdapter.write(writer, src.getUrls());
+      writer.name("keywords");
+      this.stringListAdapter.write(writer, src.getKeywords());
+      writer.name("keyPeople");
+      this.peopleListAdapter.write(writer, src.getKeyPeople());
+      writer.name("traffic");
+      this.companyTrafficAdapter.write(writer, src.getTraffic());
+      writer.name("profiles");
+      this.profilesAdapter.write(writer, src.getProfiles());
+      writer.endObject();
+    }
+
+    @Override
+    public CompanyDetails read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      List<Locale> locales = null;
+      Entity entity = null;
+      List<CompanyCategories> categories = null;
+      List<Industry> industries = null;
+      List<EmailAndPhone> emails = null;
+      List<EmailAndPhone> phones = null;
+      List<Location> locations = null;
+      List<Photo> images = null;
+      List<URL> urls = null;
+      List<String> keywords = null;
+      List<People> keyPeople = null;
+      CompanyTraffic traffic = null;
+      Profiles profiles = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "locales":
+            locales = this.localeListAdapter.read(reader);
+            break;
+          case "entity":
+            entity = this.entityAdapter.read(reader);
+            break;
+          case "categories":
+            categories = this.companyCategoriesListAdapter.read(reader);
+            break;
+          case "industries":
+            industries = this.industryListAdapter.read(reader);
+            break;
+          case "emails":
+            emails = this.emailAndPhoneListAdapter.read(reader);
+            break;
+          case "phones":
+            phones = this.emailAndPhoneListAdapter.read(reader);
+            break;
+          case "locations":
+            locations = this.locationListAdapter.read(reader);
+            break;
+          case "images":
+            images = this.photoListAdapter.read(reader);
+            break;
+          case "urls":
+            urls = this.uRLListAdapter.read(reader);
+            break;
+          case "keywords":
+            keywords = this.stringListAdapter.read(reader);
+            break;
+          case "keyPeople":
+            keyPeople = this.peopleListAdapter.read(reader);
+            break;
+          case "traffic":
+            traffic = this.companyTrafficAdapter.read(reader);
+            break;
+          case "profiles":
+            profiles = this.profilesAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new CompanyDetails(
+          locales,
+          entity,
+          categories,
+          industries,
+          emails,
+          phones,
+          locations,
+          images,
+          urls,
+          keywords,
+          keyPeople,
+          traffic,
+          profiles);
+    }
+  }
+
+  static final class CompanyRegionAdapter extends TypeAdapter<CompanyRegion> {
+    private final TypeAdapter<String> stringAdapter;
+
+    CompanyRegionAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, CompanyRegion src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("name");
+      this.stringAdapter.write(writer, src.getName());
+      writer.name("code");
+      this.stringAdapter.write(writer, src.getCode());
+      writer.endObject();
+    }
+
+    @Override
+    public CompanyRegion read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String name = null;
+      String code = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "name":
+            name = this.stringAdapter.read(reader);
+            break;
+          case "code":
+            code = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new CompanyRegion(name, code);
+    }
+  }
+
+  static final class CompanyResponseAdapter extends TypeAdapter<CompanyResponse> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<CompanyDetails> companyDetailsAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    CompanyResponseAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.companyDetailsAdapter = gson.getAdapter(CompanyDetails.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, CompanyResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("name");
+      this.stringAdapter.write(writer, src.getName());
+      writer.name("location");
+      this.stringAdapter.write(writer, src.getLocation());
+      writer.name("twitter");
+      this.stringAdapter.write(writer, src.getTwitter());
+      writer.name("linkedin");
+      this.stringAdapter.write(writer, src.getLinkedin());
+      writer.name("bio");
+      this.stringAdapter.write(writer, src.getBio());
+      writer.name("logo");
+      this.stringAdapter.write(writer, src.getLogo());
+      writer.name("website");
+      this.stringAdapter.write(writer, src.getWebsite());
+      writer.name("locale");
+      this.stringAdapter.write(writer, src.getLocale());
+      writer.name("category");
+      this.stringAdapter.write(writer, src.getCategory());
+      writer.name("updated");
+      this.stringAdapter.write(writer, src.getUpdated());
+      writer.name("founded");
+      this.integerAdapter.write(writer, src.getFounded());
+      writer.name("employees");
+      this.integerAdapter.write(writer, src.getEmployees());
+      writer.name("details");
+      this.companyDetailsAdapter.write(writer, src.getDetails());
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public CompanyResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String name = null;
+      String location = null;
+      String twitter = null;
+      String linkedin = null;
+      String bio = null;
+      String logo = null;
+      String website = null;
+      String locale = null;
+      String category = null;
+      String updated = null;
+      int founded = 0;
+      int employees = 0;
+      CompanyDetails details = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "name":
+            name = this.stringAdapter.read(reader);
+            break;
+          case "location":
+            location = this.stringAdapter.read(reader);
+            break;
+          case "twitter":
+            twitter = this.stringAdapter.read(reader);
+            break;
+          case "linkedin":
+            linkedin = this.stringAdapter.read(reader);
+            break;
+          case "bio":
+            bio = this.stringAdapter.read(reader);
+            break;
+          case "logo":
+            logo = this.stringAdapter.read(reader);
+            break;
+          case "website":
+            website = this.stringAdapter.read(reader);
+            break;
+          case "locale":
+            locale = this.stringAdapter.read(reader);
+            break;
+          case "category":
+            category = this.stringAdapter.read(reader);
+            break;
+          case "updated":
+            updated = this.stringAdapter.read(reader);
+            break;
+          case "founded":
+            founded = valueOrElse(this.integerAdapter.read(reader), founded);
+            break;
+          case "employees":
+            employees = valueOrElse(this.integerAdapter.read(reader), employees);
+            break;
+          case "details":
+            details = this.companyDetailsAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      CompanyResponse response =
+          new CompanyResponse(
+              name, location, twitter, linkedin, bio, logo, website, locale, category, updated,
+              founded, employees, details);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class CompanyTrafficAdapter extends TypeAdapter<CompanyTraffic> {
+    private final TypeAdapter<TrafficRank> trafficRankAdapter;
+
+    CompanyTrafficAdapter(Gson gson) {
+      this.trafficRankAdapter = gson.getAdapter(TrafficRank.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, CompanyTraffic src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("countryRank");
+      this.trafficRankAdapter.write(writer, src.getCountryRank());
+      writer.name("localeRank");
+      this.trafficRankAdapter.write(writer, src.getLocaleRank());
+      writer.endObject();
+    }
+
+    @Override
+    public CompanyTraffic read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      TrafficRank countryRank = null;
+      TrafficRank localeRank = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "countryRank":
+            countryRank = this.trafficRankAdapter.read(reader);
+            break;
+          case "localeRank":
+            localeRank = this.trafficRankAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new CompanyTraffic(countryRank, localeRank);
+    }
+  }
+
+  static final class ConsentPurposeResponseAdapter extends TypeAdapter<ConsentPurposeResponse> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Long> longAdapter;
+
+    ConsentPurposeResponseAdapter(Gson gson) {
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.longAdapter = gson.getAdapter(Long.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, ConsentPurposeResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("ttl");
+      this.integerAdapter.write(writer, src.getTtl());
+      writer.name("purposeId");
+      this.integerAdapter.write(writer, src.getPurposeId());
+      writer.name("enabled");
+      this.booleanAdapter.write(writer, src.isEnabled());
+      writer.name("channel");
+      this.stringAdapter.write(writer, src.getChannel());
+      writer.name("purposeName");
+      this.stringAdapter.write(writer, src.getPurposeName());
+      writer.name("timestamp");
+      this.longAdapter.write(writer, src.getTimestamp());
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public ConsentPurposeResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      int ttl = 0;
+      int purposeId = 0;
+      boolean enabled = false;
+      String channel = null;
+      String purposeName = null;
+      long timestamp = 0;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "ttl":
+            ttl = valueOrElse(this.integerAdapter.read(reader), ttl);
+            break;
+          case "purposeId":
+            purposeId = valueOrElse(this.integerAdapter.read(reader), purposeId);
+            break;
+          case "enabled":
+            enabled = valueOrElse(this.booleanAdapter.read(reader), enabled);
+            break;
+          case "channel":
+            channel = this.stringAdapter.read(reader);
+            break;
+          case "purposeName":
+            purposeName = this.stringAdapter.read(reader);
+            break;
+          case "timestamp":
+            timestamp = valueOrElse(this.longAdapter.read(reader), timestamp);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      ConsentPurposeResponse response =
+          new ConsentPurposeResponse(ttl, purposeId, enabled, channel, purposeName, timestamp);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class CreditCardsAdapter extends TypeAdapter<CreditCards> {
+    private final TypeAdapter<Card> cardAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    CreditCardsAdapter(Gson gson) {
+      this.cardAdapter = gson.getAdapter(Card.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, CreditCards src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("premium");
+      this.cardAdapter.write(writer, src.getPremium());
+      writer.name("regular");
+      this.cardAdapter.write(writer, src.getRegular());
+      writer.name("debit");
+      this.booleanAdapter.write(writer, src.isDebit());
+      writer.endObject();
+    }
+
+    @Override
+    public CreditCards read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      Card premium = null;
+      Card regular = null;
+      boolean debit = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "premium":
+            premium = this.cardAdapter.read(reader);
+            break;
+          case "regular":
+            regular = this.cardAdapter.read(reader);
+            break;
+          case "debit":
+            debit = valueOrElse(this.booleanAdapter.read(reader), debit);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new CreditCards(premium, regular, debit);
+    }
+  }
+
+  static final class DateAdapter extends TypeAdapter<Date> {
+    private final TypeAdapter<Integer> integerAdapter;
+
+    DateAdapter(Gson gson) {
+      this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Date src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("year");
+      this.integerAdapter.write(writer, src.getYear());
+      writer.name("month");
+      this.integerAdapter.write(writer, src.getMonth());
+      writer.name("day");
+      this.integerAdapter.write(writer, src.getDay());
+      writer.endObject();
+    }
+
+    @Override
+    public Date read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      int year = 0;
+      int month = 0;
+      int day = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "year":
+            year = valueOrElse(this.integerAdapter.read(reader), year);
+            break;
+          case "month":
+            month = valueOrElse(this.integerAdapter.read(reader), month);
+            break;
+          case "day":
+            day = valueOrElse(this.integerAdapter.read(reader), day);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Date(year, month, day);
+    }
+  }
+
+  static final class DemographicsAdapter extends TypeAdapter<Demographics> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Age> ageAdapter;
+
+    DemographicsAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.ageAdapter = gson.getAdapter(Age.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Demographics src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("gender");
+      this.stringAdapter.write(writer, src.getGender());
+      writer.name("maritalStatus");
+      this.stringAdapter.write(writer, src.getMaritalStatus());
+      writer.name("occupation");
+      this.stringAdapter.write(writer, src.getOccupation());
+      writer.name("livingStatus");
+      this.stringAdapter.write(writer, src.getLivingStatus());
+      writer.name("age");
+      this.ageAdapter.write(writer, src.getAge());
+      writer.endObject();
+    }
+
+    @Override
+    public Demographics read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String gender = null;
+      String maritalStatus = null;
+      String occupation = null;
+      String livingStatus = null;
+      Age age = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "gender":
+            gender = this.stringAdapter.read(reader);
+            break;
+          case "maritalStatus":
+            maritalStatus = this.stringAdapter.read(reader);
+            break;
+          case "occupation":
+            occupation = this.stringAdapter.read(reader);
+            break;
+          case "livingStatus":
+            livingStatus = this.stringAdapter.read(reader);
+            break;
+          case "age":
+            age = this.ageAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Demographics(gender, maritalStatus, occupation, livingStatus, age);
+    }
+  }
+
+  static final class DetailsAdapter extends TypeAdapter<Details> {
+    private final TypeAdapter<PersonName> personNameAdapter;
+    private final TypeAdapter<Age> ageAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Household> householdAdapter;
+    private final TypeAdapter<Demographics> demographicsAdapter;
+    private final TypeAdapter<Finance> financeAdapter;
+    private final TypeAdapter<Census> censusAdapter;
+    private final TypeAdapter<Survey> surveyAdapter;
+    private final TypeAdapter<Buyer> buyerAdapter;
+    private final TypeAdapter<List<EmailAndPhone>> emailAndPhoneListAdapter;
+    private final TypeAdapter<Profiles> profilesAdapter;
+    private final TypeAdapter<Identifiers> identifiersAdapter;
+    private final TypeAdapter<Automotive> automotiveAdapter;
+    private final TypeAdapter<List<Location>> locationListAdapter;
+    private final TypeAdapter<List<Employment>> employmentListAdapter;
+    private final TypeAdapter<List<Photo>> photoListAdapter;
+    private final TypeAdapter<List<Education>> educationListAdapter;
+    private final TypeAdapter<List<URL>> uRLListAdapter;
+    private final TypeAdapter<List<Interest>> interestListAdapter;
+    private final FieldMask fieldMask;
+
+    DetailsAdapter(Gson gson) {
+      this(gson, null);
+    }
+
+    DetailsAdapter(Gson gson, FieldMask fieldMask) {
+      this.personNameAdapter = gson.getAdapter(PersonName.class);
+      this.ageAdapter = gson.getAdapter(Age.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.householdAdapter = gson.getAdapter(Household.class);
+      this.demographicsAdapter = gson.getAdapter(Demographics.class);
+      this.financeAdapter = gson.getAdapter(Finance.class);
+      this.censusAdapter = gson.getAdapter(Census.class);
+      this.surveyAdapter = gson.getAdapter(Survey.class);
+      this.buyerAdapter = gson.getAdapter(Buyer.class);
+      this.emailAndPhoneListAdapter = gson.getAdapter(new TypeToken<List<EmailAndPhone>>() {});
+      this.profilesAdapter = gson.getAdapter(Profiles.class);
+      this.identifiersAdapter = gson.getAdapter(Identifiers.class);
+      this.automotiveAdapter = gson.getAdapter(Automotive.class);
+      this.locationListAdapter = gson.getAdapter(new TypeToken<List<Location>>() {});
+      this.employmentListAdapter = gson.getAdapter(new TypeToken<List<Employment>>() {});
+      this.photoListAdapter = gson.getAdapter(new TypeToken<List<Photo>>() {});
+      this.educationListAdapter = gson.getAdapter(new TypeToken<List<Education>>() {});
+      this.uRLListAdapter = gson.getAdapter(new TypeToken<List<URL>>() {});
+      this.interestListAdapter = gson.getAdapter(new TypeToken<List<Interest>>() {});
+      this.fieldMask = fieldMask;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Details src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("name");
+      this.personNameAdapter.write(writer, src.getName());
+      writer.name("age");
+      this.ageAdapter.write(writer, src.getAge());
+      writer.name("gender");
+      this.stringAdapter.write(writer, src.getGender());
+      writer.name("household");
+      this.householdAdapter.write(writer, src.getHousehold());
+      writer.name("demographics");
+      this.demographicsAdapter.write(writer, src.getDemographics());
+      writer.name("finance");
+      this.financeAdapter.write(writer, src.getFinance());
+      writer.name("census");
+      this.censusAdapter.write(writer, src.getCensus());
+      writer.name("survey");
+      this.surveyAdapter.write(writer, src.getSurvey());
+      writer.name("buyer");
+      this.buyerAdapter.write(writer, src.getBuyer());
+      writer.name("emails");
+      this.emailAndPhoneListAdapter.write(writer, src.getEmails());
+      writer.name("phones");
+      this.emailAndPhoneListAdapter.write(writer, src.getPhones());
+      writer.name("profiles");
+      this.profilesAdapter.write(writer, src.getProfiles());
+      writer.name("identifiers");
+      this.identifiersAdapter.write(writer, src.getIdentifiers());
+      writer.name("automotive");
+      this.automotiveAdapter.write(writer, src.getAutomotive());
+      writer.name("locations");
+      this.locationListAdapter.write(writer, src.getLocations());
+      writer.name("employment");
+      this.employmentListAdapter.write(writer, src.getEmployment());
+      writer.name("photos");
+      this.photoListAdapter.write(writer, src.getPhotos());
+      writer.name("education");
+      this.educationListAdapter.write(writer, src.getEducation());
+      writer.name("urls");
+      this.uRLListAdapter.write(writer, src.getUrls());
+      writer.name("interests");
+      this.interestListAdapter.write(writer, src.getInterests());
+      writer.endObject();
+    }
+
+    @Override
+    public Details read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      PersonName name = null;
+      Age age = null;
+      String gender = null;
+      Household household = null;
+      Demographics demographics = null;
+      Finance finance = null;
+      Census census = null;
+      Survey survey = null;
+      Buyer buyer = null;
+      List<EmailAndPhone> emails = null;
+      List<EmailAndPhone> phones = null;
+      Profiles profiles = null;
+      Identifiers identifiers = null;
+      Automotive automotive = null;
+      List<Location> locations = null;
+      List<Employment> employment = null;
+      List<Photo> photos = null;
+      List<Education> education = null;
+      List<URL> urls = null;
+      List<Interest> interests = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String field = reader.nextName();
+        if (this.fieldMask != null && !this.fieldMask.includes(field)) {
+          reader.skipValue();
+          continue;
+        }
+        switch (field) {
+          case "name":
+            name = this.personNameAdapter.read(reader);
+            break;
+          case "age":
+            age = this.ageAdapter.read(reader);
+            break;
+          case "gender":
+            gender = this.stringAdapter.read(reader);
+            break;
+          case "household":
+            household = this.householdAdapter.read(reader);
+            break;
+          case "demographics":
+            demographics = this.demographicsAdapter.read(reader);
+            break;
+          case "finance":
+            finance = this.financeAdapter.read(reader);
+            break;
+          case "census":
+            census = this.censusAdapter.read(reader);
+            break;
+          case "survey":
+            survey = this.surveyAdapter.read(reader);
+            break;
+          case "buyer":
+            buyer = this.buyerAdapter.read(reader);
+            break;
+          case "emails":
+            emails = this.emailAndPhoneListAdapter.read(reader);
+            break;
+          case "phones":
+            phones = this.emailAndPhoneListAdapter.read(reader);
+            break;
+          case "profiles":
+            profiles = this.profilesAdapter.read(reader);
+            break;
+          case "identifiers":
+            identifiers = this.identifiersAdapter.read(reader);
+            break;
+          case "automotive":
+            automotive = this.automotiveAdapter.read(reader);
+            break;
+          case "locations":
+            locations = this.locationListAdapter.read(reader);
+            break;
+          case "employment":
+            employment = this.employmentListAdapter.read(reader);
+            break;
+          case "photos":
+            photos = this.photoListAdapter.read(reader);
+            break;
+          case "education":
+            education = this.educationListAdapter.read(reader);
+            break;
+          case "urls":
+            urls = this.uRLListAdapter.read(reader);
+            break;
+          case "interests":
+            interests = this.interestListAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Details(
+          name,
+          age,
+          gender,
+          household,
+          demographics,
+          finance,
+          census,
+          survey,
+          buyer,
+          emails,
+          phones,
+          profiles,
+          identifiers,
+          automotive,
+          locations,
+          employment,
+          photos,
+          education,
+          urls,
+          interests);
+    }
+  }
+
+  static final class DietConcernsAdapter extends TypeAdapter<DietConcerns> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    DietConcernsAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, DietConcerns src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("general");
+      this.booleanAdapter.write(writer, src.isGeneral());
+      writer.name("loseWeight");
+      this.booleanAdapter.write(writer, src.isLoseWeight());
+      writer.name("eatNatural");
+      this.booleanAdapter.write(writer, src.isEatNatural());
+      writer.name("vitaminSupplements");
+      this.booleanAdapter.write(writer, src.isVitaminSupplements());
+      writer.name("healthy");
+      this.booleanAdapter.write(writer, src.isHealthy());
+      writer.endObject();
+    }
+
+    @Override
+    public DietConcerns read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean general = false;
+      boolean loseWeight = false;
+      boolean eatNatural = false;
+      boolean vitaminSupplements = false;
+      boolean healthy = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "general":
+            general = valueOrElse(this.booleanAdapter.read(reader), general);
+            break;
+          case "loseWeight":
+            loseWeight = valueOrElse(this.booleanAdapter.read(reader), loseWeight);
+            break;
+          case "eatNatural":
+            eatNatural = valueOrElse(this.booleanAdapter.read(reader), eatNatural);
+            break;
+          case "vitaminSupplements":
+            vitaminSupplements = valueOrElse(this.booleanAdapter.read(reader), vitaminSupplements);
+            break;
+          case "healthy":
+            healthy = valueOrElse(this.booleanAdapter.read(reader), healthy);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new DietConcerns(general, loseWeight, eatNatural, vitaminSupplements, healthy);
+    }
+  }
+
+  static final class EducationAdapter extends TypeAdapter<Education> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    EducationAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Education src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("name");
+      this.stringAdapter.write(writer, src.getName());
+      writer.name("degree");
+      this.stringAdapter.write(writer, src.getDegree());
+      writer.name("end");
+      this.dateAdapter.write(writer, src.getEnd());
+      writer.endObject();
+    }
+
+    @Override
+    public Education read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String name = null;
+      String degree = null;
+      Date end = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "name":
+            name = this.stringAdapter.read(reader);
+            break;
+          case "degree":
+            degree = this.stringAdapter.read(reader);
+            break;
+          case "end":
+            end = this.dateAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Education(name, degree, end);
+    }
+  }
+
+  static final class ElectronicsAdapter extends TypeAdapter<Electronics> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    ElectronicsAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Electronics src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("appleDevice");
+      this.booleanAdapter.write(writer, src.isAppleDevice());
+      writer.name("cableTv");
+      this.booleanAdapter.write(writer, src.isCableTv());
+      writer.name("highSpeedInternet");
+      this.booleanAdapter.write(writer, src.isHighSpeedInternet());
+      writer.name("dvr");
+      this.booleanAdapter.write(writer, src.isDvr());
+      writer.name("dvdPlayer");
+      this.booleanAdapter.write(writer, src.isDvdPlayer());
+      writer.name("hdtv");
+      this.booleanAdapter.write(writer, src.isHdtv());
+      writer.name("homeTheater");
+      this.booleanAdapter.write(writer, src.isHomeTheater());
+      writer.name("satelliteRadio");
+      this.booleanAdapter.write(writer, src.isSatelliteRadio());
+      writer.name("satelliteTv");
+      this.booleanAdapter.write(writer, src.isSatelliteTv());
+      writer.name("videoGameSystems");
+      this.booleanAdapter.write(writer, src.isVideoGameSystems());
+      writer.name("other");
+      this.booleanAdapter.write(writer, src.isOther());
+      writer.endObject();
+    }
+
+    @Override
+    public Electronics read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean appleDevice = false;
+      boolean cableTv = false;
+      boolean highSpeedInternet = false;
+      boolean dvr = false;
+      boolean dvdPlayer = false;
+      boolean hdtv = false;
+      boolean homeTheater = false;
+      boolean satelliteRadio = false;
+      boolean satelliteTv = false;
+      boolean videoGameSystems = false;
+      boolean other = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "appleDevice":
+            appleDevice = valueOrElse(this.booleanAdapter.read(reader), appleDevice);
+            break;
+          case "cableTv":
+            cableTv = valueOrElse(this.booleanAdapter.read(reader), cableTv);
+            break;
+          case "highSpeedInternet":
+            highSpeedInternet = valueOrElse(this.booleanAdapter.read(reader), highSpeedInternet);
+            break;
+          case "dvr":
+            dvr = valueOrElse(this.booleanAdapter.read(reader), dvr);
+            break;
+          case "dvdPlayer":
+            dvdPlayer = valueOrElse(this.booleanAdapter.read(reader), dvdPlayer);
+            break;
+          case "hdtv":
+            hdtv = valueOrElse(this.booleanAdapter.read(reader), hdtv);
+            break;
+          case "homeTheater":
+            homeTheater = valueOrElse(this.booleanAdapter.read(reader), homeTheater);
+            break;
+          case "satelliteRadio":
+            satelliteRadio = valueOrElse(this.booleanAdapter.read(reader), satelliteRadio);
+            break;
+          case "satelliteTv":
+            satelliteTv = valueOrElse(this.booleanAdapter.read(reader), satelliteTv);
+            break;
+          case "videoGameSystems":
+            videoGameSystems = valueOrElse(this.booleanAdapter.read(reader), videoGameSystems);
+            break;
+          case "other":
+            other = valueOrElse(this.booleanAdapter.read(reader), other);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Electronics(
+          appleDevice,
+          cableTv,
+          highSpeedInternet,
+          dvr,
+          dvdPlayer,
+          hdtv,
+          homeTheater,
+          satelliteRadio,
+          satelliteTv,
+          videoGameSystems,
+          other);
+    }
+  }
+
+  static final class EmailAndPhoneAdapter extends TypeAdapter<EmailAndPhone> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Double> doubleAdapter;
+
+    EmailAndPhoneAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.longAdapter = gson.getAdapter(Long.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.doubleAdapter = gson.getAdapter(Double.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, EmailAndPhone src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("label");
+      this.stringAdapter.write(writer, src.getLabel());
+      writer.name("value");
+      this.stringAdapter.write(writer, src.getValue());
+      writer.name("type");
+      this.stringAdapter.write(writer, src.getType());
+      writer.name("md5");
+      this.stringAdapter.write(writer, src.getMd5());
+      writer.name("sha256");
+      this.stringAdapter.write(writer, src.getSha256());
+      writer.name("sha1");
+      this.stringAdapter.write(writer, src.getSha1());
+      writer.name("firstSeenMs");
+      this.longAdapter.write(writer, src.getFirstSeenMs());
+      writer.name("lastSeenMs");
+      this.longAdapter.write(writer, src.getLastSeenMs());
+      writer.name("observations");
+      this.integerAdapter.write(writer, src.getObservations());
+      writer.name("confidence");
+      this.doubleAdapter.write(writer, src.getConfidence());
+      writer.endObject();
+    }
+
+    @Override
+    public EmailAndPhone read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String label = null;
+      String value = null;
+      String type = null;
+      String md5 = null;
+      String sha256 = null;
+      String sha1 = null;
+      long firstSeenMs = 0;
+      long lastSeenMs = 0;
+      int observations = 0;
+      double confidence = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "label":
+            label = this.stringAdapter.read(reader);
+            break;
+          case "value":
+            value = this.stringAdapter.read(reader);
+            break;
+          case "type":
+            type = this.stringAdapter.read(reader);
+            break;
+          case "md5":
+            md5 = this.stringAdapter.read(reader);
+            break;
+          case "sha256":
+            sha256 = this.stringAdapter.read(reader);
+            break;
+          case "sha1":
+            sha1 = this.stringAdapter.read(reader);
+            break;
+          case "firstSeenMs":
+            firstSeenMs = valueOrElse(this.longAdapter.read(reader), firstSeenMs);
+            break;
+          case "lastSeenMs":
+            lastSeenMs = valueOrElse(this.longAdapter.read(reader), lastSeenMs);
+            break;
+          case "observations":
+            observations = valueOrElse(this.integerAdapter.read(reader), observations);
+            break;
+          case "confidence":
+            confidence = valueOrElse(this.doubleAdapter.read(reader), confidence);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new EmailAndPhone(
+          label, value, type, md5, sha256, sha1, firstSeenMs, lastSeenMs, observations, confidence);
+    }
+  }
+
+  static final class EmploymentAdapter extends TypeAdapter<Employment> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    EmploymentAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Employment src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("name");
+      this.stringAdapter.write(writer, src.getName());
+      writer.name("title");
+      this.stringAdapter.write(writer, src.getTitle());
+      writer.name("domain");
+      this.stringAdapter.write(writer, src.getDomain());
+      writer.name("current");
+      this.booleanAdapter.write(writer, src.isCurrent());
+      writer.name("start");
+      this.dateAdapter.write(writer, src.getStart());
+      writer.name("end");
+      this.dateAdapter.write(writer, src.getEnd());
+      writer.endObject();
+    }
+
+    @Override
+    public Employment read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String name = null;
+      String title = null;
+      String domain = null;
+      boolean current = false;
+      Date start = null;
+      Date end = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "name":
+            name = this.stringAdapter.read(reader);
+            break;
+          case "title":
+            title = this.stringAdapter.read(reader);
+            break;
+          case "domain":
+            domain = this.stringAdapter.read(reader);
+            break;
+          case "current":
+            current = valueOrElse(this.booleanAdapter.read(reader), current);
+            break;
+          case "start":
+            start = this.dateAdapter.read(reader);
+            break;
+          case "end":
+            end = this.dateAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Employment(name, title, domain, current, start, end);
+    }
+  }
+
+  static final class EntityAdapter extends TypeAdapter<Entity> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    EntityAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Entity src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("name");
+      this.stringAdapter.write(writer, src.getName());
+      writer.name("founded");
+      this.integerAdapter.write(writer, src.getFounded());
+      writer.name("employees");
+      this.integerAdapter.write(writer, src.getEmployees());
+      writer.endObject();
+    }
+
+    @Override
+    public Entity read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String name = null;
+      int founded = 0;
+      int employees = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "name":
+            name = this.stringAdapter.read(reader);
+            break;
+          case "founded":
+            founded = valueOrElse(this.integerAdapter.read(reader), founded);
+            break;
+          case "employees":
+            employees = valueOrElse(this.integerAdapter.read(reader), employees);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Entity(name, founded, employees);
+    }
+  }
+
+  static final class FCResponseAdapter extends TypeAdapter<FCResponse> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    FCResponseAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, FCResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public FCResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new FCResponse(isSuccessful, statusCode, message);
+    }
+  }
+
+  static final class FamilyInfoAdapter extends TypeAdapter<FamilyInfo> {
+    private final TypeAdapter<Integer> integerAdapter;
+
+    FamilyInfoAdapter(Gson gson) {
+      this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, FamilyInfo src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("totalAdults");
+      this.integerAdapter.write(writer, src.getTotalAdults());
+      writer.name("totalChildren");
+      this.integerAdapter.write(writer, src.getTotalChildren());
+      writer.name("totalPeopleInHousehold");
+      this.integerAdapter.write(writer, src.getTotalPeopleInHousehold());
+      writer.endObject();
+    }
+
+    @Override
+    public FamilyInfo read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      int totalAdults = 0;
+      int totalChildren = 0;
+      int totalPeopleInHousehold = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "totalAdults":
+            totalAdults = valueOrElse(this.integerAdapter.read(reader), totalAdults);
+            break;
+          case "totalChildren":
+            totalChildren = valueOrElse(this.integerAdapter.read(reader), totalChildren);
+            break;
+          case "totalPeopleInHousehold":
+            totalPeopleInHousehold =
+                valueOrElse(this.integerAdapter.read(reader), totalPeopleInHousehold);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new FamilyInfo(totalAdults, totalChildren, totalPeopleInHousehold);
+    }
+  }
+
+  static final class FinanceAdapter extends TypeAdapter<Finance> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    FinanceAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Finance src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("cashValueBalanceHouseholdEstimate");
+      this.stringAdapter.write(writer, src.getCashValueBalanceHouseholdEstimate());
+      writer.name("financialDebtRangeEstimate");
+      this.stringAdapter.write(writer, src.getFinancialDebtRangeEstimate());
+      writer.name("householdIncomeEstimate");
+      this.stringAdapter.write(writer, src.getHouseholdIncomeEstimate());
+      writer.name("netWorthRange");
+      this.stringAdapter.write(writer, src.getNetWorthRange());
+      writer.name("bankCard");
+      this.stringAdapter.write(writer, src.getBankCard());
+      writer.name("retailCard");
+      this.stringAdapter.write(writer, src.getRetailCard());
+      writer.name("activeLineOfCredit");
+      this.booleanAdapter.write(writer, src.isActiveLineOfCredit());
+      writer.name("bankruptcy");
+      this.booleanAdapter.write(writer, src.isBankruptcy());
+      writer.name("discretionaryIncomeEstimate");
+      this.integerAdapter.write(writer, src.getDiscretionaryIncomeEstimate());
+      writer.endObject();
+    }
+
+    @Override
+    public Finance read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String cashValueBalanceHouseholdEstimate = null;
+      String financialDebtRangeEstimate = null;
+      String householdIncomeEstimate = null;
+      String netWorthRange = null;
+      String bankCard = null;
+      String retailCard = null;
+      boolean activeLineOfCredit = false;
+      boolean bankruptcy = false;
+      int discretionaryIncomeEstimate = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "cashValueBalanceHouseholdEstimate":
+            cashValueBalanceHouseholdEstimate = this.stringAdapter.read(reader);
+            break;
+          case "financialDebtRangeEstimate":
+            financialDebtRangeEstimate = this.stringAdapter.read(reader);
+            break;
+          case "householdIncomeEstimate":
+            householdIncomeEstimate = this.stringAdapter.read(reader);
+            break;
+          case "netWorthRange":
+            netWorthRange = this.stringAdapter.read(reader);
+            break;
+          case "bankCard":
+            bankCard = this.stringAdapter.read(reader);
+            break;
+          case "retailCard":
+            retailCard = this.stringAdapter.read(reader);
+            break;
+          case "activeLineOfCredit":
+            activeLineOfCredit = valueOrElse(this.booleanAdapter.read(reader), activeLineOfCredit);
+            break;
+          case "bankruptcy":
+            bankruptcy = valueOrElse(this.booleanAdapter.read(reader), bankruptcy);
+            break;
+          case "discretionaryIncomeEstimate":
+            discretionaryIncomeEstimate =
+                valueOrElse(this.integerAdapter.read(reader), discretionaryIncomeEstimate);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Finance(
+          cashValueBalanceHouseholdEstimate,
+          financialDebtRangeEstimate,
+          householdIncomeEstimate,
+          netWorthRange,
+          bankCard,
+          retailCard,
+          activeLineOfCredit,
+          bankruptcy,
+          discretionaryIncomeEstimate);
+    }
+  }
+
+  static final class GardeningAdapter extends TypeAdapter<Gardening> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    GardeningAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Gardening src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("general");
+      this.booleanAdapter.write(writer, src.isGeneral());
+      writer.name("flowers");
+      this.booleanAdapter.write(writer, src.isFlowers());
+      writer.name("organic");
+      this.booleanAdapter.write(writer, src.isOrganic());
+      writer.name("vegetables");
+      this.booleanAdapter.write(writer, src.isVegetables());
+      writer.endObject();
+    }
+
+    @Override
+    public Gardening read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean general = false;
+      boolean flowers = false;
+      boolean organic = false;
+      boolean vegetables = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "general":
+            general = valueOrElse(this.booleanAdapter.read(reader), general);
+            break;
+          case "flowers":
+            flowers = valueOrElse(this.booleanAdapter.read(reader), flowers);
+            break;
+          case "organic":
+            organic = valueOrElse(this.booleanAdapter.read(reader), organic);
+            break;
+          case "vegetables":
+            vegetables = valueOrElse(this.booleanAdapter.read(reader), vegetables);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Gardening(general, flowers, organic, vegetables);
+    }
+  }
+
+  static final class HobbyAdapter extends TypeAdapter<Hobby> {
+    private final TypeAdapter<Gardening> gardeningAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    HobbyAdapter(Gson gson) {
+      this.gardeningAdapter = gson.getAdapter(Gardening.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Hobby src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("gardening");
+      this.gardeningAdapter.write(writer, src.getGardening());
+      writer.name("general");
+      this.booleanAdapter.write(writer, src.isGeneral());
+      writer.name("baking");
+      this.booleanAdapter.write(writer, src.isBaking());
+      writer.name("birdWatching");
+      this.booleanAdapter.write(writer, src.isBirdWatching());
+      writer.name("cars");
+      this.booleanAdapter.write(writer, src.isCars());
+      writer.name("cigarSmoking");
+      this.booleanAdapter.write(writer, src.isCigarSmoking());
+      writer.name("gourmetCooking");
+      this.booleanAdapter.write(writer, src.isGourmetCooking());
+      writer.name("cooking");
+      this.booleanAdapter.write(writer, src.isCooking());
+      writer.name("crafts");
+      this.booleanAdapter.write(writer, src.isCrafts());
+      writer.name("casinoGambling");
+      this.booleanAdapter.write(writer, src.isCasinoGambling());
+      writer.name("homeImprovement");
+      this.booleanAdapter.write(writer, src.isHomeImprovement());
+      writer.name("homeStudyCourses");
+      this.booleanAdapter.write(writer, src.isHomeStudyCourses());
+      writer.name("knitting");
+      this.booleanAdapter.write(writer, src.isKnitting());
+      writer.name("lotteries");
+      this.booleanAdapter.write(writer, src.isLotteries());
+      writer.name("quilting");
+      this.booleanAdapter.write(writer, src.isQuilting());
+      writer.name("selfImprovementCourses");
+      this.booleanAdapter.write(writer, src.isSelfImprovementCourses());
+      writer.name("sewing");
+      this.booleanAdapter.write(writer, src.isSewing());
+      writer.name("theater");
+      this.booleanAdapter.write(writer, src.isTheater());
+      writer.name("woodworking");
+      this.booleanAdapter.write(writer, src.isWoodworking());
+      writer.name("wineAppreciation");
+      this.booleanAdapter.write(writer, src.isWineAppreciation());
+      writer.name("photography");
+      this.booleanAdapter.write(writer, src.isPhotography());
+      writer.name("exercise3xPerWeek");
+      this.booleanAdapter.write(writer, src.isExercise3xPerWeek());
+      writer.name("scrapBooking");
+      this.booleanAdapter.write(writer, src.isScrapBooking());
+      writer.name("lowFatCooking");
+      this.booleanAdapter.write(writer, src.isLowFatCooking());
+      writer.name("careerAdvancementCourses");
+      this.booleanAdapter.write(writer, src.isCareerAdvancementCourses());
+      writer.name("jewelryMaking");
+      this.booleanAdapter.write(writer, src.isJewelryMaking());
+      writer.name("diy");
+      this.booleanAdapter.write(writer, src.isDiy());
+      writer.name("green");
+      this.booleanAdapter.write(writer, src.isGreen());
+      writer.name("socialNetworking");
+      this.booleanAdapter.write(writer, src.isSocialNetworking());
+      writer.name("spirituality");
+      this.booleanAdapter.write(writer, src.isSpirituality());
+      writer.endObject();
+    }
+
+    @Override
+    public Hobby read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      Gardening gardening = null;
+      boolean general = false;
+      boolean baking = false;
+      boolean birdWatching = false;
+      boolean cars = false;
+      boolean cigarSmoking = false;
+      boolean gourmetCooking = false;
+      boolean cooking = false;
+      boolean crafts = false;
+      boolean casinoGambling = false;
+      boolean homeImprovement = false;
+      boolean homeStudyCourses = false;
+      boolean knitting = false;
+      boolean lotteries = false;
+      boolean quilting = false;
+      boolean selfImprovementCourses = false;
+      boolean sewing = false;
+      boolean theater = false;
+      boolean woodworking = false;
+      boolean wineAppreciation = false;
+      boolean photography = false;
+      boolean exercise3xPerWeek = false;
+      boolean scrapBooking = false;
+      boolean lowFatCooking = false;
+      boolean careerAdvancementCourses = false;
+      boolean jewelryMaking = false;
+      boolean diy = false;
+      boolean green = false;
+      boolean socialNetworking = false;
+      boolean spirituality = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "gardening":
+            gardening = this.gardeningAdapter.read(reader);
+            break;
+          case "general":
+            general = valueOrElse(this.booleanAdapter.read(reader), general);
+            break;
+          case "baking":
+            baking = valueOrElse(this.booleanAdapter.read(reader), baking);
+            break;
+          case "birdWatching":
+            birdWatching = valueOrElse(this.booleanAdapter.read(reader), birdWatching);
+            break;
+          case "cars":
+            cars = valueOrElse(this.booleanAdapter.read(reader), cars);
+            break;
+          case "cigarSmoking":
+            cigarSmoking = valueOrElse(this.booleanAdapter.read(reader), cigarSmoking);
+            break;
+          case "gourmetCooking":
+            gourmetCooking = valueOrElse(this.booleanAdapter.read(reader), gourmetCooking);
+            break;
+          case "cooking":
+            cooking = valueOrElse(this.booleanAdapter.read(reader), cooking);
+            break;
+          case "crafts":
+            crafts = valueOrElse(this.booleanAdapter.read(reader), crafts);
+            break;
+          case "casinoGambling":
+            casinoGambling = valueOrElse(this.booleanAdapter.read(reader), casinoGambling);
+            break;
+          case "homeImprovement":
+            homeImprovement = valueOrElse(this.booleanAdapter.read(reader), homeImprovement);
+            break;
+          case "homeStudyCourses":
+            homeStudyCourses = valueOrElse(this.booleanAdapter.read(reader), homeStudyCourses);
+            break;
+          case "knitting":
+            knitting = valueOrElse(this.booleanAdapter.read(reader), knitting);
+            break;
+          case "lotteries":
+            lotteries = valueOrElse(this.booleanAdapter.read(reader), lotteries);
+            break;
+          case "quilting":
+            quilting = valueOrElse(this.booleanAdapter.read(reader), quilting);
+            break;
+          case "selfImprovementCourses":
+            selfImprovementCourses =
+                valueOrElse(this.booleanAdapter.read(reader), selfImprovementCourses);
+            break;
+          case "sewing":
+            sewing = valueOrElse(this.booleanAdapter.read(reader), sewing);
+            break;
+          case "theater":
+            theater = valueOrElse(this.booleanAdapter.read(reader), theater);
+            break;
+          case "woodworking":
+            woodworking = valueOrElse(this.booleanAdapter.read(reader), woodworking);
+            break;
+          case "wineAppreciation":
+            wineAppreciation = valueOrElse(this.booleanAdapter.read(reader), wineAppreciation);
+            break;
+          case "photography":
+            photography = valueOrElse(this.booleanAdapter.read(reader), photography);
+            break;
+          case "exercise3xPerWeek":
+            exercise3xPerWeek = valueOrElse(this.booleanAdapter.read(reader), exercise3xPerWeek);
+            break;
+          case "scrapBooking":
+            scrapBooking = valueOrElse(this.booleanAdapter.read(reader), scrapBooking);
+            break;
+          case "lowFatCooking":
+            lowFatCooking = valueOrElse(this.booleanAdapter.read(reader), lowFatCooking);
+            break;
+          case "careerAdvancementCourses":
+            careerAdvancementCourses =
+                valueOrElse(this.booleanAdapter.read(reader), careerAdvancementCourses);
+            break;
+          case "jewelryMaking":
+            jewelryMaking = valueOrElse(this.booleanAdapter.read(reader), jewelryMaking);
+            break;
+          case "diy":
+            diy = valueOrElse(this.booleanAdapter.read(reader), diy);
+            break;
+          case "green":
+            green = valueOrElse(this.booleanAdapter.read(reader), green);
+            break;
+          case "socialNetworking":
+            socialNetworking = valueOrElse(this.booleanAdapter.read(reader), socialNetworking);
+            break;
+          case "spirituality":
+            spirituality = valueOrElse(this.booleanAdapter.read(reader), spirituality);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Hobby(
+          gardening,
+          general,
+          baking,
+          birdWatching,
+          cars,
+          cigarSmoking,
+          gourmetCooking,
+          cooking,
+          crafts,
+          casinoGambling,
+          homeImprovement,
+          homeStudyCourses,
+          knitting,
+          lotteries,
+          quilting,
+          selfImprovementCourses,
+          sewing,
+          theater,
+          woodworking,
+          wineAppreciation,
+          photography,
+          exercise3xPerWeek,
+          scrapBooking,
+          lowFatCooking,
+          careerAdvancementCourses,
+          jewelryMaking,
+          diy,
+          green,
+          socialNetworking,
+          spirituality);
+    }
+  }
+
+  static final class HomeInfoAdapter extends TypeAdapter<HomeInfo> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    HomeInfoAdapter(Gson gson) {
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, HomeInfo src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("homeValueEstimate");
+      this.integerAdapter.write(writer, src.getHomeValueEstimate());
+      writer.name("loanToValueEstimate");
+      this.integerAdapter.write(writer, src.getLoanToValueEstimate());
+      writer.name("yearsInHome");
+      this.integerAdapter.write(writer, src.getYearsInHome());
+      writer.name("dwellingType");
+      this.stringAdapter.write(writer, src.getDwellingType());
+      writer.endObject();
+    }
+
+    @Override
+    public HomeInfo read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      int homeValueEstimate = 0;
+      int loanToValueEstimate = 0;
+      int yearsInHome = 0;
+      String dwellingType = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "homeValueEstimate":
+            homeValueEstimate = valueOrElse(this.integerAdapter.read(reader), homeValueEstimate);
+            break;
+          case "loanToValueEstimate":
+            loanToValueEstimate =
+                valueOrElse(this.integerAdapter.read(reader), loanToValueEstimate);
+            break;
+          case "yearsInHome":
+            yearsInHome = valueOrElse(this.integerAdapter.read(reader), yearsInHome);
+            break;
+          case "dwellingType":
+            dwellingType = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new HomeInfo(homeValueEstimate, loanToValueEstimate, yearsInHome, dwellingType);
+    }
+  }
+
+  static final class HouseholdAdapter extends TypeAdapter<Household> {
+    private final TypeAdapter<HomeInfo> homeInfoAdapter;
+    private final TypeAdapter<Presence> presenceAdapter;
+    private final TypeAdapter<Finance> financeAdapter;
+    private final TypeAdapter<LocationInfo> locationInfoAdapter;
+    private final TypeAdapter<FamilyInfo> familyInfoAdapter;
+
+    HouseholdAdapter(Gson gson) {
+      this.homeInfoAdapter = gson.getAdapter(HomeInfo.class);
+      this.presenceAdapter = gson.getAdapter(Presence.class);
+      this.financeAdapter = gson.getAdapter(Finance.class);
+      this.locationInfoAdapter = gson.getAdapter(LocationInfo.class);
+      this.familyInfoAdapter = gson.getAdapter(FamilyInfo.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Household src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("homeInfo");
+      this.homeInfoAdapter.write(writer, src.getHomeInfo());
+      writer.name("presence");
+      this.presenceAdapter.write(writer, src.getPresence());
+      writer.name("finance");
+      this.financeAdapter.write(writer, src.getFinance());
+      writer.name("locationInfo");
+      this.locationInfoAdapter.write(writer, src.getLocationInfo());
+      writer.name("familyInfo");
+      this.familyInfoAdapter.write(writer, src.getFamilyInfo());
+      writer.endObject();
+    }
+
+    @Override
+    public Household read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      HomeInfo homeInfo = null;
+      Presence presence = null;
+      Finance finance = null;
+      LocationInfo locationInfo = null;
+      FamilyInfo familyInfo = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "homeInfo":
+            homeInfo = this.homeInfoAdapter.read(reader);
+            break;
+          case "presence":
+            presence = this.presenceAdapter.read(reader);
+            break;
+          case "finance":
+            finance = this.financeAdapter.read(reader);
+            break;
+          case "locationInfo":
+            locationInfo = this.locationInfoAdapter.read(reader);
+            break;
+          case "familyInfo":
+            familyInfo = this.familyInfoAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Household(homeInfo, presence, finance, locationInfo, familyInfo);
+    }
+  }
+
+  static final class IdentifiersAdapter extends TypeAdapter<Identifiers> {
+    private final TypeAdapter<List<Maids>> maidsListAdapter;
+    private final TypeAdapter<List<String>> stringListAdapter;
+
+    IdentifiersAdapter(Gson gson) {
+      this.maidsListAdapter = gson.getAdapter(new TypeToken<List<Maids>>() {});
+      this.stringListAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+    }
+
+    @Override
+    public void write(JsonWriter writer, Identifiers src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("maids");
+      this.maidsListAdapter.write(writer, src.getMaids());
+      writer.name("personIds");
+      this.stringListAdapter.write(writer, src.getPersonIds());
+      writer.name("recordIds");
+      this.stringListAdapter.write(writer, src.getRecordIds());
+      writer.name("li_nonid");
+      this.stringListAdapter.write(writer, src.getLi_nonid());
+      writer.name("partnerIds");
+      this.stringListAdapter.write(writer, src.getPartnerIds());
+      writer.endObject();
+    }
+
+    @Override
+    public Identifiers read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      List<Maids> maids = null;
+      List<String> personIds = null;
+      List<String> recordIds = null;
+      List<String> li_nonid = null;
+      List<String> partnerIds = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "maids":
+            maids = this.maidsListAdapter.read(reader);
+            break;
+          case "personIds":
+            personIds = this.stringListAdapter.read(reader);
+            break;
+          case "recordIds":
+            recordIds = this.stringListAdapter.read(reader);
+            break;
+          case "li_nonid":
+            li_nonid = this.stringListAdapter.read(reader);
+            break;
+          case "partnerIds":
+            partnerIds = this.stringListAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Identifiers(maids, personIds, recordIds, li_nonid, partnerIds);
+    }
+  }
+
+  static final class IndustryAdapter extends TypeAdapter<Industry> {
+    private final TypeAdapter<String> stringAdapter;
+
+    IndustryAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Industry src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("name");
+      this.stringAdapter.write(writer, src.getName());
+      writer.name("type");
+      this.stringAdapter.write(writer, src.getType());
+      writer.name("code");
+      this.stringAdapter.write(writer, src.getCode());
+      writer.endObject();
+    }
+
+    @Override
+    public Industry read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String name = null;
+      String type = null;
+      String code = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "name":
+            name = this.stringAdapter.read(reader);
+            break;
+          case "type":
+            type = this.stringAdapter.read(reader);
+            break;
+          case "code":
+            code = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Industry(name, type, code);
+    }
+  }
+
+  static final class InterestAdapter extends TypeAdapter<Interest> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<List<String>> stringListAdapter;
+
+    InterestAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.stringListAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+    }
+
+    @Override
+    public void write(JsonWriter writer, Interest src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("name");
+      this.stringAdapter.write(writer, src.getName());
+      writer.name("id");
+      this.stringAdapter.write(writer, src.getId());
+      writer.name("affinity");
+      this.stringAdapter.write(writer, src.getAffinity());
+      writer.name("category");
+      this.stringAdapter.write(writer, src.getCategory());
+      writer.name("parentIds");
+      this.stringListAdapter.write(writer, src.getParentIds());
+      writer.endObject();
+    }
+
+    @Override
+    public Interest read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String name = null;
+      String id = null;
+      String affinity = null;
+      String category = null;
+      List<String> parentIds = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "name":
+            name = this.stringAdapter.read(reader);
+            break;
+          case "id":
+            id = this.stringAdapter.read(reader);
+            break;
+          case "affinity":
+            affinity = this.stringAdapter.read(reader);
+            break;
+          case "category":
+            category = this.stringAdapter.read(reader);
+            break;
+          case "parentIds":
+            parentIds = this.stringListAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Interest(name, id, affinity, category, parentIds);
+    }
+  }
+
+  static final class IpAddressAdapter extends TypeAdapter<IpAddress> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Double> doubleAdapter;
+
+    IpAddressAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.longAdapter = gson.getAdapter(Long.class);
+      this.doubleAdapter = gson.getAdapter(Double.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, IpAddress src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("id");
+      this.stringAdapter.write(writer, src.getId());
+      writer.name("firstSeenMs");
+      this.longAdapter.write(writer, src.getFirstSeenMs());
+      writer.name("lastSeenMs");
+      this.longAdapter.write(writer, src.getLastSeenMs());
+      writer.name("confidence");
+      this.doubleAdapter.write(writer, src.getConfidence());
+      writer.endObject();
+    }
+
+    @Override
+    public IpAddress read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String id = null;
+      long firstSeenMs = 0;
+      long lastSeenMs = 0;
+      double confidence = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "id":
+            id = this.stringAdapter.read(reader);
+            break;
+          case "firstSeenMs":
+            firstSeenMs = valueOrElse(this.longAdapter.read(reader), firstSeenMs);
+            break;
+          case "lastSeenMs":
+            lastSeenMs = valueOrElse(this.longAdapter.read(reader), lastSeenMs);
+            break;
+          case "confidence":
+            confidence = valueOrElse(this.doubleAdapter.read(reader), confidence);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new IpAddress(id, firstSeenMs, lastSeenMs, confidence);
+    }
+  }
+
+  static final class LocaleAdapter extends TypeAdapter<Locale> {
+    private final TypeAdapter<String> stringAdapter;
+
+    LocaleAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Locale src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("code");
+      this.stringAdapter.write(writer, src.getCode());
+      writer.name("name");
+      this.stringAdapter.write(writer, src.getName());
+      writer.endObject();
+    }
+
+    @Override
+    public Locale read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String code = null;
+      String name = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "code":
+            code = this.stringAdapter.read(reader);
+            break;
+          case "name":
+            name = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Locale(code, name);
+    }
+  }
+
+  static final class LocationAdapter extends TypeAdapter<Location> {
+    private final TypeAdapter<String> stringAdapter;
+
+    LocationAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Location src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("addressLine1");
+      this.stringAdapter.write(writer, src.getAddressLine1());
+      writer.name("addressLine2");
+      this.stringAdapter.write(writer, src.getAddressLine2());
+      writer.name("city");
+      this.stringAdapter.write(writer, src.getCity());
+      writer.name("region");
+      this.stringAdapter.write(writer, src.getRegion());
+      writer.name("regionCode");
+      this.stringAdapter.write(writer, src.getRegionCode());
+      writer.name("postalCode");
+      this.stringAdapter.write(writer, src.getPostalCode());
+      writer.name("country");
+      this.stringAdapter.write(writer, src.getCountry());
+      writer.name("countryCode");
+      this.stringAdapter.write(writer, src.getCountryCode());
+      writer.name("formatted");
+      this.stringAdapter.write(writer, src.getFormatted());
+      writer.name("type");
+      this.stringAdapter.write(writer, src.getType());
+      writer.name("label");
+      this.stringAdapter.write(writer, src.getLabel());
+      writer.endObject();
+    }
+
+    @Override
+    public Location read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String addressLine1 = null;
+      String addressLine2 = null;
+      String city = null;
+      String region = null;
+      String regionCode = null;
+      String postalCode = null;
+      String country = null;
+      String countryCode = null;
+      String formatted = null;
+      String type = null;
+      String label = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "addressLine1":
+            addressLine1 = this.stringAdapter.read(reader);
+            break;
+          case "addressLine2":
+            addressLine2 = this.stringAdapter.read(reader);
+            break;
+          case "city":
+            city = this.stringAdapter.read(reader);
+            break;
+          case "region":
+            region = this.stringAdapter.read(reader);
+            break;
+          case "regionCode":
+            regionCode = this.stringAdapter.read(reader);
+            break;
+          case "postalCode":
+            postalCode = this.stringAdapter.read(reader);
+            break;
+          case "country":
+            country = this.stringAdapter.read(reader);
+            break;
+          case "countryCode":
+            countryCode = this.stringAdapter.read(reader);
+            break;
+          case "formatted":
+            formatted = this.stringAdapter.read(reader);
+            break;
+          case "type":
+            type = this.stringAdapter.read(reader);
+            break;
+          case "label":
+            label = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return Location.builder()
+          .addressLine1(addressLine1)
+          .addressLine2(addressLine2)
+          .city(city)
+          .region(region)
+          .regionCode(regionCode)
+          .postalCode(postalCode)
+          .country(country)
+          .countryCode(countryCode)
+          .formatted(formatted)
+          .type(type)
+          .label(label)
+          .build();
+    }
+  }
+
+  static final class LocationInfoAdapter extends TypeAdapter<LocationInfo> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    LocationInfoAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, LocationInfo src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("carrierRoute");
+      this.stringAdapter.write(writer, src.getCarrierRoute());
+      writer.name("designatedMarketArea");
+      this.stringAdapter.write(writer, src.getDesignatedMarketArea());
+      writer.name("coreBasedStatisticalArea");
+      this.stringAdapter.write(writer, src.getCoreBasedStatisticalArea());
+      writer.name("nielsenCountySize");
+      this.stringAdapter.write(writer, src.getNielsenCountySize());
+      writer.name("congressionalDistrict");
+      this.stringAdapter.write(writer, src.getCongressionalDistrict());
+      writer.name("numericCountyCode");
+      this.integerAdapter.write(writer, src.getNumericCountyCode());
+      writer.name("seasonalAddress");
+      this.booleanAdapter.write(writer, src.isSeasonalAddress());
+      writer.endObject();
+    }
+
+    @Override
+    public LocationInfo read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String carrierRoute = null;
+      String designatedMarketArea = null;
+      String coreBasedStatisticalArea = null;
+      String nielsenCountySize = null;
+      String congressionalDistrict = null;
+      int numericCountyCode = 0;
+      boolean seasonalAddress = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "carrierRoute":
+            carrierRoute = this.stringAdapter.read(reader);
+            break;
+          case "designatedMarketArea":
+            designatedMarketArea = this.stringAdapter.read(reader);
+            break;
+          case "coreBasedStatisticalArea":
+            coreBasedStatisticalArea = this.stringAdapter.read(reader);
+            break;
+          case "nielsenCountySize":
+            nielsenCountySize = this.stringAdapter.read(reader);
+            break;
+          case "congressionalDistrict":
+            congressionalDistrict = this.stringAdapter.read(reader);
+            break;
+          case "numericCountyCode":
+            numericCountyCode = valueOrElse(this.integerAdapter.read(reader), numericCountyCode);
+            break;
+          case "seasonalAddress":
+            seasonalAddress = valueOrElse(this.booleanAdapter.read(reader), seasonalAddress);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new LocationInfo(
+          carrierRoute,
+          designatedMarketArea,
+          coreBasedStatisticalArea,
+          nielsenCountySize,
+          congressionalDistrict,
+          numericCountyCode,
+          seasonalAddress);
+    }
+  }
+
+  static final class MaidsAdapter extends TypeAdapter<Maids> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Double> doubleAdapter;
+
+    MaidsAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.longAdapter = gson.getAdapter(Long.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.doubleAdapter = gson.getAdapter(Double.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Maids src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("id");
+      this.stringAdapter.write(writer, src.getId());
+      writer.name("type");
+      this.stringAdapter.write(writer, src.getType());
+      writer.name("firstSeenMs");
+      this.longAdapter.write(writer, src.getFirstSeenMs());
+      writer.name("lastSeenMs");
+      this.longAdapter.write(writer, src.getLastSeenMs());
+      writer.name("observations");
+      this.integerAdapter.write(writer, src.getObservations());
+      writer.name("confidence");
+      this.doubleAdapter.write(writer, src.getConfidence());
+      writer.endObject();
+    }
+
+    @Override
+    public Maids read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String id = null;
+      String type = null;
+      long firstSeenMs = 0;
+      long lastSeenMs = 0;
+      int observations = 0;
+      double confidence = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "id":
+            id = this.stringAdapter.read(reader);
+            break;
+          case "type":
+            type = this.stringAdapter.read(reader);
+            break;
+          case "firstSeenMs":
+            firstSeenMs = valueOrElse(this.longAdapter.read(reader), firstSeenMs);
+            break;
+          case "lastSeenMs":
+            lastSeenMs = valueOrElse(this.longAdapter.read(reader), lastSeenMs);
+            break;
+          case "observations":
+            observations = valueOrElse(this.integerAdapter.read(reader), observations);
+            break;
+          case "confidence":
+            confidence = valueOrElse(this.doubleAdapter.read(reader), confidence);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Maids(id, type, firstSeenMs, lastSeenMs, observations, confidence);
+    }
+  }
+
+  static final class MatchResponseAdapter extends TypeAdapter<MatchResponse> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    MatchResponseAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, MatchResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("city");
+      this.booleanAdapter.write(writer, src.getCity());
+      writer.name("region");
+      this.booleanAdapter.write(writer, src.getRegion());
+      writer.name("country");
+      this.booleanAdapter.write(writer, src.getCountry());
+      writer.name("continent");
+      this.booleanAdapter.write(writer, src.getContinent());
+      writer.name("postalCode");
+      this.booleanAdapter.write(writer, src.getPostalCode());
+      writer.name("familyName");
+      this.booleanAdapter.write(writer, src.getFamilyName());
+      writer.name("givenName");
+      this.booleanAdapter.write(writer, src.getGivenName());
+      writer.name("phone");
+      this.booleanAdapter.write(writer, src.getPhone());
+      writer.name("email");
+      this.booleanAdapter.write(writer, src.getEmail());
+      writer.name("maid");
+      this.booleanAdapter.write(writer, src.getMaid());
+      writer.name("social");
+      this.booleanAdapter.write(writer, src.getSocial());
+      writer.name("nonId");
+      this.booleanAdapter.write(writer, src.getNonId());
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public MatchResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      Boolean city = null;
+      Boolean region = null;
+      Boolean country = null;
+      Boolean continent = null;
+      Boolean postalCode = null;
+      Boolean familyName = null;
+      Boolean givenName = null;
+      Boolean phone = null;
+      Boolean email = null;
+      Boolean maid = null;
+      Boolean social = null;
+      Boolean nonId = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "city":
+            city = this.booleanAdapter.read(reader);
+            break;
+          case "region":
+            region = this.booleanAdapter.read(reader);
+            break;
+          case "country":
+            country = this.booleanAdapter.read(reader);
+            break;
+          case "continent":
+            continent = this.booleanAdapter.read(reader);
+            break;
+          case "postalCode":
+            postalCode = this.booleanAdapter.read(reader);
+            break;
+          case "familyName":
+            familyName = this.booleanAdapter.read(reader);
+            break;
+          case "givenName":
+            givenName = this.booleanAdapter.read(reader);
+            break;
+          case "phone":
+            phone = this.booleanAdapter.read(reader);
+            break;
+          case "email":
+            email = this.booleanAdapter.read(reader);
+            break;
+          case "maid":
+            maid = this.booleanAdapter.read(reader);
+            break;
+          case "social":
+            social = this.booleanAdapter.read(reader);
+            break;
+          case "nonId":
+            nonId = this.booleanAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      MatchResponse response =
+          new MatchResponse(
+              city,
+              region,
+              country,
+              continent,
+              postalCode,
+              familyName,
+              givenName,
+              phone,
+              email,
+              maid,
+              social,
+              nonId);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class MedianAdapter extends TypeAdapter<Median> {
+    private final TypeAdapter<Integer> integerAdapter;
+
+    MedianAdapter(Gson gson) {
+      this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Median src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("ageOfHouseholder");
+      this.integerAdapter.write(writer, src.getAgeOfHouseholder());
+      writer.name("effectiveBuyingIncome");
+      this.integerAdapter.write(writer, src.getEffectiveBuyingIncome());
+      writer.name("homeValue");
+      this.integerAdapter.write(writer, src.getHomeValue());
+      writer.name("householdIncome");
+      this.integerAdapter.write(writer, src.getHouseholdIncome());
+      writer.name("householdIncomeByState");
+      this.integerAdapter.write(writer, src.getHouseholdIncomeByState());
+      writer.endObject();
+    }
+
+    @Override
+    public Median read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      int ageOfHouseholder = 0;
+      int effectiveBuyingIncome = 0;
+      int homeValue = 0;
+      int householdIncome = 0;
+      int householdIncomeByState = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "ageOfHouseholder":
+            ageOfHouseholder = valueOrElse(this.integerAdapter.read(reader), ageOfHouseholder);
+            break;
+          case "effectiveBuyingIncome":
+            effectiveBuyingIncome =
+                valueOrElse(this.integerAdapter.read(reader), effectiveBuyingIncome);
+            break;
+          case "homeValue":
+            homeValue = valueOrElse(this.integerAdapter.read(reader), homeValue);
+            break;
+          case "householdIncome":
+            householdIncome = valueOrElse(this.integerAdapter.read(reader), householdIncome);
+            break;
+          case "householdIncomeByState":
+            householdIncomeByState =
+                valueOrElse(this.integerAdapter.read(reader), householdIncomeByState);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Median(
+          ageOfHouseholder,
+          effectiveBuyingIncome,
+          homeValue,
+          householdIncome,
+          householdIncomeByState);
+    }
+  }
+
+  static final class MusicAdapter extends TypeAdapter<Music> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    MusicAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Music src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("general");
+      this.booleanAdapter.write(writer, src.isGeneral());
+      writer.name("christianOrGospel");
+      this.booleanAdapter.write(writer, src.isChristianOrGospel());
+      writer.name("classical");
+      this.booleanAdapter.write(writer, src.isClassical());
+      writer.name("country");
+      this.booleanAdapter.write(writer, src.isCountry());
+      writer.name("jazz");
+      this.booleanAdapter.write(writer, src.isJazz());
+      writer.name("other");
+      this.booleanAdapter.write(writer, src.isOther());
+      writer.name("rhythmAndBlues");
+      this.booleanAdapter.write(writer, src.isRhythmAndBlues());
+      writer.name("rock");
+      this.booleanAdapter.write(writer, src.isRock());
+      writer.name("softRock");
+      this.booleanAdapter.write(writer, src.isSoftRock());
+      writer.name("swing");
+      this.booleanAdapter.write(writer, src.isSwing());
+      writer.name("alternative");
+      this.booleanAdapter.write(writer, src.isAlternative());
+      writer.endObject();
+    }
+
+    @Override
+    public Music read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean general = false;
+      boolean christianOrGospel = false;
+      boolean classical = false;
+      boolean country = false;
+      boolean jazz = false;
+      boolean other = false;
+      boolean rhythmAndBlues = false;
+      boolean rock = false;
+      boolean softRock = false;
+      boolean swing = false;
+      boolean alternative = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "general":
+            general = valueOrElse(this.booleanAdapter.read(reader), general);
+            break;
+          case "christianOrGospel":
+            christianOrGospel = valueOrElse(this.booleanAdapter.read(reader), christianOrGospel);
+            break;
+          case "classical":
+            classical = valueOrElse(this.booleanAdapter.read(reader), classical);
+            break;
+          case "country":
+            country = valueOrElse(this.booleanAdapter.read(reader), country);
+            break;
+          case "jazz":
+            jazz = valueOrElse(this.booleanAdapter.read(reader), jazz);
+            break;
+          case "other":
+            other = valueOrElse(this.booleanAdapter.read(reader), other);
+            break;
+          case "rhythmAndBlues":
+            rhythmAndBlues = valueOrElse(this.booleanAdapter.read(reader), rhythmAndBlues);
+            break;
+          case "rock":
+            rock = valueOrElse(this.booleanAdapter.read(reader), rock);
+            break;
+          case "softRock":
+            softRock = valueOrElse(this.booleanAdapter.read(reader), softRock);
+            break;
+          case "swing":
+            swing = valueOrElse(this.booleanAdapter.read(reader), swing);
+            break;
+          case "alternative":
+            alternative = valueOrElse(this.booleanAdapter.read(reader), alternative);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Music(
+          general,
+          christianOrGospel,
+          classical,
+          country,
+          jazz,
+          other,
+          rhythmAndBlues,
+          rock,
+          softRock,
+          swing,
+          alternative);
+    }
+  }
+
+  static final class NameAdapter extends TypeAdapter<Name> {
+    private final TypeAdapter<String> stringAdapter;
+
+    NameAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Name src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("givenName");
+      this.stringAdapter.write(writer, src.getGivenName());
+      writer.name("familyName");
+      this.stringAdapter.write(writer, src.getFamilyName());
+      writer.endObject();
+    }
+
+    @Override
+    public Name read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String givenName = null;
+      String familyName = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "givenName":
+            givenName = this.stringAdapter.read(reader);
+            break;
+          case "familyName":
+            familyName = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Name(givenName, familyName);
+    }
+  }
+
+  static final class NonIdAdapter extends TypeAdapter<NonId> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Double> doubleAdapter;
+
+    NonIdAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.longAdapter = gson.getAdapter(Long.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.doubleAdapter = gson.getAdapter(Double.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, NonId src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("id");
+      this.stringAdapter.write(writer, src.getId());
+      writer.name("firstSeenMs");
+      this.longAdapter.write(writer, src.getFirstSeenMs());
+      writer.name("lastSeenMs");
+      this.longAdapter.write(writer, src.getLastSeenMs());
+      writer.name("observations");
+      this.integerAdapter.write(writer, src.getObservations());
+      writer.name("confidence");
+      this.doubleAdapter.write(writer, src.getConfidence());
+      writer.endObject();
+    }
+
+    @Override
+    public NonId read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String id = null;
+      long firstSeenMs = 0;
+      long lastSeenMs = 0;
+      int observations = 0;
+      double confidence = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "id":
+            id = this.stringAdapter.read(reader);
+            break;
+          case "firstSeenMs":
+            firstSeenMs = valueOrElse(this.longAdapter.read(reader), firstSeenMs);
+            break;
+          case "lastSeenMs":
+            lastSeenMs = valueOrElse(this.longAdapter.read(reader), lastSeenMs);
+            break;
+          case "observations":
+            observations = valueOrElse(this.integerAdapter.read(reader), observations);
+            break;
+          case "confidence":
+            confidence = valueOrElse(this.doubleAdapter.read(reader), confidence);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new NonId(id, firstSeenMs, lastSeenMs, observations, confidence);
+    }
+  }
+
+  static final class OwnAdapter extends TypeAdapter<Own> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    OwnAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Own src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("ownCat");
+      this.booleanAdapter.write(writer, src.isOwnCat());
+      writer.name("ownDog");
+      this.booleanAdapter.write(writer, src.isOwnDog());
+      writer.name("ownDigitalCamera");
+      this.booleanAdapter.write(writer, src.isOwnDigitalCamera());
+      writer.name("ownHorse");
+      this.booleanAdapter.write(writer, src.isOwnHorse());
+      writer.name("ownMotorcycle");
+      this.booleanAdapter.write(writer, src.isOwnMotorcycle());
+      writer.name("ownSwimmingPool");
+      this.booleanAdapter.write(writer, src.isOwnSwimmingPool());
+      writer.name("ownAtv");
+      this.booleanAdapter.write(writer, src.isOwnAtv());
+      writer.name("ownRv");
+      this.booleanAdapter.write(writer, src.isOwnRv());
+      writer.endObject();
+    }
+
+    @Override
+    public Own read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean ownCat = false;
+      boolean ownDog = false;
+      boolean ownDigitalCamera = false;
+      boolean ownHorse = false;
+      boolean ownMotorcycle = false;
+      boolean ownSwimmingPool = false;
+      boolean ownAtv = false;
+      boolean ownRv = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "ownCat":
+            ownCat = valueOrElse(this.booleanAdapter.read(reader), ownCat);
+            break;
+          case "ownDog":
+            ownDog = valueOrElse(this.booleanAdapter.read(reader), ownDog);
+            break;
+          case "ownDigitalCamera":
+            ownDigitalCamera = valueOrElse(this.booleanAdapter.read(reader), ownDigitalCamera);
+            break;
+          case "ownHorse":
+            ownHorse = valueOrElse(this.booleanAdapter.read(reader), ownHorse);
+            break;
+          case "ownMotorcycle":
+            ownMotorcycle = valueOrElse(this.booleanAdapter.read(reader), ownMotorcycle);
+            break;
+          case "ownSwimmingPool":
+            ownSwimmingPool = valueOrElse(this.booleanAdapter.read(reader), ownSwimmingPool);
+            break;
+          case "ownAtv":
+            ownAtv = valueOrElse(this.booleanAdapter.read(reader), ownAtv);
+            break;
+          case "ownRv":
+            ownRv = valueOrElse(this.booleanAdapter.read(reader), ownRv);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Own(
+          ownCat,
+          ownDog,
+          ownDigitalCamera,
+          ownHorse,
+          ownMotorcycle,
+          ownSwimmingPool,
+          ownAtv,
+          ownRv);
+    }
+  }
+
+  static final class OwnershipAdapter extends TypeAdapter<Ownership> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<List<Vehicle>> vehicleListAdapter;
+
+    OwnershipAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.vehicleListAdapter = gson.getAdapter(new TypeToken<List<Vehicle>>() {});
+    }
+
+    @Override
+    public void write(JsonWriter writer, Ownership src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("totalCars");
+      this.stringAdapter.write(writer, src.getTotalCars());
+      writer.name("vehicles");
+      this.vehicleListAdapter.write(writer, src.getVehicles());
+      writer.endObject();
+    }
+
+    @Override
+    public Ownership read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String totalCars = null;
+      List<Vehicle> vehicles = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "totalCars":
+            totalCars = this.stringAdapter.read(reader);
+            break;
+          case "vehicles":
+            vehicles = this.vehicleListAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Ownership(totalCars, vehicles);
+    }
+  }
+
+  static final class PanoIdAdapter extends TypeAdapter<PanoId> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Double> doubleAdapter;
+
+    PanoIdAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.longAdapter = gson.getAdapter(Long.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.doubleAdapter = gson.getAdapter(Double.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, PanoId src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("id");
+      this.stringAdapter.write(writer, src.getId());
+      writer.name("firstSeenMs");
+      this.longAdapter.write(writer, src.getFirstSeenMs());
+      writer.name("lastSeenMs");
+      this.longAdapter.write(writer, src.getLastSeenMs());
+      writer.name("observations");
+      this.integerAdapter.write(writer, src.getObservations());
+      writer.name("confidence");
+      this.doubleAdapter.write(writer, src.getConfidence());
+      writer.endObject();
+    }
+
+    @Override
+    public PanoId read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String id = null;
+      long firstSeenMs = 0;
+      long lastSeenMs = 0;
+      int observations = 0;
+      double confidence = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "id":
+            id = this.stringAdapter.read(reader);
+            break;
+          case "firstSeenMs":
+            firstSeenMs = valueOrElse(this.longAdapter.read(reader), firstSeenMs);
+            break;
+          case "lastSeenMs":
+            lastSeenMs = valueOrElse(this.longAdapter.read(reader), lastSeenMs);
+            break;
+          case "observations":
+            observations = valueOrElse(this.integerAdapter.read(reader), observations);
+            break;
+          case "confidence":
+            confidence = valueOrElse(this.doubleAdapter.read(reader), confidence);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new PanoId(id, firstSeenMs, lastSeenMs, observations, confidence);
+    }
+  }
+
+  static final class PaymentAdapter extends TypeAdapter<Payment> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    PaymentAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Payment src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("amx");
+      this.booleanAdapter.write(writer, src.isAmx());
+      writer.name("creditCard");
+      this.booleanAdapter.write(writer, src.isCreditCard());
+      writer.name("discover");
+      this.booleanAdapter.write(writer, src.isDiscover());
+      writer.name("houseCharge");
+      this.booleanAdapter.write(writer, src.isHouseCharge());
+      writer.name("masterCard");
+      this.booleanAdapter.write(writer, src.isMasterCard());
+      writer.name("retailCard");
+      this.booleanAdapter.write(writer, src.isRetailCard());
+      writer.name("visa");
+      this.booleanAdapter.write(writer, src.isVisa());
+      writer.endObject();
+    }
+
+    @Override
+    public Payment read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean amx = false;
+      boolean creditCard = false;
+      boolean discover = false;
+      boolean houseCharge = false;
+      boolean masterCard = false;
+      boolean retailCard = false;
+      boolean visa = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "amx":
+            amx = valueOrElse(this.booleanAdapter.read(reader), amx);
+            break;
+          case "creditCard":
+            creditCard = valueOrElse(this.booleanAdapter.read(reader), creditCard);
+            break;
+          case "discover":
+            discover = valueOrElse(this.booleanAdapter.read(reader), discover);
+            break;
+          case "houseCharge":
+            houseCharge = valueOrElse(this.booleanAdapter.read(reader), houseCharge);
+            break;
+          case "masterCard":
+            masterCard = valueOrElse(this.booleanAdapter.read(reader), masterCard);
+            break;
+          case "retailCard":
+            retailCard = valueOrElse(this.booleanAdapter.read(reader), retailCard);
+            break;
+          case "visa":
+            visa = valueOrElse(this.booleanAdapter.read(reader), visa);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Payment(amx, creditCard, discover, houseCharge, masterCard, retailCard, visa);
+    }
+  }
+
+  static final class PeopleAdapter extends TypeAdapter<People> {
+    private final TypeAdapter<String> stringAdapter;
+
+    PeopleAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, People src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("fullName");
+      this.stringAdapter.write(writer, src.getFullName());
+      writer.name("title");
+      this.stringAdapter.write(writer, src.getTitle());
+      writer.name("avatar");
+      this.stringAdapter.write(writer, src.getAvatar());
+      writer.endObject();
+    }
+
+    @Override
+    public People read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String fullName = null;
+      String title = null;
+      String avatar = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "fullName":
+            fullName = this.stringAdapter.read(reader);
+            break;
+          case "title":
+            title = this.stringAdapter.read(reader);
+            break;
+          case "avatar":
+            avatar = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new People(fullName, title, avatar);
+    }
+  }
+
+  static final class PercentAdapter extends TypeAdapter<Percent> {
+    private final TypeAdapter<Integer> integerAdapter;
+
+    PercentAdapter(Gson gson) {
+      this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Percent src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("abovePovertyLevel");
+      this.integerAdapter.write(writer, src.getAbovePovertyLevel());
+      writer.name("belowPovertyLevel");
+      this.integerAdapter.write(writer, src.getBelowPovertyLevel());
+      writer.name("black");
+      this.integerAdapter.write(writer, src.getBlack());
+      writer.name("blueCollarEmployed");
+      this.integerAdapter.write(writer, src.getBlueCollarEmployed());
+      writer.name("divorcedOrSeparated");
+      this.integerAdapter.write(writer, src.getDivorcedOrSeparated());
+      writer.name("hispanic");
+      this.integerAdapter.write(writer, src.getHispanic());
+      writer.name("homesBuiltSince2000");
+      this.integerAdapter.write(writer, src.getHomesBuiltSince2000());
+      writer.name("homeowner");
+      this.integerAdapter.write(writer, src.getHomeowner());
+      writer.name("householdsWithChildren");
+      this.integerAdapter.write(writer, src.getHouseholdsWithChildren());
+      writer.name("married");
+      this.integerAdapter.write(writer, src.getMarried());
+      writer.name("mobileHome");
+      this.integerAdapter.write(writer, src.getMobileHome());
+      writer.name("movedToAreaSince2000");
+      this.integerAdapter.write(writer, src.getMovedToAreaSince2000());
+      writer.name("salariedProfessional");
+      this.integerAdapter.write(writer, src.getSalariedProfessional());
+      writer.name("singleFamilyHome");
+      this.integerAdapter.write(writer, src.getSingleFamilyHome());
+      writer.name("vehicleOwnership");
+      this.integerAdapter.write(writer, src.getVehicleOwnership());
+      writer.name("white");
+      this.integerAdapter.write(writer, src.getWhite());
+      writer.endObject();
+    }
+
+    @Override
+    public Percent read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      int abovePovertyLevel = 0;
+      int belowPovertyLevel = 0;
+      int black = 0;
+      int blueCollarEmployed = 0;
+      int divorcedOrSeparated = 0;
+      int hispanic = 0;
+      int homesBuiltSince2000 = 0;
+      int homeowner = 0;
+      int householdsWithChildren = 0;
+      int married = 0;
+      int mobileHome = 0;
+      int movedToAreaSince2000 = 0;
+      int salariedProfessional = 0;
+      int singleFamilyHome = 0;
+      int vehicleOwnership = 0;
+      int white = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "abovePovertyLevel":
+            abovePovertyLevel = valueOrElse(this.integerAdapter.read(reader), abovePovertyLevel);
+            break;
+          case "belowPovertyLevel":
+            belowPovertyLevel = valueOrElse(this.integerAdapter.read(reader), belowPovertyLevel);
+            break;
+          case "black":
+            black = valueOrElse(this.integerAdapter.read(reader), black);
+            break;
+          case "blueCollarEmployed":
+            blueCollarEmployed = valueOrElse(this.integerAdapter.read(reader), blueCollarEmployed);
+            break;
+          case "divorcedOrSeparated":
+            divorcedOrSeparated =
+                valueOrElse(this.integerAdapter.read(reader), divorcedOrSeparated);
+            break;
+          case "hispanic":
+            hispanic = valueOrElse(this.integerAdapter.read(reader), hispanic);
+            break;
+          case "homesBuiltSince2000":
+            homesBuiltSince2000 =
+                valueOrElse(this.integerAdapter.read(reader), homesBuiltSince2000);
+            break;
+          case "homeowner":
+            homeowner = valueOrElse(this.integerAdapter.read(reader), homeowner);
+            break;
+          case "householdsWithChildren":
+            householdsWithChildren =
+                valueOrElse(this.integerAdapter.read(reader), householdsWithChildren);
+            break;
+          case "married":
+            married = valueOrElse(this.integerAdapter.read(reader), married);
+            break;
+          case "mobileHome":
+            mobileHome = valueOrElse(this.integerAdapter.read(reader), mobileHome);
+            break;
+          case "movedToAreaSince2000":
+            movedToAreaSince2000 =
+                valueOrElse(this.integerAdapter.read(reader), movedToAreaSince2000);
+            break;
+          case "salariedProfessional":
+            salariedProfessional =
+                valueOrElse(this.integerAdapter.read(reader), salariedProfessional);
+            break;
+          case "singleFamilyHome":
+            singleFamilyHome = valueOrElse(this.integerAdapter.read(reader), singleFamilyHome);
+            break;
+          case "vehicleOwnership":
+            vehicleOwnership = valueOrElse(this.integerAdapter.read(reader), vehicleOwnership);
+            break;
+          case "white":
+            white = valueOrElse(this.integerAdapter.read(reader), white);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Percent(
+          abovePovertyLevel,
+          belowPovertyLevel,
+          black,
+          blueCollarEmployed,
+          divorcedOrSeparated,
+          hispanic,
+          homesBuiltSince2000,
+          homeowner,
+          householdsWithChildren,
+          married,
+          mobileHome,
+          movedToAreaSince2000,
+          salariedProfessional,
+          singleFamilyHome,
+          vehicleOwnership,
+          white);
+    }
+  }
+
+  static final class PermissionCurrentResponseMapAdapter
+      extends TypeAdapter<PermissionCurrentResponseMap> {
+    private final TypeAdapter<Map<Integer, Map<String, ConsentPurposeResponse>>>
+        integerToStringToConsentPurposeResponseMapMapAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    PermissionCurrentResponseMapAdapter(Gson gson) {
+      this.integerToStringToConsentPurposeResponseMapMapAdapter =
+          gson.getAdapter(new TypeToken<Map<Integer, Map<String, ConsentPurposeResponse>>>() {});
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, PermissionCurrentResponseMap src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("responseMap");
+      this.integerToStringToConsentPurposeResponseMapMapAdapter.write(writer, src.responseMap);
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public PermissionCurrentResponseMap read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      Map<Integer, Map<String, ConsentPurposeResponse>> responseMap = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "responseMap":
+            responseMap = this.integerToStringToConsentPurposeResponseMapMapAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      PermissionCurrentResponseMap response = new PermissionCurrentResponseMap(responseMap);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class PermissionResponseAdapter extends TypeAdapter<PermissionResponse> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<List<ConsentPurposeResponse>> consentPurposeResponseListAdapter;
+
+    PermissionResponseAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.longAdapter = gson.getAdapter(Long.class);
+      this.consentPurposeResponseListAdapter =
+          gson.getAdapter(new TypeToken<List<ConsentPurposeResponse>>() {});
+    }
+
+    @Override
+    public void write(JsonWriter writer, PermissionResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("permissionType");
+      this.stringAdapter.write(writer, src.getPermissionType());
+      writer.name("permissionId");
+      this.stringAdapter.write(writer, src.getPermissionId());
+      writer.name("locale");
+      this.stringAdapter.write(writer, src.getLocale());
+      writer.name("ipAddress");
+      this.stringAdapter.write(writer, src.getIpAddress());
+      writer.name("language");
+      this.stringAdapter.write(writer, src.getLanguage());
+      writer.name("collectionMethod");
+      this.stringAdapter.write(writer, src.getCollectionMethod());
+      writer.name("collectionLocation");
+      this.stringAdapter.write(writer, src.getCollectionLocation());
+      writer.name("policyUrl");
+      this.stringAdapter.write(writer, src.getPolicyUrl());
+      writer.name("termsService");
+      this.stringAdapter.write(writer, src.getTermsService());
+      writer.name("timestamp");
+      this.longAdapter.write(writer, src.getTimestamp());
+      writer.name("created");
+      this.longAdapter.write(writer, src.getCreated());
+      writer.name("consentPurposes");
+      this.consentPurposeResponseListAdapter.write(writer, src.getConsentPurposes());
+      writer.endObject();
+    }
+
+    @Override
+    public PermissionResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String permissionType = null;
+      String permissionId = null;
+      String locale = null;
+      String ipAddress = null;
+      String language = null;
+      String collectionMethod = null;
+      String collectionLocation = null;
+      String policyUrl = null;
+      String termsService = null;
+      long timestamp = 0;
+      long created = 0;
+      List<ConsentPurposeResponse> consentPurposes = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "permissionType":
+            permissionType = this.stringAdapter.read(reader);
+            break;
+          case "permissionId":
+            permissionId = this.stringAdapter.read(reader);
+            break;
+          case "locale":
+            locale = this.stringAdapter.read(reader);
+            break;
+          case "ipAddress":
+            ipAddress = this.stringAdapter.read(reader);
+            break;
+          case "language":
+            language = this.stringAdapter.read(reader);
+            break;
+          case "collectionMethod":
+            collectionMethod = this.stringAdapter.read(reader);
+            break;
+          case "collectionLocation":
+            collectionLocation = this.stringAdapter.read(reader);
+            break;
+          case "policyUrl":
+            policyUrl = this.stringAdapter.read(reader);
+            break;
+          case "termsService":
+            termsService = this.stringAdapter.read(reader);
+            break;
+          case "timestamp":
+            timestamp = valueOrElse(this.longAdapter.read(reader), timestamp);
+            break;
+          case "created":
+            created = valueOrElse(this.longAdapter.read(reader), created);
+            break;
+          case "consentPurposes":
+            consentPurposes = this.consentPurposeResponseListAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new PermissionResponse(
+          permissionType,
+          permissionId,
+          locale,
+          ipAddress,
+          language,
+          collectionMethod,
+          collectionLocation,
+          policyUrl,
+          termsService,
+          timestamp,
+          created,
+          consentPurposes);
+    }
+  }
+
+  static final class PermissionResponseListAdapter extends TypeAdapter<PermissionResponseList> {
+    private final TypeAdapter<List<PermissionResponse>> permissionResponseListAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    PermissionResponseListAdapter(Gson gson) {
+      this.permissionResponseListAdapter =
+          gson.getAdapter(new TypeToken<List<PermissionResponse>>() {});
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, PermissionResponseList src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("permissionResponseList");
+      this.permissionResponseListAdapter.write(writer, src.permissionResponseList);
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public PermissionResponseList read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      List<PermissionResponse> permissionResponseList = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "permissionResponseList":
+            permissionResponseList = this.permissionResponseListAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      PermissionResponseList response = new PermissionResponseList(permissionResponseList);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class PersonNameAdapter extends TypeAdapter<PersonName> {
+    private final TypeAdapter<String> stringAdapter;
+
+    PersonNameAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, PersonName src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("full");
+      this.stringAdapter.write(writer, src.getFull());
+      writer.name("given");
+      this.stringAdapter.write(writer, src.getGiven());
+      writer.name("family");
+      this.stringAdapter.write(writer, src.getFamily());
+      writer.endObject();
+    }
+
+    @Override
+    public PersonName read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String full = null;
+      String given = null;
+      String family = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "full":
+            full = this.stringAdapter.read(reader);
+            break;
+          case "given":
+            given = this.stringAdapter.read(reader);
+            break;
+          case "family":
+            family = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return PersonName.builder().full(full).given(given).family(family).build();
+    }
+  }
+
+  static final class PhotoAdapter extends TypeAdapter<Photo> {
+    private final TypeAdapter<String> stringAdapter;
+
+    PhotoAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Photo src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("label");
+      this.stringAdapter.write(writer, src.getLabel());
+      writer.name("value");
+      this.stringAdapter.write(writer, src.getValue());
+      writer.endObject();
+    }
+
+    @Override
+    public Photo read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String label = null;
+      String value = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "label":
+            label = this.stringAdapter.read(reader);
+            break;
+          case "value":
+            value = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Photo(label, value);
+    }
+  }
+
+  static final class PopulationDensityAdapter extends TypeAdapter<PopulationDensity> {
+    private final TypeAdapter<Integer> integerAdapter;
+
+    PopulationDensityAdapter(Gson gson) {
+      this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, PopulationDensity src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("centileInState");
+      this.integerAdapter.write(writer, src.getCentileInState());
+      writer.name("centileInUs");
+      this.integerAdapter.write(writer, src.getCentileInUs());
+      writer.endObject();
+    }
+
+    @Override
+    public PopulationDensity read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      int centileInState = 0;
+      int centileInUs = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "centileInState":
+            centileInState = valueOrElse(this.integerAdapter.read(reader), centileInState);
+            break;
+          case "centileInUs":
+            centileInUs = valueOrElse(this.integerAdapter.read(reader), centileInUs);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new PopulationDensity(centileInState, centileInUs);
+    }
+  }
+
+  static final class PresenceAdapter extends TypeAdapter<Presence> {
+    private final TypeAdapter<String> stringAdapter;
+
+    PresenceAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Presence src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("children");
+      this.stringAdapter.write(writer, src.getChildren());
+      writer.name("multigenerationalResident");
+      this.stringAdapter.write(writer, src.getMultigenerationalResident());
+      writer.endObject();
+    }
+
+    @Override
+    public Presence read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String children = null;
+      String multigenerationalResident = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "children":
+            children = this.stringAdapter.read(reader);
+            break;
+          case "multigenerationalResident":
+            multigenerationalResident = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Presence(children, multigenerationalResident);
+    }
+  }
+
+  static final class ProfileDataAdapter extends TypeAdapter<ProfileData> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<List<Photo>> photoListAdapter;
+    private final TypeAdapter<List<URL>> uRLListAdapter;
+
+    ProfileDataAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.photoListAdapter = gson.getAdapter(new TypeToken<List<Photo>>() {});
+      this.uRLListAdapter = gson.getAdapter(new TypeToken<List<URL>>() {});
+    }
+
+    @Override
+    public void write(JsonWriter writer, ProfileData src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("url");
+      this.stringAdapter.write(writer, src.getUrl());
+      writer.name("service");
+      this.stringAdapter.write(writer, src.getService());
+      writer.name("username");
+      this.stringAdapter.write(writer, src.getUsername());
+      writer.name("userid");
+      this.stringAdapter.write(writer, src.getUserid());
+      writer.name("bio");
+      this.stringAdapter.write(writer, src.getBio());
+      writer.name("followers");
+      this.integerAdapter.write(writer, src.getFollowers());
+      writer.name("following");
+      this.integerAdapter.write(writer, src.getFollowing());
+      writer.name("photos");
+      this.photoListAdapter.write(writer, src.getPhotos());
+      writer.name("urls");
+      this.uRLListAdapter.write(writer, src.getUrls());
+      writer.endObject();
+    }
+
+    @Override
+    public ProfileData read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String url = null;
+      String service = null;
+      String username = null;
+      String userid = null;
+      String bio = null;
+      int followers = 0;
+      int following = 0;
+      List<Photo> photos = null;
+      List<URL> urls = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "url":
+            url = this.stringAdapter.read(reader);
+            break;
+          case "service":
+            service = this.stringAdapter.read(reader);
+            break;
+          case "username":
+            username = this.stringAdapter.read(reader);
+            break;
+          case "userid":
+            userid = this.stringAdapter.read(reader);
+            break;
+          case "bio":
+            bio = this.stringAdapter.read(reader);
+            break;
+          case "followers":
+            followers = valueOrElse(this.integerAdapter.read(reader), followers);
+            break;
+          case "following":
+            following = valueOrElse(this.integerAdapter.read(reader), following);
+            break;
+          case "photos":
+            photos = this.photoListAdapter.read(reader);
+            break;
+          case "urls":
+            urls = this.uRLListAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new ProfileData(
+          url, service, username, userid, bio, followers, following, photos, urls);
+    }
+  }
+
+  static final class ProfilesAdapter extends TypeAdapter<Profiles> {
+    private final TypeAdapter<ProfileData> profileDataAdapter;
+
+    ProfilesAdapter(Gson gson) {
+      this.profileDataAdapter = gson.getAdapter(ProfileData.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Profiles src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("twitter");
+      this.profileDataAdapter.write(writer, src.getTwitter());
+      writer.name("linkedin");
+      this.profileDataAdapter.write(writer, src.getLinkedin());
+      writer.name("linkedincompany");
+      this.profileDataAdapter.write(writer, src.getLinkedincompany());
+      writer.name("klout");
+      this.profileDataAdapter.write(writer, src.getKlout());
+      writer.name("youtube");
+      this.profileDataAdapter.write(writer, src.getYoutube());
+      writer.name("angellist");
+      this.profileDataAdapter.write(writer, src.getAngellist());
+      writer.name("owler");
+      this.profileDataAdapter.write(writer, src.getOwler());
+      writer.name("pinterest");
+      this.profileDataAdapter.write(writer, src.getPinterest());
+      writer.name("github");
+      this.profileDataAdapter.write(writer, src.getGithub());
+      writer.name("lastfm");
+      this.profileDataAdapter.write(writer, src.getLastfm());
+      writer.name("flickr");
+      this.profileDataAdapter.write(writer, src.getFlickr());
+      writer.name("hackernews");
+      this.profileDataAdapter.write(writer, src.getHackernews());
+      writer.name("foursquare");
+      this.profileDataAdapter.write(writer, src.getFoursquare());
+      writer.name("medium");
+      this.profileDataAdapter.write(writer, src.getMedium());
+      writer.name("keybase");
+      this.profileDataAdapter.write(writer, src.getKeybase());
+      writer.name("aboutme");
+      this.profileDataAdapter.write(writer, src.getAboutme());
+      writer.endObject();
+    }
+
+    @Override
+    public Profiles read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      ProfileData twitter = null;
+      ProfileData linkedin = null;
+      ProfileData linkedincompany = null;
+      ProfileData klout = null;
+      ProfileData youtube = null;
+      ProfileData angellist = null;
+      ProfileData owler = null;
+      ProfileData pinterest = null;
+      ProfileData github = null;
+      ProfileData lastfm = null;
+      ProfileData flickr = null;
+      ProfileData hackernews = null;
+      ProfileData foursquare = null;
+      ProfileData medium = null;
+      ProfileData keybase = null;
+      ProfileData aboutme = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "twitter":
+            twitter = this.profileDataAdapter.read(reader);
+            break;
+          case "linkedin":
+            linkedin = this.profileDataAdapter.read(reader);
+            break;
+          case "linkedincompany":
+            linkedincompany = this.profileDataAdapter.read(reader);
+            break;
+          case "klout":
+            klout = this.profileDataAdapter.read(reader);
+            break;
+          case "youtube":
+            youtube = this.profileDataAdapter.read(reader);
+            break;
+          case "angellist":
+            angellist = this.profileDataAdapter.read(reader);
+            break;
+          case "owler":
+            owler = this.profileDataAdapter.read(reader);
+            break;
+          case "pinterest":
+            pinterest = this.profileDataAdapter.read(reader);
+            break;
+          case "github":
+            github = this.profileDataAdapter.read(reader);
+            break;
+          case "lastfm":
+            lastfm = this.profileDataAdapter.read(reader);
+            break;
+          case "flickr":
+            flickr = this.profileDataAdapter.read(reader);
+            break;
+          case "hackernews":
+            hackernews = this.profileDataAdapter.read(reader);
+            break;
+          case "foursquare":
+            foursquare = this.profileDataAdapter.read(reader);
+            break;
+          case "medium":
+            medium = this.profileDataAdapter.read(reader);
+            break;
+          case "keybase":
+            keybase = this.profileDataAdapter.read(reader);
+            break;
+          case "aboutme":
+            aboutme = this.profileDataAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Profiles(
+          twitter,
+          linkedin,
+          linkedincompany,
+          klout,
+          youtube,
+          angellist,
+          owler,
+          pinterest,
+          github,
+          lastfm,
+          flickr,
+          hackernews,
+          foursquare,
+          medium,
+          keybase,
+          aboutme);
+    }
+  }
+
+  static final class PurchaseAdapter extends TypeAdapter<Purchase> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    PurchaseAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Purchase src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("homeDecorating");
+      this.booleanAdapter.write(writer, src.isHomeDecorating());
+      writer.name("beautyProducts");
+      this.booleanAdapter.write(writer, src.isBeautyProducts());
+      writer.name("clubStores");
+      this.booleanAdapter.write(writer, src.isClubStores());
+      writer.name("fastFoods");
+      this.booleanAdapter.write(writer, src.isFastFoods());
+      writer.name("specialtyBeautyProducts");
+      this.booleanAdapter.write(writer, src.isSpecialtyBeautyProducts());
+      writer.name("usesCoupons");
+      this.booleanAdapter.write(writer, src.isUsesCoupons());
+      writer.endObject();
+    }
+
+    @Override
+    public Purchase read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean homeDecorating = false;
+      boolean beautyProducts = false;
+      boolean clubStores = false;
+      boolean fastFoods = false;
+      boolean specialtyBeautyProducts = false;
+      boolean usesCoupons = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "homeDecorating":
+            homeDecorating = valueOrElse(this.booleanAdapter.read(reader), homeDecorating);
+            break;
+          case "beautyProducts":
+            beautyProducts = valueOrElse(this.booleanAdapter.read(reader), beautyProducts);
+            break;
+          case "clubStores":
+            clubStores = valueOrElse(this.booleanAdapter.read(reader), clubStores);
+            break;
+          case "fastFoods":
+            fastFoods = valueOrElse(this.booleanAdapter.read(reader), fastFoods);
+            break;
+          case "specialtyBeautyProducts":
+            specialtyBeautyProducts =
+                valueOrElse(this.booleanAdapter.read(reader), specialtyBeautyProducts);
+            break;
+          case "usesCoupons":
+            usesCoupons = valueOrElse(this.booleanAdapter.read(reader), usesCoupons);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Purchase(
+          homeDecorating,
+          beautyProducts,
+          clubStores,
+          fastFoods,
+          specialtyBeautyProducts,
+          usesCoupons);
+    }
+  }
+
+  static final class PurchaseBehaviorAdapter extends TypeAdapter<PurchaseBehavior> {
+    private final TypeAdapter<Apparel> apparelAdapter;
+    private final TypeAdapter<Payment> paymentAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    PurchaseBehaviorAdapter(Gson gson) {
+      this.apparelAdapter = gson.getAdapter(Apparel.class);
+      this.paymentAdapter = gson.getAdapter(Payment.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, PurchaseBehavior src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("apparel");
+      this.apparelAdapter.write(writer, src.getApparel());
+      writer.name("payment");
+      this.paymentAdapter.write(writer, src.getPayment());
+      writer.name("artsAntiques");
+      this.booleanAdapter.write(writer, src.isArtsAntiques());
+      writer.name("automative");
+      this.booleanAdapter.write(writer, src.isAutomative());
+      writer.name("beauty");
+      this.booleanAdapter.write(writer, src.isBeauty());
+      writer.name("books");
+      this.booleanAdapter.write(writer, src.isBooks());
+      writer.name("childrenProducts");
+      this.booleanAdapter.write(writer, src.isChildrenProducts());
+      writer.name("collectibles");
+      this.booleanAdapter.write(writer, src.isCollectibles());
+      writer.name("homeOffice");
+      this.booleanAdapter.write(writer, src.isHomeOffice());
+      writer.name("crafts");
+      this.booleanAdapter.write(writer, src.isCrafts());
+      writer.name("electronics");
+      this.booleanAdapter.write(writer, src.isElectronics());
+      writer.name("foodBeverages");
+      this.booleanAdapter.write(writer, src.isFoodBeverages());
+      writer.name("furniture");
+      this.booleanAdapter.write(writer, src.isFurniture());
+      writer.name("garden");
+      this.booleanAdapter.write(writer, src.isGarden());
+      writer.name("generalMerchandise");
+      this.booleanAdapter.write(writer, src.isGeneralMerchandise());
+      writer.name("gift");
+      this.booleanAdapter.write(writer, src.isGift());
+      writer.name("health");
+      this.booleanAdapter.write(writer, src.isHealth());
+      writer.name("holiday");
+      this.booleanAdapter.write(writer, src.isHoliday());
+      writer.name("homeCare");
+      this.booleanAdapter.write(writer, src.isHomeCare());
+      writer.name("homeFurnishings");
+      this.booleanAdapter.write(writer, src.isHomeFurnishings());
+      writer.name("housewares");
+      this.booleanAdapter.write(writer, src.isHousewares());
+      writer.name("jewelry");
+      this.booleanAdapter.write(writer, src.isJewelry());
+      writer.name("linens");
+      this.booleanAdapter.write(writer, src.isLinens());
+      writer.name("music");
+      this.booleanAdapter.write(writer, src.isMusic());
+      writer.name("novelty");
+      this.booleanAdapter.write(writer, src.isNovelty());
+      writer.name("otherMerchServices");
+      this.booleanAdapter.write(writer, src.isOtherMerchServices());
+      writer.name("personalCare");
+      this.booleanAdapter.write(writer, src.isPersonalCare());
+      writer.name("pets");
+      this.booleanAdapter.write(writer, src.isPets());
+      writer.name("photoVideoEquipment");
+      this.booleanAdapter.write(writer, src.isPhotoVideoEquipment());
+      writer.name("specialtyFood");
+      this.booleanAdapter.write(writer, src.isSpecialtyFood());
+      writer.name("specialtyGifts");
+      this.booleanAdapter.write(writer, src.isSpecialtyGifts());
+      writer.name("sportsLeisure");
+      this.booleanAdapter.write(writer, src.isSportsLeisure());
+      writer.name("stationery");
+      this.booleanAdapter.write(writer, src.isStationery());
+      writer.name("travel");
+      this.booleanAdapter.write(writer, src.isTravel());
+      writer.name("videoEntertainment");
+      this.booleanAdapter.write(writer, src.isVideoEntertainment());
+      writer.name("continuityShopper");
+      this.booleanAdapter.write(writer, src.isContinuityShopper());
+      writer.name("onlineShopper");
+      this.booleanAdapter.write(writer, src.isOnlineShopper());
+      writer.endObject();
+    }
+
+    @Override
+    public PurchaseBehavior read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      Apparel apparel = null;
+      Payment payment = null;
+      boolean artsAntiques = false;
+      boolean automative = false;
+      boolean beauty = false;
+      boolean books = false;
+      boolean childrenProducts = false;
+      boolean collectibles = false;
+      boolean homeOffice = false;
+      boolean crafts = false;
+      boolean electronics = false;
+      boolean foodBeverages = false;
+      boolean furniture = false;
+      boolean garden = false;
+      boolean generalMerchandise = false;
+      boolean gift = false;
+      boolean health = false;
+      boolean holiday = false;
+      boolean homeCare = false;
+      boolean homeFurnishings = false;
+      boolean housewares = false;
+      boolean jewelry = false;
+      boolean linens = false;
+      boolean music = false;
+      boolean novelty = false;
+      boolean otherMerchServices = false;
+      boolean personalCare = false;
+      boolean pets = false;
+      boolean photoVideoEquipment = false;
+      boolean specialtyFood = false;
+      boolean specialtyGifts = false;
+      boolean sportsLeisure = false;
+      boolean stationery = false;
+      boolean travel = false;
+      boolean videoEntertainment = false;
+      boolean continuityShopper = false;
+      boolean onlineShopper = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "apparel":
+            apparel = this.apparelAdapter.read(reader);
+            break;
+          case "payment":
+            payment = this.paymentAdapter.read(reader);
+            break;
+          case "artsAntiques":
+            artsAntiques = valueOrElse(this.booleanAdapter.read(reader), artsAntiques);
+            break;
+          case "automative":
+            automative = valueOrElse(this.booleanAdapter.read(reader), automative);
+            break;
+          case "beauty":
+            beauty = valueOrElse(this.booleanAdapter.read(reader), beauty);
+            break;
+          case "books":
+            books = valueOrElse(this.booleanAdapter.read(reader), books);
+            break;
+          case "childrenProducts":
+            childrenProducts = valueOrElse(this.booleanAdapter.read(reader), childrenProducts);
+            break;
+          case "collectibles":
+            collectibles = valueOrElse(this.booleanAdapter.read(reader), collectibles);
+            break;
+          case "homeOffice":
+            homeOffice = valueOrElse(this.booleanAdapter.read(reader), homeOffice);
+            break;
+          case "crafts":
+            crafts = valueOrElse(this.booleanAdapter.read(reader), crafts);
+            break;
+          case "electronics":
+            electronics = valueOrElse(this.booleanAdapter.read(reader), electronics);
+            break;
+          case "foodBeverages":
+            foodBeverages = valueOrElse(this.booleanAdapter.read(reader), foodBeverages);
+            break;
+          case "furniture":
+            furniture = valueOrElse(this.booleanAdapter.read(reader), furniture);
+            break;
+          case "garden":
+            garden = valueOrElse(this.booleanAdapter.read(reader), garden);
+            break;
+          case "generalMerchandise":
+            generalMerchandise = valueOrElse(this.booleanAdapter.read(reader), generalMerchandise);
+            break;
+          case "gift":
+            gift = valueOrElse(this.booleanAdapter.read(reader), gift);
+            break;
+          case "health":
+            health = valueOrElse(this.booleanAdapter.read(reader), health);
+            break;
+          case "holiday":
+            holiday = valueOrElse(this.booleanAdapter.read(reader), holiday);
+            break;
+          case "homeCare":
+            homeCare = valueOrElse(this.booleanAdapter.read(reader), homeCare);
+            break;
+          case "homeFurnishings":
+            homeFurnishings = valueOrElse(this.booleanAdapter.read(reader), homeFurnishings);
+            break;
+          case "housewares":
+            housewares = valueOrElse(this.booleanAdapter.read(reader), housewares);
+            break;
+          case "jewelry":
+            jewelry = valueOrElse(this.booleanAdapter.read(reader), jewelry);
+            break;
+          case "linens":
+            linens = valueOrElse(this.booleanAdapter.read(reader), linens);
+            break;
+          case "music":
+            music = valueOrElse(this.booleanAdapter.read(reader), music);
+            break;
+          case "novelty":
+            novelty = valueOrElse(this.booleanAdapter.read(reader), novelty);
+            break;
+          case "otherMerchServices":
+            otherMerchServices = valueOrElse(this.booleanAdapter.read(reader), otherMerchServices);
+            break;
+          case "personalCare":
+            personalCare = valueOrElse(this.booleanAdapter.read(reader), personalCare);
+            break;
+          case "pets":
+            pets = valueOrElse(this.booleanAdapter.read(reader), pets);
+            break;
+          case "photoVideoEquipment":
+            photoVideoEquipment =
+                valueOrElse(this.booleanAdapter.read(reader), photoVideoEquipment);
+            break;
+          case "specialtyFood":
+            specialtyFood = valueOrElse(this.booleanAdapter.read(reader), specialtyFood);
+            break;
+          case "specialtyGifts":
+            specialtyGifts = valueOrElse(this.booleanAdapter.read(reader), specialtyGifts);
+            break;
+          case "sportsLeisure":
+            sportsLeisure = valueOrElse(this.booleanAdapter.read(reader), sportsLeisure);
+            break;
+          case "stationery":
+            stationery = valueOrElse(this.booleanAdapter.read(reader), stationery);
+            break;
+          case "travel":
+            travel = valueOrElse(this.booleanAdapter.read(reader), travel);
+            break;
+          case "videoEntertainment":
+            videoEntertainment = valueOrElse(this.booleanAdapter.read(reader), videoEntertainment);
+            break;
+          case "continuityShopper":
+            continuityShopper = valueOrElse(this.booleanAdapter.read(reader), continuityShopper);
+            break;
+          case "onlineShopper":
+            onlineShopper = valueOrElse(this.booleanAdapter.read(reader), onlineShopper);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new PurchaseBehavior(
+          apparel,
+          payment,
+          artsAntiques,
+          automative,
+          beauty,
+          books,
+          childrenProducts,
+          collectibles,
+          homeOffice,
+          crafts,
+          electronics,
+          foodBeverages,
+          furniture,
+          garden,
+          generalMerchandise,
+          gift,
+          health,
+          holiday,
+          homeCare,
+          homeFurnishings,
+          housewares,
+          jewelry,
+          linens,
+          music,
+          novelty,
+          otherMerchServices,
+          personalCare,
+          pets,
+          photoVideoEquipment,
+          specialtyFood,
+          specialtyGifts,
+          sportsLeisure,
+          stationery,
+          travel,
+          videoEntertainment,
+          continuityShopper,
+          onlineShopper);
+    }
+  }
+
+  static final class RankAdapter extends TypeAdapter<Rank> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    RankAdapter(Gson gson) {
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Rank src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("rank");
+      this.integerAdapter.write(writer, src.getRank());
+      writer.name("name");
+      this.stringAdapter.write(writer, src.getName());
+      writer.endObject();
+    }
+
+    @Override
+    public Rank read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      int rank = 0;
+      String name = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "rank":
+            rank = valueOrElse(this.integerAdapter.read(reader), rank);
+            break;
+          case "name":
+            name = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Rank(rank, name);
+    }
+  }
+
+  static final class ReadingAdapter extends TypeAdapter<Reading> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    ReadingAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Reading src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("likesToRead");
+      this.booleanAdapter.write(writer, src.isLikesToRead());
+      writer.name("astrology");
+      this.booleanAdapter.write(writer, src.isAstrology());
+      writer.name("bibleOrDevotional");
+      this.booleanAdapter.write(writer, src.isBibleOrDevotional());
+      writer.name("bestSellingFiction");
+      this.booleanAdapter.write(writer, src.isBestSellingFiction());
+      writer.name("audiobooks");
+      this.booleanAdapter.write(writer, src.isAudiobooks());
+      writer.name("childrens");
+      this.booleanAdapter.write(writer, src.isChildrens());
+      writer.name("cooking");
+      this.booleanAdapter.write(writer, src.isCooking());
+      writer.name("computer");
+      this.booleanAdapter.write(writer, src.isComputer());
+      writer.name("countryLifestyle");
+      this.booleanAdapter.write(writer, src.isCountryLifestyle());
+      writer.name("fashion");
+      this.booleanAdapter.write(writer, src.isFashion());
+      writer.name("history");
+      this.booleanAdapter.write(writer, src.isHistory());
+      writer.name("interiorDecorating");
+      this.booleanAdapter.write(writer, src.isInteriorDecorating());
+      writer.name("health");
+      this.booleanAdapter.write(writer, src.isHealth());
+      writer.name("military");
+      this.booleanAdapter.write(writer, src.isMilitary());
+      writer.name("mystery");
+      this.booleanAdapter.write(writer, src.isMystery());
+      writer.name("naturalHealthRemedies");
+      this.booleanAdapter.write(writer, src.isNaturalHealthRemedies());
+      writer.name("entertainment");
+      this.booleanAdapter.write(writer, src.isEntertainment());
+      writer.name("romance");
+      this.booleanAdapter.write(writer, src.isRomance());
+      writer.name("scienceFiction");
+      this.booleanAdapter.write(writer, src.isScienceFiction());
+      writer.name("technology");
+      this.booleanAdapter.write(writer, src.isTechnology());
+      writer.name("sports");
+      this.booleanAdapter.write(writer, src.isSports());
+      writer.name("worldNewsOrPolitics");
+      this.booleanAdapter.write(writer, src.isWorldNewsOrPolitics());
+      writer.name("suspense");
+      this.booleanAdapter.write(writer, src.isSuspense());
+      writer.name("bestSellers");
+      this.booleanAdapter.write(writer, src.isBestSellers());
+      writer.name("bookClub");
+      this.booleanAdapter.write(writer, src.isBookClub());
+      writer.name("comics");
+      this.booleanAdapter.write(writer, src.isComics());
+      writer.name("financial");
+      this.booleanAdapter.write(writer, src.isFinancial());
+      writer.name("homeAndGarden");
+      this.booleanAdapter.write(writer, src.isHomeAndGarden());
+      writer.name("selfImprovement");
+      this.booleanAdapter.write(writer, src.isSelfImprovement());
+      writer.name("travel");
+      this.booleanAdapter.write(writer, src.isTravel());
+      writer.name("magazines");
+      this.booleanAdapter.write(writer, src.isMagazines());
+      writer.endObject();
+    }
+
+    @Override
+    public Reading read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean likesToRead = false;
+      boolean astrology = false;
+      boolean bibleOrDevotional = false;
+      boolean bestSellingFiction = false;
+      boolean audiobooks = false;
+      boolean childrens = false;
+      boolean cooking = false;
+      boolean computer = false;
+      boolean countryLifestyle = false;
+      boolean fashion = false;
+      boolean history = false;
+      boolean interiorDecorating = false;
+      boolean health = false;
+      boolean military = false;
+      boolean mystery = false;
+      boolean naturalHealthRemedies = false;
+      boolean entertainment = false;
+      boolean romance = false;
+      boolean scienceFiction = false;
+      boolean technology = false;
+      boolean sports = false;
+      boolean worldNewsOrPolitics = false;
+      boolean suspense = false;
+      boolean bestSellers = false;
+      boolean bookClub = false;
+      boolean comics = false;
+      boolean financial = false;
+      boolean homeAndGarden = false;
+      boolean selfImprovement = false;
+      boolean travel = false;
+      boolean magazines = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "likesToRead":
+            likesToRead = valueOrElse(this.booleanAdapter.read(reader), likesToRead);
+            break;
+          case "astrology":
+            astrology = valueOrElse(this.booleanAdapter.read(reader), astrology);
+            break;
+          case "bibleOrDevotional":
+            bibleOrDevotional = valueOrElse(this.booleanAdapter.read(reader), bibleOrDevotional);
+            break;
+          case "bestSellingFiction":
+            bestSellingFiction = valueOrElse(this.booleanAdapter.read(reader), bestSellingFiction);
+            break;
+          case "audiobooks":
+            audiobooks = valueOrElse(this.booleanAdapter.read(reader), audiobooks);
+            break;
+          case "childrens":
+            childrens = valueOrElse(this.booleanAdapter.read(reader), childrens);
+            break;
+          case "cooking":
+            cooking = valueOrElse(this.booleanAdapter.read(reader), cooking);
+            break;
+          case "computer":
+            computer = valueOrElse(this.booleanAdapter.read(reader), computer);
+            break;
+          case "countryLifestyle":
+            countryLifestyle = valueOrElse(this.booleanAdapter.read(reader), countryLifestyle);
+            break;
+          case "fashion":
+            fashion = valueOrElse(this.booleanAdapter.read(reader), fashion);
+            break;
+          case "history":
+            history = valueOrElse(this.booleanAdapter.read(reader), history);
+            break;
+          case "interiorDecorating":
+            interiorDecorating = valueOrElse(this.booleanAdapter.read(reader), interiorDecorating);
+            break;
+          case "health":
+            health = valueOrElse(this.booleanAdapter.read(reader), health);
+            break;
+          case "military":
+            military = valueOrElse(this.booleanAdapter.read(reader), military);
+            break;
+          case "mystery":
+            mystery = valueOrElse(this.booleanAdapter.read(reader), mystery);
+            break;
+          case "naturalHealthRemedies":
+            naturalHealthRemedies =
+                valueOrElse(this.booleanAdapter.read(reader), naturalHealthRemedies);
+            break;
+          case "entertainment":
+            entertainment = valueOrElse(this.booleanAdapter.read(reader), entertainment);
+            break;
+          case "romance":
+            romance = valueOrElse(this.booleanAdapter.read(reader), romance);
+            break;
+          case "scienceFiction":
+            scienceFiction = valueOrElse(this.booleanAdapter.read(reader), scienceFiction);
+            break;
+          case "technology":
+            technology = valueOrElse(this.booleanAdapter.read(reader), technology);
+            break;
+          case "sports":
+            sports = valueOrElse(this.booleanAdapter.read(reader), sports);
+            break;
+          case "worldNewsOrPolitics":
+            worldNewsOrPolitics =
+                valueOrElse(this.booleanAdapter.read(reader), worldNewsOrPolitics);
+            break;
+          case "suspense":
+            suspense = valueOrElse(this.booleanAdapter.read(reader), suspense);
+            break;
+          case "bestSellers":
+            bestSellers = valueOrElse(this.booleanAdapter.read(reader), bestSellers);
+            break;
+          case "bookClub":
+            bookClub = valueOrElse(this.booleanAdapter.read(reader), bookClub);
+            break;
+          case "comics":
+            comics = valueOrElse(this.booleanAdapter.read(reader), comics);
+            break;
+          case "financial":
+            financial = valueOrElse(this.booleanAdapter.read(reader), financial);
+            break;
+          case "homeAndGarden":
+            homeAndGarden = valueOrElse(this.booleanAdapter.read(reader), homeAndGarden);
+            break;
+          case "selfImprovement":
+            selfImprovement = valueOrElse(this.booleanAdapter.read(reader), selfImprovement);
+            break;
+          case "travel":
+            travel = valueOrElse(this.booleanAdapter.read(reader), travel);
+            break;
+          case "magazines":
+            magazines = valueOrElse(this.booleanAdapter.read(reader), magazines);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Reading(
+          likesToRead,
+          astrology,
+          bibleOrDevotional,
+          bestSellingFiction,
+          audiobooks,
+          childrens,
+          cooking,
+          computer,
+          countryLifestyle,
+          fashion,
+          history,
+          interiorDecorating,
+          health,
+          military,
+          mystery,
+          naturalHealthRemedies,
+          entertainment,
+          romance,
+          scienceFiction,
+          technology,
+          sports,
+          worldNewsOrPolitics,
+          suspense,
+          bestSellers,
+          bookClub,
+          comics,
+          financial,
+          homeAndGarden,
+          selfImprovement,
+          travel,
+          magazines);
+    }
+  }
+
+  static final class ResolveResponseAdapter extends TypeAdapter<ResolveResponse> {
+    private final TypeAdapter<List<String>> stringListAdapter;
+    private final TypeAdapter<List<Tag>> tagListAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    ResolveResponseAdapter(Gson gson) {
+      this.stringListAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+      this.tagListAdapter = gson.getAdapter(new TypeToken<List<Tag>>() {});
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, ResolveResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("recordIds");
+      this.stringListAdapter.write(writer, src.getRecordIds());
+      writer.name("personIds");
+      this.stringListAdapter.write(writer, src.getPersonIds());
+      writer.name("partnerIds");
+      this.stringListAdapter.write(writer, src.getPartnerIds());
+      writer.name("tags");
+      this.tagListAdapter.write(writer, src.getTags());
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public ResolveResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      List<String> recordIds = null;
+      List<String> personIds = null;
+      List<String> partnerIds = null;
+      List<Tag> tags = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "recordIds":
+            recordIds = this.stringListAdapter.read(reader);
+            break;
+          case "personIds":
+            personIds = this.stringListAdapter.read(reader);
+            break;
+          case "partnerIds":
+            partnerIds = this.stringListAdapter.read(reader);
+            break;
+          case "tags":
+            tags = this.tagListAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      ResolveResponse response = new ResolveResponse(recordIds, personIds, partnerIds, tags);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class ResolveResponseWithTagsAdapter extends TypeAdapter<ResolveResponseWithTags> {
+    private final TypeAdapter<List<String>> stringListAdapter;
+    private final TypeAdapter<Map<String, List<Tag>>> stringToTagListMapAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    ResolveResponseWithTagsAdapter(Gson gson) {
+      this.stringListAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+      this.stringToTagListMapAdapter = gson.getAdapter(new TypeToken<Map<String, List<Tag>>>() {});
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, ResolveResponseWithTags src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("recordIds");
+      this.stringListAdapter.write(writer, src.getRecordIds());
+      writer.name("personIds");
+      this.stringListAdapter.write(writer, src.getPersonIds());
+      writer.name("partnerIds");
+      this.stringListAdapter.write(writer, src.getPartnerIds());
+      writer.name("tags");
+      this.stringToTagListMapAdapter.write(writer, src.getTags());
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public ResolveResponseWithTags read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      List<String> recordIds = null;
+      List<String> personIds = null;
+      List<String> partnerIds = null;
+      Map<String, List<Tag>> tags = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "recordIds":
+            recordIds = this.stringListAdapter.read(reader);
+            break;
+          case "personIds":
+            personIds = this.stringListAdapter.read(reader);
+            break;
+          case "partnerIds":
+            partnerIds = this.stringListAdapter.read(reader);
+            break;
+          case "tags":
+            tags = this.stringToTagListMapAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      ResolveResponseWithTags response =
+          new ResolveResponseWithTags(recordIds, personIds, partnerIds, tags);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class SignalsResponseAdapter extends TypeAdapter<SignalsResponse> {
+    private final TypeAdapter<List<EmailAndPhone>> emailAndPhoneListAdapter;
+    private final TypeAdapter<List<String>> stringListAdapter;
+    private final TypeAdapter<List<Maids>> maidsListAdapter;
+    private final TypeAdapter<Name> nameAdapter;
+    private final TypeAdapter<List<PanoId>> panoIdListAdapter;
+    private final TypeAdapter<List<NonId>> nonIdListAdapter;
+    private final TypeAdapter<List<IpAddress>> ipAddressListAdapter;
+    private final TypeAdapter<SocialProfile> socialProfileAdapter;
+    private final TypeAdapter<VerifiedDemographics> verifiedDemographicsAdapter;
+    private final TypeAdapter<VerifiedEmployment> verifiedEmploymentAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    SignalsResponseAdapter(Gson gson) {
+      this.emailAndPhoneListAdapter = gson.getAdapter(new TypeToken<List<EmailAndPhone>>() {});
+      this.stringListAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+      this.maidsListAdapter = gson.getAdapter(new TypeToken<List<Maids>>() {});
+      this.nameAdapter = gson.getAdapter(Name.class);
+      this.panoIdListAdapter = gson.getAdapter(new TypeToken<List<PanoId>>() {});
+      this.nonIdListAdapter = gson.getAdapter(new TypeToken<List<NonId>>() {});
+      this.ipAddressListAdapter = gson.getAdapter(new TypeToken<List<IpAddress>>() {});
+      this.socialProfileAdapter = gson.getAdapter(SocialProfile.class);
+      this.verifiedDemographicsAdapter = gson.getAdapter(VerifiedDemographics.class);
+      this.verifiedEmploymentAdapter = gson.getAdapter(VerifiedEmployment.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, SignalsResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("emails");
+      this.emailAndPhoneListAdapter.write(writer, src.getEmails());
+      writer.name("phones");
+      this.emailAndPhoneListAdapter.write(writer, src.getPhones());
+      writer.name("personIds");
+      this.stringListAdapter.write(writer, src.getPersonIds());
+      writer.name("maids");
+      this.maidsListAdapter.write(writer, src.getMaids());
+      writer.name("name");
+      this.nameAdapter.write(writer, src.getName());
+      writer.name("panoIds");
+      this.panoIdListAdapter.write(writer, src.getPanoIds());
+      writer.name("nonIds");
+      this.nonIdListAdapter.write(writer, src.getNonIds());
+      writer.name("ipAddresses");
+      this.ipAddressListAdapter.write(writer, src.getIpAddresses());
+      writer.name("socialProfiles");
+      this.socialProfileAdapter.write(writer, src.getSocialProfiles());
+      writer.name("demographics");
+      this.verifiedDemographicsAdapter.write(writer, src.getDemographics());
+      writer.name("employment");
+      this.verifiedEmploymentAdapter.write(writer, src.getEmployment());
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public SignalsResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      List<EmailAndPhone> emails = null;
+      List<EmailAndPhone> phones = null;
+      List<String> personIds = null;
+      List<Maids> maids = null;
+      Name name = null;
+      List<PanoId> panoIds = null;
+      List<NonId> nonIds = null;
+      List<IpAddress> ipAddresses = null;
+      SocialProfile socialProfiles = null;
+      VerifiedDemographics demographics = null;
+      VerifiedEmployment employment = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "emails":
+            emails = this.emailAndPhoneListAdapter.read(reader);
+            break;
+          case "phones":
+            phones = this.emailAndPhoneListAdapter.read(reader);
+            break;
+          case "personIds":
+            personIds = this.stringListAdapter.read(reader);
+            break;
+          case "maids":
+            maids = this.maidsListAdapter.read(reader);
+            break;
+          case "name":
+            name = this.nameAdapter.read(reader);
+            break;
+          case "panoIds":
+            panoIds = this.panoIdListAdapter.read(reader);
+            break;
+          case "nonIds":
+            nonIds = this.nonIdListAdapter.read(reader);
+            break;
+          case "ipAddresses":
+            ipAddresses = this.ipAddressListAdapter.read(reader);
+            break;
+          case "socialProfiles":
+            socialProfiles = this.socialProfileAdapter.read(reader);
+            break;
+          case "demographics":
+            demographics = this.verifiedDemographicsAdapter.read(reader);
+            break;
+          case "employment":
+            employment = this.verifiedEmploymentAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      SignalsResponse response =
+          new SignalsResponse(
+              emails,
+              phones,
+              personIds,
+              maids,
+              name,
+              panoIds,
+              nonIds,
+              ipAddresses,
+              socialProfiles,
+              demographics,
+              employment);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class SocialProfileAdapter extends TypeAdapter<SocialProfile> {
+    private final TypeAdapter<String> stringAdapter;
+
+    SocialProfileAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, SocialProfile src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("twitterUrl");
+      this.stringAdapter.write(writer, src.getTwitterUrl());
+      writer.name("linkedInUrl");
+      this.stringAdapter.write(writer, src.getLinkedInUrl());
+      writer.endObject();
+    }
+
+    @Override
+    public SocialProfile read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String twitterUrl = null;
+      String linkedInUrl = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "twitterUrl":
+            twitterUrl = this.stringAdapter.read(reader);
+            break;
+          case "linkedInUrl":
+            linkedInUrl = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new SocialProfile(twitterUrl, linkedInUrl);
+    }
+  }
+
+  static final class SportingAdapter extends TypeAdapter<Sporting> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    SportingAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Sporting src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("other");
+      this.booleanAdapter.write(writer, src.isOther());
+      writer.name("campingOrHiking");
+      this.booleanAdapter.write(writer, src.isCampingOrHiking());
+      writer.name("baseball");
+      this.booleanAdapter.write(writer, src.isBaseball());
+      writer.name("boating");
+      this.booleanAdapter.write(writer, src.isBoating());
+      writer.name("basketball");
+      this.booleanAdapter.write(writer, src.isBasketball());
+      writer.name("fishing");
+      this.booleanAdapter.write(writer, src.isFishing());
+      writer.name("americanFootball");
+      this.booleanAdapter.write(writer, src.isAmericanFootball());
+      writer.name("fitness");
+      this.booleanAdapter.write(writer, src.isFitness());
+      writer.name("golf");
+      this.booleanAdapter.write(writer, src.isGolf());
+      writer.name("hockey");
+      this.booleanAdapter.write(writer, src.isHockey());
+      writer.name("hunting");
+      this.booleanAdapter.write(writer, src.isHunting());
+      writer.name("nascar");
+      this.booleanAdapter.write(writer, src.isNascar());
+      writer.name("snowSkiing");
+      this.booleanAdapter.write(writer, src.isSnowSkiing());
+      writer.name("walking");
+      this.booleanAdapter.write(writer, src.isWalking());
+      writer.name("running");
+      this.booleanAdapter.write(writer, src.isRunning());
+      writer.name("scuba");
+      this.booleanAdapter.write(writer, src.isScuba());
+      writer.name("tennis");
+      this.booleanAdapter.write(writer, src.isTennis());
+      writer.name("weightLifting");
+      this.booleanAdapter.write(writer, src.isWeightLifting());
+      writer.name("biking");
+      this.booleanAdapter.write(writer, src.isBiking());
+      writer.name("extremeSports");
+      this.booleanAdapter.write(writer, src.isExtremeSports());
+      writer.name("motocross");
+      this.booleanAdapter.write(writer, src.isMotocross());
+      writer.name("skateboarding");
+      this.booleanAdapter.write(writer, src.isSkateboarding());
+      writer.name("snowboarding");
+      this.booleanAdapter.write(writer, src.isSnowboarding());
+      writer.name("rollerblading");
+      this.booleanAdapter.write(writer, src.isRollerblading());
+      writer.name("interests");
+      this.booleanAdapter.write(writer, src.isInterests());
+      writer.endObject();
+    }
+
+    @Override
+    public Sporting read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean other = false;
+      boolean campingOrHiking = false;
+      boolean baseball = false;
+      boolean boating = false;
+      boolean basketball = false;
+      boolean fishing = false;
+      boolean americanFootball = false;
+      boolean fitness = false;
+      boolean golf = false;
+      boolean hockey = false;
+      boolean hunting = false;
+      boolean nascar = false;
+      boolean snowSkiing = false;
+      boolean walking = false;
+      boolean running = false;
+      boolean scuba = false;
+      boolean tennis = false;
+      boolean weightLifting = false;
+      boolean biking = false;
+      boolean extremeSports = false;
+      boolean motocross = false;
+      boolean skateboarding = false;
+      boolean snowboarding = false;
+      boolean rollerblading = false;
+      boolean interests = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "other":
+            other = valueOrElse(this.booleanAdapter.read(reader), other);
+            break;
+          case "campingOrHiking":
+            campingOrHiking = valueOrElse(this.booleanAdapter.read(reader), campingOrHiking);
+            break;
+          case "baseball":
+            baseball = valueOrElse(this.booleanAdapter.read(reader), baseball);
+            break;
+          case "boating":
+            boating = valueOrElse(this.booleanAdapter.read(reader), boating);
+            break;
+          case "basketball":
+            basketball = valueOrElse(this.booleanAdapter.read(reader), basketball);
+            break;
+          case "fishing":
+            fishing = valueOrElse(this.booleanAdapter.read(reader), fishing);
+            break;
+          case "americanFootball":
+            americanFootball = valueOrElse(this.booleanAdapter.read(reader), americanFootball);
+            break;
+          case "fitness":
+            fitness = valueOrElse(this.booleanAdapter.read(reader), fitness);
+            break;
+          case "golf":
+            golf = valueOrElse(this.booleanAdapter.read(reader), golf);
+            break;
+          case "hockey":
+            hockey = valueOrElse(this.booleanAdapter.read(reader), hockey);
+            break;
+          case "hunting":
+            hunting = valueOrElse(this.booleanAdapter.read(reader), hunting);
+            break;
+          case "nascar":
+            nascar = valueOrElse(this.booleanAdapter.read(reader), nascar);
+            break;
+          case "snowSkiing":
+            snowSkiing = valueOrElse(this.booleanAdapter.read(reader), snowSkiing);
+            break;
+          case "walking":
+            walking = valueOrElse(this.booleanAdapter.read(reader), walking);
+            break;
+          case "running":
+            running = valueOrElse(this.booleanAdapter.read(reader), running);
+            break;
+          case "scuba":
+            scuba = valueOrElse(this.booleanAdapter.read(reader), scuba);
+            break;
+          case "tennis":
+            tennis = valueOrElse(this.booleanAdapter.read(reader), tennis);
+            break;
+          case "weightLifting":
+            weightLifting = valueOrElse(this.booleanAdapter.read(reader), weightLifting);
+            break;
+          case "biking":
+            biking = valueOrElse(this.booleanAdapter.read(reader), biking);
+            break;
+          case "extremeSports":
+            extremeSports = valueOrElse(this.booleanAdapter.read(reader), extremeSports);
+            break;
+          case "motocross":
+            motocross = valueOrElse(this.booleanAdapter.read(reader), motocross);
+            break;
+          case "skateboarding":
+            skateboarding = valueOrElse(this.booleanAdapter.read(reader), skateboarding);
+            break;
+          case "snowboarding":
+            snowboarding = valueOrElse(this.booleanAdapter.read(reader), snowboarding);
+            break;
+          case "rollerblading":
+            rollerblading = valueOrElse(this.booleanAdapter.read(reader), rollerblading);
+            break;
+          case "interests":
+            interests = valueOrElse(this.booleanAdapter.read(reader), interests);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Sporting(
+          other,
+          campingOrHiking,
+          baseball,
+          boating,
+          basketball,
+          fishing,
+          americanFootball,
+          fitness,
+          golf,
+          hockey,
+          hunting,
+          nascar,
+          snowSkiing,
+          walking,
+          running,
+          scuba,
+          tennis,
+          weightLifting,
+          biking,
+          extremeSports,
+          motocross,
+          skateboarding,
+          snowboarding,
+          rollerblading,
+          interests);
+    }
+  }
+
+  static final class SurveyAdapter extends TypeAdapter<Survey> {
+    private final TypeAdapter<Own> ownAdapter;
+    private final TypeAdapter<Collectibles> collectiblesAdapter;
+    private final TypeAdapter<CreditCards> creditCardsAdapter;
+    private final TypeAdapter<DietConcerns> dietConcernsAdapter;
+    private final TypeAdapter<Hobby> hobbyAdapter;
+    private final TypeAdapter<Music> musicAdapter;
+    private final TypeAdapter<Reading> readingAdapter;
+    private final TypeAdapter<Sporting> sportingAdapter;
+    private final TypeAdapter<Travel> travelAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Electronics> electronicsAdapter;
+    private final TypeAdapter<Purchase> purchaseAdapter;
+
+    SurveyAdapter(Gson gson) {
+      this.ownAdapter = gson.getAdapter(Own.class);
+      this.collectiblesAdapter = gson.getAdapter(Collectibles.class);
+      this.creditCardsAdapter = gson.getAdapter(CreditCards.class);
+      this.dietConcernsAdapter = gson.getAdapter(DietConcerns.class);
+      this.hobbyAdapter = gson.getAdapter(Hobby.class);
+      this.musicAdapter = gson.getAdapter(Music.class);
+      this.readingAdapter = gson.getAdapter(Reading.class);
+      this.sportingAdapter = gson.getAdapter(Sporting.class);
+      this.travelAdapter = gson.getAdapter(Travel.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.electronicsAdapter = gson.getAdapter(Electronics.class);
+      this.purchaseAdapter = gson.getAdapter(Purchase.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Survey src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("own");
+      this.ownAdapter.write(writer, src.getOwn());
+      writer.name("collectibles");
+      this.collectiblesAdapter.write(writer, src.getCollectibles());
+      writer.name("creditCards");
+      this.creditCardsAdapter.write(writer, src.getCreditCards());
+      writer.name("dietConcerns");
+      this.dietConcernsAdapter.write(writer, src.getDietConcerns());
+      writer.name("hobby");
+      this.hobbyAdapter.write(writer, src.getHobby());
+      writer.name("music");
+      this.musicAdapter.write(writer, src.getMusic());
+      writer.name("reading");
+      this.readingAdapter.write(writer, src.getReading());
+      writer.name("sporting");
+      this.sportingAdapter.write(writer, src.getSporting());
+      writer.name("travel");
+      this.travelAdapter.write(writer, src.getTravel());
+      writer.name("religious");
+      this.booleanAdapter.write(writer, src.isReligious());
+      writer.name("grandchildren");
+      this.booleanAdapter.write(writer, src.isGrandchildren());
+      writer.name("onlinePurchaser");
+      this.booleanAdapter.write(writer, src.isOnlinePurchaser());
+      writer.name("investments");
+      this.booleanAdapter.write(writer, src.isInvestments());
+      writer.name("electronics");
+      this.electronicsAdapter.write(writer, src.getElectronics());
+      writer.name("purchase");
+      this.purchaseAdapter.write(writer, src.getPurchase());
+      writer.endObject();
+    }
+
+    @Override
+    public Survey read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      Own own = null;
+      Collectibles collectibles = null;
+      CreditCards creditCards = null;
+      DietConcerns dietConcerns = null;
+      Hobby hobby = null;
+      Music music = null;
+      Reading reading = null;
+      Sporting sporting = null;
+      Travel travel = null;
+      boolean religious = false;
+      boolean grandchildren = false;
+      boolean onlinePurchaser = false;
+      boolean investments = false;
+      Electronics electronics = null;
+      Purchase purchase = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "own":
+            own = this.ownAdapter.read(reader);
+            break;
+          case "collectibles":
+            collectibles = this.collectiblesAdapter.read(reader);
+            break;
+          case "creditCards":
+            creditCards = this.creditCardsAdapter.read(reader);
+            break;
+          case "dietConcerns":
+            dietConcerns = this.dietConcernsAdapter.read(reader);
+            break;
+          case "hobby":
+            hobby = this.hobbyAdapter.read(reader);
+            break;
+          case "music":
+            music = this.musicAdapter.read(reader);
+            break;
+          case "reading":
+            reading = this.readingAdapter.read(reader);
+            break;
+          case "sporting":
+            sporting = this.sportingAdapter.read(reader);
+            break;
+          case "travel":
+            travel = this.travelAdapter.read(reader);
+            break;
+          case "religious":
+            religious = valueOrElse(this.booleanAdapter.read(reader), religious);
+            break;
+          case "grandchildren":
+            grandchildren = valueOrElse(this.booleanAdapter.read(reader), grandchildren);
+            break;
+          case "onlinePurchaser":
+            onlinePurchaser = valueOrElse(this.booleanAdapter.read(reader), onlinePurchaser);
+            break;
+          case "investments":
+            investments = valueOrElse(this.booleanAdapter.read(reader), investments);
+            break;
+          case "electronics":
+            electronics = this.electronicsAdapter.read(reader);
+            break;
+          case "purchase":
+            purchase = this.purchaseAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Survey(
+          own,
+          collectibles,
+          creditCards,
+          dietConcerns,
+          hobby,
+          music,
+          reading,
+          sporting,
+          travel,
+          religious,
+          grandchildren,
+          onlinePurchaser,
+          investments,
+          electronics,
+          purchase);
+    }
+  }
+
+  static final class TagAdapter extends TypeAdapter<Tag> {
+    private final TypeAdapter<String> stringAdapter;
+
+    TagAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Tag src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("key");
+      this.stringAdapter.write(writer, src.getKey());
+      writer.name("value");
+      this.stringAdapter.write(writer, src.getValue());
+      writer.endObject();
+    }
+
+    @Override
+    public Tag read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String key = null;
+      String value = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "key":
+            key = this.stringAdapter.read(reader);
+            break;
+          case "value":
+            value = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return Tag.builder().key(key).value(value).build();
+    }
+  }
+
+  static final class TagsResponseAdapter extends TypeAdapter<TagsResponse> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<List<Tag>> tagListAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    TagsResponseAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.tagListAdapter = gson.getAdapter(new TypeToken<List<Tag>>() {});
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, TagsResponse src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("recordId");
+      this.stringAdapter.write(writer, src.getRecordId());
+      writer.name("partnerId");
+      this.stringAdapter.write(writer, src.getPartnerId());
+      writer.name("tags");
+      this.tagListAdapter.write(writer, src.getTags());
+      writer.name("isSuccessful");
+      this.booleanAdapter.write(writer, src.isSuccessful);
+      writer.name("statusCode");
+      this.integerAdapter.write(writer, src.statusCode);
+      writer.name("message");
+      this.stringAdapter.write(writer, src.message);
+      writer.endObject();
+    }
+
+    @Override
+    public TagsResponse read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String recordId = null;
+      String partnerId = null;
+      List<Tag> tags = null;
+      boolean isSuccessful = false;
+      int statusCode = 0;
+      String message = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "recordId":
+            recordId = this.stringAdapter.read(reader);
+            break;
+          case "partnerId":
+            partnerId = this.stringAdapter.read(reader);
+            break;
+          case "tags":
+            tags = this.tagListAdapter.read(reader);
+            break;
+          case "isSuccessful":
+            isSuccessful = valueOrElse(this.booleanAdapter.read(reader), isSuccessful);
+            break;
+          case "statusCode":
+            statusCode = valueOrElse(this.integerAdapter.read(reader), statusCode);
+            break;
+          case "message":
+            message = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      TagsResponse response = new TagsResponse(recordId, partnerId, tags);
+      response.isSuccessful = isSuccessful;
+      response.statusCode = statusCode;
+      response.message = message;
+      return response;
+    }
+  }
+
+  static final class TrafficRankAdapter extends TypeAdapter<TrafficRank> {
+    private final TypeAdapter<Rank> rankAdapter;
+
+    TrafficRankAdapter(Gson gson) {
+      this.rankAdapter = gson.getAdapter(Rank.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, TrafficRank src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("global");
+      this.rankAdapter.write(writer, src.getGlobal());
+      writer.name("us");
+      this.rankAdapter.write(writer, src.getUs());
+      writer.name("in");
+      this.rankAdapter.write(writer, src.getIn());
+      writer.name("gb");
+      this.rankAdapter.write(writer, src.getGb());
+      writer.endObject();
+    }
+
+    @Override
+    public TrafficRank read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      Rank global = null;
+      Rank us = null;
+      Rank in = null;
+      Rank gb = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "global":
+            global = this.rankAdapter.read(reader);
+            break;
+          case "us":
+            us = this.rankAdapter.read(reader);
+            break;
+          case "in":
+            in = this.rankAdapter.read(reader);
+            break;
+          case "gb":
+            gb = this.rankAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new TrafficRank(global, us, in, gb);
+    }
+  }
+
+  static final class TravelAdapter extends TypeAdapter<Travel> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    TravelAdapter(Gson gson) {
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Travel src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("general");
+      this.booleanAdapter.write(writer, src.isGeneral());
+      writer.name("usBusiness");
+      this.booleanAdapter.write(writer, src.isUsBusiness());
+      writer.name("internationalBusiness");
+      this.booleanAdapter.write(writer, src.isInternationalBusiness());
+      writer.name("usPersonal");
+      this.booleanAdapter.write(writer, src.isUsPersonal());
+      writer.name("internationalPersonal");
+      this.booleanAdapter.write(writer, src.isInternationalPersonal());
+      writer.name("casinoVacations");
+      this.booleanAdapter.write(writer, src.isCasinoVacations());
+      writer.name("familyVacations");
+      this.booleanAdapter.write(writer, src.isFamilyVacations());
+      writer.name("frequentFlyer");
+      this.booleanAdapter.write(writer, src.isFrequentFlyer());
+      writer.name("timeshare");
+      this.booleanAdapter.write(writer, src.isTimeshare());
+      writer.name("vacationCruises");
+      this.booleanAdapter.write(writer, src.isVacationCruises());
+      writer.name("attractionsOrThemeParks");
+      this.booleanAdapter.write(writer, src.isAttractionsOrThemeParks());
+      writer.name("rv");
+      this.booleanAdapter.write(writer, src.isRv());
+      writer.endObject();
+    }
+
+    @Override
+    public Travel read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      boolean general = false;
+      boolean usBusiness = false;
+      boolean internationalBusiness = false;
+      boolean usPersonal = false;
+      boolean internationalPersonal = false;
+      boolean casinoVacations = false;
+      boolean familyVacations = false;
+      boolean frequentFlyer = false;
+      boolean timeshare = false;
+      boolean vacationCruises = false;
+      boolean attractionsOrThemeParks = false;
+      boolean rv = false;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "general":
+            general = valueOrElse(this.booleanAdapter.read(reader), general);
+            break;
+          case "usBusiness":
+            usBusiness = valueOrElse(this.booleanAdapter.read(reader), usBusiness);
+            break;
+          case "internationalBusiness":
+            internationalBusiness =
+                valueOrElse(this.booleanAdapter.read(reader), internationalBusiness);
+            break;
+          case "usPersonal":
+            usPersonal = valueOrElse(this.booleanAdapter.read(reader), usPersonal);
+            break;
+          case "internationalPersonal":
+            internationalPersonal =
+                valueOrElse(this.booleanAdapter.read(reader), internationalPersonal);
+            break;
+          case "casinoVacations":
+            casinoVacations = valueOrElse(this.booleanAdapter.read(reader), casinoVacations);
+            break;
+          case "familyVacations":
+            familyVacations = valueOrElse(this.booleanAdapter.read(reader), familyVacations);
+            break;
+          case "frequentFlyer":
+            frequentFlyer = valueOrElse(this.booleanAdapter.read(reader), frequentFlyer);
+            break;
+          case "timeshare":
+            timeshare = valueOrElse(this.booleanAdapter.read(reader), timeshare);
+            break;
+          case "vacationCruises":
+            vacationCruises = valueOrElse(this.booleanAdapter.read(reader), vacationCruises);
+            break;
+          case "attractionsOrThemeParks":
+            attractionsOrThemeParks =
+                valueOrElse(this.booleanAdapter.read(reader), attractionsOrThemeParks);
+            break;
+          case "rv":
+            rv = valueOrElse(this.booleanAdapter.read(reader), rv);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Travel(
+          general,
+          usBusiness,
+          internationalBusiness,
+          usPersonal,
+          internationalPersonal,
+          casinoVacations,
+          familyVacations,
+          frequentFlyer,
+          timeshare,
+          vacationCruises,
+          attractionsOrThemeParks,
+          rv);
+    }
+  }
+
+  static final class URLAdapter extends TypeAdapter<URL> {
+    private final TypeAdapter<String> stringAdapter;
+
+    URLAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, URL src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("label");
+      this.stringAdapter.write(writer, src.getLabel());
+      writer.name("value");
+      this.stringAdapter.write(writer, src.getValue());
+      writer.endObject();
+    }
+
+    @Override
+    public URL read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String label = null;
+      String value = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "label":
+            label = this.stringAdapter.read(reader);
+            break;
+          case "value":
+            value = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new URL(label, value);
+    }
+  }
+
+  static final class VehicleAdapter extends TypeAdapter<Vehicle> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    VehicleAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Vehicle src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("bodyStyle");
+      this.stringAdapter.write(writer, src.getBodyStyle());
+      writer.name("fuelType");
+      this.stringAdapter.write(writer, src.getFuelType());
+      writer.name("make");
+      this.stringAdapter.write(writer, src.getMake());
+      writer.name("model");
+      this.stringAdapter.write(writer, src.getModel());
+      writer.name("purchaseType");
+      this.stringAdapter.write(writer, src.getPurchaseType());
+      writer.name("purchaseDate");
+      this.integerAdapter.write(writer, src.getPurchaseDate());
+      writer.name("year");
+      this.integerAdapter.write(writer, src.getYear());
+      writer.endObject();
+    }
+
+    @Override
+    public Vehicle read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String bodyStyle = null;
+      String fuelType = null;
+      String make = null;
+      String model = null;
+      String purchaseType = null;
+      int purchaseDate = 0;
+      int year = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "bodyStyle":
+            bodyStyle = this.stringAdapter.read(reader);
+            break;
+          case "fuelType":
+            fuelType = this.stringAdapter.read(reader);
+            break;
+          case "make":
+            make = this.stringAdapter.read(reader);
+            break;
+          case "model":
+            model = this.stringAdapter.read(reader);
+            break;
+          case "purchaseType":
+            purchaseType = this.stringAdapter.read(reader);
+            break;
+          case "purchaseDate":
+            purchaseDate = valueOrElse(this.integerAdapter.read(reader), purchaseDate);
+            break;
+          case "year":
+            year = valueOrElse(this.integerAdapter.read(reader), year);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Vehicle(bodyStyle, fuelType, make, model, purchaseType, purchaseDate, year);
+    }
+  }
+
+  static final class VerifiedDemographicsAdapter extends TypeAdapter<VerifiedDemographics> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    VerifiedDemographicsAdapter(Gson gson) {
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, VerifiedDemographics src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("age");
+      this.integerAdapter.write(writer, src.getAge());
+      writer.name("ageRange");
+      this.stringAdapter.write(writer, src.getAgeRange());
+      writer.name("gender");
+      this.stringAdapter.write(writer, src.getGender());
+      writer.name("locationFormatted");
+      this.stringAdapter.write(writer, src.getLocationFormatted());
+      writer.endObject();
+    }
+
+    @Override
+    public VerifiedDemographics read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      Integer age = null;
+      String ageRange = null;
+      String gender = null;
+      String locationFormatted = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "age":
+            age = this.integerAdapter.read(reader);
+            break;
+          case "ageRange":
+            ageRange = this.stringAdapter.read(reader);
+            break;
+          case "gender":
+            gender = this.stringAdapter.read(reader);
+            break;
+          case "locationFormatted":
+            locationFormatted = this.stringAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new VerifiedDemographics(age, ageRange, gender, locationFormatted);
+    }
+  }
+
+  static final class VerifiedEmploymentAdapter extends TypeAdapter<VerifiedEmployment> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    VerifiedEmploymentAdapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, VerifiedEmployment src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("company");
+      this.stringAdapter.write(writer, src.getCompany());
+      writer.name("title");
+      this.stringAdapter.write(writer, src.getTitle());
+      writer.name("current");
+      this.booleanAdapter.write(writer, src.getCurrent());
+      writer.endObject();
+    }
+
+    @Override
+    public VerifiedEmployment read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String company = null;
+      String title = null;
+      Boolean current = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "company":
+            company = this.stringAdapter.read(reader);
+            break;
+          case "title":
+            title = this.stringAdapter.read(reader);
+            break;
+          case "current":
+            current = this.booleanAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new VerifiedEmployment(company, title, current);
+    }
+  }
+
+  static final class Year2010Adapter extends TypeAdapter<Year2010> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Average> averageAdapter;
+    private final TypeAdapter<Percent> percentAdapter;
+    private final TypeAdapter<Median> medianAdapter;
+    private final TypeAdapter<PopulationDensity> populationDensityAdapter;
+
+    Year2010Adapter(Gson gson) {
+      this.stringAdapter = gson.getAdapter(String.class);
+      this.integerAdapter = gson.getAdapter(Integer.class);
+      this.averageAdapter = gson.getAdapter(Average.class);
+      this.percentAdapter = gson.getAdapter(Percent.class);
+      this.medianAdapter = gson.getAdapter(Median.class);
+      this.populationDensityAdapter = gson.getAdapter(PopulationDensity.class);
+    }
+
+    @Override
+    public void write(JsonWriter writer, Year2010 src) throws IOException {
+      if (src == null) {
+        writer.nullValue();
+        return;
+      }
+      writer.beginObject();
+      writer.name("educationLevel");
+      this.stringAdapter.write(writer, src.getEducationLevel());
+      writer.name("socioEconomicScore");
+      this.integerAdapter.write(writer, src.getSocioEconomicScore());
+      writer.name("average");
+      this.averageAdapter.write(writer, src.getAverage());
+      writer.name("percent");
+      this.percentAdapter.write(writer, src.getPercent());
+      writer.name("median");
+      this.medianAdapter.write(writer, src.getMedian());
+      writer.name("populationDensity");
+      this.populationDensityAdapter.write(writer, src.getPopulationDensity());
+      writer.endObject();
+    }
+
+    @Override
+    public Year2010 read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+      String educationLevel = null;
+      int socioEconomicScore = 0;
+      Average average = null;
+      Percent percent = null;
+      Median median = null;
+      PopulationDensity populationDensity = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "educationLevel":
+            educationLevel = this.stringAdapter.read(reader);
+            break;
+          case "socioEconomicScore":
+            socioEconomicScore = valueOrElse(this.integerAdapter.read(reader), socioEconomicScore);
+            break;
+          case "average":
+            average = this.averageAdapter.read(reader);
+            break;
+          case "percent":
+            percent = this.percentAdapter.read(reader);
+            break;
+          case "median":
+            median = this.medianAdapter.read(reader);
+            break;
+          case "populationDensity":
+            populationDensity = this.populationDensityAdapter.read(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return new Year2010(
+          educationLevel, socioEconomicScore, average, percent, median, populationDensity);
+    }
+  }
+}
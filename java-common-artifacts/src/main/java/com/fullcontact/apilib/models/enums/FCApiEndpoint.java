@@ -1,24 +1,47 @@
 package com.fullcontact.apilib.models.enums;
 
+import com.fullcontact.apilib.FCConstants;
+
 public enum FCApiEndpoint {
-  PERSON_ENRICH,
-  COMPANY_ENRICH,
-  IDENTITY_MAP,
-  IDENTITY_RESOLVE,
-  IDENTITY_RESOLVE_WITH_TAGS,
-  IDENTITY_DELETE,
-  IDENTITY_MAP_RESOLVE,
-  TAGS_CREATE,
-  TAGS_GET,
-  TAGS_DELETE,
-  AUDIENCE_CREATE,
-  AUDIENCE_DOWNLOAD,
-  PERMISSION_CREATE,
-  PERMISSION_DELETE,
-  PERMISSION_FIND,
-  PERMISSION_CURRENT,
-  PERMISSION_VERIFY,
-  VERIFY_SIGNALS,
-  VERIFY_MATCH,
-  VERIFY_ACTIVITY
+  PERSON_ENRICH(FCConstants.API_ENDPOINT_PERSON_ENRICH, true),
+  COMPANY_ENRICH(FCConstants.API_ENDPOINT_COMPANY_ENRICH, true),
+  IDENTITY_MAP(FCConstants.API_ENDPOINT_IDENTITY_MAP, false),
+  IDENTITY_RESOLVE(FCConstants.API_ENDPOINT_IDENTITY_RESOLVE, true),
+  IDENTITY_RESOLVE_WITH_TAGS(FCConstants.API_ENDPOINT_IDENTITY_RESOLVE, true),
+  IDENTITY_DELETE(FCConstants.API_ENDPOINT_IDENTITY_DELETE, false),
+  IDENTITY_MAP_RESOLVE(FCConstants.API_ENDPOINT_IDENTITY_MAP_RESOLVE, false),
+  TAGS_CREATE(FCConstants.API_ENDPOINT_TAGS_CREATE, false),
+  TAGS_GET(FCConstants.API_ENDPOINT_TAGS_GET, true),
+  TAGS_DELETE(FCConstants.API_ENDPOINT_TAGS_DELETE, false),
+  AUDIENCE_CREATE(FCConstants.API_ENDPOINT_AUDIENCE_CREATE, false),
+  AUDIENCE_DOWNLOAD(FCConstants.API_ENDPOINT_AUDIENCE_DOWNLOAD, true),
+  PERMISSION_CREATE(FCConstants.API_ENDPOINT_PERMISSION_CREATE, false),
+  PERMISSION_DELETE(FCConstants.API_ENDPOINT_PERMISSION_DELETE, false),
+  PERMISSION_FIND(FCConstants.API_ENDPOINT_PERMISSION_FIND, true),
+  PERMISSION_CURRENT(FCConstants.API_ENDPOINT_PERMISSION_CURRENT, true),
+  PERMISSION_VERIFY(FCConstants.API_ENDPOINT_PERMISSION_VERIFY, true),
+  VERIFY_SIGNALS(FCConstants.API_ENDPOINT_VERIFY_SIGNALS, true),
+  VERIFY_MATCH(FCConstants.API_ENDPOINT_VERIFY_MATCH, true),
+  VERIFY_ACTIVITY(FCConstants.API_ENDPOINT_VERIFY_ACTIVITY, true);
+
+  private final String path;
+  private final boolean readOnly;
+
+  FCApiEndpoint(String path, boolean readOnly) {
+    this.path = path;
+    this.readOnly = readOnly;
+  }
+
+  /** @return path of the endpoint relative to the API base url, without query parameters */
+  public String getPath() {
+    return this.path;
+  }
+
+  /**
+   * @return true if requests to the endpoint don't modify any data, so that they can be sent twice
+   *     and their responses cached
+   */
+  public boolean isReadOnly() {
+    return this.readOnly;
+  }
 }
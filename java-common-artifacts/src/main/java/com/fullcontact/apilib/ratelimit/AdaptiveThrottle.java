@@ -0,0 +1,155 @@
+package com.fullcontact.apilib.ratelimit;
+
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttle driven by the rate limit headers the API returns with every response. It keeps track of
+ * the requests left in the current rate limit window and, once they drop below slowdownRatio of the
+ * limit, spreads the remaining requests evenly over the time left until the window resets. When the
+ * quota is used up, or the server responds with Retry-After, requests are held back until the
+ * window resets or the Retry-After time has passed, instead of being rejected with 429.
+ *
+ * <p>Requests sent since the last response are counted locally, so that concurrent requests don't
+ * all go out before the server has reported the new remaining count.
+ */
+public class AdaptiveThrottle implements RequestThrottle {
+  public static final double DEFAULT_SLOWDOWN_RATIO = 0.2;
+
+  private final double slowdownRatio;
+  private long limit = -1;
+  private long remaining = -1;
+  private long windowNanos = 0;
+  private long resetAtNanos = 0;
+  private long pauseUntilNanos = 0;
+  private long lastSendNanos = 0;
+
+  public AdaptiveThrottle() {
+    this(DEFAULT_SLOWDOWN_RATIO);
+  }
+
+  /**
+   * @param slowdownRatio fraction of the limit left in the window, below which requests are spread
+   *     out evenly over the rest of the window
+   */
+  public AdaptiveThrottle(double slowdownRatio) {
+    if (slowdownRatio < 0 || slowdownRatio > 1) {
+      throw new IllegalArgumentException("slowdownRatio must be between 0 and 1");
+    }
+    this.slowdownRatio = slowdownRatio;
+  }
+
+  /**
+   * Creates a throttle for every API endpoint. Endpoints that share the same path on the server,
+   * and so the same rate limit, share a single throttle.
+   *
+   * @param slowdownRatio see {@link #AdaptiveThrottle(double)}
+   * @return AdaptiveThrottle for each FCApiEndpoint
+   */
+  public static Map<FCApiEndpoint, AdaptiveThrottle> forAllEndpoints(double slowdownRatio) {
+    Map<String, AdaptiveThrottle> throttlesByPath = new HashMap<>();
+    Map<FCApiEndpoint, AdaptiveThrottle> throttles = new EnumMap<>(FCApiEndpoint.class);
+    for (FCApiEndpoint fcApiEndpoint : FCApiEndpoint.values()) {
+      throttles.put(
+          fcApiEndpoint,
+          throttlesByPath.computeIfAbsent(
+              fcApiEndpoint.getPath(), path -> new AdaptiveThrottle(slowdownRatio)));
+    }
+    return Collections.unmodifiableMap(throttles);
+  }
+
+  /**
+   * Updates the throttle with the rate limit headers of a response.
+   *
+   * @param rateLimitHeaders parsed headers, ignored if null
+   * @param statusCode status code of the response
+   */
+  public synchronized void update(RateLimitHeaders rateLimitHeaders, int statusCode) {
+    if (rateLimitHeaders == null) {
+      return;
+    }
+    long now = System.nanoTime();
+    if (rateLimitHeaders.getLimit() != null) {
+      this.limit = rateLimitHeaders.getLimit();
+    }
+    if (rateLimitHeaders.getRemaining() != null && rateLimitHeaders.getResetMillis() != null) {
+      long resetNanos = TimeUnit.MILLISECONDS.toNanos(rateLimitHeaders.getResetMillis());
+      long resetAtNanos = now + resetNanos;
+      boolean sameWindow =
+          this.remaining >= 0
+              && Math.abs(resetAtNanos - this.resetAtNanos) < TimeUnit.SECONDS.toNanos(1);
+      // Responses can arrive out of order, so within a window the lowest count is the most recent
+      this.remaining =
+          sameWindow
+              ? Math.min(this.remaining, rateLimitHeaders.getRemaining())
+              : rateLimitHeaders.getRemaining();
+      this.resetAtNanos = resetAtNanos;
+      this.windowNanos = Math.max(this.windowNanos, resetNanos);
+    }
+    if (rateLimitHeaders.getRetryAfterMillis() != null
+        && (statusCode == 429 || statusCode == 503)) {
+      this.pauseUntilNanos =
+          Math.max(
+              this.pauseUntilNanos,
+              now + TimeUnit.MILLISECONDS.toNanos(rateLimitHeaders.getRetryAfterMillis()));
+    } else if (statusCode == 429 && this.remaining >= 0) {
+      this.remaining = 0;
+    }
+  }
+
+  /**
+   * Reserves a slot for a request based on the last known rate limit state.
+   *
+   * @return time in nanoseconds to wait before the request can be sent
+   */
+  @Override
+  public synchronized long reserve() {
+    long now = System.nanoTime();
+    long sendAt = Math.max(now, this.pauseUntilNanos);
+    if (this.remaining >= 0) {
+      this.rollWindow(sendAt);
+      if (this.remaining == 0 && sendAt < this.resetAtNanos) {
+        sendAt = this.resetAtNanos;
+        this.rollWindow(sendAt);
+      }
+      // Once the quota of the current window is used up, requests count against the next window
+      sendAt = Math.max(sendAt, this.resetAtNanos - this.windowNanos);
+      if (this.remaining > 0 && sendAt < this.resetAtNanos && this.isSlowingDown()) {
+        long spacingNanos = (this.resetAtNanos - sendAt) / this.remaining;
+        sendAt = Math.max(sendAt, this.lastSendNanos + spacingNanos);
+      }
+      if (this.remaining > 0) {
+        this.remaining--;
+      }
+    }
+    this.lastSendNanos = Math.max(this.lastSendNanos, sendAt);
+    return sendAt - now;
+  }
+
+  private boolean isSlowingDown() {
+    return this.limit <= 0 || this.remaining <= this.limit * this.slowdownRatio;
+  }
+
+  /**
+   * Moves to the next rate limit window once the current one has reset. If the window length and
+   * limit are known, the new window starts with the full limit, otherwise the state is unknown
+   * until the next response.
+   */
+  private void rollWindow(long nanos) {
+    if (nanos < this.resetAtNanos) {
+      return;
+    }
+    if (this.windowNanos > 0 && this.limit > 0) {
+      long windows = (nanos - this.resetAtNanos) / this.windowNanos + 1;
+      this.resetAtNanos += windows * this.windowNanos;
+      this.remaining = this.limit;
+    } else {
+      this.remaining = -1;
+    }
+  }
+}
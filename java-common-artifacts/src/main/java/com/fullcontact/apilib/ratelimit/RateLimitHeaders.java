@@ -0,0 +1,97 @@
+package com.fullcontact.apilib.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+/**
+ * Rate limit information returned by the API in response headers. Any of the values can be null if
+ * the corresponding header is missing or malformed.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class RateLimitHeaders {
+  public static final String RATE_LIMIT_LIMIT = "X-Rate-Limit-Limit";
+  public static final String RATE_LIMIT_REMAINING = "X-Rate-Limit-Remaining";
+  public static final String RATE_LIMIT_RESET = "X-Rate-Limit-Reset";
+  public static final String RETRY_AFTER = "Retry-After";
+
+  // Reset values larger than this are epoch seconds rather than seconds until reset
+  private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+  /** Number of requests allowed in the current window */
+  private final Long limit;
+  /** Number of requests left in the current window */
+  private final Long remaining;
+  /** Time in milliseconds until the current window resets */
+  private final Long resetMillis;
+  /** Time in milliseconds the server asked to wait before sending more requests */
+  private final Long retryAfterMillis;
+
+  /**
+   * Parses the rate limit headers of a response.
+   *
+   * @param headerLookup returns the value of a response header by name, or null if it's missing
+   * @return RateLimitHeaders, or null if the response doesn't have any rate limit headers
+   */
+  public static RateLimitHeaders parse(Function<String, String> headerLookup) {
+    Long limit = parseLong(headerLookup.apply(RATE_LIMIT_LIMIT));
+    Long remaining = parseLong(headerLookup.apply(RATE_LIMIT_REMAINING));
+    Long reset = parseLong(headerLookup.apply(RATE_LIMIT_RESET));
+    Long retryAfterMillis = parseRetryAfter(headerLookup.apply(RETRY_AFTER));
+    if (limit == null && remaining == null && reset == null && retryAfterMillis == null) {
+      return null;
+    }
+    Long resetMillis = null;
+    if (reset != null) {
+      resetMillis =
+          reset > EPOCH_SECONDS_THRESHOLD
+              ? Math.max(reset * 1000 - System.currentTimeMillis(), 0)
+              : reset * 1000;
+    }
+    return new RateLimitHeaders(limit, remaining, resetMillis, retryAfterMillis);
+  }
+
+  private static Long parseLong(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      long parsed = (long) Double.parseDouble(value.trim());
+      return parsed >= 0 ? parsed : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Parses a Retry-After header, which is either a number of seconds or an HTTP date.
+   *
+   * @param value header value, can be null
+   * @return time to wait in milliseconds, or null if the value is missing or malformed
+   */
+  public static Long parseRetryAfter(String value) {
+    if (value == null) {
+      return null;
+    }
+    Long seconds = parseLong(value);
+    if (seconds != null) {
+      return seconds * 1000;
+    }
+    try {
+      ZonedDateTime retryAt =
+          ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+      return Math.max(Duration.between(ZonedDateTime.now(), retryAt).toMillis(), 0);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+}
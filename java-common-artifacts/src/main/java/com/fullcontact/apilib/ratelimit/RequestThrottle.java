@@ -0,0 +1,67 @@
+package com.fullcontact.apilib.ratelimit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/** Decides how long a request has to wait locally before it can be sent to the API */
+public interface RequestThrottle {
+
+  /**
+   * Reserves a slot for a single request.
+   *
+   * @return time in nanoseconds the caller has to wait before the request can be sent
+   */
+  long reserve();
+
+  /**
+   * Reserves a slot and invokes the call once it is available. The call is made on the current
+   * thread if the request can be sent right away, otherwise it is scheduled on the scheduler. A
+   * request whose CompletableFuture has failed or was cancelled while it waited is not sent, and
+   * cancelling it once it has been sent cancels the CompletableFuture of the call.
+   *
+   * @param call supplier which sends the request
+   * @param scheduler used to delay the call until the slot is available
+   * @param <T> response type
+   * @return CompletableFuture completed with the result of the call
+   */
+  default <T> CompletableFuture<T> submit(
+      Supplier<CompletableFuture<T>> call, ScheduledExecutorService scheduler) {
+    long waitNanos = this.reserve();
+    if (waitNanos <= 0) {
+      return call.get();
+    }
+    CompletableFuture<T> resultCF = new CompletableFuture<>();
+    scheduler.schedule(
+        () -> {
+          if (resultCF.isDone()) {
+            return;
+          }
+          CompletableFuture<T> callCF;
+          try {
+            callCF = call.get();
+          } catch (RuntimeException e) {
+            resultCF.completeExceptionally(e);
+            return;
+          }
+          callCF.whenComplete(
+              (result, throwable) -> {
+                if (throwable != null) {
+                  resultCF.completeExceptionally(throwable);
+                } else {
+                  resultCF.complete(result);
+                }
+              });
+          resultCF.whenComplete(
+              (result, throwable) -> {
+                if (throwable != null) {
+                  callCF.cancel(true);
+                }
+              });
+        },
+        waitNanos,
+        TimeUnit.NANOSECONDS);
+    return resultCF;
+  }
+}
@@ -0,0 +1,63 @@
+package com.fullcontact.apilib.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client side token bucket rate limiter. The bucket refills at a steady rate of permitsPerSecond
+ * and holds at most burst permits, so short bursts are sent right away and sustained traffic is
+ * spread out evenly. Instead of rejecting requests when the bucket is empty, each request reserves
+ * the next free permit and is scheduled to leave exactly when that permit becomes available.
+ */
+public class TokenBucketRateLimiter implements RequestThrottle {
+  private final double permitsPerSecond;
+  private final int burst;
+  private final double intervalNanos;
+  private double storedPermits;
+  private long nextFreeNanos;
+
+  /**
+   * @param permitsPerSecond steady rate at which permits are issued
+   * @param burst maximum number of permits that can be stored and used at once
+   */
+  public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+    if (permitsPerSecond <= 0 || Double.isNaN(permitsPerSecond)) {
+      throw new IllegalArgumentException("permitsPerSecond must be positive");
+    }
+    if (burst < 1) {
+      throw new IllegalArgumentException("burst must be at least 1");
+    }
+    this.permitsPerSecond = permitsPerSecond;
+    this.burst = burst;
+    this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+    this.storedPermits = burst;
+    this.nextFreeNanos = System.nanoTime();
+  }
+
+  public double getPermitsPerSecond() {
+    return this.permitsPerSecond;
+  }
+
+  public int getBurst() {
+    return this.burst;
+  }
+
+  /**
+   * Reserves a single permit.
+   *
+   * @return time in nanoseconds the caller has to wait before the reserved permit can be used
+   */
+  @Override
+  public synchronized long reserve() {
+    long now = System.nanoTime();
+    if (now > this.nextFreeNanos) {
+      this.storedPermits =
+          Math.min(
+              this.burst, this.storedPermits + (now - this.nextFreeNanos) / this.intervalNanos);
+      this.nextFreeNanos = now;
+    }
+    double storedPermitsToSpend = Math.min(1, this.storedPermits);
+    this.storedPermits -= storedPermitsToSpend;
+    this.nextFreeNanos += (long) ((1 - storedPermitsToSpend) * this.intervalNanos);
+    return Math.max(this.nextFreeNanos - now, 0);
+  }
+}
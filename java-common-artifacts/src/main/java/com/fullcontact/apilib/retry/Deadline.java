@@ -0,0 +1,55 @@
+package com.fullcontact.apilib.retry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time by which a request must be complete, covering the time it waits for rate limiters,
+ * every attempt and the delays between retries.
+ */
+public class Deadline {
+  private static final Deadline NONE = new Deadline(0, 0);
+
+  private final long timeoutMillis;
+  private final long deadlineNanos;
+
+  private Deadline(long timeoutMillis, long deadlineNanos) {
+    this.timeoutMillis = timeoutMillis;
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  /**
+   * @param timeoutMillis time from now until the deadline, 0 for no deadline
+   * @return Deadline timeoutMillis from now
+   */
+  public static Deadline after(long timeoutMillis) {
+    return timeoutMillis > 0
+        ? new Deadline(
+            timeoutMillis, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis))
+        : NONE;
+  }
+
+  /** @return true if there is a deadline */
+  public boolean isSet() {
+    return this.timeoutMillis > 0;
+  }
+
+  /** @return time from the start until the deadline, 0 if there is no deadline */
+  public long getTimeoutMillis() {
+    return this.timeoutMillis;
+  }
+
+  /** @return time left until the deadline, Long.MAX_VALUE if there is no deadline */
+  public long remainingMillis() {
+    return this.isSet()
+        ? Math.max(TimeUnit.NANOSECONDS.toMillis(this.deadlineNanos - System.nanoTime()), 0)
+        : Long.MAX_VALUE;
+  }
+
+  /**
+   * @param delayMillis delay before a retry
+   * @return true if a retry after the delay would be sent before the deadline
+   */
+  public boolean allowsRetryAfter(long delayMillis) {
+    return delayMillis < this.remainingMillis();
+  }
+}
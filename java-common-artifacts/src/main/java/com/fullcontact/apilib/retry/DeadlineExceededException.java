@@ -0,0 +1,34 @@
+package com.fullcontact.apilib.retry;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+
+/** Thrown when a request, with all its retries, doesn't complete before its deadline */
+public class DeadlineExceededException extends FullContactException {
+
+  private static final long serialVersionUID = -3092816428837120548L;
+
+  private final FCApiEndpoint fcApiEndpoint;
+  private final long deadlineMillis;
+
+  public DeadlineExceededException(FCApiEndpoint fcApiEndpoint, long deadlineMillis) {
+    super(
+        "Request to "
+            + fcApiEndpoint
+            + " didn't complete within its deadline of "
+            + deadlineMillis
+            + "ms");
+    this.fcApiEndpoint = fcApiEndpoint;
+    this.deadlineMillis = deadlineMillis;
+  }
+
+  /** @return endpoint of the request */
+  public FCApiEndpoint getFcApiEndpoint() {
+    return this.fcApiEndpoint;
+  }
+
+  /** @return deadline of the request, in milliseconds from the time it was sent */
+  public long getDeadlineMillis() {
+    return this.deadlineMillis;
+  }
+}
@@ -0,0 +1,278 @@
+package com.fullcontact.apilib.retry;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RetryTimer for large numbers of pending tasks, like the retries of a burst of requests rejected
+ * with 429. A ScheduledThreadPoolExecutor keeps its tasks in a heap under a single lock, so each
+ * schedule and cancel costs O(log n) while holding it. This timer puts each task in a bucket of a
+ * wheel instead, the bucket of the tick at which it's due, so scheduling and cancelling are O(1)
+ * and only touch lock-free queues. A worker thread advances the wheel every tick and hands the
+ * tasks which are due to the task executor, so tasks run up to a tick late and never on the worker
+ * itself.
+ *
+ * <p>The worker thread is started with the first task and stops once no task is pending, so an idle
+ * timer holds no thread.
+ */
+public class HashedWheelTimer implements RetryTimer, AutoCloseable {
+  public static final long DEFAULT_TICK_MILLIS = 10;
+  public static final int DEFAULT_WHEEL_SIZE = 512;
+
+  // Tasks moved into the wheel per tick, so that the worker keeps up with the ticks
+  private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+  private static final int IDLE = 0;
+  private static final int RUNNING = 1;
+  private static final int CLOSED = 2;
+  private static final AtomicIntegerFieldUpdater<WheelTimeout> TIMEOUT_STATE =
+      AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final Executor taskExecutor;
+  private final Queue<WheelTimeout> newTimeouts = new ConcurrentLinkedQueue<>();
+  private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger state = new AtomicInteger(IDLE);
+  private final AtomicLong pendingCount = new AtomicLong();
+  private final long startNanos = System.nanoTime();
+  private volatile Thread worker;
+  // Only used by the worker thread, handed from one worker to the next through state
+  private long tick;
+
+  /**
+   * @param tickMillis duration of a tick, tasks run up to one tick after their delay
+   * @param taskExecutor executor running the tasks which are due
+   */
+  public HashedWheelTimer(long tickMillis, Executor taskExecutor) {
+    this(tickMillis, DEFAULT_WHEEL_SIZE, taskExecutor);
+  }
+
+  /**
+   * @param tickMillis duration of a tick, tasks run up to one tick after their delay
+   * @param wheelSize number of buckets, rounded up to a power of two. Tasks due more than a turn of
+   *     the wheel later stay in their bucket for several turns
+   * @param taskExecutor executor running the tasks which are due
+   */
+  public HashedWheelTimer(long tickMillis, int wheelSize, Executor taskExecutor) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+    }
+    if (wheelSize <= 0 || wheelSize > 1 << 30) {
+      throw new IllegalArgumentException("wheelSize must be between 1 and 2^30: " + wheelSize);
+    }
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    int size = Integer.highestOneBit(wheelSize);
+    this.wheel = new Bucket[size < wheelSize ? size << 1 : size];
+    for (int i = 0; i < this.wheel.length; i++) {
+      this.wheel[i] = new Bucket();
+    }
+    this.mask = this.wheel.length - 1;
+    this.taskExecutor = taskExecutor;
+  }
+
+  @Override
+  public Timeout schedule(Runnable task, long delayMillis) {
+    if (this.state.get() == CLOSED) {
+      throw new RejectedExecutionException("HashedWheelTimer is closed");
+    }
+    WheelTimeout timeout =
+        new WheelTimeout(
+            task,
+            System.nanoTime()
+                - this.startNanos
+                + Math.min(
+                    TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0)), Long.MAX_VALUE / 2));
+    this.pendingCount.incrementAndGet();
+    this.newTimeouts.add(timeout);
+    if (this.state.get() == IDLE && this.state.compareAndSet(IDLE, RUNNING)) {
+      this.startWorker();
+    }
+    return timeout;
+  }
+
+  /** @return number of tasks scheduled which haven't run or been cancelled yet */
+  public long getPendingCount() {
+    return this.pendingCount.get();
+  }
+
+  /** Stops the timer, the tasks still pending are not run */
+  @Override
+  public void close() {
+    if (this.state.getAndSet(CLOSED) != CLOSED) {
+      Thread currentWorker = this.worker;
+      if (currentWorker != null) {
+        currentWorker.interrupt();
+      }
+    }
+  }
+
+  private void startWorker() {
+    Thread thread = new Thread(this::runWorker, "fullcontact-retry-timer");
+    thread.setDaemon(true);
+    this.worker = thread;
+    thread.start();
+  }
+
+  private void runWorker() {
+    // The wheel is empty while no worker runs, so the ticks missed since can be skipped
+    this.tick = Math.max(this.tick, (System.nanoTime() - this.startNanos) / this.tickNanos);
+    while (true) {
+      long tickDeadline = this.waitForNextTick();
+      if (tickDeadline < 0) {
+        return;
+      }
+      this.removeCancelledTimeouts();
+      this.transferNewTimeouts();
+      this.wheel[(int) (this.tick & this.mask)].expireTimeouts(tickDeadline);
+      this.tick++;
+      if (this.pendingCount.get() == 0 && this.state.compareAndSet(RUNNING, IDLE)) {
+        // A task scheduled after the check above may have found the timer still running
+        if (this.pendingCount.get() == 0 || !this.state.compareAndSet(IDLE, RUNNING)) {
+          return;
+        }
+      }
+    }
+  }
+
+  /** @return time of the end of the tick, relative to the start of the timer, -1 once closed */
+  private long waitForNextTick() {
+    long tickDeadline = this.tickNanos * (this.tick + 1);
+    while (this.state.get() != CLOSED) {
+      long currentNanos = System.nanoTime() - this.startNanos;
+      long sleepMillis = TimeUnit.NANOSECONDS.toMillis(tickDeadline - currentNanos + 999_999);
+      if (sleepMillis <= 0) {
+        return currentNanos;
+      }
+      try {
+        Thread.sleep(sleepMillis);
+      } catch (InterruptedException e) {
+        // Interrupted by close()
+      }
+    }
+    return -1;
+  }
+
+  private void removeCancelledTimeouts() {
+    WheelTimeout timeout;
+    while ((timeout = this.cancelledTimeouts.poll()) != null) {
+      // Timeouts cancelled before reaching the wheel are dropped by transferNewTimeouts
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  private void transferNewTimeouts() {
+    for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+      WheelTimeout timeout = this.newTimeouts.poll();
+      if (timeout == null) {
+        return;
+      }
+      if (timeout.state == WheelTimeout.CANCELLED) {
+        this.pendingCount.decrementAndGet();
+        continue;
+      }
+      long dueTick = timeout.deadlineNanos / this.tickNanos;
+      timeout.remainingRounds = (dueTick - this.tick) / this.wheel.length;
+      // Timeouts already due go in the current bucket
+      long bucketTick = Math.max(dueTick, this.tick);
+      this.wheel[(int) (bucketTick & this.mask)].add(timeout);
+    }
+  }
+
+  private class WheelTimeout implements Timeout {
+    private static final int INIT = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final Runnable task;
+    private final long deadlineNanos;
+    // Not private, for TIMEOUT_STATE
+    volatile int state = INIT;
+    private long remainingRounds;
+    private WheelTimeout next;
+    private WheelTimeout prev;
+    private Bucket bucket;
+
+    WheelTimeout(Runnable task, long deadlineNanos) {
+      this.task = task;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public boolean cancel() {
+      if (!TIMEOUT_STATE.compareAndSet(this, INIT, CANCELLED)) {
+        return false;
+      }
+      cancelledTimeouts.add(this);
+      return true;
+    }
+
+    void expire() {
+      if (TIMEOUT_STATE.compareAndSet(this, INIT, EXPIRED)) {
+        try {
+          taskExecutor.execute(this.task);
+        } catch (RejectedExecutionException e) {
+          // The executor is shut down, like the client it belongs to
+        }
+      }
+    }
+  }
+
+  /** Doubly linked list of the timeouts due at the ticks of one slot of the wheel */
+  private class Bucket {
+    private WheelTimeout head;
+    private WheelTimeout tail;
+
+    void add(WheelTimeout timeout) {
+      timeout.bucket = this;
+      if (this.head == null) {
+        this.head = timeout;
+      } else {
+        this.tail.next = timeout;
+        timeout.prev = this.tail;
+      }
+      this.tail = timeout;
+    }
+
+    void expireTimeouts(long tickDeadline) {
+      WheelTimeout timeout = this.head;
+      while (timeout != null) {
+        WheelTimeout next = timeout.next;
+        if (timeout.state == WheelTimeout.CANCELLED) {
+          this.remove(timeout);
+        } else if (timeout.remainingRounds <= 0 && timeout.deadlineNanos <= tickDeadline) {
+          this.remove(timeout);
+          timeout.expire();
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+
+    void remove(WheelTimeout timeout) {
+      if (timeout.prev != null) {
+        timeout.prev.next = timeout.next;
+      } else {
+        this.head = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      } else {
+        this.tail = timeout.prev;
+      }
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.bucket = null;
+      pendingCount.decrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.fullcontact.apilib.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Computes retry delays using decorrelated jitter: each delay is picked at random between the base
+ * delay and three times the previous delay, capped at maxDelayMillis. Compared to plain exponential
+ * backoff, requests which failed at the same time don't all retry at the same time again.
+ */
+public final class RetryBackoff {
+  public static final long MIN_BASE_DELAY_MILLIS = 500;
+  /** Cap of the delay relative to the base delay, same as the fifth retry of exponential backoff */
+  public static final int MAX_DELAY_MULTIPLIER = 16;
+
+  private RetryBackoff() {}
+
+  /**
+   * Computes the delay before the next retry. If the server asked to wait with Retry-After, that
+   * time is honoured and a random jitter of up to baseDelayMillis is added on top of it, so that
+   * all waiting requests don't come back at exactly the same instant.
+   *
+   * @param baseDelayMillis minimum delay
+   * @param maxDelayMillis maximum delay, not applied to Retry-After
+   * @param previousDelayMillis delay used before the previous retry, 0 for the first retry
+   * @param retryAfterMillis delay requested by the server through Retry-After, or null
+   * @return delay in milliseconds
+   */
+  public static long decorrelatedJitter(
+      long baseDelayMillis, long maxDelayMillis, long previousDelayMillis, Long retryAfterMillis) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (retryAfterMillis != null) {
+      return retryAfterMillis + random.nextLong(baseDelayMillis + 1);
+    }
+    long upperBound = Math.max(baseDelayMillis, previousDelayMillis) * 3;
+    return Math.min(
+        maxDelayMillis, baseDelayMillis + random.nextLong(upperBound - baseDelayMillis + 1));
+  }
+}
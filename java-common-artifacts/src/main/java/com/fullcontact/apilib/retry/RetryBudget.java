@@ -0,0 +1,100 @@
+package com.fullcontact.apilib.retry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client wide limit on the number of retries, relative to the number of requests sent over a
+ * sliding time window. Within the window, retries are allowed up to retryRatio of the requests,
+ * plus minRetriesPerSecond so that clients with little traffic can still retry. When the API is
+ * down, this keeps retries from multiplying the load on it, as most failed requests are returned
+ * right away instead of being retried.
+ */
+public class RetryBudget {
+  public static final double DEFAULT_RETRY_RATIO = 0.1;
+  public static final int DEFAULT_MIN_RETRIES_PER_SECOND = 10;
+  public static final long DEFAULT_WINDOW_MILLIS = 10_000;
+  private static final int BUCKETS = 10;
+
+  private final double retryRatio;
+  private final int minRetriesPerSecond;
+  private final long windowMillis;
+  private final long bucketNanos;
+  private final long[] bucketIds = new long[BUCKETS];
+  private final long[] requests = new long[BUCKETS];
+  private final long[] retries = new long[BUCKETS];
+
+  public RetryBudget() {
+    this(DEFAULT_RETRY_RATIO, DEFAULT_MIN_RETRIES_PER_SECOND, DEFAULT_WINDOW_MILLIS);
+  }
+
+  /**
+   * @param retryRatio fraction of the requests in the window which can be retried
+   * @param minRetriesPerSecond retries allowed per second of the window regardless of traffic
+   * @param windowMillis length of the sliding window in milliseconds
+   */
+  public RetryBudget(double retryRatio, int minRetriesPerSecond, long windowMillis) {
+    if (retryRatio < 0 || Double.isNaN(retryRatio) || Double.isInfinite(retryRatio)) {
+      throw new IllegalArgumentException("retryRatio must be a positive number");
+    }
+    if (minRetriesPerSecond < 0) {
+      throw new IllegalArgumentException("minRetriesPerSecond can't be negative");
+    }
+    if (windowMillis < BUCKETS) {
+      throw new IllegalArgumentException("windowMillis must be at least " + BUCKETS);
+    }
+    this.retryRatio = retryRatio;
+    this.minRetriesPerSecond = minRetriesPerSecond;
+    this.windowMillis = windowMillis;
+    this.bucketNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis) / BUCKETS;
+    long staleBucketId = System.nanoTime() / this.bucketNanos - BUCKETS;
+    for (int i = 0; i < BUCKETS; i++) {
+      this.bucketIds[i] = staleBucketId;
+    }
+  }
+
+  public double getRetryRatio() {
+    return this.retryRatio;
+  }
+
+  /** Records a request sent for the first time, which adds to the retries allowed */
+  public synchronized void recordRequest() {
+    this.requests[this.currentBucket()]++;
+  }
+
+  /**
+   * Takes a retry from the budget, if one is left.
+   *
+   * @return true if the request can be retried
+   */
+  public synchronized boolean tryAcquireRetry() {
+    int currentBucket = this.currentBucket();
+    long currentBucketId = this.bucketIds[currentBucket];
+    long requestCount = 0;
+    long retryCount = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      if (currentBucketId - this.bucketIds[i] < BUCKETS) {
+        requestCount += this.requests[i];
+        retryCount += this.retries[i];
+      }
+    }
+    double allowedRetries =
+        this.minRetriesPerSecond * this.windowMillis / 1000.0 + this.retryRatio * requestCount;
+    if (retryCount + 1 > allowedRetries) {
+      return false;
+    }
+    this.retries[currentBucket]++;
+    return true;
+  }
+
+  /** Returns the bucket for the current time, resetting it if it was last used a window ago */
+  private int currentBucket() {
+    long bucketId = System.nanoTime() / this.bucketNanos;
+    int index = (int) Math.floorMod(bucketId, (long) BUCKETS);
+    if (this.bucketIds[index] != bucketId) {
+      this.bucketIds[index] = bucketId;
+      this.requests[index] = 0;
+      this.retries[index] = 0;
+    }
+    return index;
+  }
+}
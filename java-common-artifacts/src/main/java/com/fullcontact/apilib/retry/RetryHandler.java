@@ -23,4 +23,73 @@ public interface RetryHandler {
    * @return int: Delay time in milliseconds
    */
   int getRetryDelayMillis();
+
+  /**
+   * Specifies Delay time in milliseconds before a retry. By default the delay is picked with
+   * decorrelated jitter, starting from getRetryDelayMillis() (at least 500ms), and the time asked
+   * for by the server with Retry-After is honoured.
+   *
+   * @param retryAttempt number of the retry to be made, starting from 1
+   * @param previousDelayMillis delay used before the previous retry, 0 for the first retry
+   * @param retryAfterMillis delay requested by the server through Retry-After, null if not present
+   * @return long: Delay time in milliseconds
+   */
+  default long getRetryDelayMillis(
+      int retryAttempt, long previousDelayMillis, Long retryAfterMillis) {
+    long baseDelayMillis = Math.max(getRetryDelayMillis(), RetryBackoff.MIN_BASE_DELAY_MILLIS);
+    return RetryBackoff.decorrelatedJitter(
+        baseDelayMillis,
+        baseDelayMillis * RetryBackoff.MAX_DELAY_MULTIPLIER,
+        previousDelayMillis,
+        retryAfterMillis);
+  }
+
+  /**
+   * Specifies the overall time a request can take, including the time it waits for rate limiters,
+   * every retry attempt and the delays between them. Once it has passed, the request fails with a
+   * {@link DeadlineExceededException}, and retries which would be sent after it are not made.
+   *
+   * @return long: Deadline in milliseconds, 0 to use the deadline of the FullContact client
+   */
+  default long getDeadlineMillis() {
+    return 0;
+  }
+
+  /**
+   * Returns a RetryHandler which retries like this one, with the given deadline for each request.
+   *
+   * @param deadlineMillis overall time a request can take, including retries
+   * @return RetryHandler with the deadline
+   */
+  default RetryHandler withDeadline(long deadlineMillis) {
+    RetryHandler retryHandler = this;
+    return new RetryHandler() {
+      @Override
+      public boolean shouldRetry(int responseCode) {
+        return retryHandler.shouldRetry(responseCode);
+      }
+
+      @Override
+      public int getRetryAttempts() {
+        return retryHandler.getRetryAttempts();
+      }
+
+      @Override
+      public int getRetryDelayMillis() {
+        return retryHandler.getRetryDelayMillis();
+      }
+
+      @Override
+      public long getRetryDelayMillis(
+          int retryAttempt, long previousDelayMillis, Long retryAfterMillis) {
+        return retryHandler.getRetryDelayMillis(
+            retryAttempt, previousDelayMillis, retryAfterMillis);
+      }
+
+      @Override
+      public long getDeadlineMillis() {
+        return deadlineMillis;
+      }
+    };
+  }
 }
@@ -0,0 +1,39 @@
+package com.fullcontact.apilib.retry;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the delayed tasks of the FullContact client: retries once their backoff delay is over, and
+ * the timers which fail requests at their deadline. Either the scheduler of the client, or a {@link
+ * HashedWheelTimer} when many of these tasks are pending at the same time.
+ */
+@FunctionalInterface
+public interface RetryTimer {
+  /**
+   * @param task task to run
+   * @param delayMillis delay before the task is run
+   * @return Timeout which cancels the task
+   */
+  Timeout schedule(Runnable task, long delayMillis);
+
+  /** A task waiting for its delay to be over */
+  @FunctionalInterface
+  interface Timeout {
+    /** @return true if the task was cancelled, false if it has run or was cancelled already */
+    boolean cancel();
+  }
+
+  /**
+   * @param executor scheduler running the tasks
+   * @return RetryTimer scheduling tasks with the executor
+   */
+  static RetryTimer of(ScheduledExecutorService executor) {
+    return (task, delayMillis) -> {
+      ScheduledFuture<?> scheduledFuture =
+          executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+      return () -> scheduledFuture.cancel(false);
+    };
+  }
+}
@@ -0,0 +1,190 @@
+package com.fullcontact.apilib.transport;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.cache.ResponseCaching;
+import com.fullcontact.apilib.coalescing.RequestCoalescer;
+import com.fullcontact.apilib.models.Response.FCResponse;
+import com.fullcontact.apilib.models.Response.FieldMask;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.retry.RetryHandler;
+import com.google.gson.Gson;
+import lombok.Builder;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * Executes the API calls of a client, whatever their endpoint, in these steps:
+ *
+ * <ol>
+ *   <li>the request is serialized to JSON
+ *   <li>the {@link ResponseCaching} answers it if it can
+ *   <li>enrich requests are coalesced with equal requests in flight, if there is a RequestCoalescer
+ *   <li>the HTTP request built by the requestFactory of the client is sent and retried through the
+ *       {@link RequestPipeline}
+ *   <li>the response is parsed by the {@link ResponseParser} of the client, on the responseExecutor
+ *       if there is one
+ * </ol>
+ *
+ * <p>The CompletableFuture returned is completed on the callbackExecutor if there is one, and
+ * cancelling it cancels the request in the pipeline unless it was coalesced.
+ *
+ * @param <Q> type of the requests sent by the pipeline
+ * @param <R> type of the responses of the pipeline
+ */
+public class RequestExecutor<Q, R> {
+  private static final Set<FCApiEndpoint> COALESCED_ENDPOINTS =
+      EnumSet.of(FCApiEndpoint.PERSON_ENRICH, FCApiEndpoint.COMPANY_ENRICH);
+
+  private final RequestPipeline<Q, R> requestPipeline;
+  private final BiFunction<FCApiEndpoint, String, Q> requestFactory;
+  private final ResponseParser<R> responseParser;
+  private final Gson gson;
+  private final ResponseCaching responseCaching;
+  private final RequestCoalescer requestCoalescer;
+  private final FieldMask personFieldMask;
+  private final Executor responseExecutor;
+  private final Executor callbackExecutor;
+
+  /** Parses the responses of the pipeline into response classes */
+  @FunctionalInterface
+  public interface ResponseParser<R> {
+    <T extends FCResponse> T parse(R response, Class<T> responseClass);
+  }
+
+  /**
+   * @param requestPipeline sends the requests and retries them
+   * @param requestFactory builds the request to an endpoint with a body serialized to JSON
+   * @param responseParser parses the responses
+   * @param gson Gson serializing the requests
+   * @param responseCaching caches of the client, none if null
+   * @param requestCoalescer coalesces equal enrich requests in flight, null to not coalesce them
+   * @param personFieldMask fields of Person Enrich responses the client decodes, null for all of
+   *     them
+   * @param responseExecutor executor used to parse responses, null to parse them on the thread
+   *     which completes the request
+   * @param callbackExecutor executor used to complete the CompletableFutures returned, null to
+   *     complete them on the thread which parses the response
+   */
+  @Builder
+  public RequestExecutor(
+      RequestPipeline<Q, R> requestPipeline,
+      BiFunction<FCApiEndpoint, String, Q> requestFactory,
+      ResponseParser<R> responseParser,
+      Gson gson,
+      ResponseCaching responseCaching,
+      RequestCoalescer requestCoalescer,
+      FieldMask personFieldMask,
+      Executor responseExecutor,
+      Executor callbackExecutor) {
+    this.requestPipeline = requestPipeline;
+    this.requestFactory = requestFactory;
+    this.responseParser = responseParser;
+    this.gson = gson != null ? gson : new Gson();
+    this.responseCaching =
+        responseCaching != null ? responseCaching : new ResponseCaching(null, null, null);
+    this.requestCoalescer = requestCoalescer;
+    this.personFieldMask = personFieldMask;
+    this.responseExecutor = responseExecutor;
+    this.callbackExecutor = callbackExecutor;
+  }
+
+  /**
+   * Sends the request to the endpoint, retrying it as the RetryHandler asks, and parses its
+   * response.
+   *
+   * @param fcApiEndpoint FullContact API Endpoint the request is sent to
+   * @param request request serialized to JSON, or sent as it is if it is a String
+   * @param responseClass response class to parse the response into
+   * @param retryHandler RetryHandler of the request
+   * @param <T> response type
+   * @return CompletableFuture with the response
+   * @throws FullContactException exception if the request can't be sent
+   */
+  public <T extends FCResponse> CompletableFuture<T> execute(
+      FCApiEndpoint fcApiEndpoint,
+      Object request,
+      Class<T> responseClass,
+      RetryHandler retryHandler)
+      throws FullContactException {
+    String body = request instanceof String ? (String) request : this.gson.toJson(request);
+    AtomicReference<CompletableFuture<R>> sentCF = new AtomicReference<>();
+    RequestCoalescer.Call<T> call =
+        () -> {
+          CompletableFuture<R> responseCF =
+              this.requestPipeline.execute(
+                  this.requestFactory.apply(fcApiEndpoint, body), retryHandler, fcApiEndpoint);
+          sentCF.set(responseCF);
+          return this.parseResponse(responseCF, responseClass);
+        };
+    boolean coalesced =
+        this.requestCoalescer != null && COALESCED_ENDPOINTS.contains(fcApiEndpoint);
+    CompletableFuture<T> resultCF =
+        this.responseCaching.cached(
+            fcApiEndpoint,
+            // Responses decoded with a field mask are cached apart from complete ones
+            fcApiEndpoint == FCApiEndpoint.PERSON_ENRICH && this.personFieldMask != null
+                ? body + "#" + this.personFieldMask
+                : body,
+            responseClass,
+            coalesced ? () -> this.requestCoalescer.coalesce(fcApiEndpoint, request, call) : call,
+            this::completeOnCallbackExecutor);
+    // Cancelling the returned CompletableFuture, like a blocking caller does when it's interrupted,
+    // cancels the request in the pipeline. A coalesced request goes on for the other callers.
+    CompletableFuture<R> responseCF = sentCF.get();
+    if (responseCF != null && !coalesced) {
+      resultCF.whenComplete(
+          (response, throwable) -> {
+            if (resultCF.isCancelled()) {
+              responseCF.cancel(true);
+            }
+          });
+    }
+    return resultCF;
+  }
+
+  /**
+   * Parses the response, on the responseExecutor if one is provided, otherwise on the thread which
+   * completes the request.
+   */
+  private <T extends FCResponse> CompletableFuture<T> parseResponse(
+      CompletableFuture<R> responseCF, Class<T> responseClass) {
+    return this.responseExecutor == null
+        ? responseCF.thenApply(response -> this.responseParser.parse(response, responseClass))
+        : responseCF.thenApplyAsync(
+            response -> this.responseParser.parse(response, responseClass), this.responseExecutor);
+  }
+
+  /**
+   * Completes the CompletableFuture handed to the caller on the callbackExecutor, if one is
+   * provided, so that the callbacks of the caller don't run on the threads of the HTTP client.
+   */
+  private <T> CompletableFuture<T> completeOnCallbackExecutor(CompletableFuture<T> responseCF) {
+    if (this.callbackExecutor == null) {
+      return responseCF;
+    }
+    CompletableFuture<T> callbackCF = new CompletableFuture<>();
+    responseCF.whenComplete(
+        (response, throwable) -> {
+          Runnable complete =
+              () -> {
+                if (throwable != null) {
+                  callbackCF.completeExceptionally(throwable);
+                } else {
+                  callbackCF.complete(response);
+                }
+              };
+          try {
+            this.callbackExecutor.execute(complete);
+          } catch (RejectedExecutionException e) {
+            complete.run();
+          }
+        });
+    return callbackCF;
+  }
+}
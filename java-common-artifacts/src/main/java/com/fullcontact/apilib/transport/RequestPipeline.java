@@ -0,0 +1,324 @@
+package com.fullcontact.apilib.transport;
+
+import com.fullcontact.apilib.circuitbreaker.CircuitBreaker;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreakerOpenException;
+import com.fullcontact.apilib.hedging.RequestHedger;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.ratelimit.AdaptiveThrottle;
+import com.fullcontact.apilib.ratelimit.RateLimitHeaders;
+import com.fullcontact.apilib.ratelimit.TokenBucketRateLimiter;
+import com.fullcontact.apilib.retry.Deadline;
+import com.fullcontact.apilib.retry.DeadlineExceededException;
+import com.fullcontact.apilib.retry.RetryBudget;
+import com.fullcontact.apilib.retry.RetryHandler;
+import com.fullcontact.apilib.retry.RetryTimer;
+import lombok.Builder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Sends requests to the FullContact API through the stages shared by every client, whatever its
+ * {@link Transport}. Each attempt goes through these stages of its endpoint, from the outside in:
+ *
+ * <ol>
+ *   <li>the AdaptiveThrottle, which spaces requests out while the API is rate limiting them
+ *   <li>the TokenBucketRateLimiter
+ *   <li>the CircuitBreaker, which fails the attempt with a {@link CircuitBreakerOpenException}
+ *       while it's open
+ *   <li>the RequestHedger, which sends a second request if the first one is slow
+ *   <li>the Transport, whose responses update the AdaptiveThrottle
+ * </ol>
+ *
+ * <p>{@link #execute} then retries attempts as the RetryHandler of the request asks, within the
+ * RetryBudget and the Deadline of the request.
+ *
+ * @param <Q> type of the requests sent
+ * @param <R> type of the responses
+ */
+public class RequestPipeline<Q, R> {
+  private final Transport<Q, R> transport;
+  private final Map<FCApiEndpoint, TokenBucketRateLimiter> rateLimiters;
+  private final Map<FCApiEndpoint, AdaptiveThrottle> adaptiveThrottles;
+  private final Map<FCApiEndpoint, CircuitBreaker> circuitBreakers;
+  private final Map<FCApiEndpoint, RequestHedger> requestHedgers;
+  private final ScheduledExecutorService executor;
+  private final RetryBudget retryBudget;
+  private final RetryTimer retryTimer;
+  private final long deadlineMillis;
+
+  /**
+   * @param transport sends each attempt
+   * @param rateLimiters rate limiters of the endpoints which have one
+   * @param adaptiveThrottles adaptive throttles of the endpoints which have one
+   * @param circuitBreakers circuit breakers of the endpoints which have one
+   * @param requestHedgers request hedgers of the endpoints which have one
+   * @param executor scheduler used by the rate limiters, throttles and hedgers
+   * @param retryBudget budget shared by the retries of all requests, the default one if null
+   * @param retryTimer schedules retries and deadlines, the executor if null
+   * @param deadlineMillis default deadline of requests, 0 for no deadline
+   */
+  @Builder
+  public RequestPipeline(
+      Transport<Q, R> transport,
+      Map<FCApiEndpoint, TokenBucketRateLimiter> rateLimiters,
+      Map<FCApiEndpoint, AdaptiveThrottle> adaptiveThrottles,
+      Map<FCApiEndpoint, CircuitBreaker> circuitBreakers,
+      Map<FCApiEndpoint, RequestHedger> requestHedgers,
+      ScheduledExecutorService executor,
+      RetryBudget retryBudget,
+      RetryTimer retryTimer,
+      long deadlineMillis) {
+    this.transport = transport;
+    this.rateLimiters = copyOf(rateLimiters);
+    this.adaptiveThrottles = copyOf(adaptiveThrottles);
+    this.circuitBreakers = copyOf(circuitBreakers);
+    this.requestHedgers = copyOf(requestHedgers);
+    this.executor = executor;
+    this.retryBudget = retryBudget != null ? retryBudget : new RetryBudget();
+    this.retryTimer = retryTimer != null ? retryTimer : RetryTimer.of(executor);
+    this.deadlineMillis = deadlineMillis;
+  }
+
+  private static <T> Map<FCApiEndpoint, T> copyOf(Map<FCApiEndpoint, T> stages) {
+    Map<FCApiEndpoint, T> copy = new EnumMap<>(FCApiEndpoint.class);
+    if (stages != null) {
+      copy.putAll(stages);
+    }
+    return copy;
+  }
+
+  /**
+   * @param transport transport of the new pipeline
+   * @param <S> type of the responses of the transport
+   * @return RequestPipeline with the same stages, sending its attempts with the transport
+   */
+  public <S> RequestPipeline<Q, S> withTransport(Transport<Q, S> transport) {
+    return new RequestPipeline<>(
+        transport,
+        this.rateLimiters,
+        this.adaptiveThrottles,
+        this.circuitBreakers,
+        this.requestHedgers,
+        this.executor,
+        this.retryBudget,
+        this.retryTimer,
+        this.deadlineMillis);
+  }
+
+  /** @return Transport sending the attempts */
+  public Transport<Q, R> getTransport() {
+    return this.transport;
+  }
+
+  /**
+   * Sends the request once through the stages of the endpoint, without retrying it.
+   *
+   * @param request request to send
+   * @param fcApiEndpoint FullContact API Endpoint the request is sent to
+   * @return CompletableFuture with the response
+   */
+  public CompletableFuture<R> send(Q request, FCApiEndpoint fcApiEndpoint) {
+    AdaptiveThrottle adaptiveThrottle = this.adaptiveThrottles.get(fcApiEndpoint);
+    Supplier<CompletableFuture<R>> transportCall =
+        adaptiveThrottle == null
+            ? () -> this.transport.send(request, fcApiEndpoint)
+            : () -> {
+              CompletableFuture<R> responseCF = this.transport.send(request, fcApiEndpoint);
+              // The response updates the throttle on the side, so that the hedger gets the future
+              // of the transport itself and its cancellation reaches the HTTP client
+              responseCF.whenComplete(
+                  (response, throwable) -> {
+                    if (response != null) {
+                      adaptiveThrottle.update(
+                          RateLimitHeaders.parse(name -> this.transport.header(response, name)),
+                          this.transport.statusCode(response));
+                    }
+                  });
+              return responseCF;
+            };
+    RequestHedger requestHedger = this.requestHedgers.get(fcApiEndpoint);
+    Supplier<CompletableFuture<R>> hedgedCall =
+        requestHedger == null
+            ? transportCall
+            : () -> requestHedger.execute(transportCall, this.transport::discard, this.executor);
+    CircuitBreaker circuitBreaker = this.circuitBreakers.get(fcApiEndpoint);
+    Supplier<CompletableFuture<R>> call =
+        circuitBreaker == null
+            ? hedgedCall
+            : () -> circuitBreaker.execute(hedgedCall, this.transport::statusCode);
+    TokenBucketRateLimiter rateLimiter = this.rateLimiters.get(fcApiEndpoint);
+    Supplier<CompletableFuture<R>> rateLimitedCall =
+        rateLimiter == null ? call : () -> rateLimiter.submit(call, this.executor);
+    return adaptiveThrottle == null
+        ? rateLimitedCall.get()
+        : adaptiveThrottle.submit(rateLimitedCall, this.executor);
+  }
+
+  /**
+   * Sends the request through the stages of the endpoint, and retries it as the RetryHandler asks.
+   *
+   * @param request request to send
+   * @param retryHandler RetryHandler of the request
+   * @param fcApiEndpoint FullContact API Endpoint the request is sent to
+   * @return CompletableFuture with the last response
+   */
+  public CompletableFuture<R> execute(
+      Q request, RetryHandler retryHandler, FCApiEndpoint fcApiEndpoint) {
+    CompletableFuture<R> responseCF = new CompletableFuture<>();
+    this.execute(
+        request, retryHandler, this.send(request, fcApiEndpoint), responseCF, fcApiEndpoint);
+    return responseCF;
+  }
+
+  /**
+   * Retries the request, whose first attempt has been sent already, as the RetryHandler asks, and
+   * completes responseCF with the last response. Retries are limited by the RetryBudget, once it is
+   * used up the last response is returned without retrying. Retries which would be sent after the
+   * deadline of the request are not made, and responseCF fails with a {@link
+   * DeadlineExceededException} once the deadline passes.
+   *
+   * @param request request to send
+   * @param retryHandler RetryHandler of the request
+   * @param firstAttempt response of the first attempt
+   * @param responseCF completed with the last response
+   * @param fcApiEndpoint FullContact API Endpoint the request is sent to
+   */
+  public void execute(
+      Q request,
+      RetryHandler retryHandler,
+      CompletableFuture<R> firstAttempt,
+      CompletableFuture<R> responseCF,
+      FCApiEndpoint fcApiEndpoint) {
+    this.retryBudget.recordRequest();
+    Deadline deadline = this.startDeadline(retryHandler, responseCF, fcApiEndpoint);
+    this.handleAttempt(
+        request, firstAttempt, 0, 0, retryHandler, responseCF, fcApiEndpoint, deadline);
+  }
+
+  private void handleAttempt(
+      Q request,
+      CompletableFuture<R> attempt,
+      int retryAttemptsDone,
+      long previousDelayMillis,
+      RetryHandler retryHandler,
+      CompletableFuture<R> responseCF,
+      FCApiEndpoint fcApiEndpoint,
+      Deadline deadline) {
+    // The attempt still queued or in flight when the deadline passes, or when the caller cancels
+    // the request, is cancelled too, so that it isn't sent or releases its connection
+    responseCF.whenComplete(
+        (response, throwable) -> {
+          if (throwable != null) {
+            attempt.cancel(true);
+          }
+        });
+    attempt.handle(
+        (response, throwable) -> {
+          if (responseCF.isDone()) {
+            // The deadline has passed already
+            if (response != null) {
+              this.transport.discard(response);
+            }
+          } else if (throwable == null
+              && response != null
+              && !retryHandler.shouldRetry(this.transport.statusCode(response))) {
+            responseCF.complete(response);
+          } else {
+            this.retry(
+                request,
+                response,
+                throwable,
+                retryAttemptsDone,
+                previousDelayMillis,
+                retryHandler,
+                responseCF,
+                fcApiEndpoint,
+                deadline);
+          }
+          return null;
+        });
+  }
+
+  /**
+   * Schedules the next attempt after the delay from {@link RetryHandler#getRetryDelayMillis(int,
+   * long, Long)}, which honours the Retry-After header of the last response, or completes
+   * responseCF with the last response or failure if no retry can be made.
+   */
+  private void retry(
+      Q request,
+      R response,
+      Throwable throwable,
+      int retryAttemptsDone,
+      long previousDelayMillis,
+      RetryHandler retryHandler,
+      CompletableFuture<R> responseCF,
+      FCApiEndpoint fcApiEndpoint,
+      Deadline deadline) {
+    if (!(throwable instanceof CircuitBreakerOpenException)
+        && retryAttemptsDone < (Math.min(retryHandler.getRetryAttempts(), 5))) {
+      int nextRetryAttempt = retryAttemptsDone + 1;
+      Long retryAfterMillis =
+          response != null
+              ? RateLimitHeaders.parseRetryAfter(
+                  this.transport.header(response, RateLimitHeaders.RETRY_AFTER))
+              : null;
+      long retryDelayMillis =
+          retryHandler.getRetryDelayMillis(nextRetryAttempt, previousDelayMillis, retryAfterMillis);
+      // A retry which would be sent after the deadline is not made at all
+      if (deadline.allowsRetryAfter(retryDelayMillis) && this.retryBudget.tryAcquireRetry()) {
+        if (response != null) {
+          this.transport.discard(response);
+        }
+        this.retryTimer.schedule(
+            () -> {
+              if (!responseCF.isDone()) {
+                this.handleAttempt(
+                    request,
+                    this.send(request, fcApiEndpoint),
+                    nextRetryAttempt,
+                    retryDelayMillis,
+                    retryHandler,
+                    responseCF,
+                    fcApiEndpoint,
+                    deadline);
+              }
+            },
+            retryDelayMillis);
+        return;
+      }
+    }
+    if (throwable != null) {
+      responseCF.completeExceptionally(throwable);
+    } else {
+      responseCF.complete(response);
+    }
+  }
+
+  /**
+   * Starts the deadline of a request, the one of the RetryHandler or else the one of the pipeline.
+   * Once it passes, responseCF fails with a {@link DeadlineExceededException}, even if an attempt
+   * is still waiting for a rate limiter or a response, and that attempt is cancelled.
+   */
+  private Deadline startDeadline(
+      RetryHandler retryHandler, CompletableFuture<R> responseCF, FCApiEndpoint fcApiEndpoint) {
+    long requestDeadlineMillis =
+        retryHandler.getDeadlineMillis() > 0
+            ? retryHandler.getDeadlineMillis()
+            : this.deadlineMillis;
+    Deadline deadline = Deadline.after(requestDeadlineMillis);
+    if (deadline.isSet()) {
+      RetryTimer.Timeout deadlineTimer =
+          this.retryTimer.schedule(
+              () ->
+                  responseCF.completeExceptionally(
+                      new DeadlineExceededException(fcApiEndpoint, requestDeadlineMillis)),
+              requestDeadlineMillis);
+      responseCF.whenComplete((response, throwable) -> deadlineTimer.cancel());
+    }
+    return deadline;
+  }
+}
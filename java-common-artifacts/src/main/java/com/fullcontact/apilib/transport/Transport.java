@@ -0,0 +1,38 @@
+package com.fullcontact.apilib.transport;
+
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends a single request to the FullContact API over HTTP, with OkHttp, java.net.http or any other
+ * HTTP client. Everything around an attempt, rate limiting, throttling, circuit breaking, hedging,
+ * retries and deadlines, is done by the {@link RequestPipeline}, so a Transport only sends the
+ * request and reads the status code and headers of its response.
+ *
+ * @param <Q> type of the requests sent
+ * @param <R> type of the responses
+ */
+public interface Transport<Q, R> {
+  /**
+   * Sends the request once, without retrying it.
+   *
+   * @param request request to send
+   * @param fcApiEndpoint FullContact API Endpoint the request is sent to
+   * @return CompletableFuture with the response, completed exceptionally if no response was
+   *     received
+   */
+  CompletableFuture<R> send(Q request, FCApiEndpoint fcApiEndpoint);
+
+  /** @return HTTP status code of the response */
+  int statusCode(R response);
+
+  /** @return value of the header of the response, null if it has none */
+  String header(R response, String name);
+
+  /**
+   * Releases a response which won't be used, because a retry or a hedged request replaces it. The
+   * default does nothing, for responses whose body has been read already.
+   */
+  default void discard(R response) {}
+}
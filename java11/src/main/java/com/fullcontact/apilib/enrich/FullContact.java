@@ -2,29 +2,64 @@ package com.fullcontact.apilib.enrich;
 
 import com.fullcontact.apilib.FCConstants;
 import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.WarmUpResult;
 import com.fullcontact.apilib.auth.CredentialsProvider;
 import com.fullcontact.apilib.auth.DefaultCredentialProvider;
+import com.fullcontact.apilib.bulk.BulkIterator;
+import com.fullcontact.apilib.bulk.BulkOptions;
+import com.fullcontact.apilib.bulk.BulkResult;
+import com.fullcontact.apilib.cache.ResponseCache;
+import com.fullcontact.apilib.cache.ResponseCaching;
+import com.fullcontact.apilib.cache.SegmentLogResponseCache;
+import com.fullcontact.apilib.cache.TinyLfuResponseCache;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreaker;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreakerConfig;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreakerOpenException;
+import com.fullcontact.apilib.coalescing.RequestCoalescer;
+import com.fullcontact.apilib.hedging.HedgingPolicy;
+import com.fullcontact.apilib.hedging.RequestHedger;
 import com.fullcontact.apilib.models.Request.*;
 import com.fullcontact.apilib.models.Response.*;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.ratelimit.AdaptiveThrottle;
+import com.fullcontact.apilib.ratelimit.TokenBucketRateLimiter;
+import com.fullcontact.apilib.retry.DeadlineExceededException;
 import com.fullcontact.apilib.retry.DefaultRetryHandler;
+import com.fullcontact.apilib.retry.HashedWheelTimer;
+import com.fullcontact.apilib.retry.RetryBudget;
 import com.fullcontact.apilib.retry.RetryHandler;
+import com.fullcontact.apilib.transport.RequestExecutor;
+import com.fullcontact.apilib.transport.RequestPipeline;
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import lombok.Builder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.Cleaner;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -37,17 +72,44 @@ import java.util.stream.Stream;
 public class FullContact implements AutoCloseable {
   private final CredentialsProvider credentialsProvider;
   private final RetryHandler retryHandler;
-  private final HttpClient httpClient;
+  private final HttpClientPool httpClientPool;
   private final String[] headersArray;
   private final Duration timeoutDuration;
   private final ScheduledExecutorService executor;
+  private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+  private final Gson responseGson;
+  private final Map<FCApiEndpoint, CircuitBreaker> circuitBreakers;
+  private final Map<FCApiEndpoint, RequestHedger> requestHedgers;
+  private final HttpClientOptions httpClientOptions;
+  private final Executor responseExecutor;
+  private final Executor callbackExecutor;
+  private final int requestCompressionMinBytes;
+  private final FullContactRuntime runtime;
+  private final HashedWheelTimer hashedWheelTimer;
+  private final HttpClientTransport<InputStream> httpClientTransport;
+  private final RequestExecutor<HttpRequest, HttpResponse<InputStream>> requestExecutor;
+  private final RequestExecutor<HttpRequest, HttpResponse<byte[]>> downloadExecutor;
+  private final Cleaner.Cleanable cleanable;
   private boolean isShutdown = false;
   private static final Type permissionFindResponseType =
       new TypeToken<ArrayList<PermissionResponse>>() {}.getType();
   private static final Type permissionCurrentResponseType =
       new TypeToken<Map<Integer, Map<String, ConsentPurposeResponse>>>() {}.getType();
 
-  private static final Gson gson = new Gson();
+  private static final Gson gson =
+      new GsonBuilder().registerTypeAdapterFactory(new ResponseTypeAdapterFactory()).create();
+  private static final Gson lazyPersonDetailsGson =
+      new GsonBuilder().registerTypeAdapterFactory(new ResponseTypeAdapterFactory(true)).create();
+  private static final Map<FCApiEndpoint, URI> endpointUris = new EnumMap<>(FCApiEndpoint.class);
+
+  static {
+    for (FCApiEndpoint fcApiEndpoint : FCApiEndpoint.values()) {
+      endpointUris.put(
+          fcApiEndpoint, URI.create(FCConstants.API_BASE_DEFAULT + fcApiEndpoint.getPath()));
+    }
+    endpointUris.put(
+        FCApiEndpoint.IDENTITY_RESOLVE_WITH_TAGS, FCConstants.identityResolveUriWithTags);
+  }
 
   /**
    * FullContact client constructor used to initialise the client
@@ -56,20 +118,144 @@ public class FullContact implements AutoCloseable {
    * @param headers custom client headers
    * @param connectTimeoutMillis connection timout for all requests
    * @param retryHandler RetryHandler specified for client
+   * @param rateLimiters client side rate limiters for each API endpoint
+   * @param adaptiveThrottling throttle requests based on the rate limit headers from the API
+   * @param retryBudget client wide limit on retries, relative to the number of requests
+   * @param coalesceRequests share a single request for equal enrich requests in flight
+   * @param responseCache cache for Person and Company Enrich responses
+   * @param responseStore persistent cache for enrich, resolve and verify responses
+   * @param negativeCache cache of enrich and resolve requests which had no match
+   * @param circuitBreakerConfig options of the circuit breaker of each API endpoint
+   * @param hedgingPolicies hedging of slow requests for read-only API endpoints
+   * @param httpClientOptions HTTP version, connections and streams of the HttpClients
+   * @param responseExecutor executor used to parse responses
+   * @param callbackExecutor executor used to complete the CompletableFutures returned
+   * @param requestCompressionMinBytes minimum size of request bodies compressed with gzip, 0 to not
+   *     compress them
+   * @param deadlineMillis overall time a request can take, including retries, 0 for no deadline
+   * @param runtime runtime whose scheduler, HttpClients and executors are shared with other
+   *     clients, null for the client to have its own
+   * @param retryTimerTickMillis tick of the HashedWheelTimer used for retries and deadlines, 0 to
+   *     use the scheduler of the client
+   * @param lazyPersonDetails keep the details of Person Enrich responses as JSON until they are
+   *     first read
+   * @param personFieldMask fields of Person Enrich responses to decode, null for all of them
    */
   @Builder
   public FullContact(
       CredentialsProvider credentialsProvider,
       Map<String, String> headers,
       long connectTimeoutMillis,
-      RetryHandler retryHandler) {
+      RetryHandler retryHandler,
+      Map<FCApiEndpoint, TokenBucketRateLimiter> rateLimiters,
+      boolean adaptiveThrottling,
+      RetryBudget retryBudget,
+      boolean coalesceRequests,
+      ResponseCache responseCache,
+      ResponseCache responseStore,
+      ResponseCache negativeCache,
+      CircuitBreakerConfig circuitBreakerConfig,
+      Map<FCApiEndpoint, HedgingPolicy> hedgingPolicies,
+      HttpClientOptions httpClientOptions,
+      Executor responseExecutor,
+      Executor callbackExecutor,
+      int requestCompressionMinBytes,
+      long deadlineMillis,
+      FullContactRuntime runtime,
+      long retryTimerTickMillis,
+      boolean lazyPersonDetails,
+      FieldMask personFieldMask) {
     this.credentialsProvider = credentialsProvider;
     this.retryHandler = retryHandler;
+    if (personFieldMask != null) {
+      this.responseGson =
+          new GsonBuilder()
+              .registerTypeAdapterFactory(
+                  new ResponseTypeAdapterFactory(lazyPersonDetails, personFieldMask))
+              .create();
+    } else {
+      this.responseGson = lazyPersonDetails ? lazyPersonDetailsGson : gson;
+    }
+    this.circuitBreakers =
+        circuitBreakerConfig != null
+            ? CircuitBreaker.forAllEndpoints(circuitBreakerConfig)
+            : Collections.emptyMap();
+    this.requestHedgers = new EnumMap<>(FCApiEndpoint.class);
+    if (hedgingPolicies != null) {
+      hedgingPolicies.forEach(
+          (fcApiEndpoint, hedgingPolicy) ->
+              this.requestHedgers.put(fcApiEndpoint, new RequestHedger(hedgingPolicy)));
+    }
     this.headersArray = processHeader(headers);
     this.timeoutDuration =
         Duration.ofMillis(connectTimeoutMillis > 0 ? connectTimeoutMillis : 3000);
-    this.httpClient = configureHttpClient();
-    this.executor = new ScheduledThreadPoolExecutor(5);
+    this.requestCompressionMinBytes = requestCompressionMinBytes;
+    this.runtime = runtime;
+    if (runtime != null) {
+      this.httpClientOptions = runtime.getHttpClientOptions();
+      this.responseExecutor =
+          responseExecutor != null ? responseExecutor : runtime.getResponseExecutor();
+      this.callbackExecutor =
+          callbackExecutor != null ? callbackExecutor : runtime.getCallbackExecutor();
+      this.httpClientPool = runtime.getHttpClientPool();
+      this.executor = runtime.getScheduler();
+      this.cleanable = null;
+    } else {
+      this.httpClientOptions =
+          httpClientOptions != null ? httpClientOptions : HttpClientOptions.defaults();
+      this.responseExecutor = responseExecutor;
+      this.callbackExecutor = callbackExecutor;
+      this.httpClientPool = new HttpClientPool(this.httpClientOptions, this::configureHttpClient);
+      ScheduledExecutorService scheduler =
+          FullContactRuntime.newScheduler(FullContactRuntime.DEFAULT_SCHEDULER_THREADS);
+      this.executor = scheduler;
+      // Shuts the scheduler down if the client is garbage collected without being closed
+      this.cleanable = FullContactRuntime.CLEANER.register(this, scheduler::shutdown);
+    }
+    this.hashedWheelTimer =
+        retryTimerTickMillis > 0 ? new HashedWheelTimer(retryTimerTickMillis, this.executor) : null;
+    this.httpClientTransport =
+        new HttpClientTransport<>(this.httpClientPool, HttpResponse.BodyHandlers.ofInputStream());
+    RequestPipeline<HttpRequest, HttpResponse<InputStream>> requestPipeline =
+        RequestPipeline.<HttpRequest, HttpResponse<InputStream>>builder()
+            .transport(this.httpClientTransport)
+            .rateLimiters(rateLimiters)
+            .adaptiveThrottles(
+                adaptiveThrottling
+                    ? AdaptiveThrottle.forAllEndpoints(AdaptiveThrottle.DEFAULT_SLOWDOWN_RATIO)
+                    : null)
+            .circuitBreakers(this.circuitBreakers)
+            .requestHedgers(this.requestHedgers)
+            .executor(this.executor)
+            .retryBudget(retryBudget != null ? retryBudget : new RetryBudget())
+            .retryTimer(this.hashedWheelTimer)
+            .deadlineMillis(deadlineMillis)
+            .build();
+    this.requestExecutor =
+        RequestExecutor.<HttpRequest, HttpResponse<InputStream>>builder()
+            .requestPipeline(requestPipeline)
+            .requestFactory(this::buildHttpRequest)
+            .responseParser(this::parseResponse)
+            .gson(gson)
+            .responseCaching(
+                new ResponseCaching(responseCache, responseStore, negativeCache, this.responseGson))
+            .requestCoalescer(coalesceRequests ? this.requestCoalescer : null)
+            .personFieldMask(personFieldMask)
+            .responseExecutor(this.responseExecutor)
+            .callbackExecutor(this.callbackExecutor)
+            .build();
+    // Audience files are read as a whole rather than decoded from a stream
+    this.downloadExecutor =
+        RequestExecutor.<HttpRequest, HttpResponse<byte[]>>builder()
+            .requestPipeline(
+                requestPipeline.withTransport(
+                    this.httpClientTransport.withBodyHandler(
+                        HttpResponse.BodyHandlers.ofByteArray())))
+            .requestFactory(this::buildHttpRequest)
+            .responseParser(FullContact::parseAudienceDownloadResponse)
+            .responseExecutor(this.responseExecutor)
+            .callbackExecutor(this.callbackExecutor)
+            .build();
   }
 
   /** Method to process custom headers, adding auth key and converting to headers array */
@@ -81,6 +267,9 @@ public class FullContact implements AutoCloseable {
     headers.put("Authorization", "Bearer " + this.credentialsProvider.getApiKey());
     headers.put("Content-Type", "application/json");
     headers.put("User-Agent", FCConstants.USER_AGENT_Java11);
+    // HttpClient doesn't ask for compressed responses by itself, they are decoded by
+    // GzipBodyHandler
+    headers.putIfAbsent("Accept-Encoding", "gzip");
     return headers.entrySet().stream()
         .filter(entry -> entry.getValue() != null)
         .flatMap(entry -> Stream.of(entry.getKey(), entry.getValue()))
@@ -88,9 +277,12 @@ public class FullContact implements AutoCloseable {
         .toArray(String[]::new);
   }
 
-  /** Builds a new HttpClient with specified properties */
+  /**
+   * Builds a new HttpClient with specified properties. One HttpClient is built for each of the
+   * connections of the {@link HttpClientOptions}.
+   */
   protected HttpClient configureHttpClient() {
-    return HttpClient.newBuilder().connectTimeout(this.timeoutDuration).build();
+    return FullContactRuntime.newHttpClient(this.httpClientOptions, this.timeoutDuration);
   }
 
   /** @return Person Request Builder for Person Enrich request */
@@ -160,15 +352,42 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<PersonResponse> enrich(
       PersonRequest personRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     personRequest.validate();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.personEnrichUri, gson.toJson(personRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse ->
-            (PersonResponse) FullContact.getFCResponse(httpResponse, PersonResponse.class));
+    return this.execute(
+        FCApiEndpoint.PERSON_ENRICH, personRequest, PersonResponse.class, retryHandler);
+  }
+
+  /**
+   * Method for bulk Person Enrich with default {@link BulkOptions}. See {@link #enrichAll(Iterator,
+   * BulkOptions)}.
+   *
+   * @param personRequests requests to be enriched, read lazily
+   * @return BulkIterator over the results, in the order they complete
+   * @throws FullContactException exception if client is shutdown
+   */
+  public BulkIterator<PersonRequest, PersonResponse> enrichAll(
+      Iterator<PersonRequest> personRequests) throws FullContactException {
+    return this.enrichAll(personRequests, BulkOptions.defaults());
+  }
+
+  /**
+   * Method for bulk Person Enrich. Requests are read lazily from the iterator and sent as results
+   * are consumed, so that at most {@link BulkOptions#getMaxInFlight()} requests are in flight at
+   * any time. Validation errors and failed requests are reported per record in the {@link
+   * BulkResult} instead of failing the whole batch.
+   *
+   * @param personRequests requests to be enriched, read lazily
+   * @param bulkOptions concurrency and retry options for the batch
+   * @return BulkIterator over the results, in the order they complete
+   * @throws FullContactException exception if client is shutdown
+   */
+  public BulkIterator<PersonRequest, PersonResponse> enrichAll(
+      Iterator<PersonRequest> personRequests, BulkOptions bulkOptions) throws FullContactException {
+    checkForShutdown();
+    RetryHandler bulkRetryHandler =
+        bulkOptions.getRetryHandler() != null ? bulkOptions.getRetryHandler() : this.retryHandler;
+    return new BulkIterator<>(
+        personRequests, bulkOptions, personRequest -> this.enrich(personRequest, bulkRetryHandler));
   }
 
   /**
@@ -199,15 +418,9 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<CompanyResponse> enrich(
       CompanyRequest companyRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     companyRequest.validateForEnrich();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.companyEnrichUri, gson.toJson(companyRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse ->
-            (CompanyResponse) FullContact.getFCResponse(httpResponse, CompanyResponse.class));
+    return this.execute(
+        FCApiEndpoint.COMPANY_ENRICH, companyRequest, CompanyResponse.class, retryHandler);
   }
 
   /**
@@ -239,7 +452,8 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ResolveResponse> identityMap(
       ResolveRequest resolveRequest, RetryHandler retryHandler) throws FullContactException {
     resolveRequest.validateForIdentityMap();
-    return resolveRequest(resolveRequest, retryHandler, FCConstants.identityMapUri);
+    return this.execute(
+        FCApiEndpoint.IDENTITY_MAP, resolveRequest, ResolveResponse.class, retryHandler);
   }
 
   /**
@@ -271,7 +485,8 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ResolveResponse> identityResolve(
       ResolveRequest resolveRequest, RetryHandler retryHandler) throws FullContactException {
     resolveRequest.validateForIdentityResolve();
-    return resolveRequest(resolveRequest, retryHandler, FCConstants.identityResolveUri);
+    return this.execute(
+        FCApiEndpoint.IDENTITY_RESOLVE, resolveRequest, ResolveResponse.class, retryHandler);
   }
 
   /**
@@ -303,15 +518,11 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ResolveResponseWithTags> identityResolveWithTags(
       ResolveRequest resolveRequest, RetryHandler retryHandler) throws FullContactException {
     resolveRequest.validateForIdentityResolve();
-    checkForShutdown();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.identityResolveUriWithTags, gson.toJson(resolveRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse ->
-            (ResolveResponseWithTags)
-                FullContact.getFCResponse(httpResponse, ResolveResponseWithTags.class));
+    return this.execute(
+        FCApiEndpoint.IDENTITY_RESOLVE_WITH_TAGS,
+        resolveRequest,
+        ResolveResponseWithTags.class,
+        retryHandler);
   }
 
   /**
@@ -344,7 +555,8 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ResolveResponse> identityDelete(
       ResolveRequest resolveRequest, RetryHandler retryHandler) throws FullContactException {
     resolveRequest.validateForIdentityDelete();
-    return resolveRequest(resolveRequest, retryHandler, FCConstants.identityDeleteUri);
+    return this.execute(
+        FCApiEndpoint.IDENTITY_DELETE, resolveRequest, ResolveResponse.class, retryHandler);
   }
 
   /**
@@ -378,19 +590,8 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ResolveResponse> identityMapResolve(
       ResolveRequest resolveRequest, RetryHandler retryHandler) throws FullContactException {
     resolveRequest.validateForIdentityMap();
-    return resolveRequest(resolveRequest, retryHandler, FCConstants.identityMapResolveUri);
-  }
-
-  protected CompletableFuture<ResolveResponse> resolveRequest(
-      ResolveRequest resolveRequest, RetryHandler retryHandler, URI resolveUri)
-      throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest = this.buildHttpRequest(resolveUri, gson.toJson(resolveRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse ->
-            (ResolveResponse) FullContact.getFCResponse(httpResponse, ResolveResponse.class));
+    return this.execute(
+        FCApiEndpoint.IDENTITY_MAP_RESOLVE, resolveRequest, ResolveResponse.class, retryHandler);
   }
 
   /**
@@ -422,13 +623,7 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<TagsResponse> tagsCreate(
       TagsRequest tagsRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.tagsCreateUri, gson.toJson(tagsRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse -> (TagsResponse) FullContact.getFCResponse(httpResponse, TagsResponse.class));
+    return this.execute(FCApiEndpoint.TAGS_CREATE, tagsRequest, TagsResponse.class, retryHandler);
   }
 
   /**
@@ -459,13 +654,11 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<TagsResponse> tagsGet(String recordId, RetryHandler retryHandler)
       throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.tagsGetUri, "{\"recordId\":\"" + recordId + "\"}");
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse -> (TagsResponse) FullContact.getFCResponse(httpResponse, TagsResponse.class));
+    return this.execute(
+        FCApiEndpoint.TAGS_GET,
+        Collections.singletonMap("recordId", recordId),
+        TagsResponse.class,
+        retryHandler);
   }
 
   /**
@@ -497,13 +690,7 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<TagsResponse> tagsDelete(
       TagsRequest tagsRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.tagsDeleteUri, gson.toJson(tagsRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse -> (TagsResponse) FullContact.getFCResponse(httpResponse, TagsResponse.class));
+    return this.execute(FCApiEndpoint.TAGS_DELETE, tagsRequest, TagsResponse.class, retryHandler);
   }
 
   /**
@@ -536,14 +723,8 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<AudienceResponse> audienceCreate(
       AudienceRequest audienceRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.audienceCreateUri, gson.toJson(audienceRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse ->
-            (AudienceResponse) FullContact.getFCResponse(httpResponse, AudienceResponse.class));
+    return this.execute(
+        FCApiEndpoint.AUDIENCE_CREATE, audienceRequest, AudienceResponse.class, retryHandler);
   }
 
   /**
@@ -557,31 +738,11 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<AudienceResponse> audienceDownload(String requestId)
       throws FullContactException {
-    checkForShutdown();
-    if (requestId != null && !requestId.isBlank()) {
-      HttpRequest httpRequest =
-          this.buildHttpGetRequest(
-              URI.create(
-                  FCConstants.API_BASE_DEFAULT
-                      + FCConstants.API_ENDPOINT_AUDIENCE_DOWNLOAD
-                      + "?requestId="
-                      + requestId));
-      CompletableFuture<HttpResponse<byte[]>> responseCF = new CompletableFuture<>();
-      this.httpClient
-          .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
-          .handle(
-              (httpResponse, throwable) -> {
-                if (httpResponse != null) {
-                  responseCF.complete(httpResponse);
-                } else {
-                  responseCF.completeExceptionally(throwable);
-                }
-                return null;
-              });
-      return responseCF.thenApply(FullContact::getAudienceDownloadResponse);
-    } else {
+    if (requestId == null || requestId.isBlank()) {
       throw new FullContactException("'requestId' can't be empty");
     }
+    return this.execute(
+        FCApiEndpoint.AUDIENCE_DOWNLOAD, requestId, AudienceResponse.class, this.retryHandler);
   }
 
   /**
@@ -612,14 +773,9 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<FCResponse> permissionCreate(
       PermissionRequest permissionRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     permissionRequest.validate();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.permissionCreateUri, gson.toJson(permissionRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse -> FullContact.getFCResponse(httpResponse, FCResponse.class));
+    return this.execute(
+        FCApiEndpoint.PERMISSION_CREATE, permissionRequest, FCResponse.class, retryHandler);
   }
 
   /**
@@ -650,14 +806,9 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<FCResponse> permissionDelete(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.permissionDeleteUri, gson.toJson(multifieldRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse -> FullContact.getFCResponse(httpResponse, FCResponse.class));
+    return this.execute(
+        FCApiEndpoint.PERMISSION_DELETE, multifieldRequest, FCResponse.class, retryHandler);
   }
 
   /**
@@ -688,13 +839,12 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<PermissionResponseList> permissionFind(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.permissionFindUri, gson.toJson(multifieldRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(FullContact::getPermissionFindResponse);
+    return this.execute(
+        FCApiEndpoint.PERMISSION_FIND,
+        multifieldRequest,
+        PermissionResponseList.class,
+        retryHandler);
   }
 
   /**
@@ -725,13 +875,12 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<PermissionCurrentResponseMap> permissionCurrent(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.permissionCurrentUri, gson.toJson(multifieldRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(FullContact::getPermissionCurrentResponse);
+    return this.execute(
+        FCApiEndpoint.PERMISSION_CURRENT,
+        multifieldRequest,
+        PermissionCurrentResponseMap.class,
+        retryHandler);
   }
 
   /**
@@ -763,16 +912,12 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ConsentPurposeResponse> permissionVerify(
       ChannelPurposeRequest channelPurposeRequest, RetryHandler retryHandler)
       throws FullContactException {
-    checkForShutdown();
     channelPurposeRequest.validate();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.permissionVerifyUri, gson.toJson(channelPurposeRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse ->
-            (ConsentPurposeResponse)
-                FullContact.getFCResponse(httpResponse, ConsentPurposeResponse.class));
+    return this.execute(
+        FCApiEndpoint.PERMISSION_VERIFY,
+        channelPurposeRequest,
+        ConsentPurposeResponse.class,
+        retryHandler);
   }
 
   // Verify
@@ -804,15 +949,9 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<SignalsResponse> verifySignals(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.verifySignalsUri, gson.toJson(multifieldRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse ->
-            (SignalsResponse) FullContact.getFCResponse(httpResponse, SignalsResponse.class));
+    return this.execute(
+        FCApiEndpoint.VERIFY_SIGNALS, multifieldRequest, SignalsResponse.class, retryHandler);
   }
 
   /**
@@ -843,15 +982,9 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<MatchResponse> verifyMatch(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.verifyMatchUri, gson.toJson(multifieldRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse ->
-            (MatchResponse) FullContact.getFCResponse(httpResponse, MatchResponse.class));
+    return this.execute(
+        FCApiEndpoint.VERIFY_MATCH, multifieldRequest, MatchResponse.class, retryHandler);
   }
 
   /**
@@ -882,29 +1015,28 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<ActivityResponse> verifyActivity(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<HttpResponse<String>> responseCF = new CompletableFuture<>();
-    HttpRequest httpRequest =
-        this.buildHttpRequest(FCConstants.verifyActivityUri, gson.toJson(multifieldRequest));
-    sendRequest(httpRequest, retryHandler, responseCF);
-    return responseCF.thenApply(
-        httpResponse ->
-            (ActivityResponse) FullContact.getFCResponse(httpResponse, ActivityResponse.class));
+    return this.execute(
+        FCApiEndpoint.VERIFY_ACTIVITY, multifieldRequest, ActivityResponse.class, retryHandler);
   }
 
   protected void checkForShutdown() throws FullContactException {
-    if (isShutdown) {
+    if (isShutdown || (this.runtime != null && this.runtime.isClosed())) {
       throw new FullContactException("FullContact client is shutdown. Please create a new client");
     }
   }
 
   protected HttpRequest buildHttpRequest(URI uri, String request) {
-    return HttpRequest.newBuilder(uri)
-        .headers(this.headersArray)
-        .timeout(this.timeoutDuration)
-        .POST(HttpRequest.BodyPublishers.ofString(request))
-        .build();
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(uri).headers(this.headersArray).timeout(this.timeoutDuration);
+    if (this.requestCompressionMinBytes > 0
+        && !this.httpClientTransport.isRequestCompressionRejected()) {
+      byte[] body = request.getBytes(StandardCharsets.UTF_8);
+      if (body.length >= this.requestCompressionMinBytes) {
+        return builder.header("Content-Encoding", "gzip").POST(new GzipBodyPublisher(body)).build();
+      }
+    }
+    return builder.POST(HttpRequest.BodyPublishers.ofString(request)).build();
   }
 
   protected HttpRequest buildHttpGetRequest(URI uri) {
@@ -915,24 +1047,76 @@ public class FullContact implements AutoCloseable {
         .build();
   }
 
-  protected void sendRequest(
-      HttpRequest httpRequest,
-      RetryHandler retryHandler,
-      CompletableFuture<HttpResponse<String>> responseCF) {
-    CompletableFuture<HttpResponse<String>> httpResponseCompletableFuture =
-        this.httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString());
-
-    httpResponseCompletableFuture.handle(
-        (httpResponse, throwable) -> {
-          if (throwable != null) {
-            handleAutoRetry(responseCF, httpResponse, httpRequest, throwable, 0, retryHandler);
-          } else if (httpResponse != null && !retryHandler.shouldRetry(httpResponse.statusCode())) {
-            responseCF.complete(httpResponse);
-          } else {
-            handleAutoRetry(responseCF, httpResponse, httpRequest, null, 0, retryHandler);
-          }
-          return null;
-        });
+  /**
+   * Builds the request to the API endpoint, a POST of the request body, except for Audience
+   * Download which is a GET of the requestId.
+   */
+  private HttpRequest buildHttpRequest(FCApiEndpoint fcApiEndpoint, String request) {
+    URI uri = endpointUris.get(fcApiEndpoint);
+    return fcApiEndpoint == FCApiEndpoint.AUDIENCE_DOWNLOAD
+        ? this.buildHttpGetRequest(URI.create(uri + "?requestId=" + request))
+        : this.buildHttpRequest(uri, request);
+  }
+
+  /**
+   * Sends the request to the API endpoint and parses its response, see {@link
+   * RequestExecutor#execute}.
+   *
+   * @param fcApiEndpoint FullContact API Endpoint for current request
+   * @param request original request by client, sent as it is if it is a String
+   * @param responseClass response class to parse the response into
+   * @param retryHandler RetryHandler specified for the request
+   * @return CompletableFuture with the response
+   * @throws FullContactException exception if client is shutdown
+   */
+  private <T extends FCResponse> CompletableFuture<T> execute(
+      FCApiEndpoint fcApiEndpoint,
+      Object request,
+      Class<T> responseClass,
+      RetryHandler retryHandler)
+      throws FullContactException {
+    checkForShutdown();
+    return fcApiEndpoint == FCApiEndpoint.AUDIENCE_DOWNLOAD
+        ? this.downloadExecutor.execute(fcApiEndpoint, request, responseClass, retryHandler)
+        : this.requestExecutor.execute(fcApiEndpoint, request, responseClass, retryHandler);
+  }
+
+  /** Parses the raw response into the response class, with the parser of the class */
+  private <T extends FCResponse> T parseResponse(
+      HttpResponse<InputStream> httpResponse, Class<T> responseClass) {
+    if (responseClass == PermissionResponseList.class) {
+      return responseClass.cast(getPermissionFindResponse(httpResponse));
+    } else if (responseClass == PermissionCurrentResponseMap.class) {
+      return responseClass.cast(getPermissionCurrentResponse(httpResponse));
+    }
+    return responseClass.cast(getFCResponse(httpResponse, responseClass, this.responseGson));
+  }
+
+  private static <T extends FCResponse> T parseAudienceDownloadResponse(
+      HttpResponse<byte[]> httpResponse, Class<T> responseClass) {
+    return responseClass.cast(getAudienceDownloadResponse(httpResponse));
+  }
+
+  /**
+   * Decodes the JSON body of the response while reading it from the stream, without first copying
+   * it into a String, and closes the stream.
+   *
+   * @param httpResponse raw response
+   * @param type type to decode the body into
+   * @param gson Gson decoding the body
+   * @return the decoded body, null if the body is empty
+   */
+  private static <T> T fromJson(HttpResponse<InputStream> httpResponse, Type type, Gson gson) {
+    InputStream body = httpResponse.body();
+    if (body == null) {
+      return null;
+    }
+    try (JsonReader jsonReader =
+        new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+      return gson.fromJson(jsonReader, type);
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
   }
 
   /**
@@ -943,10 +1127,16 @@ public class FullContact implements AutoCloseable {
    * @return FCResponse
    */
   protected static FCResponse getFCResponse(
-      HttpResponse<String> httpResponse, Class<? extends FCResponse> fcResponseClass) {
-    FCResponse fcResponse;
-    if (httpResponse.body() != null && !httpResponse.body().trim().isEmpty()) {
-      fcResponse = gson.fromJson(httpResponse.body(), fcResponseClass);
+      HttpResponse<InputStream> httpResponse, Class<? extends FCResponse> fcResponseClass) {
+    return getFCResponse(httpResponse, fcResponseClass, gson);
+  }
+
+  private static FCResponse getFCResponse(
+      HttpResponse<InputStream> httpResponse,
+      Class<? extends FCResponse> fcResponseClass,
+      Gson gson) {
+    FCResponse fcResponse = fromJson(httpResponse, fcResponseClass, gson);
+    if (fcResponse != null) {
       if (httpResponse.statusCode() == 200 || (httpResponse.statusCode() == 204)) {
         fcResponse.message = FCConstants.HTTP_RESPONSE_STATUS_200_MESSAGE;
       }
@@ -1006,18 +1196,21 @@ public class FullContact implements AutoCloseable {
    * @return PermissionResponseList
    */
   protected static PermissionResponseList getPermissionFindResponse(
-      HttpResponse<String> httpResponse) {
+      HttpResponse<InputStream> httpResponse) {
     PermissionResponseList permissionResponseList = new PermissionResponseList();
-    if (httpResponse.body() != null && !httpResponse.body().trim().isEmpty()) {
-      if (httpResponse.statusCode() == 200) {
-        permissionResponseList.permissionResponseList =
-            gson.fromJson(httpResponse.body(), permissionFindResponseType);
+    if (httpResponse.statusCode() == 200) {
+      List<PermissionResponse> permissionResponses =
+          fromJson(httpResponse, permissionFindResponseType, gson);
+      if (permissionResponses != null) {
+        permissionResponseList.permissionResponseList = permissionResponses;
         permissionResponseList.message = FCConstants.HTTP_RESPONSE_STATUS_200_MESSAGE;
-      } else {
-        permissionResponseList = gson.fromJson(httpResponse.body(), PermissionResponseList.class);
       }
     } else {
-      if (httpResponse.statusCode() >= 500) {
+      PermissionResponseList errorResponse =
+          fromJson(httpResponse, PermissionResponseList.class, gson);
+      if (errorResponse != null) {
+        permissionResponseList = errorResponse;
+      } else if (httpResponse.statusCode() >= 500) {
         permissionResponseList.message = FCConstants.HTTP_RESPONSE_STATUS_50X_MESSAGE;
       }
     }
@@ -1036,19 +1229,21 @@ public class FullContact implements AutoCloseable {
    * @return PermissionCurrentResponseMap
    */
   protected static PermissionCurrentResponseMap getPermissionCurrentResponse(
-      HttpResponse<String> httpResponse) {
+      HttpResponse<InputStream> httpResponse) {
     PermissionCurrentResponseMap permissionCurrentResponseMap = new PermissionCurrentResponseMap();
-    if (httpResponse.body() != null && !httpResponse.body().trim().isEmpty()) {
-      if (httpResponse.statusCode() == 200) {
-        permissionCurrentResponseMap.responseMap =
-            gson.fromJson(httpResponse.body(), permissionCurrentResponseType);
+    if (httpResponse.statusCode() == 200) {
+      Map<Integer, Map<String, ConsentPurposeResponse>> responseMap =
+          fromJson(httpResponse, permissionCurrentResponseType, gson);
+      if (responseMap != null) {
+        permissionCurrentResponseMap.responseMap = responseMap;
         permissionCurrentResponseMap.message = FCConstants.HTTP_RESPONSE_STATUS_200_MESSAGE;
-      } else {
-        permissionCurrentResponseMap =
-            gson.fromJson(httpResponse.body(), PermissionCurrentResponseMap.class);
       }
     } else {
-      if (httpResponse.statusCode() >= 500) {
+      PermissionCurrentResponseMap errorResponse =
+          fromJson(httpResponse, PermissionCurrentResponseMap.class, gson);
+      if (errorResponse != null) {
+        permissionCurrentResponseMap = errorResponse;
+      } else if (httpResponse.statusCode() >= 500) {
         permissionCurrentResponseMap.message = FCConstants.HTTP_RESPONSE_STATUS_50X_MESSAGE;
       }
     }
@@ -1061,86 +1256,104 @@ public class FullContact implements AutoCloseable {
   }
 
   /**
-   * This method handles Auto Retry in case retry condition is true. It keeps retrying till the
-   * retryAttempts exhaust or the response is successful and completes the responseCF based on
-   * result. For retrying, it schedules the request using ScheduledThreadPoolExecutor with
-   * retryDelayMillis delay time.
+   * Returns the {@link RequestCoalescer} of the client, with the number of requests which shared
+   * the response of an equal request in flight instead of being sent.
    *
-   * @param httpRequest reusing the same httpRequest built in enrich method
-   * @param httpResponse response of the last retry, used to complete responseCF if all retry
-   *     attempts exhaust
-   * @param responseCF resultant completableFuture which is completed here and returned to client
-   * @param throwable exception from last retry, used to completeExceptionally
-   *     responseCompletableFutureResult if all retries exhaust
-   * @param retryAttemptsDone track the number of retry attempts already done
-   * @param retryHandler RetryHandler specified for the request
+   * @return RequestCoalescer used when request coalescing is enabled
    */
-  protected void handleAutoRetry(
-      CompletableFuture<HttpResponse<String>> responseCF,
-      HttpResponse<String> httpResponse,
-      HttpRequest httpRequest,
-      Throwable throwable,
-      int retryAttemptsDone,
-      RetryHandler retryHandler) {
-    if (retryAttemptsDone < (Math.min(retryHandler.getRetryAttempts(), 5))) {
-      retryAttemptsDone++;
-      int finalRetryAttemptsDone = retryAttemptsDone;
-      this.executor.schedule(
-          () -> {
-            CompletableFuture<HttpResponse<String>> retryCompletableFuture =
-                this.httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString());
-            retryCompletableFuture.handle(
-                (retryHttpResponse, retryThrowable) -> {
-                  if (retryThrowable != null) {
-                    handleAutoRetry(
-                        responseCF,
-                        retryHttpResponse,
-                        httpRequest,
-                        retryThrowable,
-                        finalRetryAttemptsDone,
-                        retryHandler);
-                  } else if (retryHttpResponse != null
-                      && !retryHandler.shouldRetry(retryHttpResponse.statusCode())) {
-                    responseCF.complete(retryHttpResponse);
-                  } else {
-                    handleAutoRetry(
-                        responseCF,
-                        retryHttpResponse,
-                        httpRequest,
-                        null,
-                        finalRetryAttemptsDone,
-                        retryHandler);
-                  }
-                  return null;
-                });
-          },
-          Math.max(retryHandler.getRetryDelayMillis(), 500)
-              * (long) Math.pow(2, retryAttemptsDone - 1),
-          TimeUnit.MILLISECONDS);
-    } else if (throwable != null
-        && retryAttemptsDone == (Math.min(retryHandler.getRetryAttempts(), 5))) {
-      responseCF.completeExceptionally(throwable);
-    } else {
-      responseCF.complete(httpResponse);
+  public RequestCoalescer getRequestCoalescer() {
+    return this.requestCoalescer;
+  }
+
+  /**
+   * Returns the {@link CircuitBreaker} of an API endpoint, to check its state or add a listener for
+   * its state changes.
+   *
+   * @param fcApiEndpoint API endpoint
+   * @return CircuitBreaker of the endpoint, or null if circuit breakers are not enabled
+   */
+  public CircuitBreaker getCircuitBreaker(FCApiEndpoint fcApiEndpoint) {
+    return this.circuitBreakers.get(fcApiEndpoint);
+  }
+
+  /**
+   * Returns the {@link RequestHedger} of an API endpoint, with the number of hedged requests sent
+   * and the current hedging delay.
+   *
+   * @param fcApiEndpoint API endpoint
+   * @return RequestHedger of the endpoint, or null if requests to it are not hedged
+   */
+  public RequestHedger getRequestHedger(FCApiEndpoint fcApiEndpoint) {
+    return this.requestHedgers.get(fcApiEndpoint);
+  }
+
+  /**
+   * Returns the number of requests waiting for a free stream, because maxConcurrentStreams of the
+   * {@link HttpClientOptions} are in flight on every connection. Always 0 if it isn't set.
+   *
+   * @return number of requests queued
+   */
+  public int getQueuedCallsCount() {
+    return this.httpClientPool.getQueuedCount();
+  }
+
+  /** @return number of requests sent and waiting for a response */
+  public int getRunningCallsCount() {
+    return this.httpClientPool.getInFlightCount();
+  }
+
+  /**
+   * Opens connections to the API host before the first requests, so that they don't pay for the DNS
+   * lookup, TCP and TLS handshakes. It sends the given number of HEAD requests at the same time,
+   * spread over the HttpClients of the {@link HttpClientOptions}, and waits for all of them. With
+   * HTTP/2 each HttpClient keeps a single connection, so warming up as many connections as
+   * HttpClients is enough, with HTTP/1.1 each request opens its own connection.
+   *
+   * @param connections number of connections to open
+   * @return number of connections opened and time taken
+   * @throws FullContactException exception if client is shutdown or the thread is interrupted
+   */
+  public WarmUpResult warmUp(int connections) throws FullContactException {
+    checkForShutdown();
+    long startNanos = System.nanoTime();
+    HttpRequest warmUpRequest =
+        HttpRequest.newBuilder(URI.create(FCConstants.API_BASE_DEFAULT))
+            .headers(this.headersArray)
+            .method("HEAD", HttpRequest.BodyPublishers.noBody())
+            .timeout(this.timeoutDuration)
+            .build();
+    int connected = 0;
+    try {
+      for (CompletableFuture<Boolean> warmUpCF :
+          this.httpClientPool.warmUp(warmUpRequest, connections)) {
+        if (warmUpCF.get()) {
+          connected++;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FullContactException("Interrupted while warming up connections", e);
+    } catch (ExecutionException e) {
+      // Warm-up futures are only completed normally
     }
+    return new WarmUpResult(
+        connections, connected, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
   }
 
   /**
    * This method is used to call shutdown on the ScheduledThreadPoolExecutor and close the
-   * FullContact client.
+   * FullContact client. The scheduler of a {@link FullContactRuntime} is left running for its other
+   * clients.
    */
   @Override
   public void close() {
-    if (!this.executor.isShutdown()) {
-      this.executor.shutdown();
-      this.isShutdown = true;
+    this.isShutdown = true;
+    if (this.cleanable != null) {
+      this.cleanable.clean();
+    }
+    if (this.hashedWheelTimer != null) {
+      this.hashedWheelTimer.close();
     }
-  }
-
-  /** This method will be called by GC to close the client. */
-  @Override
-  public void finalize() {
-    this.close();
   }
 
   /** Builder class for building FullContact client. */
@@ -1153,6 +1366,18 @@ public class FullContact implements AutoCloseable {
       if (this.retryHandler == null) {
         this.retryHandler = new DefaultRetryHandler();
       }
+      if (this.hedgingPolicies != null) {
+        for (FCApiEndpoint fcApiEndpoint : this.hedgingPolicies.keySet()) {
+          if (!fcApiEndpoint.isReadOnly()) {
+            throw new FullContactException(
+                "Requests to " + fcApiEndpoint + " modify data and can't be hedged");
+          }
+        }
+      }
+      if (this.runtime != null && this.httpClientOptions != null) {
+        throw new FullContactException(
+            "httpClientOptions can't be used with a runtime, they are set on the runtime");
+      }
     }
 
     /**
@@ -1164,7 +1389,29 @@ public class FullContact implements AutoCloseable {
      */
     public FullContact build() throws FullContactException {
       this.validate();
-      return new FullContact(credentialsProvider, headers, connectTimeoutMillis, retryHandler);
+      return new FullContact(
+          credentialsProvider,
+          headers,
+          connectTimeoutMillis,
+          retryHandler,
+          rateLimiters,
+          adaptiveThrottling,
+          retryBudget,
+          coalesceRequests,
+          responseCache,
+          responseStore,
+          negativeCache,
+          circuitBreakerConfig,
+          hedgingPolicies,
+          httpClientOptions,
+          responseExecutor,
+          callbackExecutor,
+          requestCompressionMinBytes,
+          deadlineMillis,
+          runtime,
+          retryTimerTickMillis,
+          lazyPersonDetails,
+          personFieldMask);
     }
 
     /**
@@ -1211,5 +1458,280 @@ public class FullContact implements AutoCloseable {
       this.retryHandler = retryHandler;
       return this;
     }
+
+    /**
+     * Builder method to rate limit requests to an API endpoint on the client side. Requests over
+     * the limit are queued locally and sent as soon as a permit is available, instead of being
+     * rejected with 429 by the API.
+     *
+     * @param fcApiEndpoint API endpoint to be rate limited
+     * @param permitsPerSecond steady number of requests per second
+     * @param burst maximum number of requests which can be sent at once
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder rateLimit(
+        FCApiEndpoint fcApiEndpoint, double permitsPerSecond, int burst) {
+      return this.rateLimiter(fcApiEndpoint, new TokenBucketRateLimiter(permitsPerSecond, burst));
+    }
+
+    /**
+     * Builder method to provide a {@link TokenBucketRateLimiter} for an API endpoint. The same rate
+     * limiter can be shared by multiple endpoints or clients to enforce a combined limit.
+     *
+     * @param fcApiEndpoint API endpoint to be rate limited
+     * @param rateLimiter rate limiter for the endpoint
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder rateLimiter(
+        FCApiEndpoint fcApiEndpoint, TokenBucketRateLimiter rateLimiter) {
+      if (this.rateLimiters == null) {
+        this.rateLimiters = new EnumMap<>(FCApiEndpoint.class);
+      }
+      this.rateLimiters.put(fcApiEndpoint, rateLimiter);
+      return this;
+    }
+
+    /**
+     * Builder method to enable adaptive throttling. The client reads the rate limit headers
+     * (X-Rate-Limit-Remaining, X-Rate-Limit-Reset and Retry-After) of every response, slows down
+     * requests to an endpoint as its quota runs low and holds them until the quota resets, instead
+     * of running into 429 errors. Disabled by default.
+     *
+     * @param adaptiveThrottling true to enable adaptive throttling
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder adaptiveThrottling(boolean adaptiveThrottling) {
+      this.adaptiveThrottling = adaptiveThrottling;
+      return this;
+    }
+
+    /**
+     * Builder method to provide the {@link RetryBudget} shared by all requests of the client. By
+     * default retries are limited to 10% of the requests sent in the last 10 seconds, plus 10
+     * retries per second, so that retries can't multiply the load on the API during an outage.
+     *
+     * @param retryBudget custom RetryBudget
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder retryBudget(RetryBudget retryBudget) {
+      this.retryBudget = retryBudget;
+      return this;
+    }
+
+    /**
+     * Builder method to enable request coalescing for Person and Company Enrich. While a request is
+     * in flight, equal requests made by other callers don't go over the wire again, they get the
+     * response of the request in flight instead. Disabled by default.
+     *
+     * @param coalesceRequests true to enable request coalescing
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder coalesceRequests(boolean coalesceRequests) {
+      this.coalesceRequests = coalesceRequests;
+      return this;
+    }
+
+    /**
+     * Builder method to provide a {@link ResponseCache} for Person and Company Enrich, like {@link
+     * TinyLfuResponseCache}. Successful responses are cached, keyed on the endpoint and the request
+     * serialized to json, and equal requests are answered from the cache. No cache by default.
+     *
+     * @param responseCache cache for enrich responses
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder responseCache(ResponseCache responseCache) {
+      this.responseCache = responseCache;
+      return this;
+    }
+
+    /**
+     * Builder method to provide a persistent {@link ResponseCache}, like {@link
+     * SegmentLogResponseCache}, for Person and Company Enrich and the Resolve and Verify endpoints
+     * which don't modify any data. It is checked when the response isn't in the responseCache, so
+     * that re-running a job doesn't call the API again for the records already processed. No store
+     * by default.
+     *
+     * @param responseStore persistent cache for responses
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder responseStore(ResponseCache responseStore) {
+      this.responseStore = responseStore;
+      return this;
+    }
+
+    /**
+     * Builder method to provide a {@link ResponseCache} for requests which had no match (404), like
+     * a {@link TinyLfuResponseCache} with a shorter time to live than the responseCache. Person and
+     * Company Enrich and Identity Resolve requests found in it are answered right away with a 404
+     * response, without calling the API. No negative cache by default.
+     *
+     * @param negativeCache cache of requests which had no match
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder negativeCache(ResponseCache negativeCache) {
+      this.negativeCache = negativeCache;
+      return this;
+    }
+
+    /**
+     * Builder method to enable a {@link CircuitBreaker} for each API endpoint. When the failure
+     * rate or the slow call rate of the recent requests to an endpoint reaches its threshold,
+     * further requests to it fail right away with a {@link CircuitBreakerOpenException}, until
+     * probe requests show that the endpoint has recovered. Disabled by default.
+     *
+     * @param circuitBreakerConfig options of the circuit breakers, like {@link
+     *     CircuitBreakerConfig#defaults()}
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder circuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+      this.circuitBreakerConfig = circuitBreakerConfig;
+      return this;
+    }
+
+    /**
+     * Builder method to hedge requests to a read-only API endpoint, like Verify Match and Verify
+     * Signals. If there is no response after the delay of the {@link HedgingPolicy}, by default the
+     * 95th percentile of the observed latencies, the request is sent once more and the first
+     * response is used. Hedged requests are limited to 10% of the requests by default. Disabled by
+     * default.
+     *
+     * @param fcApiEndpoint API endpoint whose requests are hedged, which must not modify any data
+     * @param hedgingPolicy options for hedging, like {@link HedgingPolicy#defaults()}
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder hedgeRequests(
+        FCApiEndpoint fcApiEndpoint, HedgingPolicy hedgingPolicy) {
+      if (this.hedgingPolicies == null) {
+        this.hedgingPolicies = new EnumMap<>(FCApiEndpoint.class);
+      }
+      this.hedgingPolicies.put(fcApiEndpoint, hedgingPolicy);
+      return this;
+    }
+
+    /**
+     * Builder method to provide {@link HttpClientOptions}: the HTTP version, the number of HTTP/2
+     * connections to the API host and the streams in flight on each of them, and the executor of
+     * the HttpClients. By default HTTP/2 is used over a single connection with up to 100 streams.
+     *
+     * @param httpClientOptions options of the HttpClients
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder httpClientOptions(HttpClientOptions httpClientOptions) {
+      this.httpClientOptions = httpClientOptions;
+      return this;
+    }
+
+    /**
+     * Builder method to provide the Executor used to parse responses. By default responses are
+     * parsed on the threads of the HTTP client, which then can't handle other responses.
+     *
+     * @param responseExecutor executor used to parse responses
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder responseExecutor(Executor responseExecutor) {
+      this.responseExecutor = responseExecutor;
+      return this;
+    }
+
+    /**
+     * Builder method to provide the Executor which completes the CompletableFutures returned by the
+     * client, so that callbacks chained to them, like thenApply or thenAccept, run on it. By
+     * default they run on the thread which parsed the response.
+     *
+     * @param callbackExecutor executor used to complete the CompletableFutures returned
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder callbackExecutor(Executor callbackExecutor) {
+      this.callbackExecutor = callbackExecutor;
+      return this;
+    }
+
+    /**
+     * Builder method to compress request bodies of at least minSizeBytes with gzip, like large
+     * Resolve and Permission requests. If the API responds with 415 Unsupported Media Type to a
+     * compressed request, it is sent again uncompressed and compression is turned off for the
+     * client. Disabled by default.
+     *
+     * @param minSizeBytes minimum size of the request bodies to compress
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder requestCompression(int minSizeBytes) {
+      this.requestCompressionMinBytes = minSizeBytes;
+      return this;
+    }
+
+    /**
+     * Builder method to provide the overall time each request can take, including the time it waits
+     * for rate limiters, every retry attempt and the delays between them. Requests which don't
+     * complete in time fail with a {@link DeadlineExceededException}, and retries which would be
+     * sent after the deadline are not made. A RetryHandler can set its own deadline with {@link
+     * RetryHandler#getDeadlineMillis()}. No deadline by default.
+     *
+     * @param deadlineMillis overall time a request can take, including retries
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder deadlineMillis(long deadlineMillis) {
+      this.deadlineMillis = deadlineMillis;
+      return this;
+    }
+
+    /**
+     * Builder method to provide a {@link FullContactRuntime} shared with other clients. The client
+     * then uses the scheduler, HttpClients and executors of the runtime instead of creating its
+     * own, while keeping its own credentials, headers and policies. The {@link HttpClientOptions}
+     * are set on the runtime.
+     *
+     * @param runtime runtime shared by several clients
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder runtime(FullContactRuntime runtime) {
+      this.runtime = runtime;
+      return this;
+    }
+
+    /**
+     * Builder method to schedule retries and deadlines with a {@link HashedWheelTimer} instead of
+     * the scheduler of the client. Scheduling and cancelling then take constant time however many
+     * retries are pending, as after a burst of 429 responses, at the cost of running each retry up
+     * to one tick late. {@link HashedWheelTimer#DEFAULT_TICK_MILLIS} is a good tick for the delays
+     * of retries. Not used by default.
+     *
+     * @param tickMillis duration of a tick of the timer
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder hashedWheelTimer(long tickMillis) {
+      this.retryTimerTickMillis = tickMillis;
+      return this;
+    }
+
+    /**
+     * Builder method to keep the details of Person Enrich responses as JSON until {@link
+     * PersonResponse#getDetails()} or one of the getters using it is first called. Callers reading
+     * only the top level fields, like the full name or the LinkedIn profile, then don't pay for
+     * decoding the demographics, finance, buyer and other details of each response. Disabled by
+     * default.
+     *
+     * @param lazyPersonDetails true to decode the details of Person Enrich responses lazily
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder lazyPersonDetails(boolean lazyPersonDetails) {
+      this.lazyPersonDetails = lazyPersonDetails;
+      return this;
+    }
+
+    /**
+     * Builder method to decode only some fields of Person Enrich responses, like {@code
+     * FieldMask.of("details.employment,details.locations")}. The other fields are skipped in the
+     * JSON without building any object for them, saving parsing time and heap for bulk jobs keeping
+     * many responses. The dataFilter of {@link PersonRequest} selects the data returned by the API,
+     * while the field mask selects what is decoded out of it. Not used by default.
+     *
+     * @param personFieldMask fields of Person Enrich responses to decode
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder personFieldMask(FieldMask personFieldMask) {
+      this.personFieldMask = personFieldMask;
+      return this;
+    }
   }
 }
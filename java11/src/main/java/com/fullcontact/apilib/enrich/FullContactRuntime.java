@@ -0,0 +1,115 @@
+package com.fullcontact.apilib.enrich;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.lang.ref.Cleaner;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Resources which several FullContact clients can share: the scheduler used for retries, rate
+ * limiting and deadlines, the HttpClients to the API host with their connections and stream limits,
+ * and the executors used for responses. Clients built with a runtime keep their own credentials,
+ * headers and policies but don't start any threads or connections of their own, so running one
+ * client per tenant costs little more than its configuration. Closing a client leaves its runtime
+ * open, the runtime is closed once all of its clients are done with it.
+ */
+public class FullContactRuntime implements AutoCloseable {
+  public static final int DEFAULT_SCHEDULER_THREADS = 5;
+  public static final long DEFAULT_CONNECT_TIMEOUT_MILLIS = 3000;
+
+  /**
+   * Shuts down the schedulers of clients and runtimes which became unreachable without being
+   * closed. The cleaning actions only hold on to the schedulers, never to their owners.
+   */
+  static final Cleaner CLEANER = Cleaner.create();
+
+  @Getter private final HttpClientOptions httpClientOptions;
+  @Getter private final Executor responseExecutor;
+  @Getter private final Executor callbackExecutor;
+  private final ScheduledExecutorService scheduler;
+  private final HttpClientPool httpClientPool;
+  private final Cleaner.Cleanable cleanable;
+
+  /**
+   * @param httpClientOptions options of the shared HttpClients, defaults if null
+   * @param schedulerThreads number of threads of the shared scheduler, 5 if not positive
+   * @param connectTimeoutMillis connection timeout of the shared HttpClients, 3000 if not positive
+   * @param responseExecutor executor used to parse responses of clients which don't have their own
+   * @param callbackExecutor executor used to complete the CompletableFutures returned by clients
+   *     which don't have their own
+   */
+  @Builder
+  public FullContactRuntime(
+      HttpClientOptions httpClientOptions,
+      int schedulerThreads,
+      long connectTimeoutMillis,
+      Executor responseExecutor,
+      Executor callbackExecutor) {
+    this.httpClientOptions =
+        httpClientOptions != null ? httpClientOptions : HttpClientOptions.defaults();
+    this.responseExecutor = responseExecutor;
+    this.callbackExecutor = callbackExecutor;
+    Duration connectTimeout =
+        Duration.ofMillis(
+            connectTimeoutMillis > 0 ? connectTimeoutMillis : DEFAULT_CONNECT_TIMEOUT_MILLIS);
+    this.httpClientPool =
+        new HttpClientPool(
+            this.httpClientOptions, () -> newHttpClient(this.httpClientOptions, connectTimeout));
+    ScheduledExecutorService scheduler =
+        newScheduler(schedulerThreads > 0 ? schedulerThreads : DEFAULT_SCHEDULER_THREADS);
+    this.scheduler = scheduler;
+    this.cleanable = CLEANER.register(this, scheduler::shutdown);
+  }
+
+  /** @return FullContactRuntime with all default values */
+  public static FullContactRuntime defaults() {
+    return FullContactRuntime.builder().build();
+  }
+
+  /** @return true once the runtime is closed, its clients can't send requests anymore */
+  public boolean isClosed() {
+    return this.scheduler.isShutdown();
+  }
+
+  ScheduledExecutorService getScheduler() {
+    return this.scheduler;
+  }
+
+  HttpClientPool getHttpClientPool() {
+    return this.httpClientPool;
+  }
+
+  /** Creates the scheduler of a runtime, or of a client without one */
+  static ScheduledExecutorService newScheduler(int threads) {
+    ScheduledThreadPoolExecutor scheduledThreadPoolExecutor =
+        new ScheduledThreadPoolExecutor(threads);
+    // Deadline timers are cancelled as soon as their request completes
+    scheduledThreadPoolExecutor.setRemoveOnCancelPolicy(true);
+    return scheduledThreadPoolExecutor;
+  }
+
+  static HttpClient newHttpClient(HttpClientOptions httpClientOptions, Duration connectTimeout) {
+    HttpClient.Builder httpClientBuilder =
+        HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .version(httpClientOptions.getHttpVersion());
+    if (httpClientOptions.getExecutor() != null) {
+      httpClientBuilder.executor(httpClientOptions.getExecutor());
+    }
+    return httpClientBuilder.build();
+  }
+
+  /**
+   * Shuts down the shared scheduler. Requests already sent still complete, but the clients of the
+   * runtime can't send new ones.
+   */
+  @Override
+  public void close() {
+    this.cleanable.clean();
+  }
+}
@@ -0,0 +1,282 @@
+package com.fullcontact.apilib.enrich;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * BodyHandler which decompresses gzip encoded responses. HttpClient neither asks for compressed
+ * responses nor decompresses them, so the FullContact client sends {@code Accept-Encoding: gzip}
+ * and wraps its BodyHandlers with this one. Each chunk of the body is inflated as soon as it is
+ * received and handed on to the BodySubscriber of the wrapped handler, so the compressed body is
+ * never buffered as a whole. Responses without {@code Content-Encoding: gzip} are passed through.
+ */
+class GzipBodyHandler<T> implements HttpResponse.BodyHandler<T> {
+  private final HttpResponse.BodyHandler<T> bodyHandler;
+
+  private GzipBodyHandler(HttpResponse.BodyHandler<T> bodyHandler) {
+    this.bodyHandler = bodyHandler;
+  }
+
+  static <T> HttpResponse.BodyHandler<T> decoding(HttpResponse.BodyHandler<T> bodyHandler) {
+    return new GzipBodyHandler<>(bodyHandler);
+  }
+
+  @Override
+  public HttpResponse.BodySubscriber<T> apply(HttpResponse.ResponseInfo responseInfo) {
+    HttpResponse.BodySubscriber<T> bodySubscriber = this.bodyHandler.apply(responseInfo);
+    boolean gzip =
+        responseInfo
+            .headers()
+            .firstValue("Content-Encoding")
+            .map(contentEncoding -> contentEncoding.trim().equalsIgnoreCase("gzip"))
+            .orElse(false);
+    return gzip ? new GzipBodySubscriber<>(bodySubscriber) : bodySubscriber;
+  }
+
+  /**
+   * Inflates the gzip members of the body, checking the CRC and size in the trailer of each of
+   * them. Every chunk received is passed on as one chunk, possibly empty, so that the demand of the
+   * downstream BodySubscriber stays in line with the chunks it gets.
+   */
+  static class GzipBodySubscriber<T> implements HttpResponse.BodySubscriber<T> {
+    private static final int HEADER_SIZE = 10;
+    private static final int TRAILER_SIZE = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private enum State {
+      HEADER,
+      DEFLATE,
+      TRAILER
+    }
+
+    private final HttpResponse.BodySubscriber<T> downstream;
+    private final Inflater inflater = new Inflater(true);
+    private final CRC32 crc = new CRC32();
+    private final byte[] outputBuffer = new byte[8192];
+    // Header or trailer bytes received so far, as either can be split over several chunks
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private State state = State.HEADER;
+    private boolean membersComplete;
+    private boolean empty = true;
+    private boolean failed;
+    private Flow.Subscription subscription;
+
+    GzipBodySubscriber(HttpResponse.BodySubscriber<T> downstream) {
+      this.downstream = downstream;
+    }
+
+    @Override
+    public CompletionStage<T> getBody() {
+      return this.downstream.getBody();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      this.downstream.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+      if (this.failed) {
+        return;
+      }
+      List<ByteBuffer> inflated = new ArrayList<>();
+      try {
+        for (ByteBuffer item : items) {
+          byte[] chunk = new byte[item.remaining()];
+          item.get(chunk);
+          this.empty &= chunk.length == 0;
+          this.decode(chunk, 0, chunk.length, inflated);
+        }
+      } catch (IOException e) {
+        this.fail(e);
+        return;
+      }
+      this.downstream.onNext(inflated);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.inflater.end();
+      if (!this.failed) {
+        this.failed = true;
+        this.downstream.onError(throwable);
+      }
+    }
+
+    @Override
+    public void onComplete() {
+      this.inflater.end();
+      if (this.failed) {
+        return;
+      }
+      // Like the body of a HEAD request, an empty body has no gzip member at all
+      if (this.empty
+          || (this.state == State.HEADER && this.pending.size() == 0 && this.membersComplete)) {
+        this.downstream.onComplete();
+      } else {
+        this.failed = true;
+        this.downstream.onError(new EOFException("Unexpected end of gzip response body"));
+      }
+    }
+
+    private void fail(IOException e) {
+      this.failed = true;
+      this.inflater.end();
+      this.subscription.cancel();
+      this.downstream.onError(e);
+    }
+
+    private void decode(byte[] chunk, int offset, int length, List<ByteBuffer> inflated)
+        throws IOException {
+      while (length > 0) {
+        switch (this.state) {
+          case HEADER:
+            {
+              int used = this.readHeader(chunk, offset, length);
+              offset += used;
+              length -= used;
+              break;
+            }
+          case DEFLATE:
+            {
+              this.inflater.setInput(chunk, offset, length);
+              this.inflate(inflated);
+              int used = length - this.inflater.getRemaining();
+              offset += used;
+              length -= used;
+              if (this.inflater.finished()) {
+                this.state = State.TRAILER;
+              }
+              break;
+            }
+          case TRAILER:
+            {
+              int used = Math.min(TRAILER_SIZE - this.pending.size(), length);
+              this.pending.write(chunk, offset, used);
+              offset += used;
+              length -= used;
+              if (this.pending.size() == TRAILER_SIZE) {
+                this.checkTrailer(this.pending.toByteArray());
+                this.pending.reset();
+                this.inflater.reset();
+                this.crc.reset();
+                this.membersComplete = true;
+                this.state = State.HEADER;
+              }
+              break;
+            }
+        }
+      }
+    }
+
+    private void inflate(List<ByteBuffer> inflated) throws ZipException {
+      try {
+        int count;
+        while ((count = this.inflater.inflate(this.outputBuffer)) > 0) {
+          this.crc.update(this.outputBuffer, 0, count);
+          byte[] output = new byte[count];
+          System.arraycopy(this.outputBuffer, 0, output, 0, count);
+          inflated.add(ByteBuffer.wrap(output));
+        }
+      } catch (DataFormatException e) {
+        throw new ZipException("Invalid gzip response body: " + e.getMessage());
+      }
+      if (this.inflater.needsDictionary()) {
+        throw new ZipException("Invalid gzip response body: preset dictionary");
+      }
+    }
+
+    /**
+     * Collects header bytes until the whole header, with its optional fields, has been received.
+     *
+     * @return number of bytes of the chunk which belong to the header
+     */
+    private int readHeader(byte[] chunk, int offset, int length) throws ZipException {
+      int start = this.pending.size();
+      this.pending.write(chunk, offset, length);
+      byte[] header = this.pending.toByteArray();
+      int headerSize = headerSize(header);
+      if (headerSize < 0) {
+        return length;
+      }
+      this.pending.reset();
+      this.membersComplete = false;
+      this.state = State.DEFLATE;
+      return headerSize - start;
+    }
+
+    /** @return size of the header, or -1 if more bytes are needed to know it */
+    private static int headerSize(byte[] header) throws ZipException {
+      if (header.length >= 2 && ((header[0] & 0xff) != 0x1f || (header[1] & 0xff) != 0x8b)) {
+        throw new ZipException("Response body is not in gzip format");
+      }
+      if (header.length < HEADER_SIZE) {
+        return -1;
+      }
+      if (header[2] != 8) {
+        throw new ZipException("Unsupported gzip compression method: " + header[2]);
+      }
+      int flags = header[3] & 0xff;
+      int size = HEADER_SIZE;
+      if ((flags & FEXTRA) != 0) {
+        if (header.length < size + 2) {
+          return -1;
+        }
+        size += 2 + ((header[size] & 0xff) | (header[size + 1] & 0xff) << 8);
+      }
+      if ((flags & FNAME) != 0) {
+        size = skipZeroTerminated(header, size);
+      }
+      if (size >= 0 && (flags & FCOMMENT) != 0) {
+        size = skipZeroTerminated(header, size);
+      }
+      if (size >= 0 && (flags & FHCRC) != 0) {
+        size += 2;
+      }
+      return size >= 0 && size <= header.length ? size : -1;
+    }
+
+    private static int skipZeroTerminated(byte[] header, int offset) {
+      for (int i = offset; i < header.length; i++) {
+        if (header[i] == 0) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
+
+    private void checkTrailer(byte[] trailer) throws ZipException {
+      long crc = readInt(trailer, 0);
+      long size = readInt(trailer, 4);
+      if (crc != this.crc.getValue()) {
+        throw new ZipException("Corrupt gzip response body: CRC mismatch");
+      }
+      if (size != (this.inflater.getBytesWritten() & 0xffffffffL)) {
+        throw new ZipException("Corrupt gzip response body: size mismatch");
+      }
+    }
+
+    private static long readInt(byte[] bytes, int offset) {
+      return (bytes[offset] & 0xffL)
+          | (bytes[offset + 1] & 0xffL) << 8
+          | (bytes[offset + 2] & 0xffL) << 16
+          | (bytes[offset + 3] & 0xffL) << 24;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.fullcontact.apilib.enrich;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * BodyPublisher of a request body compressed with gzip. It keeps the uncompressed body, so that the
+ * request can be sent again uncompressed if the server doesn't accept compressed request bodies.
+ */
+class GzipBodyPublisher implements HttpRequest.BodyPublisher {
+  private final byte[] body;
+  private final HttpRequest.BodyPublisher compressedBodyPublisher;
+
+  GzipBodyPublisher(byte[] body) {
+    this.body = body;
+    this.compressedBodyPublisher = HttpRequest.BodyPublishers.ofByteArray(gzip(body));
+  }
+
+  private static byte[] gzip(byte[] body) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4 + 32);
+    try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+      gzipOutputStream.write(body);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return outputStream.toByteArray();
+  }
+
+  @Override
+  public long contentLength() {
+    return this.compressedBodyPublisher.contentLength();
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+    this.compressedBodyPublisher.subscribe(subscriber);
+  }
+
+  /** @return copy of the request with the uncompressed body and without Content-Encoding */
+  HttpRequest withoutCompression(HttpRequest httpRequest) {
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(httpRequest.uri())
+            .method(httpRequest.method(), HttpRequest.BodyPublishers.ofByteArray(this.body));
+    httpRequest
+        .headers()
+        .map()
+        .forEach(
+            (name, values) -> {
+              if (!name.equalsIgnoreCase("Content-Encoding")) {
+                values.forEach(value -> builder.header(name, value));
+              }
+            });
+    httpRequest.timeout().ifPresent(builder::timeout);
+    httpRequest.version().ifPresent(builder::version);
+    return builder.build();
+  }
+}
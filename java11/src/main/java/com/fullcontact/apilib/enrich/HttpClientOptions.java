@@ -0,0 +1,51 @@
+package com.fullcontact.apilib.enrich;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executor;
+
+/**
+ * Options of the HttpClients used by the FullContact client. With HTTP/2 an HttpClient sends all
+ * requests to the API host as streams over a single connection, so the client spreads requests over
+ * the given number of connections, each with its own HttpClient. The streams in flight on each of
+ * them can also be limited, requests over the limit then wait locally until a stream is free.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class HttpClientOptions {
+  public static final int DEFAULT_CONNECTIONS = 1;
+
+  /**
+   * HTTP version to use. With HTTP/2, HTTP/1.1 is still used if the server doesn't support HTTP/2.
+   * HTTP/1.1 turns off HTTP/2 altogether, each request in flight then uses its own connection.
+   */
+  @Builder.Default private HttpClient.Version httpVersion = HttpClient.Version.HTTP_2;
+
+  /** Number of HttpClients, and so of HTTP/2 connections to the API host */
+  @Builder.Default private int connections = DEFAULT_CONNECTIONS;
+
+  /**
+   * Maximum number of requests in flight on each connection, 0 for no limit. The default is no
+   * limit, leaving it to the HttpClient and the server; 100 matches the usual HTTP/2 limit of
+   * servers.
+   */
+  private int maxConcurrentStreams;
+
+  /** Executor of the HttpClients, the default executor of HttpClient is used if null */
+  private Executor executor;
+
+  /** @return HttpClientOptions with all default values */
+  public static HttpClientOptions defaults() {
+    return HttpClientOptions.builder().build();
+  }
+
+  public int getConnections() {
+    return Math.max(this.connections, 1);
+  }
+
+  public int getMaxConcurrentStreams() {
+    return Math.max(this.maxConcurrentStreams, 0);
+  }
+}
@@ -0,0 +1,275 @@
+package com.fullcontact.apilib.enrich;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * HttpClients to the API host, used in turn. Each of them has its own HTTP/2 connection. The
+ * requests in flight can be limited to maxConcurrentStreams per connection, counted for each
+ * HttpClient: requests go to the next HttpClient with a free stream, and when there is none they
+ * wait in a queue until the body of a request in flight has been received or closed. The stream
+ * freed is then handed to the first queued request, on the same HttpClient.
+ */
+class HttpClientPool {
+  private final HttpClient[] httpClients;
+  private final int maxConcurrentStreams;
+  private final int[] inFlight;
+  private final Queue<PooledResponse<?>> queuedRequests = new ArrayDeque<>();
+  private int inFlightCount;
+  private int nextClient;
+
+  HttpClientPool(HttpClientOptions httpClientOptions, Supplier<HttpClient> httpClientFactory) {
+    this.httpClients = new HttpClient[httpClientOptions.getConnections()];
+    for (int i = 0; i < this.httpClients.length; i++) {
+      this.httpClients[i] = httpClientFactory.get();
+    }
+    this.maxConcurrentStreams =
+        httpClientOptions.getMaxConcurrentStreams() > 0
+            ? httpClientOptions.getMaxConcurrentStreams()
+            : Integer.MAX_VALUE;
+    this.inFlight = new int[this.httpClients.length];
+  }
+
+  synchronized int getQueuedCount() {
+    return this.queuedRequests.size();
+  }
+
+  synchronized int getInFlightCount() {
+    return this.inFlightCount;
+  }
+
+  /**
+   * Sends the request with the next HttpClient which has a free stream, or queues it if the
+   * requests in flight are at the limit on every HttpClient. Cancelling the returned
+   * CompletableFuture cancels the request, or removes it from the queue if it hasn't been sent yet.
+   *
+   * @param discardResponse releases a response which arrives once the request has been cancelled
+   */
+  <T> CompletableFuture<HttpResponse<T>> sendAsync(
+      HttpRequest httpRequest,
+      HttpResponse.BodyHandler<T> bodyHandler,
+      Consumer<HttpResponse<T>> discardResponse) {
+    PooledResponse<T> pooledResponse =
+        new PooledResponse<>(httpRequest, bodyHandler, discardResponse);
+    int client;
+    synchronized (this) {
+      client = this.acquireClient();
+      if (client < 0) {
+        this.queuedRequests.add(pooledResponse);
+      }
+    }
+    if (client >= 0) {
+      pooledResponse.send(client);
+    }
+    return pooledResponse;
+  }
+
+  /**
+   * Sends the warm-up requests at the same time, spread over the HttpClients, without counting them
+   * against the requests in flight.
+   *
+   * @return for each request, whether it got a response
+   */
+  List<CompletableFuture<Boolean>> warmUp(HttpRequest httpRequest, int connections) {
+    List<CompletableFuture<Boolean>> warmUpCFs = new ArrayList<>();
+    for (int i = 0; i < connections; i++) {
+      warmUpCFs.add(
+          this.nextHttpClient()
+              .sendAsync(httpRequest, HttpResponse.BodyHandlers.discarding())
+              .handle((httpResponse, throwable) -> httpResponse != null));
+    }
+    return warmUpCFs;
+  }
+
+  private synchronized HttpClient nextHttpClient() {
+    HttpClient httpClient = this.httpClients[this.nextClient];
+    this.nextClient = (this.nextClient + 1) % this.httpClients.length;
+    return httpClient;
+  }
+
+  /**
+   * Takes a stream of the next HttpClient which has a free one, the caller holds the lock
+   *
+   * @return index of the HttpClient, -1 if all streams are in use
+   */
+  private int acquireClient() {
+    for (int i = 0; i < this.httpClients.length; i++) {
+      int client = (this.nextClient + i) % this.httpClients.length;
+      if (this.inFlight[client] < this.maxConcurrentStreams) {
+        this.nextClient = (client + 1) % this.httpClients.length;
+        this.inFlight[client]++;
+        this.inFlightCount++;
+        return client;
+      }
+    }
+    return -1;
+  }
+
+  /** Hands the stream of a completed request to the next queued request, on the same HttpClient */
+  private void release(int client) {
+    PooledResponse<?> next;
+    synchronized (this) {
+      next = this.queuedRequests.poll();
+      if (next == null) {
+        this.inFlight[client]--;
+        this.inFlightCount--;
+      }
+    }
+    if (next != null) {
+      next.send(client);
+    }
+  }
+
+  /** Removes a request cancelled before being sent from the queue */
+  private synchronized void dequeue(PooledResponse<?> pooledResponse) {
+    this.queuedRequests.remove(pooledResponse);
+  }
+
+  /**
+   * Response of a request sent through the pool. It's completed by the CompletableFuture of the
+   * HttpClient, which it cancels when cancelled itself. The slot of the request is released once
+   * its body has been received or closed, so that a streamed body being read still counts as in
+   * flight.
+   */
+  private final class PooledResponse<T> extends CompletableFuture<HttpResponse<T>> {
+    private final HttpRequest httpRequest;
+    private final HttpResponse.BodyHandler<T> bodyHandler;
+    private final Consumer<HttpResponse<T>> discardResponse;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile int client;
+    private volatile CompletableFuture<HttpResponse<T>> sentCF;
+    private volatile Flow.Subscription bodySubscription;
+
+    private PooledResponse(
+        HttpRequest httpRequest,
+        HttpResponse.BodyHandler<T> bodyHandler,
+        Consumer<HttpResponse<T>> discardResponse) {
+      this.httpRequest = httpRequest;
+      this.bodyHandler = bodyHandler;
+      this.discardResponse = discardResponse;
+    }
+
+    private void send(int client) {
+      this.client = client;
+      if (this.isCancelled()) {
+        this.release();
+        return;
+      }
+      CompletableFuture<HttpResponse<T>> sentCF;
+      try {
+        sentCF =
+            HttpClientPool.this.httpClients[client].sendAsync(
+                this.httpRequest,
+                responseInfo -> new BodySubscriber(this.bodyHandler.apply(responseInfo)));
+      } catch (RuntimeException e) {
+        this.release();
+        this.completeExceptionally(e);
+        return;
+      }
+      this.sentCF = sentCF;
+      if (this.isCancelled()) {
+        // Cancelled while being sent
+        sentCF.cancel(true);
+      }
+      sentCF.whenComplete(
+          (httpResponse, throwable) -> {
+            if (throwable != null) {
+              this.release();
+              this.completeExceptionally(throwable);
+            } else if (!this.complete(httpResponse)) {
+              this.discardResponse.accept(httpResponse);
+            }
+          });
+    }
+
+    private void release() {
+      if (this.released.compareAndSet(false, true)) {
+        HttpClientPool.this.release(this.client);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        CompletableFuture<HttpResponse<T>> sentCF = this.sentCF;
+        if (sentCF != null) {
+          sentCF.cancel(mayInterruptIfRunning);
+        } else {
+          HttpClientPool.this.dequeue(this);
+        }
+        // The HttpClient may not stop a request whose response is on its way, its body is closed
+        Flow.Subscription bodySubscription = this.bodySubscription;
+        if (bodySubscription != null) {
+          bodySubscription.cancel();
+        }
+      }
+      return cancelled;
+    }
+
+    /** Releases the slot of the request once the body has been received, failed or was closed */
+    private final class BodySubscriber implements HttpResponse.BodySubscriber<T> {
+      private final HttpResponse.BodySubscriber<T> bodySubscriber;
+
+      private BodySubscriber(HttpResponse.BodySubscriber<T> bodySubscriber) {
+        this.bodySubscriber = bodySubscriber;
+      }
+
+      @Override
+      public CompletionStage<T> getBody() {
+        return this.bodySubscriber.getBody();
+      }
+
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        Flow.Subscription bodySubscription =
+            new Flow.Subscription() {
+              @Override
+              public void request(long n) {
+                subscription.request(n);
+              }
+
+              @Override
+              public void cancel() {
+                PooledResponse.this.release();
+                subscription.cancel();
+              }
+            };
+        PooledResponse.this.bodySubscription = bodySubscription;
+        this.bodySubscriber.onSubscribe(bodySubscription);
+        if (PooledResponse.this.isCancelled()) {
+          bodySubscription.cancel();
+        }
+      }
+
+      @Override
+      public void onNext(List<ByteBuffer> item) {
+        this.bodySubscriber.onNext(item);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        PooledResponse.this.release();
+        this.bodySubscriber.onError(throwable);
+      }
+
+      @Override
+      public void onComplete() {
+        PooledResponse.this.release();
+        this.bodySubscriber.onComplete();
+      }
+    }
+  }
+}
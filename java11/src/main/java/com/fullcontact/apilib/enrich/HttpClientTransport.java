@@ -0,0 +1,147 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.transport.Transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transport sending requests with the HttpClients of an {@link HttpClientPool}. Responses
+ * compressed with gzip are decoded as they stream in, and requests with a compressed body are sent
+ * again uncompressed if the server responds with 415 Unsupported Media Type.
+ *
+ * @param <T> type of the response bodies
+ */
+class HttpClientTransport<T> implements Transport<HttpRequest, HttpResponse<T>> {
+  private final HttpClientPool httpClientPool;
+  private final HttpResponse.BodyHandler<T> bodyHandler;
+  // Shared by the transports of a client, once rejected compression is turned off for all of them
+  private final AtomicBoolean requestCompressionRejected;
+
+  HttpClientTransport(HttpClientPool httpClientPool, HttpResponse.BodyHandler<T> bodyHandler) {
+    this(httpClientPool, bodyHandler, new AtomicBoolean());
+  }
+
+  private HttpClientTransport(
+      HttpClientPool httpClientPool,
+      HttpResponse.BodyHandler<T> bodyHandler,
+      AtomicBoolean requestCompressionRejected) {
+    this.httpClientPool = httpClientPool;
+    this.bodyHandler = GzipBodyHandler.decoding(bodyHandler);
+    this.requestCompressionRejected = requestCompressionRejected;
+  }
+
+  /**
+   * @param bodyHandler handler of the response bodies
+   * @return HttpClientTransport sending requests with the same HttpClients, whose responses are
+   *     read by the bodyHandler
+   */
+  <S> HttpClientTransport<S> withBodyHandler(HttpResponse.BodyHandler<S> bodyHandler) {
+    return new HttpClientTransport<>(
+        this.httpClientPool, bodyHandler, this.requestCompressionRejected);
+  }
+
+  /** @return true once the server rejected a compressed request body */
+  boolean isRequestCompressionRejected() {
+    return this.requestCompressionRejected.get();
+  }
+
+  @Override
+  public CompletableFuture<HttpResponse<T>> send(
+      HttpRequest httpRequest, FCApiEndpoint fcApiEndpoint) {
+    HttpRequest.BodyPublisher bodyPublisher = httpRequest.bodyPublisher().orElse(null);
+    if (!(bodyPublisher instanceof GzipBodyPublisher)) {
+      return this.httpClientPool.sendAsync(httpRequest, this.bodyHandler, this::discard);
+    }
+    GzipBodyPublisher gzipBodyPublisher = (GzipBodyPublisher) bodyPublisher;
+    if (this.requestCompressionRejected.get()) {
+      return this.httpClientPool.sendAsync(
+          gzipBodyPublisher.withoutCompression(httpRequest), this.bodyHandler, this::discard);
+    }
+    CompressedRequestResponse responseCF =
+        new CompressedRequestResponse(httpRequest, gzipBodyPublisher);
+    responseCF.send(true);
+    return responseCF;
+  }
+
+  @Override
+  public int statusCode(HttpResponse<T> httpResponse) {
+    return httpResponse.statusCode();
+  }
+
+  @Override
+  public String header(HttpResponse<T> httpResponse, String name) {
+    return httpResponse.headers().firstValue(name).orElse(null);
+  }
+
+  /** Closes a streamed body which is not read, so that its connection can be reused */
+  @Override
+  public void discard(HttpResponse<T> httpResponse) {
+    if (httpResponse.body() instanceof InputStream) {
+      try {
+        ((InputStream) httpResponse.body()).close();
+      } catch (IOException e) {
+        // The connection is closed instead of being reused
+      }
+    }
+  }
+
+  /**
+   * Response of a request with a compressed body, which is sent again uncompressed if the server
+   * responds with 415. Cancelling it cancels the request in flight.
+   */
+  private final class CompressedRequestResponse extends CompletableFuture<HttpResponse<T>> {
+    private final HttpRequest httpRequest;
+    private final GzipBodyPublisher gzipBodyPublisher;
+    private volatile CompletableFuture<HttpResponse<T>> sentCF;
+
+    private CompressedRequestResponse(
+        HttpRequest httpRequest, GzipBodyPublisher gzipBodyPublisher) {
+      this.httpRequest = httpRequest;
+      this.gzipBodyPublisher = gzipBodyPublisher;
+    }
+
+    private void send(boolean compressed) {
+      CompletableFuture<HttpResponse<T>> sentCF =
+          HttpClientTransport.this.httpClientPool.sendAsync(
+              compressed
+                  ? this.httpRequest
+                  : this.gzipBodyPublisher.withoutCompression(this.httpRequest),
+              HttpClientTransport.this.bodyHandler,
+              HttpClientTransport.this::discard);
+      this.sentCF = sentCF;
+      if (this.isCancelled()) {
+        sentCF.cancel(true);
+      }
+      sentCF.whenComplete(
+          (httpResponse, throwable) -> {
+            if (throwable != null) {
+              this.completeExceptionally(throwable);
+            } else if (compressed && httpResponse.statusCode() == 415) {
+              HttpClientTransport.this.requestCompressionRejected.set(true);
+              HttpClientTransport.this.discard(httpResponse);
+              if (!this.isDone()) {
+                this.send(false);
+              }
+            } else if (!this.complete(httpResponse)) {
+              HttpClientTransport.this.discard(httpResponse);
+            }
+          });
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      CompletableFuture<HttpResponse<T>> sentCF = this.sentCF;
+      if (cancelled && sentCF != null) {
+        sentCF.cancel(mayInterruptIfRunning);
+      }
+      return cancelled;
+    }
+  }
+}
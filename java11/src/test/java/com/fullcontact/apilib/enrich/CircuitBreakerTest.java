@@ -0,0 +1,141 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.circuitbreaker.CircuitBreaker;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreakerConfig;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreakerOpenException;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class CircuitBreakerTest {
+  private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long SLOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private final List<String> stateChanges = new ArrayList<>();
+
+  private CircuitBreaker circuitBreaker(long openDurationMillis) {
+    CircuitBreaker circuitBreaker =
+        new CircuitBreaker(
+            FCApiEndpoint.PERSON_ENRICH,
+            CircuitBreakerConfig.builder()
+                .slidingWindowSize(10)
+                .minimumNumberOfCalls(5)
+                .slowCallDurationMillis(1000)
+                .openDurationMillis(openDurationMillis)
+                .permittedCallsInHalfOpenState(2)
+                .build());
+    circuitBreaker.addStateListener(
+        (fcApiEndpoint, fromState, toState) -> stateChanges.add(fromState + "->" + toState));
+    return circuitBreaker;
+  }
+
+  @Test
+  public void opensOnFailureRateTest() {
+    CircuitBreaker circuitBreaker = circuitBreaker(60_000);
+    for (int i = 0; i < 4; i++) {
+      Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+      circuitBreaker.onResult(FAST_NANOS, true);
+    }
+    // Not enough calls yet to decide
+    Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    circuitBreaker.onResult(FAST_NANOS, false);
+    Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+    Assert.assertEquals(Arrays.asList("CLOSED->OPEN"), stateChanges);
+  }
+
+  @Test
+  public void opensOnSlowCallRateTest() {
+    CircuitBreaker circuitBreaker = circuitBreaker(60_000);
+    for (int i = 0; i < 5; i++) {
+      circuitBreaker.onResult(i < 2 ? FAST_NANOS : SLOW_NANOS, false);
+    }
+    Assert.assertEquals(0.0, circuitBreaker.getFailureRate(), 0.0);
+    Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+  }
+
+  @Test
+  public void oldFailuresLeaveSlidingWindowTest() {
+    CircuitBreaker circuitBreaker = circuitBreaker(60_000);
+    for (int i = 0; i < 2; i++) {
+      circuitBreaker.onResult(FAST_NANOS, true);
+    }
+    for (int i = 0; i < 20; i++) {
+      circuitBreaker.onResult(FAST_NANOS, false);
+    }
+    Assert.assertEquals(0.0, circuitBreaker.getFailureRate(), 0.0);
+    Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+  }
+
+  @Test
+  public void successfulProbesCloseCircuitTest() throws InterruptedException {
+    CircuitBreaker circuitBreaker = circuitBreaker(50);
+    for (int i = 0; i < 5; i++) {
+      circuitBreaker.onResult(FAST_NANOS, true);
+    }
+    Thread.sleep(100);
+    Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+    Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+    // Only a limited number of probes are let through
+    Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+    Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    circuitBreaker.onResult(FAST_NANOS, false);
+    circuitBreaker.onResult(FAST_NANOS, false);
+    Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    Assert.assertEquals(
+        Arrays.asList("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), stateChanges);
+  }
+
+  @Test
+  public void failedProbeReopensCircuitTest() throws InterruptedException {
+    CircuitBreaker circuitBreaker = circuitBreaker(50);
+    for (int i = 0; i < 5; i++) {
+      circuitBreaker.onResult(FAST_NANOS, true);
+    }
+    Thread.sleep(100);
+    Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+    Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+    circuitBreaker.onResult(FAST_NANOS, false);
+    circuitBreaker.onResult(FAST_NANOS, true);
+    Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+    Assert.assertEquals(
+        Arrays.asList("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), stateChanges);
+  }
+
+  @Test
+  public void executeRecordsServerErrorsAndFailsFastTest() throws InterruptedException {
+    CircuitBreaker circuitBreaker = circuitBreaker(60_000);
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals(
+          503,
+          (int)
+              circuitBreaker
+                  .execute(() -> CompletableFuture.completedFuture(503), status -> status)
+                  .join());
+    }
+    Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    try {
+      circuitBreaker
+          .execute(
+              () -> {
+                throw new AssertionError("Request sent while the circuit is open");
+              },
+              status -> 200)
+          .get();
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof CircuitBreakerOpenException);
+      Assert.assertEquals(
+          FCApiEndpoint.PERSON_ENRICH,
+          ((CircuitBreakerOpenException) e.getCause()).getFcApiEndpoint());
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.fullcontact.apilib.enrich;
 
 import com.fullcontact.apilib.FullContactException;
 import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
+import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -61,4 +62,48 @@ public class FullContactClientTest {
             .build();
     fcTest.close();
   }
+
+  @Test
+  public void sharedRuntimeTest() throws FullContactException {
+    FullContactRuntime runtime = FullContactRuntime.defaults();
+    FullContact firstClient =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("first-api-key"))
+            .runtime(runtime)
+            .build();
+    FullContact secondClient =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("second-api-key"))
+            .runtime(runtime)
+            .build();
+    try {
+      // Closing a client leaves the runtime to its other clients
+      firstClient.close();
+      Assert.assertFalse(runtime.isClosed());
+      secondClient.tagsGet("recordId");
+      runtime.close();
+      Assert.assertTrue(runtime.isClosed());
+      try {
+        secondClient.tagsGet("recordId");
+        Assert.fail("Client of a closed runtime shouldn't send requests");
+      } catch (FullContactException e) {
+        Assert.assertTrue(e.getMessage().contains("shutdown"));
+      }
+    } finally {
+      runtime.close();
+    }
+  }
+
+  @Test
+  public void runtimeWithHttpClientOptionsTest() throws FullContactException {
+    exceptionRule.expect(FullContactException.class);
+    exceptionRule.expectMessage("httpClientOptions can't be used with a runtime");
+    try (FullContactRuntime runtime = FullContactRuntime.defaults()) {
+      FullContact.builder()
+          .credentialsProvider(new StaticApiKeyCredentialProvider("api-key"))
+          .runtime(runtime)
+          .httpClientOptions(HttpClientOptions.defaults())
+          .build();
+    }
+  }
 }
@@ -0,0 +1,213 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.models.Response.PersonResponse;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+public class GzipBodyHandlerTest {
+  private static final String JSON =
+      "{\"fullName\":\"Marquita H Ross\",\"ageRange\":\"37-47\",\"gender\":\"Female\","
+          + "\"location\":\"San Francisco, California, United States\",\"title\":\"Senior Petroleum"
+          + " Manager\",\"organization\":\"Mostow Co.\",\"twitter\":\"https://twitter.com/marqross91\"}";
+
+  private static byte[] gzip(String body) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+      gzipOutputStream.write(body.getBytes(StandardCharsets.UTF_8));
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static HttpResponse.ResponseInfo responseInfo(Map<String, List<String>> headers) {
+    return new HttpResponse.ResponseInfo() {
+      @Override
+      public int statusCode() {
+        return 200;
+      }
+
+      @Override
+      public HttpHeaders headers() {
+        return HttpHeaders.of(headers, (name, value) -> true);
+      }
+
+      @Override
+      public HttpClient.Version version() {
+        return HttpClient.Version.HTTP_1_1;
+      }
+    };
+  }
+
+  /** Feeds the body to the subscriber in chunks of the given size */
+  private static CompletableFuture<String> decode(byte[] body, int chunkSize, boolean gzip) {
+    HttpResponse.BodySubscriber<String> bodySubscriber =
+        GzipBodyHandler.decoding(HttpResponse.BodyHandlers.ofString())
+            .apply(
+                responseInfo(
+                    gzip ? Map.of("Content-Encoding", List.of("gzip")) : Collections.emptyMap()));
+    bodySubscriber.onSubscribe(
+        new Flow.Subscription() {
+          @Override
+          public void request(long n) {}
+
+          @Override
+          public void cancel() {}
+        });
+    for (int offset = 0; offset < body.length; offset += chunkSize) {
+      int length = Math.min(chunkSize, body.length - offset);
+      bodySubscriber.onNext(List.of(ByteBuffer.wrap(body, offset, length)));
+    }
+    bodySubscriber.onComplete();
+    return bodySubscriber.getBody().toCompletableFuture();
+  }
+
+  @Test
+  public void decodeInChunksTest() throws Exception {
+    byte[] compressed = gzip(JSON);
+    for (int chunkSize : new int[] {1, 3, 10, 64, compressed.length}) {
+      Assert.assertEquals(JSON, decode(compressed, chunkSize, true).get());
+    }
+  }
+
+  @Test
+  public void concatenatedMembersTest() throws Exception {
+    byte[] first = gzip("{\"fullName\":");
+    byte[] second = gzip("\"Marquita H Ross\"}");
+    byte[] body = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, body, first.length, second.length);
+    Assert.assertEquals("{\"fullName\":\"Marquita H Ross\"}", decode(body, 7, true).get());
+  }
+
+  @Test
+  public void uncompressedBodyTest() throws Exception {
+    Assert.assertEquals(JSON, decode(JSON.getBytes(StandardCharsets.UTF_8), 16, false).get());
+  }
+
+  @Test
+  public void emptyBodyTest() throws Exception {
+    Assert.assertEquals("", decode(new byte[0], 1, true).get());
+  }
+
+  @Test
+  public void corruptBodyTest() throws Exception {
+    byte[] compressed = gzip(JSON);
+    // Flip a bit of the CRC in the trailer
+    compressed[compressed.length - 8] ^= 1;
+    try {
+      decode(compressed, 16, true).get();
+      Assert.fail("Corrupt body should fail");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof ZipException);
+    }
+  }
+
+  @Test
+  public void truncatedBodyTest() throws Exception {
+    byte[] compressed = gzip(JSON);
+    try {
+      decode(Arrays.copyOf(compressed, compressed.length - 4), 16, true).get();
+      Assert.fail("Truncated body should fail");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof EOFException);
+    }
+  }
+
+  @Test
+  public void gzipResponseFromServerTest() throws Exception {
+    HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/",
+        exchange -> {
+          byte[] body = JSON.getBytes(StandardCharsets.UTF_8);
+          if ("gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+            body = gzip(JSON);
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+          }
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+          }
+        });
+    server.start();
+    try {
+      HttpResponse<String> httpResponse =
+          HttpClient.newHttpClient()
+              .sendAsync(
+                  HttpRequest.newBuilder(
+                          URI.create("http://localhost:" + server.getAddress().getPort() + "/"))
+                      .header("Accept-Encoding", "gzip")
+                      .build(),
+                  GzipBodyHandler.decoding(HttpResponse.BodyHandlers.ofString()))
+              .get(5, TimeUnit.SECONDS);
+      Assert.assertEquals("gzip", httpResponse.headers().firstValue("Content-Encoding").get());
+      Assert.assertEquals(JSON, httpResponse.body());
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void streamedResponseIsDecodedTest() throws Exception {
+    HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/",
+        exchange -> {
+          byte[] body = gzip(JSON);
+          exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+          }
+        });
+    server.start();
+    try {
+      HttpResponse<InputStream> httpResponse =
+          HttpClient.newHttpClient()
+              .sendAsync(
+                  HttpRequest.newBuilder(
+                          URI.create("http://localhost:" + server.getAddress().getPort() + "/"))
+                      .header("Accept-Encoding", "gzip")
+                      .build(),
+                  GzipBodyHandler.decoding(HttpResponse.BodyHandlers.ofInputStream()))
+              .get(5, TimeUnit.SECONDS);
+      // The body is inflated and decoded as it is read from the stream
+      PersonResponse personResponse =
+          (PersonResponse) FullContact.getFCResponse(httpResponse, PersonResponse.class);
+      Assert.assertTrue(personResponse.isSuccessful());
+      Assert.assertEquals("Marquita H Ross", personResponse.getFullName());
+      Assert.assertEquals("Mostow Co.", personResponse.getOrganization());
+      try {
+        httpResponse.body().read();
+        Assert.fail("The stream should be closed once decoded");
+      } catch (IOException e) {
+        Assert.assertEquals("closed", e.getMessage());
+      }
+    } finally {
+      server.stop(0);
+    }
+  }
+}
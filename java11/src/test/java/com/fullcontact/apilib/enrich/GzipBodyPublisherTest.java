@@ -0,0 +1,105 @@
+package com.fullcontact.apilib.enrich;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+public class GzipBodyPublisherTest {
+  private HttpServer server;
+  private URI uri;
+
+  @Before
+  public void startServer() throws IOException {
+    // Echoes the request body, decompressed, with the Content-Encoding of the request
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext(
+        "/",
+        exchange -> {
+          String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+          InputStream requestBody = exchange.getRequestBody();
+          if ("gzip".equals(contentEncoding)) {
+            requestBody = new GZIPInputStream(requestBody);
+          }
+          byte[] body = requestBody.readAllBytes();
+          exchange.getResponseHeaders().add("X-Content-Encoding", String.valueOf(contentEncoding));
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+          }
+        });
+    this.server.start();
+    this.uri = URI.create("http://localhost:" + this.server.getAddress().getPort() + "/");
+  }
+
+  @After
+  public void stopServer() {
+    this.server.stop(0);
+  }
+
+  private HttpResponse<String> send(HttpRequest httpRequest) throws Exception {
+    return HttpClient.newHttpClient()
+        .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+        .get(5, TimeUnit.SECONDS);
+  }
+
+  private static String largeBody() {
+    StringBuilder body = new StringBuilder("{\"emails\":[");
+    for (int i = 0; i < 50; i++) {
+      body.append(i > 0 ? "," : "").append("\"user").append(i).append("@example.com\"");
+    }
+    return body.append("]}").toString();
+  }
+
+  @Test
+  public void compressedBodyTest() throws Exception {
+    String body = largeBody();
+    GzipBodyPublisher gzipBodyPublisher =
+        new GzipBodyPublisher(body.getBytes(StandardCharsets.UTF_8));
+    Assert.assertTrue(gzipBodyPublisher.contentLength() < body.length());
+    HttpResponse<String> httpResponse =
+        this.send(
+            HttpRequest.newBuilder(this.uri)
+                .header("Content-Encoding", "gzip")
+                .POST(gzipBodyPublisher)
+                .build());
+    Assert.assertEquals("gzip", httpResponse.headers().firstValue("X-Content-Encoding").get());
+    Assert.assertEquals(body, httpResponse.body());
+  }
+
+  @Test
+  public void withoutCompressionTest() throws Exception {
+    String body = largeBody();
+    GzipBodyPublisher gzipBodyPublisher =
+        new GzipBodyPublisher(body.getBytes(StandardCharsets.UTF_8));
+    HttpRequest httpRequest =
+        HttpRequest.newBuilder(this.uri)
+            .header("Content-Encoding", "gzip")
+            .header("Reporting-Key", "clientXYZ")
+            .timeout(Duration.ofSeconds(3))
+            .POST(gzipBodyPublisher)
+            .build();
+    HttpRequest uncompressedRequest = gzipBodyPublisher.withoutCompression(httpRequest);
+    Assert.assertFalse(uncompressedRequest.headers().firstValue("Content-Encoding").isPresent());
+    Assert.assertEquals(
+        "clientXYZ", uncompressedRequest.headers().firstValue("Reporting-Key").get());
+    Assert.assertEquals(Duration.ofSeconds(3), uncompressedRequest.timeout().get());
+    HttpResponse<String> httpResponse = this.send(uncompressedRequest);
+    Assert.assertEquals("null", httpResponse.headers().firstValue("X-Content-Encoding").get());
+    Assert.assertEquals(body, httpResponse.body());
+  }
+}
@@ -0,0 +1,84 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.retry.HashedWheelTimer;
+import com.fullcontact.apilib.retry.RetryTimer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HashedWheelTimerTest {
+  @Test
+  public void taskRunsAfterDelayTest() throws InterruptedException {
+    HashedWheelTimer timer = new HashedWheelTimer(5, Runnable::run);
+    CountDownLatch latch = new CountDownLatch(1);
+    long start = System.nanoTime();
+    long[] elapsed = new long[1];
+    timer.schedule(
+        () -> {
+          elapsed[0] = System.nanoTime() - start;
+          latch.countDown();
+        },
+        100);
+    Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    Assert.assertTrue(elapsed[0] >= TimeUnit.MILLISECONDS.toNanos(100));
+    timer.close();
+  }
+
+  @Test
+  public void tasksOverSeveralRoundsTest() throws InterruptedException {
+    // 8 buckets of 1ms, so most tasks wait several turns of the wheel
+    HashedWheelTimer timer = new HashedWheelTimer(1, 8, Runnable::run);
+    CountDownLatch latch = new CountDownLatch(1000);
+    for (int i = 0; i < 1000; i++) {
+      timer.schedule(latch::countDown, i % 50);
+    }
+    Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    timer.close();
+  }
+
+  @Test
+  public void cancelledTaskDoesNotRunTest() throws InterruptedException {
+    HashedWheelTimer timer = new HashedWheelTimer(5, Runnable::run);
+    AtomicInteger runs = new AtomicInteger();
+    RetryTimer.Timeout cancelled = timer.schedule(runs::incrementAndGet, 50);
+    CountDownLatch latch = new CountDownLatch(1);
+    timer.schedule(latch::countDown, 100);
+    Assert.assertTrue(cancelled.cancel());
+    Assert.assertFalse(cancelled.cancel());
+    Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(0, runs.get());
+    timer.close();
+  }
+
+  @Test
+  public void idleTimerHasNoPendingTasksTest() throws InterruptedException {
+    HashedWheelTimer timer = new HashedWheelTimer(5, Runnable::run);
+    CountDownLatch latch = new CountDownLatch(1);
+    timer.schedule(latch::countDown, 10);
+    timer.schedule(() -> {}, 10_000).cancel();
+    Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    Thread.sleep(50);
+    Assert.assertEquals(0, timer.getPendingCount());
+    // The worker is started again for new tasks
+    CountDownLatch secondLatch = new CountDownLatch(1);
+    timer.schedule(secondLatch::countDown, 10);
+    Assert.assertTrue(secondLatch.await(5, TimeUnit.SECONDS));
+    timer.close();
+  }
+
+  @Test(expected = RejectedExecutionException.class)
+  public void closedTimerRejectsTasksTest() {
+    HashedWheelTimer timer = new HashedWheelTimer(5, Runnable::run);
+    timer.close();
+    timer.schedule(() -> {}, 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidTickTest() {
+    new HashedWheelTimer(0, Runnable::run);
+  }
+}
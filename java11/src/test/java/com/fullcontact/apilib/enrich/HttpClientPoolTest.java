@@ -0,0 +1,400 @@
+package com.fullcontact.apilib.enrich;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class HttpClientPoolTest {
+  private final CountDownLatch releaseResponses = new CountDownLatch(1);
+  private HttpServer server;
+  private URI uri;
+
+  @Before
+  public void startServer() throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext(
+        "/",
+        exchange -> {
+          try {
+            this.releaseResponses.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          byte[] body = "{}".getBytes();
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+          }
+        });
+    this.server.setExecutor(Executors.newCachedThreadPool());
+    this.server.start();
+    this.uri = URI.create("http://localhost:" + this.server.getAddress().getPort() + "/");
+  }
+
+  @After
+  public void stopServer() {
+    this.server.stop(0);
+  }
+
+  @Test
+  public void streamsOverLimitAreQueuedTest() throws Exception {
+    HttpClientOptions httpClientOptions =
+        HttpClientOptions.builder()
+            .httpVersion(HttpClient.Version.HTTP_1_1)
+            .connections(2)
+            .maxConcurrentStreams(1)
+            .build();
+    Set<HttpClient> httpClientsUsed = new HashSet<>();
+    HttpClientPool httpClientPool =
+        new HttpClientPool(
+            httpClientOptions,
+            () -> {
+              HttpClient httpClient =
+                  HttpClient.newBuilder().version(httpClientOptions.getHttpVersion()).build();
+              httpClientsUsed.add(httpClient);
+              return httpClient;
+            });
+    Assert.assertEquals(2, httpClientsUsed.size());
+    List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      responses.add(
+          httpClientPool.sendAsync(
+              HttpRequest.newBuilder(this.uri).build(),
+              HttpResponse.BodyHandlers.ofString(),
+              httpResponse -> {}));
+    }
+    Assert.assertEquals(2, httpClientPool.getInFlightCount());
+    Assert.assertEquals(3, httpClientPool.getQueuedCount());
+    this.releaseResponses.countDown();
+    for (CompletableFuture<HttpResponse<String>> response : responses) {
+      HttpResponse<String> httpResponse = response.get(5, TimeUnit.SECONDS);
+      Assert.assertEquals(200, httpResponse.statusCode());
+      Assert.assertEquals(HttpClient.Version.HTTP_1_1, httpResponse.version());
+    }
+    Assert.assertEquals(0, httpClientPool.getInFlightCount());
+    Assert.assertEquals(0, httpClientPool.getQueuedCount());
+  }
+
+  @Test
+  public void streamsAreLimitedPerConnectionTest() throws Exception {
+    this.server.createContext(
+        "/fast",
+        exchange -> {
+          exchange.sendResponseHeaders(200, -1);
+          exchange.close();
+        });
+    List<RecordingHttpClient> httpClients = new ArrayList<>();
+    HttpClientPool httpClientPool =
+        new HttpClientPool(
+            HttpClientOptions.builder().connections(2).maxConcurrentStreams(1).build(),
+            () -> {
+              RecordingHttpClient httpClient = new RecordingHttpClient(HttpClient.newHttpClient());
+              httpClients.add(httpClient);
+              return httpClient;
+            });
+    CompletableFuture<HttpResponse<String>> slowCF =
+        httpClientPool.sendAsync(
+            HttpRequest.newBuilder(this.uri).build(),
+            HttpResponse.BodyHandlers.ofString(),
+            httpResponse -> {});
+    CompletableFuture<HttpResponse<String>> fastCF =
+        httpClientPool.sendAsync(
+            HttpRequest.newBuilder(this.uri.resolve("/fast")).build(),
+            HttpResponse.BodyHandlers.ofString(),
+            httpResponse -> {});
+    CompletableFuture<HttpResponse<String>> queuedCF =
+        httpClientPool.sendAsync(
+            HttpRequest.newBuilder(this.uri).build(),
+            HttpResponse.BodyHandlers.ofString(),
+            httpResponse -> {});
+    Assert.assertEquals(200, fastCF.get(5, TimeUnit.SECONDS).statusCode());
+    for (int i = 0; i < 100 && httpClientPool.getQueuedCount() > 0; i++) {
+      Thread.sleep(10);
+    }
+    // The queued request takes the stream freed on the second connection, not the busy first one
+    Assert.assertEquals(0, httpClientPool.getQueuedCount());
+    Assert.assertEquals(2, httpClientPool.getInFlightCount());
+    this.releaseResponses.countDown();
+    Assert.assertEquals(200, slowCF.get(5, TimeUnit.SECONDS).statusCode());
+    Assert.assertEquals(200, queuedCF.get(5, TimeUnit.SECONDS).statusCode());
+    Assert.assertEquals(Collections.singletonList("/"), httpClients.get(0).paths);
+    Assert.assertEquals(Arrays.asList("/fast", "/"), httpClients.get(1).paths);
+  }
+
+  @Test
+  public void cancelledRequestsFreeTheirSlotTest() throws Exception {
+    HttpClientPool httpClientPool =
+        new HttpClientPool(
+            HttpClientOptions.builder().maxConcurrentStreams(1).build(), HttpClient::newHttpClient);
+    List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      responses.add(
+          httpClientPool.sendAsync(
+              HttpRequest.newBuilder(this.uri).build(),
+              HttpResponse.BodyHandlers.ofString(),
+              httpResponse -> {}));
+    }
+    Assert.assertEquals(1, httpClientPool.getInFlightCount());
+    Assert.assertEquals(2, httpClientPool.getQueuedCount());
+    // A queued request leaves the queue, and the request in flight is cancelled in the HttpClient
+    responses.get(1).cancel(true);
+    Assert.assertEquals(1, httpClientPool.getQueuedCount());
+    responses.get(0).cancel(true);
+    Assert.assertEquals(1, httpClientPool.getInFlightCount());
+    Assert.assertEquals(0, httpClientPool.getQueuedCount());
+    this.releaseResponses.countDown();
+    Assert.assertEquals(200, responses.get(2).get(5, TimeUnit.SECONDS).statusCode());
+  }
+
+  /**
+   * Serves /stream with a body which never ends, once sendResponse is counted down, and counts
+   * bodyClosed down when the client closes it
+   */
+  private URI streamingUri(CountDownLatch sendResponse, CountDownLatch bodyClosed) {
+    this.server.createContext(
+        "/stream",
+        exchange -> {
+          try {
+            sendResponse.await(5, TimeUnit.SECONDS);
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream outputStream = exchange.getResponseBody();
+            byte[] chunk = new byte[8192];
+            while (true) {
+              outputStream.write(chunk);
+              outputStream.flush();
+            }
+          } catch (IOException e) {
+            bodyClosed.countDown();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            exchange.close();
+          }
+        });
+    return this.uri.resolve("/stream");
+  }
+
+  @Test
+  public void streamedBodyHoldsItsSlotUntilClosedTest() throws Exception {
+    CountDownLatch bodyClosed = new CountDownLatch(1);
+    URI streamingUri = this.streamingUri(new CountDownLatch(0), bodyClosed);
+    HttpClientPool httpClientPool =
+        new HttpClientPool(
+            HttpClientOptions.builder()
+                .httpVersion(HttpClient.Version.HTTP_1_1)
+                .maxConcurrentStreams(1)
+                .build(),
+            HttpClient::newHttpClient);
+    HttpResponse<InputStream> httpResponse =
+        httpClientPool
+            .sendAsync(
+                HttpRequest.newBuilder(streamingUri).build(),
+                HttpResponse.BodyHandlers.ofInputStream(),
+                response -> {})
+            .get(5, TimeUnit.SECONDS);
+    CompletableFuture<HttpResponse<String>> queuedCF =
+        httpClientPool.sendAsync(
+            HttpRequest.newBuilder(this.uri).build(),
+            HttpResponse.BodyHandlers.ofString(),
+            response -> {});
+    // The body is still streaming, so the request is in flight
+    Assert.assertEquals(1, httpClientPool.getInFlightCount());
+    Assert.assertEquals(1, httpClientPool.getQueuedCount());
+    httpResponse.body().close();
+    Assert.assertTrue(bodyClosed.await(5, TimeUnit.SECONDS));
+    this.releaseResponses.countDown();
+    Assert.assertEquals(200, queuedCF.get(5, TimeUnit.SECONDS).statusCode());
+    Assert.assertEquals(0, httpClientPool.getInFlightCount());
+  }
+
+  @Test
+  public void cancelledStreamedRequestClosesBodyTest() throws Exception {
+    CountDownLatch sendResponse = new CountDownLatch(1);
+    CountDownLatch bodyClosed = new CountDownLatch(1);
+    URI streamingUri = this.streamingUri(sendResponse, bodyClosed);
+    HttpClientPool httpClientPool =
+        new HttpClientPool(
+            HttpClientOptions.builder().httpVersion(HttpClient.Version.HTTP_1_1).build(),
+            HttpClient::newHttpClient);
+    List<HttpResponse<InputStream>> discarded = new ArrayList<>();
+    CompletableFuture<HttpResponse<InputStream>> responseCF =
+        httpClientPool.sendAsync(
+            HttpRequest.newBuilder(streamingUri).build(),
+            HttpResponse.BodyHandlers.ofInputStream(),
+            discarded::add);
+    Assert.assertTrue(responseCF.cancel(true));
+    // The response arrives once the request has been cancelled, its body must not leak
+    sendResponse.countDown();
+    Assert.assertTrue(bodyClosed.await(5, TimeUnit.SECONDS));
+    Assert.assertTrue(discarded.isEmpty());
+    for (int i = 0; i < 100 && httpClientPool.getInFlightCount() > 0; i++) {
+      Thread.sleep(10);
+    }
+    Assert.assertEquals(0, httpClientPool.getInFlightCount());
+  }
+
+  @Test
+  public void noStreamLimitTest() throws Exception {
+    HttpClientPool httpClientPool =
+        new HttpClientPool(
+            HttpClientOptions.builder().maxConcurrentStreams(0).build(), HttpClient::newHttpClient);
+    List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      responses.add(
+          httpClientPool.sendAsync(
+              HttpRequest.newBuilder(this.uri).build(),
+              HttpResponse.BodyHandlers.ofString(),
+              httpResponse -> {}));
+    }
+    Assert.assertEquals(5, httpClientPool.getInFlightCount());
+    Assert.assertEquals(0, httpClientPool.getQueuedCount());
+    this.releaseResponses.countDown();
+    for (CompletableFuture<HttpResponse<String>> response : responses) {
+      Assert.assertEquals(200, response.get(5, TimeUnit.SECONDS).statusCode());
+    }
+  }
+
+  @Test
+  public void warmUpSkipsStreamLimitTest() throws Exception {
+    this.releaseResponses.countDown();
+    HttpClientPool httpClientPool =
+        new HttpClientPool(
+            HttpClientOptions.builder().connections(2).maxConcurrentStreams(1).build(),
+            HttpClient::newHttpClient);
+    HttpRequest warmUpRequest =
+        HttpRequest.newBuilder(this.uri)
+            .method("HEAD", HttpRequest.BodyPublishers.noBody())
+            .build();
+    List<CompletableFuture<Boolean>> warmUpCFs = httpClientPool.warmUp(warmUpRequest, 4);
+    Assert.assertEquals(0, httpClientPool.getInFlightCount());
+    Assert.assertEquals(0, httpClientPool.getQueuedCount());
+    for (CompletableFuture<Boolean> warmUpCF : warmUpCFs) {
+      Assert.assertTrue(warmUpCF.get(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  public void failedWarmUpTest() throws Exception {
+    HttpClientPool httpClientPool =
+        new HttpClientPool(HttpClientOptions.defaults(), HttpClient::newHttpClient);
+    this.server.stop(0);
+    List<CompletableFuture<Boolean>> warmUpCFs =
+        httpClientPool.warmUp(HttpRequest.newBuilder(this.uri).build(), 1);
+    Assert.assertFalse(warmUpCFs.get(0).get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void defaultOptionsTest() {
+    HttpClientOptions httpClientOptions = HttpClientOptions.defaults();
+    Assert.assertEquals(HttpClient.Version.HTTP_2, httpClientOptions.getHttpVersion());
+    Assert.assertEquals(1, httpClientOptions.getConnections());
+    Assert.assertEquals(0, httpClientOptions.getMaxConcurrentStreams());
+  }
+
+  /** Records the paths of the requests sent with the HttpClient */
+  private static final class RecordingHttpClient extends HttpClient {
+    private final HttpClient httpClient;
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+
+    private RecordingHttpClient(HttpClient httpClient) {
+      this.httpClient = httpClient;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+        HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) {
+      return this.sendAsync(request, responseBodyHandler, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+        HttpRequest request,
+        HttpResponse.BodyHandler<T> responseBodyHandler,
+        HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+      this.paths.add(request.uri().getPath());
+      return this.httpClient.sendAsync(request, responseBodyHandler, pushPromiseHandler);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(
+        HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+        throws IOException, InterruptedException {
+      return this.httpClient.send(request, responseBodyHandler);
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+      return this.httpClient.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+      return this.httpClient.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+      return this.httpClient.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+      return this.httpClient.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+      return this.httpClient.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+      return this.httpClient.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+      return this.httpClient.authenticator();
+    }
+
+    @Override
+    public Version version() {
+      return this.httpClient.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+      return this.httpClient.executor();
+    }
+  }
+}
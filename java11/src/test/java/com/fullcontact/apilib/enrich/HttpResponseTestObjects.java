@@ -2,14 +2,17 @@ package com.fullcontact.apilib.enrich;
 
 import javax.net.ssl.SSLSession;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.zip.GZIPOutputStream;
 
@@ -25,7 +28,7 @@ public class HttpResponseTestObjects {
     return compressed;
   }
 
-  public static HttpResponse<String> httpResponseTestObjectProvider(String testCaseCode) {
+  public static HttpResponse<InputStream> httpResponseTestObjectProvider(String testCaseCode) {
     final int statusCode;
     final String fileName;
     switch (testCaseCode) {
@@ -135,7 +138,7 @@ public class HttpResponseTestObjects {
       }
 
       @Override
-      public Optional<HttpResponse<String>> previousResponse() {
+      public Optional<HttpResponse<InputStream>> previousResponse() {
         return Optional.empty();
       }
 
@@ -145,7 +148,7 @@ public class HttpResponseTestObjects {
       }
 
       @Override
-      public String body() {
+      public InputStream body() {
         if (fileName == null) {
           return null;
         }
@@ -155,7 +158,7 @@ public class HttpResponseTestObjects {
           while ((s = br.readLine()) != null) {
             sb.append(s.trim());
           }
-          return sb.toString();
+          return new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
         } catch (IOException e) {
         }
         return null;
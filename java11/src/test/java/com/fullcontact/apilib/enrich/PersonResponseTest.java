@@ -34,7 +34,7 @@ public class PersonResponseTest {
     Assert.assertEquals("Ross", response.getDetails().get().getName().getFamily());
     Assert.assertEquals("Marquita H Ross", response.getDetails().get().getName().getFull());
     Assert.assertEquals("35-44", response.getDetails().get().getAge().getRange());
-    Assert.assertEquals(42, (int) response.getDetails().get().getAge().getValue());
+    Assert.assertEquals(42, response.getDetails().get().getAge().getValue());
     Assert.assertEquals("Female", response.getDetails().get().getGender());
     Assert.assertEquals(2, response.getFamilyInfo().get().getTotalAdults());
     Assert.assertEquals(1, response.getFamilyInfo().get().getTotalChildren());
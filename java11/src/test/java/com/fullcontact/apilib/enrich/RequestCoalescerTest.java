@@ -0,0 +1,124 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.coalescing.RequestCoalescer;
+import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestCoalescerTest {
+
+  private static PersonRequest personRequest(String email) {
+    return FullContact.buildPersonRequest().email(email).build();
+  }
+
+  @Test
+  public void equalRequestsInFlightShareResponseTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    AtomicInteger calls = new AtomicInteger();
+    CompletableFuture<String> response = new CompletableFuture<>();
+    RequestCoalescer.Call<String> call =
+        () -> {
+          calls.incrementAndGet();
+          return response;
+        };
+    CompletableFuture<String> first =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("a@example.com"), call);
+    CompletableFuture<String> second =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("a@example.com"), call);
+    Assert.assertEquals(1, calls.get());
+    Assert.assertEquals(1, coalescer.getInFlightCount());
+    response.complete("response");
+    Assert.assertSame(first.get(), second.get());
+    Assert.assertEquals(2, coalescer.getRequestCount());
+    Assert.assertEquals(1, coalescer.getCoalescedCount());
+    Assert.assertEquals(0, coalescer.getInFlightCount());
+  }
+
+  @Test
+  public void differentRequestsAndEndpointsAreNotCoalescedTest() throws FullContactException {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    AtomicInteger calls = new AtomicInteger();
+    RequestCoalescer.Call<String> call =
+        () -> {
+          calls.incrementAndGet();
+          return new CompletableFuture<>();
+        };
+    coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("a@example.com"), call);
+    coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("b@example.com"), call);
+    coalescer.coalesce(FCApiEndpoint.IDENTITY_RESOLVE, personRequest("a@example.com"), call);
+    Assert.assertEquals(3, calls.get());
+    Assert.assertEquals(0, coalescer.getCoalescedCount());
+  }
+
+  @Test
+  public void completedRequestIsSentAgainTest() throws FullContactException {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    AtomicInteger calls = new AtomicInteger();
+    RequestCoalescer.Call<String> call =
+        () -> {
+          calls.incrementAndGet();
+          return CompletableFuture.completedFuture("response");
+        };
+    coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("a@example.com"), call);
+    coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("a@example.com"), call);
+    Assert.assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void failureIsSharedTest() throws FullContactException, InterruptedException {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    CompletableFuture<String> response = new CompletableFuture<>();
+    CompletableFuture<String> first =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, "request", () -> response);
+    CompletableFuture<String> second =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, "request", () -> response);
+    response.completeExceptionally(new IllegalStateException("failed"));
+    for (CompletableFuture<String> cf : Arrays.asList(first, second)) {
+      try {
+        cf.get();
+        Assert.fail();
+      } catch (ExecutionException e) {
+        Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+      }
+    }
+  }
+
+  @Test
+  public void cancellingOneCallerDoesNotAffectOthersTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    CompletableFuture<String> response = new CompletableFuture<>();
+    CompletableFuture<String> first =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, "request", () -> response);
+    CompletableFuture<String> second =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, "request", () -> response);
+    first.cancel(true);
+    response.complete("response");
+    Assert.assertEquals("response", second.get());
+  }
+
+  @Test
+  public void callExceptionIsThrownAndNotLeftInFlightTest() {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    try {
+      coalescer.coalesce(
+          FCApiEndpoint.PERSON_ENRICH,
+          "request",
+          () -> {
+            throw new FullContactException("failed");
+          });
+      Assert.fail();
+    } catch (FullContactException e) {
+      Assert.assertEquals("failed", e.getMessage());
+    }
+    Assert.assertEquals(0, coalescer.getInFlightCount());
+  }
+}
@@ -0,0 +1,190 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.cache.ResponseCache;
+import com.fullcontact.apilib.cache.ResponseCaching;
+import com.fullcontact.apilib.cache.TinyLfuResponseCache;
+import com.fullcontact.apilib.coalescing.RequestCoalescer;
+import com.fullcontact.apilib.models.Request.MultifieldRequest;
+import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.Response.FCResponse;
+import com.fullcontact.apilib.models.Response.FieldMask;
+import com.fullcontact.apilib.models.Response.PersonResponse;
+import com.fullcontact.apilib.models.Response.SignalsResponse;
+import com.fullcontact.apilib.models.Response.TagsResponse;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.retry.DefaultRetryHandler;
+import com.fullcontact.apilib.retry.RetryHandler;
+import com.fullcontact.apilib.transport.RequestExecutor;
+import com.fullcontact.apilib.transport.RequestPipeline;
+import com.fullcontact.apilib.transport.Transport;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class RequestExecutorTest {
+  private final ScheduledExecutorService executor = FullContactRuntime.newScheduler(1);
+  private final RetryHandler retryHandler = new DefaultRetryHandler();
+
+  @After
+  public void shutdown() {
+    this.executor.shutdownNow();
+  }
+
+  /**
+   * Transport recording the requests sent, answering them with a 200 status code once the test
+   * completes them
+   */
+  private static class FakeTransport implements Transport<String, Integer> {
+    private final List<String> sent = new ArrayList<>();
+    private final List<CompletableFuture<Integer>> pending = new ArrayList<>();
+
+    @Override
+    public synchronized CompletableFuture<Integer> send(
+        String request, FCApiEndpoint fcApiEndpoint) {
+      this.sent.add(request);
+      CompletableFuture<Integer> responseCF = new CompletableFuture<>();
+      this.pending.add(responseCF);
+      return responseCF;
+    }
+
+    synchronized void completeAll() {
+      this.pending.forEach(responseCF -> responseCF.complete(200));
+      this.pending.clear();
+    }
+
+    @Override
+    public int statusCode(Integer response) {
+      return response;
+    }
+
+    @Override
+    public String header(Integer response, String name) {
+      return null;
+    }
+  }
+
+  private static <T extends FCResponse> T parse(Integer statusCode, Class<T> responseClass) {
+    try {
+      T fcResponse = responseClass.getDeclaredConstructor().newInstance();
+      fcResponse.statusCode = statusCode;
+      fcResponse.isSuccessful = statusCode == 200;
+      return fcResponse;
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private RequestExecutor<String, Integer> requestExecutor(
+      FakeTransport transport,
+      ResponseCache responseCache,
+      RequestCoalescer requestCoalescer,
+      FieldMask personFieldMask) {
+    return RequestExecutor.<String, Integer>builder()
+        .requestPipeline(
+            RequestPipeline.<String, Integer>builder()
+                .transport(transport)
+                .executor(this.executor)
+                .build())
+        .requestFactory((fcApiEndpoint, body) -> fcApiEndpoint.getPath() + " " + body)
+        .responseParser(RequestExecutorTest::parse)
+        .responseCaching(new ResponseCaching(responseCache, null, null))
+        .requestCoalescer(requestCoalescer)
+        .personFieldMask(personFieldMask)
+        .build();
+  }
+
+  private static PersonRequest personRequest() {
+    return FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build();
+  }
+
+  @Test
+  public void requestBodyTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    FakeTransport transport = new FakeTransport();
+    RequestExecutor<String, Integer> requestExecutor =
+        this.requestExecutor(transport, null, null, null);
+    CompletableFuture<TagsResponse> tagsResponse =
+        requestExecutor.execute(
+            FCApiEndpoint.TAGS_GET,
+            Collections.singletonMap("recordId", "k1"),
+            TagsResponse.class,
+            this.retryHandler);
+    requestExecutor.execute(
+        FCApiEndpoint.AUDIENCE_DOWNLOAD, "requestId", FCResponse.class, this.retryHandler);
+    transport.completeAll();
+    Assert.assertEquals(
+        Arrays.asList("tags.get {\"recordId\":\"k1\"}", "audience.download requestId"),
+        transport.sent);
+    Assert.assertEquals(200, tagsResponse.get().getStatusCode());
+  }
+
+  @Test
+  public void onlyEnrichRequestsAreCoalescedTest() throws FullContactException {
+    FakeTransport transport = new FakeTransport();
+    RequestExecutor<String, Integer> requestExecutor =
+        this.requestExecutor(transport, null, new RequestCoalescer(), null);
+    MultifieldRequest multifieldRequest =
+        FullContact.buildMultifieldRequest().email("marquitaross006@gmail.com").build();
+    for (int i = 0; i < 2; i++) {
+      requestExecutor.execute(
+          FCApiEndpoint.PERSON_ENRICH, personRequest(), PersonResponse.class, this.retryHandler);
+      requestExecutor.execute(
+          FCApiEndpoint.VERIFY_SIGNALS,
+          multifieldRequest,
+          SignalsResponse.class,
+          this.retryHandler);
+    }
+    Assert.assertEquals(3, transport.sent.size());
+    Assert.assertEquals(1, transport.sent.stream().filter(r -> r.startsWith("person")).count());
+  }
+
+  @Test
+  public void cancellationReachesTransportTest() throws FullContactException {
+    FakeTransport transport = new FakeTransport();
+    RequestExecutor<String, Integer> requestExecutor =
+        this.requestExecutor(transport, null, null, null);
+    requestExecutor
+        .execute(
+            FCApiEndpoint.TAGS_GET,
+            Collections.singletonMap("recordId", "k1"),
+            TagsResponse.class,
+            this.retryHandler)
+        .cancel(true);
+    synchronized (transport) {
+      Assert.assertTrue(transport.pending.get(0).isCancelled());
+    }
+  }
+
+  @Test
+  public void fieldMaskResponsesAreCachedApartTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    FakeTransport transport = new FakeTransport();
+    ResponseCache responseCache = new TinyLfuResponseCache(1 << 20, 60_000);
+    RequestExecutor<String, Integer> maskedExecutor =
+        this.requestExecutor(transport, responseCache, null, FieldMask.of("details.name"));
+    RequestExecutor<String, Integer> completeExecutor =
+        this.requestExecutor(transport, responseCache, null, null);
+    CompletableFuture<PersonResponse> maskedResponse =
+        maskedExecutor.execute(
+            FCApiEndpoint.PERSON_ENRICH, personRequest(), PersonResponse.class, this.retryHandler);
+    transport.completeAll();
+    maskedResponse.get();
+    maskedExecutor
+        .execute(
+            FCApiEndpoint.PERSON_ENRICH, personRequest(), PersonResponse.class, this.retryHandler)
+        .get();
+    Assert.assertEquals(1, transport.sent.size());
+    completeExecutor.execute(
+        FCApiEndpoint.PERSON_ENRICH, personRequest(), PersonResponse.class, this.retryHandler);
+    Assert.assertEquals(2, transport.sent.size());
+  }
+}
@@ -0,0 +1,161 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.hedging.HedgingPolicy;
+import com.fullcontact.apilib.hedging.RequestHedger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+public class RequestHedgerTest {
+  private final ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+  private final List<CompletableFuture<String>> attempts = new ArrayList<>();
+
+  @After
+  public void reset() {
+    this.scheduler.shutdownNow();
+  }
+
+  /** Call which never completes on its own, so that the test decides which attempt wins */
+  private Supplier<CompletableFuture<String>> pendingCall() {
+    return () -> {
+      CompletableFuture<String> attemptCF = new CompletableFuture<>();
+      synchronized (this.attempts) {
+        this.attempts.add(attemptCF);
+      }
+      return attemptCF;
+    };
+  }
+
+  private CompletableFuture<String> attempt(int index) throws InterruptedException {
+    for (int i = 0; i < 100; i++) {
+      synchronized (this.attempts) {
+        if (this.attempts.size() > index) {
+          return this.attempts.get(index);
+        }
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("Attempt " + index + " was not sent");
+  }
+
+  @Test
+  public void slowRequestIsHedgedTest()
+      throws InterruptedException, ExecutionException, TimeoutException {
+    RequestHedger requestHedger =
+        new RequestHedger(HedgingPolicy.builder().delayMillis(20).maxHedgeRatio(1).build());
+    CompletableFuture<String> resultCF =
+        requestHedger.execute(this.pendingCall(), response -> {}, this.scheduler);
+    this.attempt(1).complete("hedge");
+    Assert.assertEquals("hedge", resultCF.get(1, TimeUnit.SECONDS));
+    // The slower request is cancelled
+    Assert.assertTrue(this.attempt(0).isCancelled());
+    Assert.assertEquals(1, requestHedger.getHedgeCount());
+    Assert.assertEquals(1, requestHedger.getHedgeWinCount());
+  }
+
+  @Test
+  public void fastRequestIsNotHedgedTest() throws InterruptedException, ExecutionException {
+    RequestHedger requestHedger =
+        new RequestHedger(HedgingPolicy.builder().delayMillis(50).maxHedgeRatio(1).build());
+    CompletableFuture<String> resultCF =
+        requestHedger.execute(this.pendingCall(), response -> {}, this.scheduler);
+    this.attempt(0).complete("first");
+    Assert.assertEquals("first", resultCF.get());
+    Thread.sleep(100);
+    Assert.assertEquals(1, this.attempts.size());
+    Assert.assertEquals(0, requestHedger.getHedgeCount());
+  }
+
+  @Test
+  public void failedRequestWaitsForHedgeTest()
+      throws InterruptedException, ExecutionException, TimeoutException {
+    RequestHedger requestHedger =
+        new RequestHedger(HedgingPolicy.builder().delayMillis(20).maxHedgeRatio(1).build());
+    List<String> discarded = new ArrayList<>();
+    CompletableFuture<String> resultCF =
+        requestHedger.execute(this.pendingCall(), discarded::add, this.scheduler);
+    CompletableFuture<String> hedgeCF = this.attempt(1);
+    this.attempt(0).completeExceptionally(new IOException("Connection reset"));
+    Assert.assertFalse(resultCF.isDone());
+    hedgeCF.complete("hedge");
+    Assert.assertEquals("hedge", resultCF.get(1, TimeUnit.SECONDS));
+    Assert.assertTrue(discarded.isEmpty());
+  }
+
+  @Test
+  public void lateResponseOfLoserIsDiscardedTest()
+      throws InterruptedException, ExecutionException, TimeoutException {
+    RequestHedger requestHedger =
+        new RequestHedger(HedgingPolicy.builder().delayMillis(20).maxHedgeRatio(1).build());
+    List<String> discarded = new ArrayList<>();
+    // Attempts whose request can't be cancelled anymore, like one whose response is on its way
+    Supplier<CompletableFuture<String>> call =
+        () -> {
+          CompletableFuture<String> attemptCF =
+              new CompletableFuture<String>() {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                  return false;
+                }
+              };
+          synchronized (this.attempts) {
+            this.attempts.add(attemptCF);
+          }
+          return attemptCF;
+        };
+    CompletableFuture<String> resultCF =
+        requestHedger.execute(call, discarded::add, this.scheduler);
+    this.attempt(1).complete("hedge");
+    Assert.assertEquals("hedge", resultCF.get(1, TimeUnit.SECONDS));
+    this.attempt(0).complete("first");
+    Assert.assertEquals(Collections.singletonList("first"), discarded);
+  }
+
+  @Test
+  public void cancellingResultCancelsAttemptsTest() throws InterruptedException {
+    RequestHedger requestHedger =
+        new RequestHedger(HedgingPolicy.builder().delayMillis(1000).maxHedgeRatio(1).build());
+    CompletableFuture<String> resultCF =
+        requestHedger.execute(this.pendingCall(), response -> {}, this.scheduler);
+    resultCF.cancel(true);
+    Assert.assertTrue(this.attempt(0).isCancelled());
+  }
+
+  @Test
+  public void hedgesAreCappedTest() throws InterruptedException {
+    RequestHedger requestHedger =
+        new RequestHedger(HedgingPolicy.builder().delayMillis(1).maxHedgeRatio(0.1).build());
+    for (int i = 0; i < 50; i++) {
+      requestHedger.execute(this.pendingCall(), response -> {}, this.scheduler);
+    }
+    Thread.sleep(200);
+    Assert.assertEquals(50, requestHedger.getRequestCount());
+    Assert.assertEquals(5, requestHedger.getHedgeCount());
+  }
+
+  @Test
+  public void delayFollowsObservedLatencyTest() {
+    RequestHedger requestHedger =
+        new RequestHedger(HedgingPolicy.builder().minDelayMillis(15).build());
+    Assert.assertEquals(-1, requestHedger.getDelayMillis());
+    for (int i = 0; i < 20; i++) {
+      requestHedger.execute(
+          () -> CompletableFuture.completedFuture("fast"), response -> {}, this.scheduler);
+    }
+    // All latencies are below the minimum delay
+    Assert.assertEquals(15, requestHedger.getDelayMillis());
+    Assert.assertEquals(0, requestHedger.getHedgeCount());
+  }
+}
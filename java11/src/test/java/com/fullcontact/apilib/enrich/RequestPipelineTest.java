@@ -0,0 +1,262 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.circuitbreaker.CircuitBreaker;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreakerConfig;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreakerOpenException;
+import com.fullcontact.apilib.hedging.HedgingPolicy;
+import com.fullcontact.apilib.hedging.RequestHedger;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.ratelimit.AdaptiveThrottle;
+import com.fullcontact.apilib.ratelimit.TokenBucketRateLimiter;
+import com.fullcontact.apilib.retry.DeadlineExceededException;
+import com.fullcontact.apilib.retry.RetryHandler;
+import com.fullcontact.apilib.transport.RequestPipeline;
+import com.fullcontact.apilib.transport.Transport;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestPipelineTest {
+  private final ScheduledExecutorService executor = FullContactRuntime.newScheduler(2);
+
+  @After
+  public void shutdown() {
+    this.executor.shutdownNow();
+  }
+
+  /**
+   * Transport answering with the next status code, or never if there are none left until the test
+   * completes the pending response
+   */
+  private static class FakeTransport implements Transport<String, Integer> {
+    private final Deque<Integer> statusCodes;
+    private final AtomicInteger sent = new AtomicInteger();
+    private final AtomicInteger discarded = new AtomicInteger();
+    private final List<CompletableFuture<Integer>> pending = new ArrayList<>();
+
+    FakeTransport(Integer... statusCodes) {
+      this.statusCodes = new ArrayDeque<>(Arrays.asList(statusCodes));
+    }
+
+    @Override
+    public synchronized CompletableFuture<Integer> send(
+        String request, FCApiEndpoint fcApiEndpoint) {
+      this.sent.incrementAndGet();
+      Integer statusCode = this.statusCodes.poll();
+      if (statusCode != null) {
+        return CompletableFuture.completedFuture(statusCode);
+      }
+      CompletableFuture<Integer> responseCF = new CompletableFuture<>();
+      this.pending.add(responseCF);
+      return responseCF;
+    }
+
+    @Override
+    public int statusCode(Integer response) {
+      return response;
+    }
+
+    @Override
+    public String header(Integer response, String name) {
+      return null;
+    }
+
+    @Override
+    public void discard(Integer response) {
+      this.discarded.incrementAndGet();
+    }
+  }
+
+  private static RetryHandler retryHandler(int retryAttempts) {
+    return new RetryHandler() {
+      @Override
+      public boolean shouldRetry(int responseCode) {
+        return responseCode == 429 || responseCode == 503;
+      }
+
+      @Override
+      public int getRetryAttempts() {
+        return retryAttempts;
+      }
+
+      @Override
+      public int getRetryDelayMillis() {
+        return 10;
+      }
+
+      @Override
+      public long getRetryDelayMillis(
+          int retryAttempt, long previousDelayMillis, Long retryAfterMillis) {
+        return 10;
+      }
+    };
+  }
+
+  private RequestPipeline.RequestPipelineBuilder<String, Integer> pipeline(
+      FakeTransport transport) {
+    return RequestPipeline.<String, Integer>builder().transport(transport).executor(this.executor);
+  }
+
+  @Test
+  public void retriesUntilSuccessTest() throws ExecutionException, InterruptedException {
+    FakeTransport transport = new FakeTransport(503, 429, 200);
+    CompletableFuture<Integer> responseCF =
+        this.pipeline(transport)
+            .build()
+            .execute("request", retryHandler(5), FCApiEndpoint.PERSON_ENRICH);
+    Assert.assertEquals(200, (int) responseCF.get());
+    Assert.assertEquals(3, transport.sent.get());
+    // The responses replaced by a retry are released
+    Assert.assertEquals(2, transport.discarded.get());
+  }
+
+  @Test
+  public void lastResponseAfterRetriesTest() throws ExecutionException, InterruptedException {
+    FakeTransport transport = new FakeTransport(503, 503, 503, 200);
+    CompletableFuture<Integer> responseCF =
+        this.pipeline(transport)
+            .build()
+            .execute("request", retryHandler(2), FCApiEndpoint.PERSON_ENRICH);
+    Assert.assertEquals(503, (int) responseCF.get());
+    Assert.assertEquals(3, transport.sent.get());
+  }
+
+  @Test
+  public void deadlineTest() throws InterruptedException {
+    // The second attempt never gets a response
+    FakeTransport transport = new FakeTransport(503);
+    CompletableFuture<Integer> responseCF =
+        this.pipeline(transport)
+            .deadlineMillis(200)
+            .build()
+            .execute("request", retryHandler(5), FCApiEndpoint.PERSON_ENRICH);
+    try {
+      responseCF.get(5, TimeUnit.SECONDS);
+      Assert.fail("Request should have failed with DeadlineExceededException");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof DeadlineExceededException);
+    } catch (TimeoutException e) {
+      Assert.fail("Deadline didn't complete the request");
+    }
+  }
+
+  @Test
+  public void deadlineCancelsAttemptsTest() throws InterruptedException {
+    FakeTransport transport = new FakeTransport();
+    RequestPipeline<String, Integer> pipeline =
+        this.pipeline(transport)
+            .adaptiveThrottles(
+                AdaptiveThrottle.forAllEndpoints(AdaptiveThrottle.DEFAULT_SLOWDOWN_RATIO))
+            .rateLimiters(
+                Collections.singletonMap(
+                    FCApiEndpoint.PERSON_ENRICH, new TokenBucketRateLimiter(2, 1)))
+            .circuitBreakers(CircuitBreaker.forAllEndpoints(CircuitBreakerConfig.builder().build()))
+            .deadlineMillis(100)
+            .build();
+    CompletableFuture<Integer> sentCF =
+        pipeline.execute("request", retryHandler(0), FCApiEndpoint.PERSON_ENRICH);
+    // Waits 500ms for a permit of the rate limiter
+    CompletableFuture<Integer> queuedCF =
+        pipeline.execute("request", retryHandler(0), FCApiEndpoint.PERSON_ENRICH);
+    Thread.sleep(800);
+    Assert.assertTrue(sentCF.isCompletedExceptionally());
+    Assert.assertTrue(queuedCF.isCompletedExceptionally());
+    // The attempt in flight is cancelled in the transport, and the queued one is never sent
+    Assert.assertEquals(1, transport.sent.get());
+    synchronized (transport) {
+      Assert.assertTrue(transport.pending.get(0).isCancelled());
+    }
+  }
+
+  @Test
+  public void openCircuitBreakerStopsRequestsTest() throws InterruptedException {
+    FakeTransport transport = new FakeTransport(503, 503, 503, 503, 200);
+    RequestPipeline<String, Integer> pipeline =
+        this.pipeline(transport)
+            .circuitBreakers(
+                CircuitBreaker.forAllEndpoints(
+                    CircuitBreakerConfig.builder()
+                        .slidingWindowSize(4)
+                        .minimumNumberOfCalls(4)
+                        .build()))
+            .build();
+    for (int i = 0; i < 4; i++) {
+      pipeline.execute("request", retryHandler(0), FCApiEndpoint.PERSON_ENRICH).join();
+    }
+    try {
+      pipeline.execute("request", retryHandler(5), FCApiEndpoint.PERSON_ENRICH).get();
+      Assert.fail("Request should have failed with CircuitBreakerOpenException");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof CircuitBreakerOpenException);
+    }
+    // Requests failing on an open circuit breaker are neither sent nor retried
+    Assert.assertEquals(4, transport.sent.get());
+  }
+
+  @Test
+  public void withTransportKeepsStagesTest() throws ExecutionException, InterruptedException {
+    FakeTransport transport = new FakeTransport(503, 503, 503, 503);
+    RequestPipeline<String, Integer> pipeline =
+        this.pipeline(transport)
+            .circuitBreakers(
+                CircuitBreaker.forAllEndpoints(
+                    CircuitBreakerConfig.builder()
+                        .slidingWindowSize(4)
+                        .minimumNumberOfCalls(4)
+                        .build()))
+            .build();
+    for (int i = 0; i < 4; i++) {
+      pipeline.send("request", FCApiEndpoint.PERSON_ENRICH).join();
+    }
+    FakeTransport otherTransport = new FakeTransport(200);
+    try {
+      pipeline.withTransport(otherTransport).send("request", FCApiEndpoint.PERSON_ENRICH).get();
+      Assert.fail("Request should have failed with CircuitBreakerOpenException");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof CircuitBreakerOpenException);
+    }
+    Assert.assertEquals(0, otherTransport.sent.get());
+  }
+
+  @Test
+  public void hedgerCancelsTransportRequestOfThrottledEndpointTest()
+      throws ExecutionException, InterruptedException, TimeoutException {
+    FakeTransport transport = new FakeTransport();
+    CompletableFuture<Integer> responseCF =
+        this.pipeline(transport)
+            .adaptiveThrottles(
+                AdaptiveThrottle.forAllEndpoints(AdaptiveThrottle.DEFAULT_SLOWDOWN_RATIO))
+            .requestHedgers(
+                Collections.singletonMap(
+                    FCApiEndpoint.PERSON_ENRICH,
+                    new RequestHedger(
+                        HedgingPolicy.builder().delayMillis(20).maxHedgeRatio(1).build())))
+            .build()
+            .send("request", FCApiEndpoint.PERSON_ENRICH);
+    for (int i = 0; i < 100 && transport.sent.get() < 2; i++) {
+      Thread.sleep(10);
+    }
+    Assert.assertEquals(2, transport.sent.get());
+    synchronized (transport) {
+      transport.pending.get(1).complete(200);
+    }
+    Assert.assertEquals(200, (int) responseCF.get(1, TimeUnit.SECONDS));
+    // The losing request is cancelled in the transport, not only in a stage depending on it
+    synchronized (transport) {
+      Assert.assertTrue(transport.pending.get(0).isCancelled());
+    }
+  }
+}
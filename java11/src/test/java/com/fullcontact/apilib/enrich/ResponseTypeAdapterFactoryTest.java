@@ -0,0 +1,293 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.models.Response.*;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.annotations.SerializedName;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResponseTypeAdapterFactoryTest {
+  private static final Gson reflectiveGson = new Gson();
+  private static final Gson gson =
+      new GsonBuilder().registerTypeAdapterFactory(new ResponseTypeAdapterFactory()).create();
+  private static final Gson lazyDetailsGson =
+      new GsonBuilder().registerTypeAdapterFactory(new ResponseTypeAdapterFactory(true)).create();
+
+  private static String readResource(String fileName) throws IOException {
+    return new String(
+        Files.readAllBytes(Paths.get("src/test/resources", fileName)), StandardCharsets.UTF_8);
+  }
+
+  private static void assertSameAsReflection(String fileName, Class<?> responseClass)
+      throws IOException {
+    String json = readResource(fileName);
+    String expected = reflectiveGson.toJson(reflectiveGson.fromJson(json, responseClass));
+    Object response = gson.fromJson(json, responseClass);
+    Assert.assertEquals(expected, reflectiveGson.toJson(response));
+    Assert.assertEquals(expected, gson.toJson(response));
+  }
+
+  @Test
+  public void generatedAdaptersTest() throws ClassNotFoundException {
+    Assert.assertEquals(
+        ResponseTypeAdapterFactory.class,
+        gson.getAdapter(PersonResponse.class).getClass().getEnclosingClass());
+    Assert.assertEquals(
+        generatedAdapters(), gson.getAdapter(Details.class).getClass().getEnclosingClass());
+  }
+
+  @Test
+  public void sameAsReflectionTest() throws IOException {
+    assertSameAsReflection("completeCanaryResponse.json", PersonResponse.class);
+    assertSameAsReflection("companyEnrichResponse.json", CompanyResponse.class);
+    assertSameAsReflection("identityMapResponse.json", ResolveResponse.class);
+    assertSameAsReflection("identityResolveResponse.json", ResolveResponse.class);
+    assertSameAsReflection("identityResolveResponseWithTags.json", ResolveResponseWithTags.class);
+    assertSameAsReflection("tagsGetResponse.json", TagsResponse.class);
+    assertSameAsReflection("audienceCreateResponse.json", AudienceResponse.class);
+    assertSameAsReflection("permissionVerifyResponse.json", ConsentPurposeResponse.class);
+    assertSameAsReflection("verifySignalsResponse.json", SignalsResponse.class);
+    assertSameAsReflection("verifyMatchResponse.json", MatchResponse.class);
+    assertSameAsReflection("verifyActivityResponse.json", ActivityResponse.class);
+    assertSameAsReflection("status404.json", PersonResponse.class);
+  }
+
+  /**
+   * JSON with a distinct value for every field of the type, as found by reflection, so that a field
+   * missing from the generated adapter or constructor arguments passed in the wrong order change
+   * the decoded response
+   */
+  private static JsonElement sampleJson(Type type, AtomicInteger counter, int depth) {
+    Class<?> rawType =
+        type instanceof ParameterizedType
+            ? (Class<?>) ((ParameterizedType) type).getRawType()
+            : (Class<?>) type;
+    if (rawType == String.class) {
+      return new JsonPrimitive("value" + counter.incrementAndGet());
+    } else if (rawType == boolean.class || rawType == Boolean.class) {
+      return new JsonPrimitive(counter.incrementAndGet() % 2 == 0);
+    } else if (rawType == double.class
+        || rawType == Double.class
+        || rawType == float.class
+        || rawType == Float.class) {
+      return new JsonPrimitive(counter.incrementAndGet() + 0.5);
+    } else if (rawType.isPrimitive() || Number.class.isAssignableFrom(rawType)) {
+      return new JsonPrimitive(counter.incrementAndGet());
+    } else if (rawType.isEnum()) {
+      Object[] constants = rawType.getEnumConstants();
+      return reflectiveGson.toJsonTree(constants[counter.incrementAndGet() % constants.length]);
+    } else if (JsonElement.class.isAssignableFrom(rawType)) {
+      JsonObject jsonObject = new JsonObject();
+      jsonObject.addProperty("value", counter.incrementAndGet());
+      return jsonObject;
+    } else if (depth > 3) {
+      return JsonNull.INSTANCE;
+    } else if (rawType.isArray()) {
+      JsonArray jsonArray = new JsonArray();
+      jsonArray.add(sampleJson(rawType.getComponentType(), counter, depth + 1));
+      return jsonArray;
+    } else if (Collection.class.isAssignableFrom(rawType)) {
+      JsonArray jsonArray = new JsonArray();
+      jsonArray.add(
+          sampleJson(((ParameterizedType) type).getActualTypeArguments()[0], counter, depth + 1));
+      return jsonArray;
+    } else if (Map.class.isAssignableFrom(rawType)) {
+      JsonObject jsonObject = new JsonObject();
+      jsonObject.add(
+          String.valueOf(counter.incrementAndGet()),
+          sampleJson(((ParameterizedType) type).getActualTypeArguments()[1], counter, depth + 1));
+      return jsonObject;
+    }
+    JsonObject jsonObject = new JsonObject();
+    for (Field field : serializedFields(rawType)) {
+      jsonObject.add(serializedName(field), sampleJson(field.getGenericType(), counter, depth + 1));
+    }
+    return jsonObject;
+  }
+
+  /** @return fields of the class and its superclasses which Gson serializes */
+  private static List<Field> serializedFields(Class<?> type) {
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers())
+            && !Modifier.isTransient(field.getModifiers())
+            && !field.isSynthetic()) {
+          fields.add(field);
+        }
+      }
+    }
+    return fields;
+  }
+
+  private static String serializedName(Field field) {
+    SerializedName serializedName = field.getAnnotation(SerializedName.class);
+    return serializedName != null ? serializedName.value() : field.getName();
+  }
+
+  /** Class generated by ResponseAdapterGenerator, package private */
+  private static Class<?> generatedAdapters() throws ClassNotFoundException {
+    return Class.forName("com.fullcontact.apilib.models.Response.ResponseTypeAdapters");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Class<?>> registeredClasses() throws ReflectiveOperationException {
+    Field adapters = generatedAdapters().getDeclaredField("ADAPTERS");
+    adapters.setAccessible(true);
+    List<Class<?>> registeredClasses =
+        new ArrayList<>(((Map<Class<?>, ?>) adapters.get(null)).keySet());
+    registeredClasses.add(PersonResponse.class);
+    return registeredClasses;
+  }
+
+  @Test
+  public void noDriftFromResponseClassesTest() throws ReflectiveOperationException {
+    List<Class<?>> registeredClasses = registeredClasses();
+    Assert.assertTrue(registeredClasses.size() > 80);
+    for (Class<?> registeredClass : registeredClasses) {
+      Assert.assertEquals(
+          registeredClass.getName(),
+          registeredClass == PersonResponse.class
+              ? ResponseTypeAdapterFactory.class
+              : generatedAdapters(),
+          gson.getAdapter(registeredClass).getClass().getEnclosingClass());
+      JsonElement json = sampleJson(registeredClass, new AtomicInteger(), 0);
+      for (Field field : serializedFields(registeredClass)) {
+        Assert.assertFalse(
+            registeredClass.getName() + "." + field.getName(),
+            json.getAsJsonObject().get(serializedName(field)).isJsonNull());
+      }
+      String expected = reflectiveGson.toJson(reflectiveGson.fromJson(json, registeredClass));
+      Object response = gson.fromJson(json, registeredClass);
+      Assert.assertEquals(
+          registeredClass.getName() + " decoding", expected, reflectiveGson.toJson(response));
+      Assert.assertEquals(registeredClass.getName() + " encoding", expected, gson.toJson(response));
+      // Details kept as JSON are written as they were read, by the generated adapter only
+      Assert.assertEquals(
+          registeredClass.getName() + " lazy details",
+          expected,
+          reflectiveGson.toJson(
+              gson.fromJson(
+                  gson.toJson(lazyDetailsGson.fromJson(json, registeredClass)), registeredClass)));
+    }
+  }
+
+  @Test
+  public void nullsAndUnknownFieldsTest() {
+    PersonResponse response =
+        gson.fromJson(
+            "{\"statusCode\":null,\"unknown\":{\"a\":[1,{\"b\":null}]},\"details\":null,"
+                + "\"fullName\":\"Marquita H Ross\"}",
+            PersonResponse.class);
+    Assert.assertEquals(0, response.getStatusCode());
+    Assert.assertFalse(response.getDetails().isPresent());
+    Assert.assertEquals("Marquita H Ross", response.getFullName());
+    Assert.assertNull(gson.fromJson("null", PersonResponse.class));
+  }
+
+  @Test
+  public void lazyDetailsTest() throws IOException {
+    String json = readResource("completeCanaryResponse.json");
+    String expected = reflectiveGson.toJson(reflectiveGson.fromJson(json, PersonResponse.class));
+    PersonResponse response = lazyDetailsGson.fromJson(json, PersonResponse.class);
+    Assert.assertEquals("Marquita H Ross", response.getFullName());
+    // Serialized before the details are decoded, as done by the response caches
+    PersonResponse cachedResponse = gson.fromJson(gson.toJson(response), PersonResponse.class);
+    Assert.assertEquals(expected, reflectiveGson.toJson(cachedResponse));
+    Assert.assertEquals("Marquita", response.getDetails().get().getName().getGiven());
+    Assert.assertSame(response.getDetails().get(), response.getDetails().get());
+    Assert.assertEquals(
+        expected,
+        reflectiveGson.toJson(gson.fromJson(gson.toJson(response), PersonResponse.class)));
+    Assert.assertFalse(
+        lazyDetailsGson
+            .fromJson("{\"fullName\":\"Marquita H Ross\",\"details\":null}", PersonResponse.class)
+            .getDetails()
+            .isPresent());
+  }
+
+  @Test
+  public void fieldMaskTest() {
+    Assert.assertEquals(
+        "details.employment,details.locations,fullName",
+        FieldMask.of("fullName,details.locations", "details.employment").toString());
+    Assert.assertEquals("details", FieldMask.of("details.employment", "details").toString());
+    Assert.assertEquals("details", FieldMask.of("details", "details.employment").toString());
+    FieldMask fieldMask = FieldMask.of("details.employment.name");
+    Assert.assertTrue(fieldMask.includes("details"));
+    Assert.assertFalse(fieldMask.includes("fullName"));
+    Assert.assertTrue(fieldMask.get("details").includes("employment"));
+    Assert.assertNull(fieldMask.get("details").get("employment").get("name"));
+    try {
+      FieldMask.of("details..employment");
+      Assert.fail("FieldMask should have failed with IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      Assert.assertEquals("Invalid path in FieldMask: details..employment", e.getMessage());
+    }
+    try {
+      FieldMask.of(" , ");
+      Assert.fail("FieldMask should have failed with IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      Assert.assertEquals("FieldMask needs at least one path", e.getMessage());
+    }
+  }
+
+  private static void assertMasked(PersonResponse response) {
+    Assert.assertEquals("Marquita H Ross", response.getFullName());
+    Assert.assertNull(response.getEmail());
+    Assert.assertNull(response.getTwitter());
+    Assert.assertEquals(1, response.getEmploymentList().get().size());
+    Assert.assertEquals("Mostow Co.", response.getEmploymentList().get().get(0).getName());
+    Assert.assertEquals(1, response.getLocationsList().get().size());
+    Assert.assertNull(response.getDetails().get().getName());
+    Assert.assertNull(response.getDetails().get().getAge());
+    Assert.assertNull(response.getDetails().get().getEducation());
+  }
+
+  @Test
+  public void fieldMaskDecodingTest() throws IOException {
+    String json = readResource("completeCanaryResponse.json");
+    FieldMask fieldMask = FieldMask.of("fullName,details.employment,details.locations");
+    assertMasked(
+        new GsonBuilder()
+            .registerTypeAdapterFactory(new ResponseTypeAdapterFactory(false, fieldMask))
+            .create()
+            .fromJson(json, PersonResponse.class));
+    assertMasked(
+        new GsonBuilder()
+            .registerTypeAdapterFactory(new ResponseTypeAdapterFactory(true, fieldMask))
+            .create()
+            .fromJson(json, PersonResponse.class));
+    PersonResponse response =
+        new GsonBuilder()
+            .registerTypeAdapterFactory(new ResponseTypeAdapterFactory(false, fieldMask))
+            .create()
+            .fromJson(
+                "{\"email\":\"x\",\"statusCode\":404,\"message\":\"Not Found\"}",
+                PersonResponse.class);
+    // Fields of FCResponse are kept
+    Assert.assertNull(response.getEmail());
+    Assert.assertEquals(404, response.getStatusCode());
+    Assert.assertEquals("Not Found", response.getMessage());
+  }
+}
@@ -0,0 +1,133 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
+import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.Response.PersonResponse;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.retry.DeadlineExceededException;
+import com.fullcontact.apilib.retry.DefaultRetryHandler;
+import com.fullcontact.apilib.retry.RetryBackoff;
+import com.fullcontact.apilib.retry.RetryBudget;
+import com.fullcontact.apilib.retry.RetryHandler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+public class RetryBackoffTest {
+
+  @Test
+  public void delayIsWithinBoundsTest() {
+    long previousDelayMillis = 0;
+    for (int i = 0; i < 1000; i++) {
+      long delayMillis = RetryBackoff.decorrelatedJitter(500, 8000, previousDelayMillis, null);
+      Assert.assertTrue(delayMillis >= 500);
+      Assert.assertTrue(delayMillis <= Math.min(8000, Math.max(500, previousDelayMillis) * 3));
+      previousDelayMillis = delayMillis;
+    }
+  }
+
+  @Test
+  public void delaysAreSpreadOutTest() {
+    Set<Long> delays = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      delays.add(RetryBackoff.decorrelatedJitter(500, 8000, 0, null));
+    }
+    Assert.assertTrue(delays.size() > 50);
+  }
+
+  @Test
+  public void retryAfterIsHonouredTest() {
+    for (int i = 0; i < 100; i++) {
+      long delayMillis = RetryBackoff.decorrelatedJitter(500, 8000, 0, 20_000L);
+      Assert.assertTrue(delayMillis >= 20_000);
+      Assert.assertTrue(delayMillis <= 20_500);
+    }
+  }
+
+  @Test
+  public void retryHandlerUsesMinimumBaseDelayTest() {
+    RetryHandler retryHandler =
+        new DefaultRetryHandler() {
+          @Override
+          public int getRetryDelayMillis() {
+            return 10;
+          }
+        };
+    for (int i = 0; i < 100; i++) {
+      long delayMillis = retryHandler.getRetryDelayMillis(1, 0, null);
+      Assert.assertTrue(delayMillis >= RetryBackoff.MIN_BASE_DELAY_MILLIS);
+      Assert.assertTrue(delayMillis <= RetryBackoff.MIN_BASE_DELAY_MILLIS * 3);
+    }
+  }
+
+  @Test
+  public void retryBudgetAllowsMinimumRetriesTest() {
+    RetryBudget retryBudget = new RetryBudget(0.1, 1, 5000);
+    for (int i = 0; i < 5; i++) {
+      Assert.assertTrue(retryBudget.tryAcquireRetry());
+    }
+    Assert.assertFalse(retryBudget.tryAcquireRetry());
+  }
+
+  @Test
+  public void retryBudgetIsRatioOfRequestsTest() {
+    RetryBudget retryBudget = new RetryBudget(0.1, 0, 10_000);
+    for (int i = 0; i < 100; i++) {
+      retryBudget.recordRequest();
+    }
+    int retries = 0;
+    while (retryBudget.tryAcquireRetry()) {
+      retries++;
+    }
+    Assert.assertEquals(10, retries);
+    for (int i = 0; i < 10; i++) {
+      retryBudget.recordRequest();
+    }
+    Assert.assertTrue(retryBudget.tryAcquireRetry());
+    Assert.assertFalse(retryBudget.tryAcquireRetry());
+  }
+
+  @Test
+  public void retryBudgetWindowExpiresTest() throws InterruptedException {
+    RetryBudget retryBudget = new RetryBudget(0, 10, 100);
+    Assert.assertTrue(retryBudget.tryAcquireRetry());
+    Assert.assertFalse(retryBudget.tryAcquireRetry());
+    Thread.sleep(150);
+    Assert.assertTrue(retryBudget.tryAcquireRetry());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidRetryRatioTest() {
+    new RetryBudget(-0.1, 10, 10_000);
+  }
+
+  @Test
+  public void deadlineCoversRateLimiterWaitTest()
+      throws FullContactException, InterruptedException {
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .rateLimit(FCApiEndpoint.PERSON_ENRICH, 1, 1)
+            .deadlineMillis(5000)
+            .build();
+    PersonRequest personRequest =
+        FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build();
+    // The first request takes the only permit, whatever its outcome
+    fcTest.enrich(personRequest);
+    CompletableFuture<PersonResponse> response =
+        fcTest.enrich(personRequest, new DefaultRetryHandler().withDeadline(300));
+    try {
+      response.get();
+      Assert.fail("Request waiting for the rate limiter should fail at the deadline");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof DeadlineExceededException);
+      Assert.assertEquals(300, ((DeadlineExceededException) e.getCause()).getDeadlineMillis());
+    }
+    fcTest.close();
+  }
+}
@@ -0,0 +1,103 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.cache.CacheStats;
+import com.fullcontact.apilib.cache.TinyLfuResponseCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TinyLfuResponseCacheTest {
+  private static final String RESPONSE = "{\"fullName\":\"Marquita H Ross\"}";
+
+  @Test
+  public void hitAndMissTest() {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(1024 * 1024, 60_000);
+    Assert.assertNull(cache.get("key"));
+    cache.put("key", RESPONSE);
+    Assert.assertEquals(RESPONSE, cache.get("key"));
+    CacheStats stats = cache.getStats();
+    Assert.assertEquals(1, stats.getHitCount());
+    Assert.assertEquals(1, stats.getMissCount());
+    Assert.assertEquals(1, stats.getEntryCount());
+    Assert.assertTrue(stats.getSizeBytes() > 0);
+    Assert.assertEquals(0.5, stats.getHitRate(), 0.001);
+  }
+
+  @Test
+  public void entryExpiresAfterTtlTest() throws InterruptedException {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(1024 * 1024, 50);
+    cache.put("key", RESPONSE);
+    Assert.assertEquals(RESPONSE, cache.get("key"));
+    Thread.sleep(100);
+    Assert.assertNull(cache.get("key"));
+    Assert.assertEquals(1, cache.getStats().getExpirationCount());
+    Assert.assertEquals(0, cache.getStats().getEntryCount());
+  }
+
+  @Test
+  public void sizeIsBoundedTest() {
+    long maxSizeBytes = 64 * 1024;
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(maxSizeBytes, 60_000);
+    for (int i = 0; i < 10_000; i++) {
+      cache.put("key" + i, RESPONSE);
+      Assert.assertTrue(cache.getStats().getSizeBytes() <= maxSizeBytes);
+    }
+    Assert.assertTrue(cache.getStats().getEvictionCount() > 0);
+    Assert.assertTrue(cache.getStats().getEntryCount() < 10_000);
+  }
+
+  @Test
+  public void frequentlyUsedEntriesSurviveScanTest() {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(64 * 1024, 60_000);
+    for (int i = 0; i < 10; i++) {
+      cache.put("hot" + i, RESPONSE);
+    }
+    // Moves the hot entries out of the LRU window into the main cache
+    for (int i = 0; i < 20; i++) {
+      cache.put("filler" + i, RESPONSE);
+    }
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 10; i++) {
+        Assert.assertNotNull(cache.get("hot" + i));
+      }
+    }
+    // Records enriched only once shouldn't push out the frequently used ones
+    for (int i = 0; i < 5_000; i++) {
+      cache.get("cold" + i);
+      cache.put("cold" + i, RESPONSE);
+    }
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals(RESPONSE, cache.get("hot" + i));
+    }
+  }
+
+  @Test
+  public void oversizedResponseIsNotCachedTest() {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(100, 60_000);
+    cache.put("key", new String(new char[200]));
+    Assert.assertNull(cache.get("key"));
+    Assert.assertEquals(0, cache.getStats().getSizeBytes());
+  }
+
+  @Test
+  public void putReplacesEntryTest() {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(1024 * 1024, 60_000);
+    cache.put("key", "{}");
+    cache.put("key", RESPONSE);
+    Assert.assertEquals(RESPONSE, cache.get("key"));
+    Assert.assertEquals(1, cache.getStats().getEntryCount());
+  }
+
+  @Test
+  public void invalidateAllTest() {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(1024 * 1024, 60_000);
+    cache.put("key", RESPONSE);
+    cache.invalidateAll();
+    Assert.assertNull(cache.get("key"));
+    Assert.assertEquals(0, cache.getStats().getSizeBytes());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidTtlTest() {
+    new TinyLfuResponseCache(1024, 0);
+  }
+}
@@ -0,0 +1,145 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs tasks, like blocking {@link FullContactSync} calls to several endpoints, each in its own
+ * virtual thread, and waits for all of them. As soon as a task fails, the tasks still running are
+ * cancelled and {@link #join()} throws the failure, so no task outlives the fan-out:
+ *
+ * <pre>{@code
+ * try (FanOut fanOut = new FanOut()) {
+ *   Supplier<PersonResponse> person = fanOut.fork(() -> fcSync.enrichSync(personRequest));
+ *   Supplier<MatchResponse> match = fanOut.fork(() -> fcSync.verifyMatchSync(multifieldRequest));
+ *   fanOut.join();
+ *   // person.get() and match.get() return the responses
+ * }
+ * }</pre>
+ */
+public class FanOut implements AutoCloseable {
+  private final ExecutorService executor =
+      Executors.newThreadPerTaskExecutor(
+          Thread.ofVirtual().name("fullcontact-fanout-", 0).factory());
+  private final List<Future<?>> forks = new ArrayList<>();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+  /**
+   * Runs all tasks at the same time and waits for them.
+   *
+   * @param tasks tasks to run
+   * @return results of the tasks, in the order of the tasks
+   * @throws FullContactException failure of the first task which failed
+   */
+  public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks)
+      throws FullContactException {
+    try (FanOut fanOut = new FanOut()) {
+      List<Supplier<T>> results = new ArrayList<>(tasks.size());
+      for (Callable<T> task : tasks) {
+        results.add(fanOut.fork(task));
+      }
+      fanOut.join();
+      List<T> values = new ArrayList<>(results.size());
+      for (Supplier<T> result : results) {
+        values.add(result.get());
+      }
+      return values;
+    }
+  }
+
+  /**
+   * Starts the task in a new virtual thread.
+   *
+   * @param task task to run
+   * @return result of the task, available once {@link #join()} has returned
+   */
+  public synchronized <T> Supplier<T> fork(Callable<T> task) {
+    Future<T> future =
+        this.executor.submit(
+            () -> {
+              try {
+                return task.call();
+              } catch (Throwable throwable) {
+                this.onFailure(throwable);
+                throw throwable;
+              }
+            });
+    this.forks.add(future);
+    return future::resultNow;
+  }
+
+  /**
+   * Waits for all tasks started so far.
+   *
+   * @throws FullContactException failure of the first task which failed
+   */
+  public void join() throws FullContactException {
+    this.join(null);
+  }
+
+  /**
+   * Waits for all tasks started so far, for at most the timeout. The tasks still running at the
+   * timeout are cancelled.
+   *
+   * @param timeout maximum time to wait, or null to wait without a limit
+   * @throws FullContactException failure of the first task which failed, or the timeout
+   */
+  public void join(Duration timeout) throws FullContactException {
+    long deadline = timeout != null ? System.nanoTime() + timeout.toNanos() : 0;
+    List<Future<?>> forks;
+    synchronized (this) {
+      forks = new ArrayList<>(this.forks);
+    }
+    try {
+      for (Future<?> fork : forks) {
+        try {
+          if (timeout != null) {
+            fork.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+          } else {
+            fork.get();
+          }
+        } catch (ExecutionException | CancellationException e) {
+          // The failure is recorded by the task itself, cancelled tasks are the other tasks
+        }
+      }
+    } catch (InterruptedException e) {
+      this.executor.shutdownNow();
+      Thread.currentThread().interrupt();
+      throw new FullContactException("Interrupted while waiting for the tasks", e);
+    } catch (TimeoutException e) {
+      this.executor.shutdownNow();
+      throw new FullContactException(
+          "Tasks didn't complete within " + timeout.toMillis() + "ms", e);
+    }
+    Throwable throwable = this.failure.get();
+    if (throwable != null) {
+      throw FullContactSync.toFullContactException(throwable);
+    }
+  }
+
+  /** Cancels the tasks still running and waits for their threads to finish */
+  @Override
+  public void close() {
+    this.executor.shutdownNow();
+    this.executor.close();
+  }
+
+  private void onFailure(Throwable throwable) {
+    if (this.failure.compareAndSet(null, throwable)) {
+      this.executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,356 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.WarmUpResult;
+import com.fullcontact.apilib.models.Request.*;
+import com.fullcontact.apilib.models.Response.*;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Blocking API over the java11 {@link FullContact} client, meant to be called from virtual threads.
+ * Each method sends the request through the FullContact client, with its retries, rate limiting,
+ * caching and other options, and waits for the response. A virtual thread waiting for a response
+ * doesn't hold on to a platform thread, so a request per virtual thread scales like the
+ * asynchronous API while reading like plain sequential code. Use {@link FanOut} to send several
+ * requests at the same time and wait for all of them.
+ */
+public class FullContactSync implements AutoCloseable {
+  private final FullContact fullContact;
+
+  /** @param fullContact java11 FullContact client used to send the requests */
+  public FullContactSync(FullContact fullContact) {
+    this.fullContact = fullContact;
+  }
+
+  /** @return java11 FullContact client used to send the requests */
+  public FullContact getFullContact() {
+    return this.fullContact;
+  }
+
+  /**
+   * Opens connections to the API host before the first requests, see {@link
+   * FullContact#warmUp(int)}.
+   *
+   * @param connections number of connections to open
+   * @return number of connections opened and time taken
+   * @throws FullContactException exception if client is shutdown or the thread is interrupted
+   */
+  public WarmUpResult warmUp(int connections) throws FullContactException {
+    return this.fullContact.warmUp(connections);
+  }
+
+  /**
+   * Blocking Person Enrich, waits for the response of {@link FullContact#enrich(PersonRequest)}.
+   *
+   * @param personRequest original request sent by client
+   * @return PersonResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public PersonResponse enrichSync(PersonRequest personRequest) throws FullContactException {
+    return await(() -> this.fullContact.enrich(personRequest));
+  }
+
+  /**
+   * Blocking Company Enrich, waits for the response of {@link FullContact#enrich(CompanyRequest)}.
+   *
+   * @param companyRequest original request sent by client
+   * @return CompanyResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public CompanyResponse enrichSync(CompanyRequest companyRequest) throws FullContactException {
+    return await(() -> this.fullContact.enrich(companyRequest));
+  }
+
+  /**
+   * Blocking Identity Map, waits for the response of {@link
+   * FullContact#identityMap(ResolveRequest)}.
+   *
+   * @param resolveRequest original request sent by client
+   * @return ResolveResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public ResolveResponse identityMapSync(ResolveRequest resolveRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.identityMap(resolveRequest));
+  }
+
+  /**
+   * Blocking Identity Resolve, waits for the response of {@link
+   * FullContact#identityResolve(ResolveRequest)}.
+   *
+   * @param resolveRequest original request sent by client
+   * @return ResolveResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public ResolveResponse identityResolveSync(ResolveRequest resolveRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.identityResolve(resolveRequest));
+  }
+
+  /**
+   * Blocking Identity Resolve with tags, waits for the response of {@link
+   * FullContact#identityResolveWithTags(ResolveRequest)}.
+   *
+   * @param resolveRequest original request sent by client
+   * @return ResolveResponseWithTags
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public ResolveResponseWithTags identityResolveWithTagsSync(ResolveRequest resolveRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.identityResolveWithTags(resolveRequest));
+  }
+
+  /**
+   * Blocking Identity Delete, waits for the response of {@link
+   * FullContact#identityDelete(ResolveRequest)}.
+   *
+   * @param resolveRequest original request sent by client
+   * @return ResolveResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public ResolveResponse identityDeleteSync(ResolveRequest resolveRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.identityDelete(resolveRequest));
+  }
+
+  /**
+   * Blocking Identity Map Resolve, waits for the response of {@link
+   * FullContact#identityMapResolve(ResolveRequest)}.
+   *
+   * @param resolveRequest original request sent by client
+   * @return ResolveResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public ResolveResponse identityMapResolveSync(ResolveRequest resolveRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.identityMapResolve(resolveRequest));
+  }
+
+  /**
+   * Blocking Tags Create, waits for the response of {@link FullContact#tagsCreate(TagsRequest)}.
+   *
+   * @param tagsRequest original request sent by client
+   * @return TagsResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public TagsResponse tagsCreateSync(TagsRequest tagsRequest) throws FullContactException {
+    return await(() -> this.fullContact.tagsCreate(tagsRequest));
+  }
+
+  /**
+   * Blocking Tags Get, waits for the response of {@link FullContact#tagsGet(String)}.
+   *
+   * @param recordId recordId of the tags
+   * @return TagsResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public TagsResponse tagsGetSync(String recordId) throws FullContactException {
+    return await(() -> this.fullContact.tagsGet(recordId));
+  }
+
+  /**
+   * Blocking Tags Delete, waits for the response of {@link FullContact#tagsDelete(TagsRequest)}.
+   *
+   * @param tagsRequest original request sent by client
+   * @return TagsResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public TagsResponse tagsDeleteSync(TagsRequest tagsRequest) throws FullContactException {
+    return await(() -> this.fullContact.tagsDelete(tagsRequest));
+  }
+
+  /**
+   * Blocking Audience Create, waits for the response of {@link
+   * FullContact#audienceCreate(AudienceRequest)}.
+   *
+   * @param audienceRequest original request sent by client
+   * @return AudienceResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public AudienceResponse audienceCreateSync(AudienceRequest audienceRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.audienceCreate(audienceRequest));
+  }
+
+  /**
+   * Blocking Audience Download, waits for the response of {@link
+   * FullContact#audienceDownload(String)}.
+   *
+   * @param requestId requestId from 'audience.create'
+   * @return AudienceResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public AudienceResponse audienceDownloadSync(String requestId) throws FullContactException {
+    return await(() -> this.fullContact.audienceDownload(requestId));
+  }
+
+  /**
+   * Blocking Permission Create, waits for the response of {@link
+   * FullContact#permissionCreate(PermissionRequest)}.
+   *
+   * @param permissionRequest original request sent by client
+   * @return FCResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public FCResponse permissionCreateSync(PermissionRequest permissionRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.permissionCreate(permissionRequest));
+  }
+
+  /**
+   * Blocking Permission Delete, waits for the response of {@link
+   * FullContact#permissionDelete(MultifieldRequest)}.
+   *
+   * @param multifieldRequest original request sent by client
+   * @return FCResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public FCResponse permissionDeleteSync(MultifieldRequest multifieldRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.permissionDelete(multifieldRequest));
+  }
+
+  /**
+   * Blocking Permission Find, waits for the response of {@link
+   * FullContact#permissionFind(MultifieldRequest)}.
+   *
+   * @param multifieldRequest original request sent by client
+   * @return PermissionResponseList
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public PermissionResponseList permissionFindSync(MultifieldRequest multifieldRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.permissionFind(multifieldRequest));
+  }
+
+  /**
+   * Blocking Permission Current, waits for the response of {@link
+   * FullContact#permissionCurrent(MultifieldRequest)}.
+   *
+   * @param multifieldRequest original request sent by client
+   * @return PermissionCurrentResponseMap
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public PermissionCurrentResponseMap permissionCurrentSync(MultifieldRequest multifieldRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.permissionCurrent(multifieldRequest));
+  }
+
+  /**
+   * Blocking Permission Verify, waits for the response of {@link
+   * FullContact#permissionVerify(ChannelPurposeRequest)}.
+   *
+   * @param channelPurposeRequest original request sent by client
+   * @return ConsentPurposeResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public ConsentPurposeResponse permissionVerifySync(ChannelPurposeRequest channelPurposeRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.permissionVerify(channelPurposeRequest));
+  }
+
+  /**
+   * Blocking Verify Signals, waits for the response of {@link
+   * FullContact#verifySignals(MultifieldRequest)}.
+   *
+   * @param multifieldRequest original request sent by client
+   * @return SignalsResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public SignalsResponse verifySignalsSync(MultifieldRequest multifieldRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.verifySignals(multifieldRequest));
+  }
+
+  /**
+   * Blocking Verify Match, waits for the response of {@link
+   * FullContact#verifyMatch(MultifieldRequest)}.
+   *
+   * @param multifieldRequest original request sent by client
+   * @return MatchResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public MatchResponse verifyMatchSync(MultifieldRequest multifieldRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.verifyMatch(multifieldRequest));
+  }
+
+  /**
+   * Blocking Verify Activity, waits for the response of {@link
+   * FullContact#verifyActivity(MultifieldRequest)}.
+   *
+   * @param multifieldRequest original request sent by client
+   * @return ActivityResponse
+   * @throws FullContactException exception if client is shutdown, request fails validation or the
+   *     request fails
+   */
+  public ActivityResponse verifyActivitySync(MultifieldRequest multifieldRequest)
+      throws FullContactException {
+    return await(() -> this.fullContact.verifyActivity(multifieldRequest));
+  }
+
+  /** Closes the underlying FullContact client */
+  @Override
+  public void close() {
+    this.fullContact.close();
+  }
+
+  @FunctionalInterface
+  private interface AsyncCall<R> {
+    CompletableFuture<R> call() throws FullContactException;
+  }
+
+  /**
+   * Sends the request and waits for its response. If the waiting thread is interrupted, the request
+   * is cancelled and the interrupt status of the thread is kept.
+   */
+  private static <R> R await(AsyncCall<R> asyncCall) throws FullContactException {
+    CompletableFuture<R> responseCF = asyncCall.call();
+    try {
+      return responseCF.get();
+    } catch (InterruptedException e) {
+      responseCF.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new FullContactException("Interrupted while waiting for the response", e);
+    } catch (ExecutionException e) {
+      throw toFullContactException(e.getCause());
+    } catch (CancellationException e) {
+      throw toFullContactException(e);
+    }
+  }
+
+  /** Failure of a request or a task as a FullContactException, keeping the original as cause */
+  static FullContactException toFullContactException(Throwable throwable) {
+    while (throwable instanceof CompletionException && throwable.getCause() != null) {
+      throwable = throwable.getCause();
+    }
+    if (throwable instanceof FullContactException) {
+      return (FullContactException) throwable;
+    }
+    return new FullContactException(
+        throwable.getMessage() != null ? throwable.getMessage() : throwable.toString(), throwable);
+  }
+}
@@ -0,0 +1,96 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class FanOutTest {
+
+  @Test
+  public void tasksRunOnVirtualThreadsTest() throws FullContactException {
+    List<Callable<String>> tasks =
+        List.of(
+            () -> "first:" + Thread.currentThread().isVirtual(),
+            () -> "second:" + Thread.currentThread().isVirtual(),
+            () -> "third:" + Thread.currentThread().isVirtual());
+    Assert.assertEquals(
+        List.of("first:true", "second:true", "third:true"), FanOut.invokeAll(tasks));
+  }
+
+  @Test
+  public void failureCancelsOtherTasksTest() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    try (FanOut fanOut = new FanOut()) {
+      Supplier<String> slow =
+          fanOut.fork(
+              () -> {
+                started.countDown();
+                try {
+                  Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                  interrupted.countDown();
+                  throw e;
+                }
+                return "slow";
+              });
+      started.await();
+      fanOut.fork(
+          () -> {
+            throw new FullContactException("Request failed");
+          });
+      try {
+        fanOut.join();
+        Assert.fail("join should throw the failure of the task");
+      } catch (FullContactException e) {
+        Assert.assertEquals("Request failed", e.getMessage());
+      }
+      Assert.assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+      try {
+        slow.get();
+        Assert.fail("Cancelled task should have no result");
+      } catch (IllegalStateException e) {
+        // Expected
+      }
+    }
+  }
+
+  @Test
+  public void otherFailuresAreWrappedTest() {
+    try {
+      FanOut.invokeAll(
+          List.<Callable<String>>of(
+              () -> {
+                throw new IllegalArgumentException("Invalid value");
+              }));
+      Assert.fail("invokeAll should throw the failure of the task");
+    } catch (FullContactException e) {
+      Assert.assertEquals("Invalid value", e.getMessage());
+      Assert.assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+  }
+
+  @Test
+  public void joinTimeoutTest() {
+    try (FanOut fanOut = new FanOut()) {
+      fanOut.fork(
+          () -> {
+            Thread.sleep(10_000);
+            return "slow";
+          });
+      try {
+        fanOut.join(Duration.ofMillis(50));
+        Assert.fail("join should time out");
+      } catch (FullContactException e) {
+        Assert.assertEquals("Tasks didn't complete within 50ms", e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
+import com.fullcontact.apilib.cache.CacheStats;
+import com.fullcontact.apilib.cache.ResponseCache;
+import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.Response.PersonResponse;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.ratelimit.TokenBucketRateLimiter;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+public class FullContactSyncTest {
+  @Rule public ExpectedException exceptionRule = ExpectedException.none();
+
+  /** Negative cache which has every request, so that no request reaches the API */
+  private static class NoMatchCache implements ResponseCache {
+    @Override
+    public String get(String key) {
+      return "{\"isSuccessful\":true,\"statusCode\":404,\"message\":\"Profile not found\"}";
+    }
+
+    @Override
+    public void put(String key, String response) {}
+
+    @Override
+    public void invalidateAll() {}
+
+    @Override
+    public CacheStats getStats() {
+      return null;
+    }
+  }
+
+  private static FullContactSync buildClient() throws FullContactException {
+    return new FullContactSync(
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .negativeCache(new NoMatchCache())
+            .build());
+  }
+
+  @Test
+  public void enrichSyncTest() throws FullContactException {
+    try (FullContactSync fcSync = buildClient()) {
+      PersonResponse personResponse =
+          fcSync.enrichSync(FullContact.buildPersonRequest().email("test@fullcontact.com").build());
+      Assert.assertEquals(404, personResponse.getStatusCode());
+      Assert.assertEquals("Profile not found", personResponse.getMessage());
+    }
+  }
+
+  @Test
+  public void validationFailureIsThrownTest() throws FullContactException {
+    try (FullContactSync fcSync = buildClient()) {
+      try {
+        fcSync.identityDeleteSync(
+            FullContact.buildResolveRequest().email("test@fullcontact.com").build());
+        Assert.fail("Request without recordId should fail validation");
+      } catch (FullContactException e) {
+        Assert.assertEquals("recordId param must be specified", e.getMessage());
+      }
+    }
+  }
+
+  @Test
+  public void closedClientTest() throws FullContactException {
+    FullContactSync fcSync = buildClient();
+    fcSync.close();
+    exceptionRule.expect(FullContactException.class);
+    exceptionRule.expectMessage("FullContact client is shutdown. Please create a new client");
+    fcSync.enrichSync(FullContact.buildPersonRequest().email("test@fullcontact.com").build());
+  }
+
+  @Test
+  public void fanOutEnrichTest() throws FullContactException {
+    try (FullContactSync fcSync = buildClient()) {
+      PersonRequest first = FullContact.buildPersonRequest().email("first@fullcontact.com").build();
+      PersonRequest second =
+          FullContact.buildPersonRequest().email("second@fullcontact.com").build();
+      List<PersonResponse> personResponses =
+          FanOut.invokeAll(
+              List.<Callable<PersonResponse>>of(
+                  () -> fcSync.enrichSync(first), () -> fcSync.enrichSync(second)));
+      Assert.assertEquals(2, personResponses.size());
+      for (PersonResponse personResponse : personResponses) {
+        Assert.assertEquals(404, personResponse.getStatusCode());
+      }
+    }
+  }
+
+  @Test
+  public void joinTimeoutCancelsRequestsTest() throws FullContactException, InterruptedException {
+    int requests = 1000;
+    // Holds every attempt without sending it, as if the rate limit was used up
+    ConcurrentLinkedQueue<CompletableFuture<?>> attempts = new ConcurrentLinkedQueue<>();
+    TokenBucketRateLimiter rateLimiter =
+        new TokenBucketRateLimiter(1, 1) {
+          @Override
+          public <T> CompletableFuture<T> submit(
+              Supplier<CompletableFuture<T>> call, ScheduledExecutorService scheduler) {
+            CompletableFuture<T> attempt = new CompletableFuture<>();
+            attempts.add(attempt);
+            return attempt;
+          }
+        };
+    try (FullContactSync fcSync =
+        new FullContactSync(
+            FullContact.builder()
+                .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+                .rateLimiters(Map.of(FCApiEndpoint.PERSON_ENRICH, rateLimiter))
+                .build())) {
+      try (FanOut fanOut = new FanOut()) {
+        for (int i = 0; i < requests; i++) {
+          PersonRequest personRequest =
+              FullContact.buildPersonRequest().email("test" + i + "@fullcontact.com").build();
+          fanOut.fork(() -> fcSync.enrichSync(personRequest));
+        }
+        for (int i = 0; i < 500 && attempts.size() < requests; i++) {
+          Thread.sleep(10);
+        }
+        Assert.assertEquals(requests, attempts.size());
+        try {
+          fanOut.join(Duration.ofMillis(50));
+          Assert.fail("join should time out");
+        } catch (FullContactException e) {
+          Assert.assertEquals("Tasks didn't complete within 50ms", e.getMessage());
+        }
+      }
+      // The interrupted *Sync calls cancel their requests down to the rate limiter
+      for (CompletableFuture<?> attempt : attempts) {
+        Assert.assertTrue(attempt.isCancelled());
+      }
+    }
+  }
+}
@@ -1,7 +1,5 @@
 package com.fullcontact.apilib.enrich;
 
-import com.fullcontact.apilib.FCConstants;
-import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
 import okhttp3.Request;
 import okhttp3.Response;
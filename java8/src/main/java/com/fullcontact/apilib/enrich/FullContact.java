@@ -3,21 +3,42 @@ package com.fullcontact.apilib.enrich;
 import com.fullcontact.apilib.FCConstants;
 import com.fullcontact.apilib.FullContactApi;
 import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.WarmUpResult;
 import com.fullcontact.apilib.auth.CredentialsProvider;
 import com.fullcontact.apilib.auth.DefaultCredentialProvider;
+import com.fullcontact.apilib.bulk.BulkIterator;
+import com.fullcontact.apilib.bulk.BulkOptions;
+import com.fullcontact.apilib.bulk.BulkResult;
+import com.fullcontact.apilib.cache.ResponseCache;
+import com.fullcontact.apilib.cache.ResponseCaching;
+import com.fullcontact.apilib.cache.SegmentLogResponseCache;
+import com.fullcontact.apilib.cache.TinyLfuResponseCache;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreaker;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreakerConfig;
+import com.fullcontact.apilib.circuitbreaker.CircuitBreakerOpenException;
+import com.fullcontact.apilib.coalescing.RequestCoalescer;
+import com.fullcontact.apilib.hedging.HedgingPolicy;
+import com.fullcontact.apilib.hedging.RequestHedger;
 import com.fullcontact.apilib.models.Request.*;
 import com.fullcontact.apilib.models.Response.*;
 import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.ratelimit.AdaptiveThrottle;
+import com.fullcontact.apilib.ratelimit.TokenBucketRateLimiter;
+import com.fullcontact.apilib.retry.DeadlineExceededException;
 import com.fullcontact.apilib.retry.DefaultRetryHandler;
+import com.fullcontact.apilib.retry.HashedWheelTimer;
+import com.fullcontact.apilib.retry.RetryBudget;
 import com.fullcontact.apilib.retry.RetryHandler;
+import com.fullcontact.apilib.transport.RequestExecutor;
+import com.fullcontact.apilib.transport.RequestPipeline;
 import com.fullcontact.apilib.test.MockInterceptor;
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import lombok.Builder;
 import lombok.SneakyThrows;
 import okhttp3.*;
 import okhttp3.logging.HttpLoggingInterceptor;
-import okio.Buffer;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 
@@ -25,10 +46,14 @@ import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -45,13 +70,27 @@ public class FullContact implements AutoCloseable {
   private final Map<String, String> headers;
   private final long connectTimeoutMillis;
   private final ScheduledExecutorService executor;
+  private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+  private final Gson responseGson;
+  private final Map<FCApiEndpoint, CircuitBreaker> circuitBreakers;
+  private final Map<FCApiEndpoint, RequestHedger> requestHedgers;
+  private final HttpClientOptions httpClientOptions;
+  private final Executor responseExecutor;
+  private final Executor callbackExecutor;
+  private final int requestCompressionMinBytes;
+  private final FullContactRuntime runtime;
+  private final HashedWheelTimer hashedWheelTimer;
+  private final RequestExecutor<RequestBody, Response<ResponseBody>> requestExecutor;
   private boolean isShutdown = false;
   private static final MediaType JSONMediaType = MediaType.parse("application/json; charset=utf-8");
   private static final Type permissionFindResponseType =
       new TypeToken<ArrayList<PermissionResponse>>() {}.getType();
   private static final Type permissionCurrentResponseType =
       new TypeToken<Map<Integer, Map<String, ConsentPurposeResponse>>>() {}.getType();
-  private static final Gson gson = new Gson();
+  private static final Gson gson =
+      new GsonBuilder().registerTypeAdapterFactory(new ResponseTypeAdapterFactory()).create();
+  private static final Gson lazyPersonDetailsGson =
+      new GsonBuilder().registerTypeAdapterFactory(new ResponseTypeAdapterFactory(true)).create();
 
   /**
    * FullContact client constructor used to initialise the client
@@ -60,20 +99,126 @@ public class FullContact implements AutoCloseable {
    * @param headers custom client headers
    * @param connectTimeoutMillis connection timout for all requests
    * @param retryHandler RetryHandler specified for client
+   * @param rateLimiters client side rate limiters for each API endpoint
+   * @param adaptiveThrottling throttle requests based on the rate limit headers from the API
+   * @param retryBudget client wide limit on retries, relative to the number of requests
+   * @param coalesceRequests share a single request for equal enrich requests in flight
+   * @param responseCache cache for Person and Company Enrich responses
+   * @param responseStore persistent cache for enrich, resolve and verify responses
+   * @param negativeCache cache of enrich and resolve requests which had no match
+   * @param circuitBreakerConfig options of the circuit breaker of each API endpoint
+   * @param hedgingPolicies hedging of slow requests for read-only API endpoints
+   * @param httpClientOptions dispatcher limits, connection pool and timeouts of the OkHttp client
+   * @param responseExecutor executor used to parse responses
+   * @param callbackExecutor executor used to complete the CompletableFutures returned
+   * @param requestCompressionMinBytes minimum size of request bodies compressed with gzip, 0 to not
+   *     compress them
+   * @param deadlineMillis overall time a request can take, including retries, 0 for no deadline
+   * @param runtime runtime whose scheduler, connections and executors are shared with other
+   *     clients, null for the client to have its own
+   * @param retryTimerTickMillis tick of the HashedWheelTimer used for retries and deadlines, 0 to
+   *     use the scheduler of the client
+   * @param lazyPersonDetails keep the details of Person Enrich responses as JSON until they are
+   *     first read
+   * @param personFieldMask fields of Person Enrich responses to decode, null for all of them
    */
   @Builder
   public FullContact(
       CredentialsProvider credentialsProvider,
       Map<String, String> headers,
       long connectTimeoutMillis,
-      RetryHandler retryHandler) {
+      RetryHandler retryHandler,
+      Map<FCApiEndpoint, TokenBucketRateLimiter> rateLimiters,
+      boolean adaptiveThrottling,
+      RetryBudget retryBudget,
+      boolean coalesceRequests,
+      ResponseCache responseCache,
+      ResponseCache responseStore,
+      ResponseCache negativeCache,
+      CircuitBreakerConfig circuitBreakerConfig,
+      Map<FCApiEndpoint, HedgingPolicy> hedgingPolicies,
+      HttpClientOptions httpClientOptions,
+      Executor responseExecutor,
+      Executor callbackExecutor,
+      int requestCompressionMinBytes,
+      long deadlineMillis,
+      FullContactRuntime runtime,
+      long retryTimerTickMillis,
+      boolean lazyPersonDetails,
+      FieldMask personFieldMask) {
     this.credentialsProvider = credentialsProvider;
     this.retryHandler = retryHandler;
     this.headers = headers != null ? Collections.unmodifiableMap(headers) : null;
     this.connectTimeoutMillis = connectTimeoutMillis > 0 ? connectTimeoutMillis : 3000;
+    if (personFieldMask != null) {
+      this.responseGson =
+          new GsonBuilder()
+              .registerTypeAdapterFactory(
+                  new ResponseTypeAdapterFactory(lazyPersonDetails, personFieldMask))
+              .create();
+    } else {
+      this.responseGson = lazyPersonDetails ? lazyPersonDetailsGson : gson;
+    }
+    this.circuitBreakers =
+        circuitBreakerConfig != null
+            ? CircuitBreaker.forAllEndpoints(circuitBreakerConfig)
+            : Collections.emptyMap();
+    this.requestHedgers = new EnumMap<>(FCApiEndpoint.class);
+    if (hedgingPolicies != null) {
+      hedgingPolicies.forEach(
+          (fcApiEndpoint, hedgingPolicy) ->
+              this.requestHedgers.put(fcApiEndpoint, new RequestHedger(hedgingPolicy)));
+    }
+    this.runtime = runtime;
+    if (runtime != null) {
+      this.httpClientOptions = runtime.getHttpClientOptions();
+      this.responseExecutor =
+          responseExecutor != null ? responseExecutor : runtime.getResponseExecutor();
+      this.callbackExecutor =
+          callbackExecutor != null ? callbackExecutor : runtime.getCallbackExecutor();
+    } else {
+      this.httpClientOptions =
+          httpClientOptions != null ? httpClientOptions : HttpClientOptions.defaults();
+      this.responseExecutor = responseExecutor;
+      this.callbackExecutor = callbackExecutor;
+    }
+    this.requestCompressionMinBytes = requestCompressionMinBytes;
     this.httpClient = this.configureHTTPClientBuilder().build();
     this.client = this.configureRetrofit().create(FullContactApi.class);
-    this.executor = new ScheduledThreadPoolExecutor(5);
+    this.executor =
+        runtime != null
+            ? runtime.getScheduler()
+            : FullContactRuntime.newScheduler(FullContactRuntime.DEFAULT_SCHEDULER_THREADS);
+    this.hashedWheelTimer =
+        retryTimerTickMillis > 0 ? new HashedWheelTimer(retryTimerTickMillis, this.executor) : null;
+    RequestPipeline<RequestBody, Response<ResponseBody>> requestPipeline =
+        RequestPipeline.<RequestBody, Response<ResponseBody>>builder()
+            .transport(new OkHttpTransport(this.client))
+            .rateLimiters(rateLimiters)
+            .adaptiveThrottles(
+                adaptiveThrottling
+                    ? AdaptiveThrottle.forAllEndpoints(AdaptiveThrottle.DEFAULT_SLOWDOWN_RATIO)
+                    : null)
+            .circuitBreakers(this.circuitBreakers)
+            .requestHedgers(this.requestHedgers)
+            .executor(this.executor)
+            .retryBudget(retryBudget != null ? retryBudget : new RetryBudget())
+            .retryTimer(this.hashedWheelTimer)
+            .deadlineMillis(deadlineMillis)
+            .build();
+    this.requestExecutor =
+        RequestExecutor.<RequestBody, Response<ResponseBody>>builder()
+            .requestPipeline(requestPipeline)
+            .requestFactory((fcApiEndpoint, request) -> buildHttpRequest(request))
+            .responseParser(this::parseResponse)
+            .gson(gson)
+            .responseCaching(
+                new ResponseCaching(responseCache, responseStore, negativeCache, this.responseGson))
+            .requestCoalescer(coalesceRequests ? this.requestCoalescer : null)
+            .personFieldMask(personFieldMask)
+            .responseExecutor(this.responseExecutor)
+            .callbackExecutor(this.callbackExecutor)
+            .build();
   }
   /**
    * Method to build and create OkHttpClient. All the custom headers and auth key is added here.
@@ -81,7 +226,11 @@ public class FullContact implements AutoCloseable {
    * @return OkHttpClient Builder
    */
   protected OkHttpClient.Builder configureHTTPClientBuilder() {
-    OkHttpClient.Builder httpClientBuilder = new OkHttpClient.Builder();
+    // Clients of a runtime share its Dispatcher and connection pool
+    OkHttpClient.Builder httpClientBuilder =
+        this.runtime != null
+            ? this.runtime.getHttpClient().newBuilder()
+            : new OkHttpClient.Builder();
     httpClientBuilder.addInterceptor(
         chain -> {
           Request.Builder requestBuilder = chain.request().newBuilder();
@@ -101,6 +250,9 @@ public class FullContact implements AutoCloseable {
           Request request = requestBuilder.build();
           return chain.proceed(request);
         });
+    if (this.requestCompressionMinBytes > 0) {
+      httpClientBuilder.addInterceptor(new GzipRequestInterceptor(this.requestCompressionMinBytes));
+    }
     HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
     logging.setLevel(HttpLoggingInterceptor.Level.NONE);
     if (System.getProperty("FC_TEST_ENV", "").equals("FC_TEST")) {
@@ -109,6 +261,9 @@ public class FullContact implements AutoCloseable {
     httpClientBuilder.addInterceptor(logging);
     httpClientBuilder.addNetworkInterceptor(new FCOkHttpInterceptor());
     httpClientBuilder.connectTimeout(this.connectTimeoutMillis, TimeUnit.MILLISECONDS);
+    if (this.runtime == null) {
+      FullContactRuntime.configureHttpClientBuilder(httpClientBuilder, this.httpClientOptions);
+    }
 
     return httpClientBuilder;
   }
@@ -149,21 +304,42 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<PersonResponse> enrich(
       PersonRequest personRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     personRequest.validate();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(personRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.personEnrich(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.PERSON_ENRICH);
-    return responseCF.thenApply(
-        httpResponse ->
-            (PersonResponse) FullContact.getFCResponse(httpResponse, PersonResponse.class));
+    return this.execute(
+        FCApiEndpoint.PERSON_ENRICH, personRequest, PersonResponse.class, retryHandler);
+  }
+
+  /**
+   * Method for bulk Person Enrich with default {@link BulkOptions}. See {@link #enrichAll(Iterator,
+   * BulkOptions)}.
+   *
+   * @param personRequests requests to be enriched, read lazily
+   * @return BulkIterator over the results, in the order they complete
+   * @throws FullContactException exception if client is shutdown
+   */
+  public BulkIterator<PersonRequest, PersonResponse> enrichAll(
+      Iterator<PersonRequest> personRequests) throws FullContactException {
+    return this.enrichAll(personRequests, BulkOptions.defaults());
+  }
+
+  /**
+   * Method for bulk Person Enrich. Requests are read lazily from the iterator and sent as results
+   * are consumed, so that at most {@link BulkOptions#getMaxInFlight()} requests are in flight at
+   * any time. Validation errors and failed requests are reported per record in the {@link
+   * BulkResult} instead of failing the whole batch.
+   *
+   * @param personRequests requests to be enriched, read lazily
+   * @param bulkOptions concurrency and retry options for the batch
+   * @return BulkIterator over the results, in the order they complete
+   * @throws FullContactException exception if client is shutdown
+   */
+  public BulkIterator<PersonRequest, PersonResponse> enrichAll(
+      Iterator<PersonRequest> personRequests, BulkOptions bulkOptions) throws FullContactException {
+    checkForShutdown();
+    RetryHandler bulkRetryHandler =
+        bulkOptions.getRetryHandler() != null ? bulkOptions.getRetryHandler() : this.retryHandler;
+    return new BulkIterator<>(
+        personRequests, bulkOptions, personRequest -> this.enrich(personRequest, bulkRetryHandler));
   }
 
   /**
@@ -194,20 +370,8 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<CompanyResponse> enrich(
       CompanyRequest companyRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(companyRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.companyEnrich(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.COMPANY_ENRICH);
-    return responseCF.thenApply(
-        httpResponse ->
-            (CompanyResponse) FullContact.getFCResponse(httpResponse, CompanyResponse.class));
+    return this.execute(
+        FCApiEndpoint.COMPANY_ENRICH, companyRequest, CompanyResponse.class, retryHandler);
   }
 
   /**
@@ -239,7 +403,8 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ResolveResponse> identityMap(
       ResolveRequest resolveRequest, RetryHandler retryHandler) throws FullContactException {
     resolveRequest.validateForIdentityMap();
-    return resolveRequest(resolveRequest, retryHandler, FCApiEndpoint.IDENTITY_MAP);
+    return this.execute(
+        FCApiEndpoint.IDENTITY_MAP, resolveRequest, ResolveResponse.class, retryHandler);
   }
 
   /**
@@ -271,7 +436,8 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ResolveResponse> identityResolve(
       ResolveRequest resolveRequest, RetryHandler retryHandler) throws FullContactException {
     resolveRequest.validateForIdentityResolve();
-    return resolveRequest(resolveRequest, retryHandler, FCApiEndpoint.IDENTITY_RESOLVE);
+    return this.execute(
+        FCApiEndpoint.IDENTITY_RESOLVE, resolveRequest, ResolveResponse.class, retryHandler);
   }
 
   /**
@@ -302,22 +468,12 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<ResolveResponseWithTags> identityResolveWithTags(
       ResolveRequest resolveRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     resolveRequest.validateForIdentityResolve();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(resolveRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.identityResolveWithTags(true, httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.IDENTITY_RESOLVE_WITH_TAGS);
-    return responseCF.thenApply(
-        httpResponse ->
-            (ResolveResponseWithTags)
-                FullContact.getFCResponse(httpResponse, ResolveResponseWithTags.class));
+    return this.execute(
+        FCApiEndpoint.IDENTITY_RESOLVE_WITH_TAGS,
+        resolveRequest,
+        ResolveResponseWithTags.class,
+        retryHandler);
   }
 
   /**
@@ -350,7 +506,8 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ResolveResponse> identityDelete(
       ResolveRequest resolveRequest, RetryHandler retryHandler) throws FullContactException {
     resolveRequest.validateForIdentityDelete();
-    return resolveRequest(resolveRequest, retryHandler, FCApiEndpoint.IDENTITY_DELETE);
+    return this.execute(
+        FCApiEndpoint.IDENTITY_DELETE, resolveRequest, ResolveResponse.class, retryHandler);
   }
 
   /**
@@ -383,37 +540,8 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ResolveResponse> identityMapResolve(
       ResolveRequest resolveRequest, RetryHandler retryHandler) throws FullContactException {
     resolveRequest.validateForIdentityMap();
-    return resolveRequest(resolveRequest, retryHandler, FCApiEndpoint.IDENTITY_MAP_RESOLVE);
-  }
-
-  protected CompletableFuture<ResolveResponse> resolveRequest(
-      ResolveRequest resolveRequest, RetryHandler retryHandler, FCApiEndpoint fcApiEndpoint)
-      throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(resolveRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture;
-    switch (fcApiEndpoint) {
-      case IDENTITY_MAP:
-        httpResponseCompletableFuture = this.client.identityMap(httpRequest);
-        break;
-      case IDENTITY_RESOLVE:
-        httpResponseCompletableFuture = this.client.identityResolve(httpRequest);
-        break;
-      case IDENTITY_DELETE:
-        httpResponseCompletableFuture = this.client.identityDelete(httpRequest);
-        break;
-      case IDENTITY_MAP_RESOLVE:
-        httpResponseCompletableFuture = this.client.identityMapResolve(httpRequest);
-        break;
-      default:
-        throw new FullContactException("Wrong API Endpoint provided for Resolve");
-    }
-    handleHttpResponse(
-        httpRequest, retryHandler, httpResponseCompletableFuture, responseCF, fcApiEndpoint);
-    return responseCF.thenApply(
-        httpResponse ->
-            (ResolveResponse) FullContact.getFCResponse(httpResponse, ResolveResponse.class));
+    return this.execute(
+        FCApiEndpoint.IDENTITY_MAP_RESOLVE, resolveRequest, ResolveResponse.class, retryHandler);
   }
 
   /**
@@ -445,19 +573,7 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<TagsResponse> tagsCreate(
       TagsRequest tagsRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(tagsRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.tagsCreate(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.TAGS_CREATE);
-    return responseCF.thenApply(
-        httpResponse -> (TagsResponse) FullContact.getFCResponse(httpResponse, TagsResponse.class));
+    return this.execute(FCApiEndpoint.TAGS_CREATE, tagsRequest, TagsResponse.class, retryHandler);
   }
 
   /**
@@ -488,19 +604,11 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<TagsResponse> tagsGet(String recordId, RetryHandler retryHandler)
       throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest("{\"recordId\":\"" + recordId + "\"}");
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.tagsGet(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.TAGS_GET);
-    return responseCF.thenApply(
-        httpResponse -> (TagsResponse) FullContact.getFCResponse(httpResponse, TagsResponse.class));
+    return this.execute(
+        FCApiEndpoint.TAGS_GET,
+        Collections.singletonMap("recordId", recordId),
+        TagsResponse.class,
+        retryHandler);
   }
 
   /**
@@ -532,19 +640,7 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<TagsResponse> tagsDelete(
       TagsRequest tagsRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(tagsRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.tagsDelete(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.TAGS_DELETE);
-    return responseCF.thenApply(
-        httpResponse -> (TagsResponse) FullContact.getFCResponse(httpResponse, TagsResponse.class));
+    return this.execute(FCApiEndpoint.TAGS_DELETE, tagsRequest, TagsResponse.class, retryHandler);
   }
 
   /**
@@ -577,38 +673,17 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<AudienceResponse> audienceCreate(
       AudienceRequest audienceRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(audienceRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.audienceCreate(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.AUDIENCE_CREATE);
-    return responseCF.thenApply(FullContact::getAudienceResponse);
+    return this.execute(
+        FCApiEndpoint.AUDIENCE_CREATE, audienceRequest, AudienceResponse.class, retryHandler);
   }
 
   public CompletableFuture<AudienceResponse> audienceDownload(String requestId)
       throws FullContactException {
-    checkForShutdown();
-    if (requestId != null && !requestId.trim().isEmpty()) {
-      CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-      RequestBody httpRequest = buildHttpRequest(requestId);
-      CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-          this.client.audienceDownload(requestId);
-      handleHttpResponse(
-          httpRequest,
-          retryHandler,
-          httpResponseCompletableFuture,
-          responseCF,
-          FCApiEndpoint.AUDIENCE_DOWNLOAD);
-      return responseCF.thenApply(FullContact::getAudienceResponse);
-    } else {
+    if (requestId == null || requestId.trim().isEmpty()) {
       throw new FullContactException("Email can't be empty");
     }
+    return this.execute(
+        FCApiEndpoint.AUDIENCE_DOWNLOAD, requestId, AudienceResponse.class, this.retryHandler);
   }
 
   /**
@@ -639,20 +714,9 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<FCResponse> permissionCreate(
       PermissionRequest permissionRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     permissionRequest.validate();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(permissionRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.permissionCreate(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.PERMISSION_CREATE);
-    return responseCF.thenApply(
-        httpResponse -> FullContact.getFCResponse(httpResponse, FCResponse.class));
+    return this.execute(
+        FCApiEndpoint.PERMISSION_CREATE, permissionRequest, FCResponse.class, retryHandler);
   }
 
   /**
@@ -683,20 +747,9 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<FCResponse> permissionDelete(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(multifieldRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.permissionDelete(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.PERMISSION_DELETE);
-    return responseCF.thenApply(
-        httpResponse -> FullContact.getFCResponse(httpResponse, FCResponse.class));
+    return this.execute(
+        FCApiEndpoint.PERMISSION_DELETE, multifieldRequest, FCResponse.class, retryHandler);
   }
 
   /**
@@ -727,19 +780,12 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<PermissionResponseList> permissionFind(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(multifieldRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.permissionFind(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.PERMISSION_FIND);
-    return responseCF.thenApply(FullContact::getPermissionFindResponse);
+    return this.execute(
+        FCApiEndpoint.PERMISSION_FIND,
+        multifieldRequest,
+        PermissionResponseList.class,
+        retryHandler);
   }
 
   /**
@@ -770,19 +816,12 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<PermissionCurrentResponseMap> permissionCurrent(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(multifieldRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.permissionCurrent(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.PERMISSION_CURRENT);
-    return responseCF.thenApply(FullContact::getPermissionCurrentResponse);
+    return this.execute(
+        FCApiEndpoint.PERMISSION_CURRENT,
+        multifieldRequest,
+        PermissionCurrentResponseMap.class,
+        retryHandler);
   }
 
   /**
@@ -814,22 +853,12 @@ public class FullContact implements AutoCloseable {
   public CompletableFuture<ConsentPurposeResponse> permissionVerify(
       ChannelPurposeRequest channelPurposeRequest, RetryHandler retryHandler)
       throws FullContactException {
-    checkForShutdown();
     channelPurposeRequest.validate();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(channelPurposeRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.permissionVerify(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.PERMISSION_VERIFY);
-    return responseCF.thenApply(
-        httpResponse ->
-            (ConsentPurposeResponse)
-                FullContact.getFCResponse(httpResponse, ConsentPurposeResponse.class));
+    return this.execute(
+        FCApiEndpoint.PERMISSION_VERIFY,
+        channelPurposeRequest,
+        ConsentPurposeResponse.class,
+        retryHandler);
   }
 
   // Verify APIs
@@ -861,21 +890,9 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<SignalsResponse> verifySignals(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(multifieldRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.verifySignals(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.VERIFY_SIGNALS);
-    return responseCF.thenApply(
-        httpResponse ->
-            (SignalsResponse) FullContact.getFCResponse(httpResponse, SignalsResponse.class));
+    return this.execute(
+        FCApiEndpoint.VERIFY_SIGNALS, multifieldRequest, SignalsResponse.class, retryHandler);
   }
 
   /**
@@ -906,21 +923,9 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<MatchResponse> verifyMatch(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(multifieldRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.verifyMatch(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.VERIFY_MATCH);
-    return responseCF.thenApply(
-        httpResponse ->
-            (MatchResponse) FullContact.getFCResponse(httpResponse, MatchResponse.class));
+    return this.execute(
+        FCApiEndpoint.VERIFY_MATCH, multifieldRequest, MatchResponse.class, retryHandler);
   }
 
   /**
@@ -951,25 +956,13 @@ public class FullContact implements AutoCloseable {
    */
   public CompletableFuture<ActivityResponse> verifyActivity(
       MultifieldRequest multifieldRequest, RetryHandler retryHandler) throws FullContactException {
-    checkForShutdown();
     multifieldRequest.validate();
-    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
-    RequestBody httpRequest = buildHttpRequest(gson.toJson(multifieldRequest));
-    CompletableFuture<Response<ResponseBody>> httpResponseCompletableFuture =
-        this.client.verifyActivity(httpRequest);
-    handleHttpResponse(
-        httpRequest,
-        retryHandler,
-        httpResponseCompletableFuture,
-        responseCF,
-        FCApiEndpoint.VERIFY_ACTIVITY);
-    return responseCF.thenApply(
-        httpResponse ->
-            (ActivityResponse) FullContact.getFCResponse(httpResponse, ActivityResponse.class));
+    return this.execute(
+        FCApiEndpoint.VERIFY_ACTIVITY, multifieldRequest, ActivityResponse.class, retryHandler);
   }
 
   protected void checkForShutdown() throws FullContactException {
-    if (isShutdown) {
+    if (isShutdown || (this.runtime != null && this.runtime.isClosed())) {
       throw new FullContactException("FullContact client is shutdown. Please create a new client");
     }
   }
@@ -978,25 +971,38 @@ public class FullContact implements AutoCloseable {
     return RequestBody.create(JSONMediaType, request);
   }
 
-  protected void handleHttpResponse(
-      RequestBody httpRequest,
-      RetryHandler retryHandler,
-      CompletableFuture<Response<ResponseBody>> currentResponse,
-      CompletableFuture<Response<ResponseBody>> responseCF,
-      FCApiEndpoint fcApiEndpoint) {
-    currentResponse.handle(
-        (httpResponse, throwable) -> {
-          if (throwable != null) {
-            handleAutoRetry(
-                responseCF, httpResponse, httpRequest, throwable, 0, retryHandler, fcApiEndpoint);
-          } else if (httpResponse != null && !retryHandler.shouldRetry(httpResponse.code())) {
-            responseCF.complete(httpResponse);
-          } else {
-            handleAutoRetry(
-                responseCF, httpResponse, httpRequest, null, 0, retryHandler, fcApiEndpoint);
-          }
-          return null;
-        });
+  /**
+   * Sends the request to the API endpoint and parses its response, see {@link
+   * RequestExecutor#execute}.
+   *
+   * @param fcApiEndpoint FullContact API Endpoint for current request
+   * @param request original request by client, sent as it is if it is a String
+   * @param responseClass response class to parse the response into
+   * @param retryHandler RetryHandler used for current request
+   * @return CompletableFuture with the response
+   * @throws FullContactException exception if client is shutdown
+   */
+  private <T extends FCResponse> CompletableFuture<T> execute(
+      FCApiEndpoint fcApiEndpoint,
+      Object request,
+      Class<T> responseClass,
+      RetryHandler retryHandler)
+      throws FullContactException {
+    checkForShutdown();
+    return this.requestExecutor.execute(fcApiEndpoint, request, responseClass, retryHandler);
+  }
+
+  /** Parses the raw response into the response class, with the parser of the class */
+  private <T extends FCResponse> T parseResponse(
+      Response<ResponseBody> response, Class<T> responseClass) {
+    if (responseClass == AudienceResponse.class) {
+      return responseClass.cast(getAudienceResponse(response));
+    } else if (responseClass == PermissionResponseList.class) {
+      return responseClass.cast(getPermissionFindResponse(response));
+    } else if (responseClass == PermissionCurrentResponseMap.class) {
+      return responseClass.cast(getPermissionCurrentResponse(response));
+    }
+    return responseClass.cast(getFCResponse(response, responseClass, this.responseGson));
   }
 
   /**
@@ -1008,6 +1014,11 @@ public class FullContact implements AutoCloseable {
    */
   protected static FCResponse getFCResponse(
       Response<ResponseBody> response, Class<? extends FCResponse> fcResponseClass) {
+    return getFCResponse(response, fcResponseClass, gson);
+  }
+
+  private static FCResponse getFCResponse(
+      Response<ResponseBody> response, Class<? extends FCResponse> fcResponseClass, Gson gson) {
     FCResponse fcResponse;
     if (response.isSuccessful() && response.body() != null) {
       fcResponse = gson.fromJson(response.body().charStream(), fcResponseClass);
@@ -1138,150 +1149,6 @@ public class FullContact implements AutoCloseable {
     return permissionCurrentResponseMap;
   }
 
-  /**
-   * This method handles Auto Retry in case retry condition is true. It keeps retrying till the
-   * retryAttempts exhaust or the response is successful and completes the responseCF based on
-   * result. For retrying, it schedules the request using ScheduledThreadPoolExecutor with
-   * retryDelayMillis delay time.
-   *
-   * @param httpRequest original request by client
-   * @param httpResponse response of the last retry, used to complete responseCF if all retry
-   *     attempts exhaust
-   * @param responseCF result completableFuture which is completed here and returned to client
-   * @param throwable exception from last retry, used to completeExceptionally
-   *     responseCompletableFutureResult if all retries exhaust
-   * @param retryAttemptsDone track the number of retry attempts already done
-   * @param retryHandler RetryHandler used for current request
-   * @param fcApiEndpoint FullContact API Endpoint for current request
-   */
-  protected void handleAutoRetry(
-      CompletableFuture<Response<ResponseBody>> responseCF,
-      Response<ResponseBody> httpResponse,
-      RequestBody httpRequest,
-      Throwable throwable,
-      int retryAttemptsDone,
-      RetryHandler retryHandler,
-      FCApiEndpoint fcApiEndpoint) {
-    if (retryAttemptsDone < (Math.min(retryHandler.getRetryAttempts(), 5))) {
-      retryAttemptsDone++;
-      int finalRetryAttemptsDone = retryAttemptsDone;
-      this.executor.schedule(
-          () -> {
-            CompletableFuture<Response<ResponseBody>> retryCF =
-                getRetryResponseCompletableFuture(httpRequest, fcApiEndpoint);
-            retryCF.handle(
-                (retryResponse, retryThrowable) -> {
-                  if (retryThrowable != null) {
-                    handleAutoRetry(
-                        responseCF,
-                        retryResponse,
-                        httpRequest,
-                        retryThrowable,
-                        finalRetryAttemptsDone,
-                        retryHandler,
-                        fcApiEndpoint);
-                  } else if (retryResponse != null
-                      && !retryHandler.shouldRetry(retryResponse.code())) {
-                    responseCF.complete(retryResponse);
-                  } else {
-                    handleAutoRetry(
-                        responseCF,
-                        retryResponse,
-                        httpRequest,
-                        null,
-                        finalRetryAttemptsDone,
-                        retryHandler,
-                        fcApiEndpoint);
-                  }
-                  return null;
-                });
-          },
-          Math.max(retryHandler.getRetryDelayMillis(), 500)
-              * (long) Math.pow(2, retryAttemptsDone - 1),
-          TimeUnit.MILLISECONDS);
-    } else if (throwable != null
-        && retryAttemptsDone == (Math.min(retryHandler.getRetryAttempts(), 5))) {
-      responseCF.completeExceptionally(throwable);
-    } else {
-      responseCF.complete(httpResponse);
-    }
-  }
-
-  private CompletableFuture<Response<ResponseBody>> getRetryResponseCompletableFuture(
-      RequestBody httpRequest, FCApiEndpoint fcApiEndpoint) {
-    CompletableFuture<Response<ResponseBody>> retryCF = new CompletableFuture<>();
-    switch (fcApiEndpoint) {
-      case PERSON_ENRICH:
-        retryCF = this.client.personEnrich(httpRequest);
-        break;
-      case COMPANY_ENRICH:
-        retryCF = this.client.companyEnrich(httpRequest);
-        break;
-      case IDENTITY_MAP:
-        retryCF = this.client.identityMap(httpRequest);
-        break;
-      case IDENTITY_RESOLVE:
-        retryCF = this.client.identityResolve(httpRequest);
-        break;
-      case IDENTITY_RESOLVE_WITH_TAGS:
-        retryCF = this.client.identityResolveWithTags(true, httpRequest);
-        break;
-      case IDENTITY_DELETE:
-        retryCF = this.client.identityDelete(httpRequest);
-        break;
-      case IDENTITY_MAP_RESOLVE:
-        retryCF = this.client.identityMapResolve(httpRequest);
-        break;
-      case TAGS_CREATE:
-        retryCF = this.client.tagsCreate(httpRequest);
-        break;
-      case TAGS_GET:
-        retryCF = this.client.tagsGet(httpRequest);
-        break;
-      case TAGS_DELETE:
-        retryCF = this.client.tagsDelete(httpRequest);
-        break;
-      case AUDIENCE_CREATE:
-        retryCF = this.client.audienceCreate(httpRequest);
-        break;
-      case AUDIENCE_DOWNLOAD:
-        try {
-          final Buffer buffer = new Buffer();
-          httpRequest.writeTo(buffer);
-          retryCF = this.client.audienceDownload(buffer.readUtf8());
-        } catch (IOException ignored) {
-        }
-        break;
-      case PERMISSION_CREATE:
-        retryCF = this.client.permissionCreate(httpRequest);
-        break;
-      case PERMISSION_DELETE:
-        retryCF = this.client.permissionDelete(httpRequest);
-        break;
-      case PERMISSION_FIND:
-        retryCF = this.client.permissionFind(httpRequest);
-        break;
-      case PERMISSION_CURRENT:
-        retryCF = this.client.permissionCurrent(httpRequest);
-        break;
-      case PERMISSION_VERIFY:
-        retryCF = this.client.permissionVerify(httpRequest);
-        break;
-      case VERIFY_SIGNALS:
-        retryCF = this.client.verifySignals(httpRequest);
-        break;
-      case VERIFY_MATCH:
-        retryCF = this.client.verifyMatch(httpRequest);
-        break;
-      case VERIFY_ACTIVITY:
-        retryCF = this.client.verifyActivity(httpRequest);
-        break;
-      default:
-        throw new IllegalStateException("Unexpected API Endpoint: " + fcApiEndpoint);
-    }
-    return retryCF;
-  }
-
   /** @return Person Request Builder for Person Enrich request */
   public static PersonRequest.PersonRequestBuilder<?, ?> buildPersonRequest() {
     return PersonRequest.personRequestBuilder();
@@ -1322,21 +1189,119 @@ public class FullContact implements AutoCloseable {
     return ChannelPurposeRequest.builder();
   }
 
+  /**
+   * Returns the {@link RequestCoalescer} of the client, with the number of requests which shared
+   * the response of an equal request in flight instead of being sent.
+   *
+   * @return RequestCoalescer used when request coalescing is enabled
+   */
+  public RequestCoalescer getRequestCoalescer() {
+    return this.requestCoalescer;
+  }
+
+  /**
+   * Returns the {@link CircuitBreaker} of an API endpoint, to check its state or add a listener for
+   * its state changes.
+   *
+   * @param fcApiEndpoint API endpoint
+   * @return CircuitBreaker of the endpoint, or null if circuit breakers are not enabled
+   */
+  public CircuitBreaker getCircuitBreaker(FCApiEndpoint fcApiEndpoint) {
+    return this.circuitBreakers.get(fcApiEndpoint);
+  }
+
+  /**
+   * Returns the {@link RequestHedger} of an API endpoint, with the number of hedged requests sent
+   * and the current hedging delay.
+   *
+   * @param fcApiEndpoint API endpoint
+   * @return RequestHedger of the endpoint, or null if requests to it are not hedged
+   */
+  public RequestHedger getRequestHedger(FCApiEndpoint fcApiEndpoint) {
+    return this.requestHedgers.get(fcApiEndpoint);
+  }
+
+  /**
+   * Returns the number of requests waiting in the OkHttp Dispatcher, because maxRequests or
+   * maxRequestsPerHost of the {@link HttpClientOptions} are running already.
+   *
+   * @return number of requests queued
+   */
+  public int getQueuedCallsCount() {
+    return this.httpClient.dispatcher().queuedCallsCount();
+  }
+
+  /** @return number of requests sent and waiting for a response */
+  public int getRunningCallsCount() {
+    return this.httpClient.dispatcher().runningCallsCount();
+  }
+
+  /**
+   * Opens connections to the API host before the first requests, so that they don't pay for the DNS
+   * lookup, TCP and TLS handshakes. It sends the given number of HEAD requests at the same time and
+   * waits for all of them, their connections are then kept in the connection pool. At most
+   * maxRequestsPerHost and maxIdleConnections of the {@link HttpClientOptions} connections are
+   * kept, and with HTTP/2 a single connection carries all requests.
+   *
+   * @param connections number of connections to open
+   * @return number of connections opened and time taken
+   * @throws FullContactException exception if client is shutdown or the thread is interrupted
+   */
+  public WarmUpResult warmUp(int connections) throws FullContactException {
+    checkForShutdown();
+    long startNanos = System.nanoTime();
+    Request warmUpRequest = new Request.Builder().url(this.baseUrl).head().build();
+    List<CompletableFuture<Boolean>> warmUpCFs = new ArrayList<>();
+    for (int i = 0; i < connections; i++) {
+      CompletableFuture<Boolean> warmUpCF = new CompletableFuture<>();
+      this.httpClient
+          .newCall(warmUpRequest)
+          .enqueue(
+              new Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                  warmUpCF.complete(false);
+                }
+
+                @Override
+                public void onResponse(Call call, okhttp3.Response response) {
+                  response.close();
+                  warmUpCF.complete(true);
+                }
+              });
+      warmUpCFs.add(warmUpCF);
+    }
+    int connected = 0;
+    try {
+      for (CompletableFuture<Boolean> warmUpCF : warmUpCFs) {
+        if (warmUpCF.get()) {
+          connected++;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FullContactException("Interrupted while warming up connections", e);
+    } catch (ExecutionException e) {
+      // Warm-up futures are only completed normally
+    }
+    return new WarmUpResult(
+        connections, connected, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+  }
+
   /**
    * This method is used to call shutdown on the ScheduledThreadPoolExecutor and close the
-   * FullContact client.
+   * FullContact client. The scheduler of a {@link FullContactRuntime} is left running for its other
+   * clients.
    */
   @Override
   public void close() {
-    if (!this.executor.isShutdown()) {
+    this.isShutdown = true;
+    if (this.runtime == null) {
       this.executor.shutdown();
-      this.isShutdown = true;
     }
-  }
-  /** This method will be called by GC to close the client. */
-  @Override
-  public void finalize() {
-    this.close();
+    if (this.hashedWheelTimer != null) {
+      this.hashedWheelTimer.close();
+    }
   }
 
   public static class FullContactBuilder {
@@ -1347,7 +1312,29 @@ public class FullContact implements AutoCloseable {
      */
     public FullContact build() throws FullContactException {
       this.validate();
-      return new FullContact(credentialsProvider, headers, connectTimeoutMillis, retryHandler);
+      return new FullContact(
+          credentialsProvider,
+          headers,
+          connectTimeoutMillis,
+          retryHandler,
+          rateLimiters,
+          adaptiveThrottling,
+          retryBudget,
+          coalesceRequests,
+          responseCache,
+          responseStore,
+          negativeCache,
+          circuitBreakerConfig,
+          hedgingPolicies,
+          httpClientOptions,
+          responseExecutor,
+          callbackExecutor,
+          requestCompressionMinBytes,
+          deadlineMillis,
+          runtime,
+          retryTimerTickMillis,
+          lazyPersonDetails,
+          personFieldMask);
     }
 
     private void validate() throws FullContactException {
@@ -1357,6 +1344,18 @@ public class FullContact implements AutoCloseable {
       if (this.retryHandler == null) {
         this.retryHandler = new DefaultRetryHandler();
       }
+      if (this.hedgingPolicies != null) {
+        for (FCApiEndpoint fcApiEndpoint : this.hedgingPolicies.keySet()) {
+          if (!fcApiEndpoint.isReadOnly()) {
+            throw new FullContactException(
+                "Requests to " + fcApiEndpoint + " modify data and can't be hedged");
+          }
+        }
+      }
+      if (this.runtime != null && this.httpClientOptions != null) {
+        throw new FullContactException(
+            "httpClientOptions can't be used with a runtime, they are set on the runtime");
+      }
     }
 
     /**
@@ -1403,5 +1402,280 @@ public class FullContact implements AutoCloseable {
       this.retryHandler = retryHandler;
       return this;
     }
+
+    /**
+     * Builder method to rate limit requests to an API endpoint on the client side. Requests over
+     * the limit are queued locally and sent as soon as a permit is available, instead of being
+     * rejected with 429 by the API.
+     *
+     * @param fcApiEndpoint API endpoint to be rate limited
+     * @param permitsPerSecond steady number of requests per second
+     * @param burst maximum number of requests which can be sent at once
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder rateLimit(
+        FCApiEndpoint fcApiEndpoint, double permitsPerSecond, int burst) {
+      return this.rateLimiter(fcApiEndpoint, new TokenBucketRateLimiter(permitsPerSecond, burst));
+    }
+
+    /**
+     * Builder method to provide a {@link TokenBucketRateLimiter} for an API endpoint. The same rate
+     * limiter can be shared by multiple endpoints or clients to enforce a combined limit.
+     *
+     * @param fcApiEndpoint API endpoint to be rate limited
+     * @param rateLimiter rate limiter for the endpoint
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder rateLimiter(
+        FCApiEndpoint fcApiEndpoint, TokenBucketRateLimiter rateLimiter) {
+      if (this.rateLimiters == null) {
+        this.rateLimiters = new EnumMap<>(FCApiEndpoint.class);
+      }
+      this.rateLimiters.put(fcApiEndpoint, rateLimiter);
+      return this;
+    }
+
+    /**
+     * Builder method to enable adaptive throttling. The client reads the rate limit headers
+     * (X-Rate-Limit-Remaining, X-Rate-Limit-Reset and Retry-After) of every response, slows down
+     * requests to an endpoint as its quota runs low and holds them until the quota resets, instead
+     * of running into 429 errors. Disabled by default.
+     *
+     * @param adaptiveThrottling true to enable adaptive throttling
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder adaptiveThrottling(boolean adaptiveThrottling) {
+      this.adaptiveThrottling = adaptiveThrottling;
+      return this;
+    }
+
+    /**
+     * Builder method to provide the {@link RetryBudget} shared by all requests of the client. By
+     * default retries are limited to 10% of the requests sent in the last 10 seconds, plus 10
+     * retries per second, so that retries can't multiply the load on the API during an outage.
+     *
+     * @param retryBudget custom RetryBudget
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder retryBudget(RetryBudget retryBudget) {
+      this.retryBudget = retryBudget;
+      return this;
+    }
+
+    /**
+     * Builder method to enable request coalescing for Person and Company Enrich. While a request is
+     * in flight, equal requests made by other callers don't go over the wire again, they get the
+     * response of the request in flight instead. Disabled by default.
+     *
+     * @param coalesceRequests true to enable request coalescing
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder coalesceRequests(boolean coalesceRequests) {
+      this.coalesceRequests = coalesceRequests;
+      return this;
+    }
+
+    /**
+     * Builder method to provide a {@link ResponseCache} for Person and Company Enrich, like {@link
+     * TinyLfuResponseCache}. Successful responses are cached, keyed on the endpoint and the request
+     * serialized to json, and equal requests are answered from the cache. No cache by default.
+     *
+     * @param responseCache cache for enrich responses
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder responseCache(ResponseCache responseCache) {
+      this.responseCache = responseCache;
+      return this;
+    }
+
+    /**
+     * Builder method to provide a persistent {@link ResponseCache}, like {@link
+     * SegmentLogResponseCache}, for Person and Company Enrich and the Resolve and Verify endpoints
+     * which don't modify any data. It is checked when the response isn't in the responseCache, so
+     * that re-running a job doesn't call the API again for the records already processed. No store
+     * by default.
+     *
+     * @param responseStore persistent cache for responses
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder responseStore(ResponseCache responseStore) {
+      this.responseStore = responseStore;
+      return this;
+    }
+
+    /**
+     * Builder method to provide a {@link ResponseCache} for requests which had no match (404), like
+     * a {@link TinyLfuResponseCache} with a shorter time to live than the responseCache. Person and
+     * Company Enrich and Identity Resolve requests found in it are answered right away with a 404
+     * response, without calling the API. No negative cache by default.
+     *
+     * @param negativeCache cache of requests which had no match
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder negativeCache(ResponseCache negativeCache) {
+      this.negativeCache = negativeCache;
+      return this;
+    }
+
+    /**
+     * Builder method to enable a {@link CircuitBreaker} for each API endpoint. When the failure
+     * rate or the slow call rate of the recent requests to an endpoint reaches its threshold,
+     * further requests to it fail right away with a {@link CircuitBreakerOpenException}, until
+     * probe requests show that the endpoint has recovered. Disabled by default.
+     *
+     * @param circuitBreakerConfig options of the circuit breakers, like {@link
+     *     CircuitBreakerConfig#defaults()}
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder circuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+      this.circuitBreakerConfig = circuitBreakerConfig;
+      return this;
+    }
+
+    /**
+     * Builder method to hedge requests to a read-only API endpoint, like Verify Match and Verify
+     * Signals. If there is no response after the delay of the {@link HedgingPolicy}, by default the
+     * 95th percentile of the observed latencies, the request is sent once more and the first
+     * response is used. Hedged requests are limited to 10% of the requests by default. Disabled by
+     * default.
+     *
+     * @param fcApiEndpoint API endpoint whose requests are hedged, which must not modify any data
+     * @param hedgingPolicy options for hedging, like {@link HedgingPolicy#defaults()}
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder hedgeRequests(
+        FCApiEndpoint fcApiEndpoint, HedgingPolicy hedgingPolicy) {
+      if (this.hedgingPolicies == null) {
+        this.hedgingPolicies = new EnumMap<>(FCApiEndpoint.class);
+      }
+      this.hedgingPolicies.put(fcApiEndpoint, hedgingPolicy);
+      return this;
+    }
+
+    /**
+     * Builder method to provide {@link HttpClientOptions} for the OkHttp client: the limits of
+     * requests running at the same time, the connection pool and the read, write and call timeouts.
+     * By default at most 5 requests run at the same time, the others are queued.
+     *
+     * @param httpClientOptions options of the OkHttp client
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder httpClientOptions(HttpClientOptions httpClientOptions) {
+      this.httpClientOptions = httpClientOptions;
+      return this;
+    }
+
+    /**
+     * Builder method to provide the Executor used to parse responses. By default responses are
+     * parsed on the threads of the HTTP client, which then can't handle other responses.
+     *
+     * @param responseExecutor executor used to parse responses
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder responseExecutor(Executor responseExecutor) {
+      this.responseExecutor = responseExecutor;
+      return this;
+    }
+
+    /**
+     * Builder method to provide the Executor which completes the CompletableFutures returned by the
+     * client, so that callbacks chained to them, like thenApply or thenAccept, run on it. By
+     * default they run on the thread which parsed the response.
+     *
+     * @param callbackExecutor executor used to complete the CompletableFutures returned
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder callbackExecutor(Executor callbackExecutor) {
+      this.callbackExecutor = callbackExecutor;
+      return this;
+    }
+
+    /**
+     * Builder method to compress request bodies of at least minSizeBytes with gzip, like large
+     * Resolve and Permission requests. If the API responds with 415 Unsupported Media Type to a
+     * compressed request, it is sent again uncompressed and compression is turned off for the
+     * client. Disabled by default.
+     *
+     * @param minSizeBytes minimum size of the request bodies to compress
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder requestCompression(int minSizeBytes) {
+      this.requestCompressionMinBytes = minSizeBytes;
+      return this;
+    }
+
+    /**
+     * Builder method to provide the overall time each request can take, including the time it waits
+     * for rate limiters, every retry attempt and the delays between them. Requests which don't
+     * complete in time fail with a {@link DeadlineExceededException}, and retries which would be
+     * sent after the deadline are not made. A RetryHandler can set its own deadline with {@link
+     * RetryHandler#getDeadlineMillis()}. No deadline by default.
+     *
+     * @param deadlineMillis overall time a request can take, including retries
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder deadlineMillis(long deadlineMillis) {
+      this.deadlineMillis = deadlineMillis;
+      return this;
+    }
+
+    /**
+     * Builder method to provide a {@link FullContactRuntime} shared with other clients. The client
+     * then uses the scheduler, OkHttp Dispatcher, connection pool and executors of the runtime
+     * instead of creating its own, while keeping its own credentials, headers and policies. The
+     * {@link HttpClientOptions} are set on the runtime.
+     *
+     * @param runtime runtime shared by several clients
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder runtime(FullContactRuntime runtime) {
+      this.runtime = runtime;
+      return this;
+    }
+
+    /**
+     * Builder method to schedule retries and deadlines with a {@link HashedWheelTimer} instead of
+     * the scheduler of the client. Scheduling and cancelling then take constant time however many
+     * retries are pending, as after a burst of 429 responses, at the cost of running each retry up
+     * to one tick late. {@link HashedWheelTimer#DEFAULT_TICK_MILLIS} is a good tick for the delays
+     * of retries. Not used by default.
+     *
+     * @param tickMillis duration of a tick of the timer
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder hashedWheelTimer(long tickMillis) {
+      this.retryTimerTickMillis = tickMillis;
+      return this;
+    }
+
+    /**
+     * Builder method to keep the details of Person Enrich responses as JSON until {@link
+     * PersonResponse#getDetails()} or one of the getters using it is first called. Callers reading
+     * only the top level fields, like the full name or the LinkedIn profile, then don't pay for
+     * decoding the demographics, finance, buyer and other details of each response. Disabled by
+     * default.
+     *
+     * @param lazyPersonDetails true to decode the details of Person Enrich responses lazily
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder lazyPersonDetails(boolean lazyPersonDetails) {
+      this.lazyPersonDetails = lazyPersonDetails;
+      return this;
+    }
+
+    /**
+     * Builder method to decode only some fields of Person Enrich responses, like {@code
+     * FieldMask.of("details.employment,details.locations")}. The other fields are skipped in the
+     * JSON without building any object for them, saving parsing time and heap for bulk jobs keeping
+     * many responses. The dataFilter of {@link PersonRequest} selects the data returned by the API,
+     * while the field mask selects what is decoded out of it. Not used by default.
+     *
+     * @param personFieldMask fields of Person Enrich responses to decode
+     * @return FullContactBuilder
+     */
+    public FullContactBuilder personFieldMask(FieldMask personFieldMask) {
+      this.personFieldMask = personFieldMask;
+      return this;
+    }
   }
 }
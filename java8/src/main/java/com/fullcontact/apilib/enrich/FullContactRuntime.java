@@ -0,0 +1,124 @@
+package com.fullcontact.apilib.enrich;
+
+import lombok.Builder;
+import lombok.Getter;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resources which several FullContact clients can share: the scheduler used for retries, rate
+ * limiting and deadlines, the OkHttp Dispatcher and connection pool, and the executors used for
+ * responses. Clients built with a runtime keep their own credentials, headers and policies but
+ * don't start any threads or connections of their own, so running one client per tenant costs
+ * little more than its configuration. Closing a client leaves its runtime open, the runtime is
+ * closed once all of its clients are done with it.
+ */
+public class FullContactRuntime implements AutoCloseable {
+  public static final int DEFAULT_SCHEDULER_THREADS = 5;
+  private static final long SCHEDULER_KEEP_ALIVE_MILLIS = 60_000;
+
+  @Getter private final HttpClientOptions httpClientOptions;
+  @Getter private final Executor responseExecutor;
+  @Getter private final Executor callbackExecutor;
+  private final ScheduledExecutorService scheduler;
+  private final OkHttpClient httpClient;
+
+  /**
+   * @param httpClientOptions options of the shared Dispatcher and connection pool, defaults if null
+   * @param schedulerThreads number of threads of the shared scheduler, 5 if not positive
+   * @param responseExecutor executor used to parse responses of clients which don't have their own
+   * @param callbackExecutor executor used to complete the CompletableFutures returned by clients
+   *     which don't have their own
+   */
+  @Builder
+  public FullContactRuntime(
+      HttpClientOptions httpClientOptions,
+      int schedulerThreads,
+      Executor responseExecutor,
+      Executor callbackExecutor) {
+    this.httpClientOptions =
+        httpClientOptions != null ? httpClientOptions : HttpClientOptions.defaults();
+    this.responseExecutor = responseExecutor;
+    this.callbackExecutor = callbackExecutor;
+    this.scheduler =
+        newScheduler(schedulerThreads > 0 ? schedulerThreads : DEFAULT_SCHEDULER_THREADS);
+    this.httpClient =
+        configureHttpClientBuilder(new OkHttpClient.Builder(), this.httpClientOptions).build();
+  }
+
+  /** @return FullContactRuntime with all default values */
+  public static FullContactRuntime defaults() {
+    return FullContactRuntime.builder().build();
+  }
+
+  /** @return true once the runtime is closed, its clients can't send requests anymore */
+  public boolean isClosed() {
+    return this.scheduler.isShutdown();
+  }
+
+  ScheduledExecutorService getScheduler() {
+    return this.scheduler;
+  }
+
+  /**
+   * @return OkHttpClient whose {@link OkHttpClient#newBuilder()} gives each client the shared
+   *     Dispatcher and connection pool
+   */
+  OkHttpClient getHttpClient() {
+    return this.httpClient;
+  }
+
+  /**
+   * Creates the scheduler of a runtime, or of a client without one. Its threads exit once they have
+   * been idle for a minute, so the scheduler of a client which is no longer used doesn't keep
+   * threads alive, and is garbage collected with the client even if it was never closed.
+   */
+  static ScheduledExecutorService newScheduler(int threads) {
+    ScheduledThreadPoolExecutor scheduledThreadPoolExecutor =
+        new ScheduledThreadPoolExecutor(threads);
+    // Deadline timers are cancelled as soon as their request completes
+    scheduledThreadPoolExecutor.setRemoveOnCancelPolicy(true);
+    scheduledThreadPoolExecutor.setKeepAliveTime(
+        SCHEDULER_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS);
+    scheduledThreadPoolExecutor.allowCoreThreadTimeOut(true);
+    return scheduledThreadPoolExecutor;
+  }
+
+  /** Sets up the Dispatcher, connection pool and timeouts given by the HttpClientOptions */
+  static OkHttpClient.Builder configureHttpClientBuilder(
+      OkHttpClient.Builder httpClientBuilder, HttpClientOptions httpClientOptions) {
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(httpClientOptions.getMaxRequests());
+    dispatcher.setMaxRequestsPerHost(httpClientOptions.getMaxRequestsPerHost());
+    httpClientBuilder.dispatcher(dispatcher);
+    httpClientBuilder.connectionPool(
+        new ConnectionPool(
+            httpClientOptions.getMaxIdleConnections(),
+            httpClientOptions.getKeepAliveMillis(),
+            TimeUnit.MILLISECONDS));
+    httpClientBuilder.readTimeout(httpClientOptions.getReadTimeoutMillis(), TimeUnit.MILLISECONDS);
+    httpClientBuilder.writeTimeout(
+        httpClientOptions.getWriteTimeoutMillis(), TimeUnit.MILLISECONDS);
+    httpClientBuilder.callTimeout(httpClientOptions.getCallTimeoutMillis(), TimeUnit.MILLISECONDS);
+    return httpClientBuilder;
+  }
+
+  /**
+   * Shuts down the shared scheduler and Dispatcher and closes the pooled connections. Requests
+   * already sent still complete, but the clients of the runtime can't send new ones.
+   */
+  @Override
+  public void close() {
+    if (!this.scheduler.isShutdown()) {
+      this.scheduler.shutdown();
+      this.httpClient.dispatcher().executorService().shutdown();
+      this.httpClient.connectionPool().evictAll();
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.fullcontact.apilib.enrich;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+import java.io.IOException;
+
+/**
+ * Interceptor which compresses request bodies of at least minSizeBytes with gzip. If the server
+ * doesn't accept compressed request bodies and responds with 415 Unsupported Media Type, the
+ * request is sent again uncompressed, and so are all further requests.
+ */
+public class GzipRequestInterceptor implements Interceptor {
+  private final long minSizeBytes;
+  private volatile boolean rejected;
+
+  public GzipRequestInterceptor(long minSizeBytes) {
+    this.minSizeBytes = minSizeBytes;
+  }
+
+  /** @return true if the server rejected a compressed request body */
+  public boolean isRejected() {
+    return this.rejected;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    RequestBody body = request.body();
+    if (this.rejected
+        || body == null
+        || request.header("Content-Encoding") != null
+        || body.contentLength() < this.minSizeBytes) {
+      return chain.proceed(request);
+    }
+    Buffer compressed = new Buffer();
+    try (BufferedSink gzipSink = Okio.buffer(new GzipSink(compressed))) {
+      body.writeTo(gzipSink);
+    }
+    Request gzipRequest =
+        request
+            .newBuilder()
+            .header("Content-Encoding", "gzip")
+            .method(
+                request.method(),
+                RequestBody.create(compressed.readByteString(), body.contentType()))
+            .build();
+    Response response = chain.proceed(gzipRequest);
+    if (response.code() != 415) {
+      return response;
+    }
+    response.close();
+    this.rejected = true;
+    return chain.proceed(request);
+  }
+}
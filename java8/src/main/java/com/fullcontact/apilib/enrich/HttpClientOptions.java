@@ -0,0 +1,46 @@
+package com.fullcontact.apilib.enrich;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of the OkHttp client used by the FullContact client. All requests go to the same host, so
+ * maxRequestsPerHost is what limits the number of requests in flight, the requests over the limit
+ * are queued by the OkHttp Dispatcher.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class HttpClientOptions {
+  public static final int DEFAULT_MAX_REQUESTS = 64;
+  public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+  public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+  public static final long DEFAULT_KEEP_ALIVE_MILLIS = 300_000;
+  public static final long DEFAULT_READ_TIMEOUT_MILLIS = 10_000;
+  public static final long DEFAULT_WRITE_TIMEOUT_MILLIS = 10_000;
+
+  /** Maximum number of requests running at the same time, over all hosts */
+  @Builder.Default private int maxRequests = DEFAULT_MAX_REQUESTS;
+
+  /** Maximum number of requests running at the same time to a single host */
+  @Builder.Default private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+
+  /** Maximum number of idle connections kept in the connection pool */
+  @Builder.Default private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+
+  /** Time an idle connection is kept in the connection pool */
+  @Builder.Default private long keepAliveMillis = DEFAULT_KEEP_ALIVE_MILLIS;
+
+  /** Maximum time without any data read from the connection, 0 for no timeout */
+  @Builder.Default private long readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+
+  /** Maximum time without any data written to the connection, 0 for no timeout */
+  @Builder.Default private long writeTimeoutMillis = DEFAULT_WRITE_TIMEOUT_MILLIS;
+
+  /** Maximum time of a whole call, from connecting to reading the response, 0 for no timeout */
+  private long callTimeoutMillis;
+
+  /** @return HttpClientOptions with all default values */
+  public static HttpClientOptions defaults() {
+    return HttpClientOptions.builder().build();
+  }
+}
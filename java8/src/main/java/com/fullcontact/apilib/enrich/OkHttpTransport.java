@@ -0,0 +1,117 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactApi;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.transport.Transport;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/** Transport sending requests with the Retrofit client of the FullContact API, over OkHttp. */
+class OkHttpTransport implements Transport<RequestBody, Response<ResponseBody>> {
+  private final FullContactApi client;
+
+  OkHttpTransport(FullContactApi client) {
+    this.client = client;
+  }
+
+  @Override
+  public CompletableFuture<Response<ResponseBody>> send(
+      RequestBody httpRequest, FCApiEndpoint fcApiEndpoint) {
+    CompletableFuture<Response<ResponseBody>> responseCF = new CompletableFuture<>();
+    switch (fcApiEndpoint) {
+      case PERSON_ENRICH:
+        responseCF = this.client.personEnrich(httpRequest);
+        break;
+      case COMPANY_ENRICH:
+        responseCF = this.client.companyEnrich(httpRequest);
+        break;
+      case IDENTITY_MAP:
+        responseCF = this.client.identityMap(httpRequest);
+        break;
+      case IDENTITY_RESOLVE:
+        responseCF = this.client.identityResolve(httpRequest);
+        break;
+      case IDENTITY_RESOLVE_WITH_TAGS:
+        responseCF = this.client.identityResolveWithTags(true, httpRequest);
+        break;
+      case IDENTITY_DELETE:
+        responseCF = this.client.identityDelete(httpRequest);
+        break;
+      case IDENTITY_MAP_RESOLVE:
+        responseCF = this.client.identityMapResolve(httpRequest);
+        break;
+      case TAGS_CREATE:
+        responseCF = this.client.tagsCreate(httpRequest);
+        break;
+      case TAGS_GET:
+        responseCF = this.client.tagsGet(httpRequest);
+        break;
+      case TAGS_DELETE:
+        responseCF = this.client.tagsDelete(httpRequest);
+        break;
+      case AUDIENCE_CREATE:
+        responseCF = this.client.audienceCreate(httpRequest);
+        break;
+      case AUDIENCE_DOWNLOAD:
+        try {
+          final Buffer buffer = new Buffer();
+          httpRequest.writeTo(buffer);
+          responseCF = this.client.audienceDownload(buffer.readUtf8());
+        } catch (IOException ignored) {
+        }
+        break;
+      case PERMISSION_CREATE:
+        responseCF = this.client.permissionCreate(httpRequest);
+        break;
+      case PERMISSION_DELETE:
+        responseCF = this.client.permissionDelete(httpRequest);
+        break;
+      case PERMISSION_FIND:
+        responseCF = this.client.permissionFind(httpRequest);
+        break;
+      case PERMISSION_CURRENT:
+        responseCF = this.client.permissionCurrent(httpRequest);
+        break;
+      case PERMISSION_VERIFY:
+        responseCF = this.client.permissionVerify(httpRequest);
+        break;
+      case VERIFY_SIGNALS:
+        responseCF = this.client.verifySignals(httpRequest);
+        break;
+      case VERIFY_MATCH:
+        responseCF = this.client.verifyMatch(httpRequest);
+        break;
+      case VERIFY_ACTIVITY:
+        responseCF = this.client.verifyActivity(httpRequest);
+        break;
+      default:
+        throw new IllegalStateException("Unexpected API Endpoint: " + fcApiEndpoint);
+    }
+    return responseCF;
+  }
+
+  @Override
+  public int statusCode(Response<ResponseBody> response) {
+    return response.code();
+  }
+
+  @Override
+  public String header(Response<ResponseBody> response, String name) {
+    return response.headers().get(name);
+  }
+
+  /** Releases the connection of a response which is not used */
+  @Override
+  public void discard(Response<ResponseBody> response) {
+    if (response.body() != null) {
+      response.body().close();
+    } else if (response.errorBody() != null) {
+      response.errorBody().close();
+    }
+  }
+}
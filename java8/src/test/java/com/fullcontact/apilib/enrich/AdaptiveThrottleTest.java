@@ -0,0 +1,124 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.ratelimit.AdaptiveThrottle;
+import com.fullcontact.apilib.ratelimit.RateLimitHeaders;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveThrottleTest {
+
+  private static RateLimitHeaders headers(String limit, String remaining, String reset) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(RateLimitHeaders.RATE_LIMIT_LIMIT, limit);
+    headers.put(RateLimitHeaders.RATE_LIMIT_REMAINING, remaining);
+    headers.put(RateLimitHeaders.RATE_LIMIT_RESET, reset);
+    return RateLimitHeaders.parse(headers::get);
+  }
+
+  @Test
+  public void parseRateLimitHeadersTest() {
+    RateLimitHeaders rateLimitHeaders = headers("600", "598", "42");
+    Assert.assertEquals(600L, (long) rateLimitHeaders.getLimit());
+    Assert.assertEquals(598L, (long) rateLimitHeaders.getRemaining());
+    Assert.assertEquals(42000L, (long) rateLimitHeaders.getResetMillis());
+    Assert.assertNull(rateLimitHeaders.getRetryAfterMillis());
+  }
+
+  @Test
+  public void parseRetryAfterTest() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(RateLimitHeaders.RETRY_AFTER, "3");
+    Assert.assertEquals(3000L, (long) RateLimitHeaders.parse(headers::get).getRetryAfterMillis());
+    headers.put(RateLimitHeaders.RETRY_AFTER, "Wed, 21 Oct 2015 07:28:00 GMT");
+    Assert.assertEquals(0L, (long) RateLimitHeaders.parse(headers::get).getRetryAfterMillis());
+  }
+
+  @Test
+  public void parseMissingOrMalformedHeadersTest() {
+    Assert.assertNull(RateLimitHeaders.parse(name -> null));
+    RateLimitHeaders rateLimitHeaders = headers("abc", "10", null);
+    Assert.assertNull(rateLimitHeaders.getLimit());
+    Assert.assertEquals(10L, (long) rateLimitHeaders.getRemaining());
+    Assert.assertNull(rateLimitHeaders.getResetMillis());
+  }
+
+  @Test
+  public void noWaitWithoutRateLimitInfoTest() {
+    AdaptiveThrottle throttle = new AdaptiveThrottle();
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals(0, throttle.reserve());
+    }
+  }
+
+  @Test
+  public void noWaitWhileQuotaIsAboveSlowdownRatioTest() {
+    AdaptiveThrottle throttle = new AdaptiveThrottle(0.2);
+    throttle.update(headers("100", "50", "60"), 200);
+    for (int i = 0; i < 30; i++) {
+      Assert.assertEquals(0, throttle.reserve());
+    }
+  }
+
+  @Test
+  public void requestsAreSpreadOutWhenQuotaIsLowTest() {
+    AdaptiveThrottle throttle = new AdaptiveThrottle(0.2);
+    throttle.update(headers("100", "10", "10"), 200);
+    Assert.assertEquals(0, throttle.reserve());
+    long second = throttle.reserve();
+    long third = throttle.reserve();
+    Assert.assertTrue(second > TimeUnit.MILLISECONDS.toNanos(900));
+    Assert.assertTrue(third - second > TimeUnit.MILLISECONDS.toNanos(900));
+  }
+
+  @Test
+  public void exhaustedQuotaWaitsForResetTest() {
+    AdaptiveThrottle throttle = new AdaptiveThrottle(0);
+    throttle.update(headers("100", "0", "5"), 200);
+    long waitNanos = throttle.reserve();
+    Assert.assertTrue(waitNanos > TimeUnit.MILLISECONDS.toNanos(4900));
+    Assert.assertTrue(waitNanos <= TimeUnit.SECONDS.toNanos(5));
+    // The next window starts with the full limit again, but not before the current one resets
+    Assert.assertTrue(throttle.reserve() > TimeUnit.MILLISECONDS.toNanos(4900));
+  }
+
+  @Test
+  public void retryAfterPausesRequestsTest() {
+    AdaptiveThrottle throttle = new AdaptiveThrottle();
+    Map<String, String> headers = new HashMap<>();
+    headers.put(RateLimitHeaders.RETRY_AFTER, "2");
+    throttle.update(RateLimitHeaders.parse(headers::get), 429);
+    long waitNanos = throttle.reserve();
+    Assert.assertTrue(waitNanos > TimeUnit.MILLISECONDS.toNanos(1900));
+    Assert.assertTrue(waitNanos <= TimeUnit.SECONDS.toNanos(2));
+  }
+
+  @Test
+  public void retryAfterIsIgnoredOnSuccessTest() {
+    AdaptiveThrottle throttle = new AdaptiveThrottle();
+    Map<String, String> headers = new HashMap<>();
+    headers.put(RateLimitHeaders.RETRY_AFTER, "2");
+    throttle.update(RateLimitHeaders.parse(headers::get), 200);
+    Assert.assertEquals(0, throttle.reserve());
+  }
+
+  @Test
+  public void endpointsSharingPathShareThrottleTest() {
+    Map<FCApiEndpoint, AdaptiveThrottle> throttles =
+        AdaptiveThrottle.forAllEndpoints(AdaptiveThrottle.DEFAULT_SLOWDOWN_RATIO);
+    Assert.assertSame(
+        throttles.get(FCApiEndpoint.IDENTITY_RESOLVE),
+        throttles.get(FCApiEndpoint.IDENTITY_RESOLVE_WITH_TAGS));
+    Assert.assertNotSame(
+        throttles.get(FCApiEndpoint.PERSON_ENRICH), throttles.get(FCApiEndpoint.COMPANY_ENRICH));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidSlowdownRatioTest() {
+    new AdaptiveThrottle(1.5);
+  }
+}
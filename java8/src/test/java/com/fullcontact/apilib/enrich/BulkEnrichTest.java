@@ -0,0 +1,120 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
+import com.fullcontact.apilib.bulk.BulkIterator;
+import com.fullcontact.apilib.bulk.BulkOptions;
+import com.fullcontact.apilib.bulk.BulkResult;
+import com.fullcontact.apilib.models.PersonName;
+import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.Response.PersonResponse;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class BulkEnrichTest {
+  private static final HashMap<String, String> customHeader = new HashMap<>();
+  private FullContact fcTest;
+
+  @Before
+  public void init() throws FullContactException {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+    customHeader.put("testCode", "tc_001");
+    fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .headers(customHeader)
+            .build();
+  }
+
+  @After
+  public void reset() {
+    fcTest.close();
+    System.clearProperty("FC_TEST_ENV");
+  }
+
+  @Test
+  public void bulkEnrichReturnsEveryResultTest() throws FullContactException {
+    CountingIterator requests = new CountingIterator(25);
+    BulkIterator<PersonRequest, PersonResponse> results =
+        fcTest.enrichAll(requests, BulkOptions.builder().maxInFlight(4).build());
+    int count = 0;
+    while (results.hasNext()) {
+      Assert.assertTrue(requests.taken - count <= 4);
+      BulkResult<PersonRequest, PersonResponse> result = results.next();
+      Assert.assertTrue(result.isSuccessful());
+      Assert.assertEquals("Marquita H Ross", result.getResponse().getFullName());
+      count++;
+    }
+    Assert.assertEquals(25, count);
+    Assert.assertEquals(25, results.getSubmittedCount());
+    Assert.assertEquals(0, results.getFailedCount());
+  }
+
+  @Test
+  public void bulkEnrichCapturesPerRecordErrorsTest() throws FullContactException {
+    List<PersonRequest> requests = new ArrayList<>();
+    requests.add(FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build());
+    requests.add(
+        FullContact.buildPersonRequest()
+            .name(PersonName.builder().full("Marquita").build())
+            .build());
+    BulkIterator<PersonRequest, PersonResponse> results = fcTest.enrichAll(requests.iterator());
+    int successful = 0;
+    int failed = 0;
+    while (results.hasNext()) {
+      BulkResult<PersonRequest, PersonResponse> result = results.next();
+      if (result.isSuccessful()) {
+        successful++;
+      } else {
+        failed++;
+        Assert.assertTrue(result.getThrowable() instanceof FullContactException);
+        Assert.assertSame(requests.get(1), result.getRequest());
+      }
+    }
+    Assert.assertEquals(1, successful);
+    Assert.assertEquals(1, failed);
+    Assert.assertEquals(1, results.getFailedCount());
+  }
+
+  @Test
+  public void closedBulkIteratorStopsReadingInputTest() throws FullContactException {
+    CountingIterator requests = new CountingIterator(100);
+    BulkIterator<PersonRequest, PersonResponse> results =
+        fcTest.enrichAll(requests, BulkOptions.builder().maxInFlight(2).build());
+    results.next();
+    results.close();
+    Assert.assertFalse(results.hasNext());
+    Assert.assertTrue(requests.taken <= 3);
+  }
+
+  private static class CountingIterator implements Iterator<PersonRequest> {
+    private final int size;
+    private int taken = 0;
+
+    CountingIterator(int size) {
+      this.size = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return taken < size;
+    }
+
+    @Override
+    public PersonRequest next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      taken++;
+      return FullContact.buildPersonRequest().email("test" + taken + "@fullcontact.com").build();
+    }
+  }
+}
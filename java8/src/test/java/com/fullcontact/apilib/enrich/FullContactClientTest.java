@@ -1,12 +1,24 @@
 package com.fullcontact.apilib.enrich;
 
 import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.WarmUpResult;
 import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
+import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.Response.PersonResponse;
+import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class FullContactClientTest {
   @Rule public ExpectedException exceptionRule = ExpectedException.none();
@@ -61,4 +73,198 @@ public class FullContactClientTest {
             .build();
     fcTest.close();
   }
+
+  @Test
+  public void httpClientOptionsClientTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", "tc_001");
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("api-key"))
+            .headers(customHeader)
+            .httpClientOptions(
+                HttpClientOptions.builder()
+                    .maxRequests(4)
+                    .maxRequestsPerHost(2)
+                    .maxIdleConnections(2)
+                    .keepAliveMillis(1000)
+                    .readTimeoutMillis(2000)
+                    .writeTimeoutMillis(2000)
+                    .callTimeoutMillis(5000)
+                    .build())
+            .build();
+    try {
+      List<CompletableFuture<PersonResponse>> responses = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        responses.add(
+            fcTest.enrich(
+                FullContact.buildPersonRequest().email("user" + i + "@example.com").build()));
+      }
+      // A finishing call is still counted as running while the Dispatcher promotes the next one
+      Assert.assertTrue(fcTest.getRunningCallsCount() <= 3);
+      for (CompletableFuture<PersonResponse> response : responses) {
+        Assert.assertEquals(200, response.get().getStatusCode());
+      }
+      Assert.assertEquals(0, fcTest.getQueuedCallsCount());
+    } finally {
+      fcTest.close();
+      System.clearProperty("FC_TEST_ENV");
+    }
+  }
+
+  @Test
+  public void invalidHttpClientOptionsTest() throws FullContactException {
+    exceptionRule.expect(IllegalArgumentException.class);
+    FullContact.builder()
+        .credentialsProvider(new StaticApiKeyCredentialProvider("api-key"))
+        .httpClientOptions(HttpClientOptions.builder().maxRequestsPerHost(0).build())
+        .build();
+  }
+
+  @Test
+  public void responseAndCallbackExecutorsTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", "tc_001");
+    AtomicInteger parsedResponses = new AtomicInteger();
+    ExecutorService responseExecutor = Executors.newSingleThreadExecutor();
+    ExecutorService callbackExecutor =
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "fc-callback"));
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("api-key"))
+            .headers(customHeader)
+            .responseExecutor(
+                command -> {
+                  parsedResponses.incrementAndGet();
+                  responseExecutor.execute(command);
+                })
+            .callbackExecutor(callbackExecutor)
+            .build();
+    try {
+      // Keep the callback thread busy until the callback is chained
+      CountDownLatch callbackChained = new CountDownLatch(1);
+      callbackExecutor.execute(
+          () -> {
+            try {
+              callbackChained.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      CompletableFuture<String> callbackThreadCF =
+          fcTest
+              .enrich(FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build())
+              .thenApply(personResponse -> Thread.currentThread().getName());
+      callbackChained.countDown();
+      String callbackThread = callbackThreadCF.get();
+      Assert.assertEquals("fc-callback", callbackThread);
+      Assert.assertEquals(1, parsedResponses.get());
+    } finally {
+      fcTest.close();
+      responseExecutor.shutdown();
+      callbackExecutor.shutdown();
+      System.clearProperty("FC_TEST_ENV");
+    }
+  }
+
+  @Test
+  public void warmUpTest() throws FullContactException {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", "tc_005");
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("api-key"))
+            .headers(customHeader)
+            .build();
+    try {
+      WarmUpResult warmUpResult = fcTest.warmUp(3);
+      Assert.assertEquals(3, warmUpResult.getRequestedConnections());
+      Assert.assertEquals(3, warmUpResult.getConnections());
+      Assert.assertTrue(warmUpResult.getDurationMillis() >= 0);
+    } finally {
+      fcTest.close();
+      System.clearProperty("FC_TEST_ENV");
+    }
+  }
+
+  @Test
+  public void failedWarmUpTest() throws FullContactException {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", "tc_000");
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("api-key"))
+            .headers(customHeader)
+            .build();
+    try {
+      WarmUpResult warmUpResult = fcTest.warmUp(2);
+      Assert.assertEquals(2, warmUpResult.getRequestedConnections());
+      Assert.assertEquals(0, warmUpResult.getConnections());
+    } finally {
+      fcTest.close();
+      System.clearProperty("FC_TEST_ENV");
+    }
+  }
+
+  @Test
+  public void sharedRuntimeTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+    FullContactRuntime runtime = FullContactRuntime.defaults();
+    HashMap<String, String> firstHeader = new HashMap<>();
+    firstHeader.put("testCode", "tc_001");
+    HashMap<String, String> secondHeader = new HashMap<>();
+    secondHeader.put("testCode", "tc_005");
+    FullContact firstClient =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("first-api-key"))
+            .headers(firstHeader)
+            .runtime(runtime)
+            .build();
+    FullContact secondClient =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("second-api-key"))
+            .headers(secondHeader)
+            .runtime(runtime)
+            .build();
+    PersonRequest personRequest =
+        FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build();
+    try {
+      Assert.assertEquals(200, firstClient.enrich(personRequest).get().getStatusCode());
+      Assert.assertEquals(404, secondClient.enrich(personRequest).get().getStatusCode());
+      // Closing a client leaves the runtime to its other clients
+      firstClient.close();
+      Assert.assertFalse(runtime.isClosed());
+      Assert.assertEquals(404, secondClient.enrich(personRequest).get().getStatusCode());
+      runtime.close();
+      try {
+        secondClient.enrich(personRequest);
+        Assert.fail("Client of a closed runtime shouldn't send requests");
+      } catch (FullContactException e) {
+        Assert.assertTrue(e.getMessage().contains("shutdown"));
+      }
+    } finally {
+      runtime.close();
+      System.clearProperty("FC_TEST_ENV");
+    }
+  }
+
+  @Test
+  public void runtimeWithHttpClientOptionsTest() throws FullContactException {
+    exceptionRule.expect(FullContactException.class);
+    exceptionRule.expectMessage("httpClientOptions can't be used with a runtime");
+    try (FullContactRuntime runtime = FullContactRuntime.defaults()) {
+      FullContact.builder()
+          .credentialsProvider(new StaticApiKeyCredentialProvider("api-key"))
+          .runtime(runtime)
+          .httpClientOptions(HttpClientOptions.defaults())
+          .build();
+    }
+  }
 }
@@ -0,0 +1,107 @@
+package com.fullcontact.apilib.enrich;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GzipRequestInterceptorTest {
+  private static final MediaType JSON_MEDIA_TYPE =
+      MediaType.parse("application/json; charset=utf-8");
+
+  private final List<Request> requests = new ArrayList<>();
+  private final List<String> bodies = new ArrayList<>();
+
+  /** Client which answers requests locally, with 415 to compressed requests if rejectGzip */
+  private OkHttpClient client(GzipRequestInterceptor gzipRequestInterceptor, boolean rejectGzip) {
+    return new OkHttpClient.Builder()
+        .addInterceptor(gzipRequestInterceptor)
+        .addInterceptor(
+            chain -> {
+              Request request = chain.request();
+              Buffer body = new Buffer();
+              request.body().writeTo(body);
+              boolean gzip = "gzip".equals(request.header("Content-Encoding"));
+              this.requests.add(request);
+              this.bodies.add(
+                  gzip ? Okio.buffer(new GzipSource(body)).readUtf8() : body.readUtf8());
+              return new Response.Builder()
+                  .request(request)
+                  .protocol(Protocol.HTTP_1_1)
+                  .code(gzip && rejectGzip ? 415 : 200)
+                  .message("")
+                  .body(ResponseBody.create("{}", JSON_MEDIA_TYPE))
+                  .build();
+            })
+        .build();
+  }
+
+  private static Request request(String body) {
+    return new Request.Builder()
+        .url("https://api.fullcontact.com/v3/identity.resolve")
+        .post(RequestBody.create(body, JSON_MEDIA_TYPE))
+        .build();
+  }
+
+  private static String largeBody() {
+    StringBuilder body = new StringBuilder("{\"emails\":[");
+    for (int i = 0; i < 50; i++) {
+      body.append(i > 0 ? "," : "").append("\"user").append(i).append("@example.com\"");
+    }
+    return body.append("]}").toString();
+  }
+
+  @Test
+  public void largeBodyIsCompressedTest() throws IOException {
+    OkHttpClient client = this.client(new GzipRequestInterceptor(256), false);
+    String body = largeBody();
+    try (Response response = client.newCall(request(body)).execute()) {
+      Assert.assertEquals(200, response.code());
+    }
+    Assert.assertEquals("gzip", this.requests.get(0).header("Content-Encoding"));
+    Assert.assertTrue(this.requests.get(0).body().contentLength() < body.length());
+    Assert.assertEquals(body, this.bodies.get(0));
+  }
+
+  @Test
+  public void smallBodyIsNotCompressedTest() throws IOException {
+    OkHttpClient client = this.client(new GzipRequestInterceptor(256), false);
+    try (Response response = client.newCall(request("{\"email\":\"a@b.com\"}")).execute()) {
+      Assert.assertEquals(200, response.code());
+    }
+    Assert.assertNull(this.requests.get(0).header("Content-Encoding"));
+    Assert.assertEquals("{\"email\":\"a@b.com\"}", this.bodies.get(0));
+  }
+
+  @Test
+  public void rejectedCompressionFallsBackTest() throws IOException {
+    GzipRequestInterceptor gzipRequestInterceptor = new GzipRequestInterceptor(256);
+    OkHttpClient client = this.client(gzipRequestInterceptor, true);
+    String body = largeBody();
+    try (Response response = client.newCall(request(body)).execute()) {
+      Assert.assertEquals(200, response.code());
+    }
+    Assert.assertTrue(gzipRequestInterceptor.isRejected());
+    Assert.assertEquals(2, this.requests.size());
+    Assert.assertNull(this.requests.get(1).header("Content-Encoding"));
+    Assert.assertEquals(body, this.bodies.get(1));
+    // Further requests are sent uncompressed right away
+    try (Response response = client.newCall(request(body)).execute()) {
+      Assert.assertEquals(200, response.code());
+    }
+    Assert.assertEquals(3, this.requests.size());
+    Assert.assertNull(this.requests.get(2).header("Content-Encoding"));
+  }
+}
@@ -0,0 +1,107 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
+import com.fullcontact.apilib.cache.TinyLfuResponseCache;
+import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.Response.FCResponse;
+import com.fullcontact.apilib.models.Response.PersonResponse;
+import com.google.gson.Gson;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+public class NegativeCacheTest {
+  @Before
+  public void init() {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+  }
+
+  @After
+  public void reset() {
+    System.clearProperty("FC_TEST_ENV");
+  }
+
+  private static FullContact client(String testCode, TinyLfuResponseCache negativeCache)
+      throws FullContactException {
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", testCode);
+    return FullContact.builder()
+        .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+        .headers(customHeader)
+        .negativeCache(negativeCache)
+        .build();
+  }
+
+  @Test
+  public void knownMissIsAnsweredWithoutNetworkCallTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    TinyLfuResponseCache negativeCache = new TinyLfuResponseCache(1024 * 1024, 60_000);
+    PersonRequest personRequest =
+        FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build();
+    FullContact notFoundClient = client("tc_005", negativeCache);
+    PersonResponse response = notFoundClient.enrich(personRequest).get();
+    Assert.assertEquals(404, response.getStatusCode());
+    Assert.assertEquals(1, negativeCache.getStats().getEntryCount());
+    notFoundClient.close();
+
+    // This client would get a 200 from the API, so a 404 can only come from the negative cache
+    FullContact fcTest = client("tc_001", negativeCache);
+    PersonResponse cachedResponse = fcTest.enrich(personRequest).get();
+    Assert.assertTrue(cachedResponse.isSuccessful());
+    Assert.assertEquals(404, cachedResponse.getStatusCode());
+    Assert.assertEquals("Profile not found", cachedResponse.getMessage());
+    Assert.assertNull(cachedResponse.getFullName());
+    Assert.assertEquals(1, negativeCache.getStats().getHitCount());
+
+    PersonRequest otherRequest =
+        FullContact.buildPersonRequest().email("other@example.com").build();
+    Assert.assertEquals(200, fcTest.enrich(otherRequest).get().getStatusCode());
+    fcTest.close();
+  }
+
+  @Test
+  public void successfulResponsesAreNotCachedTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    TinyLfuResponseCache negativeCache = new TinyLfuResponseCache(1024 * 1024, 60_000);
+    FullContact fcTest = client("tc_001", negativeCache);
+    PersonRequest personRequest =
+        FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build();
+    Assert.assertEquals(200, fcTest.enrich(personRequest).get().getStatusCode());
+    Assert.assertEquals(0, negativeCache.getStats().getEntryCount());
+    fcTest.close();
+  }
+
+  @Test
+  public void negativeCacheHoldsResponseJsonTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    List<String> cachedResponses = new ArrayList<>();
+    TinyLfuResponseCache negativeCache =
+        new TinyLfuResponseCache(1024 * 1024, 60_000) {
+          @Override
+          public void put(String key, String response) {
+            cachedResponses.add(response);
+            super.put(key, response);
+          }
+        };
+    FullContact fcTest = client("tc_005", negativeCache);
+    Assert.assertEquals(
+        404,
+        fcTest
+            .enrich(FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build())
+            .get()
+            .getStatusCode());
+    fcTest.close();
+    Assert.assertEquals(1, cachedResponses.size());
+    FCResponse cachedResponse = new Gson().fromJson(cachedResponses.get(0), FCResponse.class);
+    Assert.assertTrue(cachedResponse.isSuccessful());
+    Assert.assertEquals(404, cachedResponse.getStatusCode());
+    Assert.assertEquals("Profile not found", cachedResponse.getMessage());
+  }
+}
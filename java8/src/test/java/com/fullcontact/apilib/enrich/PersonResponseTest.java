@@ -4,6 +4,7 @@ import com.fullcontact.apilib.FullContactException;
 import com.fullcontact.apilib.auth.CredentialsProvider;
 import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
 import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.Response.FieldMask;
 import com.fullcontact.apilib.models.Response.PersonResponse;
 import org.junit.After;
 import org.junit.Assert;
@@ -61,7 +62,7 @@ public class PersonResponseTest {
     Assert.assertEquals("Ross", response.getDetails().get().getName().getFamily());
     Assert.assertEquals("Marquita H Ross", response.getDetails().get().getName().getFull());
     Assert.assertEquals("35-44", response.getDetails().get().getAge().getRange());
-    Assert.assertEquals(42, (int) response.getDetails().get().getAge().getValue());
+    Assert.assertEquals(42, response.getDetails().get().getAge().getValue());
     Assert.assertEquals("Female", response.getDetails().get().getGender());
     Assert.assertEquals(2, response.getFamilyInfo().get().getTotalAdults());
     Assert.assertEquals(1, response.getFamilyInfo().get().getTotalChildren());
@@ -314,4 +315,45 @@ public class PersonResponseTest {
             .getMessage()
             .contains("Input domain parameter (\"fullcontact\") does not contain a valid domain."));
   }
+
+  @Test
+  public void lazyPersonDetailsTest()
+      throws FullContactException, InterruptedException, ExecutionException {
+    CredentialsProvider staticCredentialsProvider = new StaticApiKeyCredentialProvider("fc_test");
+    customHeader.put("testCode", "tc_001");
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(staticCredentialsProvider)
+            .headers(customHeader)
+            .lazyPersonDetails(true)
+            .build();
+    PersonRequest personRequest =
+        FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build();
+    PersonResponse response = fcTest.enrich(personRequest).get();
+    Assert.assertTrue(response.isSuccessful());
+    Assert.assertEquals("Marquita H Ross", response.getFullName());
+    Assert.assertEquals("Marquita", response.getDetails().get().getName().getGiven());
+    Assert.assertEquals("35-44", response.getDetails().get().getAge().getRange());
+  }
+
+  @Test
+  public void personFieldMaskTest()
+      throws FullContactException, InterruptedException, ExecutionException {
+    CredentialsProvider staticCredentialsProvider = new StaticApiKeyCredentialProvider("fc_test");
+    customHeader.put("testCode", "tc_001");
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(staticCredentialsProvider)
+            .headers(customHeader)
+            .personFieldMask(FieldMask.of("details.employment"))
+            .build();
+    PersonRequest personRequest =
+        FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build();
+    PersonResponse response = fcTest.enrich(personRequest).get();
+    Assert.assertTrue(response.isSuccessful());
+    Assert.assertEquals(200, response.getStatusCode());
+    Assert.assertNull(response.getFullName());
+    Assert.assertNull(response.getDetails().get().getName());
+    Assert.assertEquals("Mostow Co.", response.getEmploymentList().get().get(0).getName());
+  }
 }
@@ -0,0 +1,166 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
+import com.fullcontact.apilib.coalescing.RequestCoalescer;
+import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.Response.PersonResponse;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestCoalescerTest {
+  @Before
+  public void init() {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+  }
+
+  @After
+  public void reset() {
+    System.clearProperty("FC_TEST_ENV");
+  }
+
+  private static PersonRequest personRequest(String email) {
+    return FullContact.buildPersonRequest().email(email).build();
+  }
+
+  @Test
+  public void equalRequestsInFlightShareResponseTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    AtomicInteger calls = new AtomicInteger();
+    CompletableFuture<String> response = new CompletableFuture<>();
+    RequestCoalescer.Call<String> call =
+        () -> {
+          calls.incrementAndGet();
+          return response;
+        };
+    CompletableFuture<String> first =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("a@example.com"), call);
+    CompletableFuture<String> second =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("a@example.com"), call);
+    Assert.assertEquals(1, calls.get());
+    Assert.assertEquals(1, coalescer.getInFlightCount());
+    response.complete("response");
+    Assert.assertSame(first.get(), second.get());
+    Assert.assertEquals(2, coalescer.getRequestCount());
+    Assert.assertEquals(1, coalescer.getCoalescedCount());
+    Assert.assertEquals(0, coalescer.getInFlightCount());
+  }
+
+  @Test
+  public void differentRequestsAndEndpointsAreNotCoalescedTest() throws FullContactException {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    AtomicInteger calls = new AtomicInteger();
+    RequestCoalescer.Call<String> call =
+        () -> {
+          calls.incrementAndGet();
+          return new CompletableFuture<>();
+        };
+    coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("a@example.com"), call);
+    coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("b@example.com"), call);
+    coalescer.coalesce(FCApiEndpoint.IDENTITY_RESOLVE, personRequest("a@example.com"), call);
+    Assert.assertEquals(3, calls.get());
+    Assert.assertEquals(0, coalescer.getCoalescedCount());
+  }
+
+  @Test
+  public void completedRequestIsSentAgainTest() throws FullContactException {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    AtomicInteger calls = new AtomicInteger();
+    RequestCoalescer.Call<String> call =
+        () -> {
+          calls.incrementAndGet();
+          return CompletableFuture.completedFuture("response");
+        };
+    coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("a@example.com"), call);
+    coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, personRequest("a@example.com"), call);
+    Assert.assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void failureIsSharedTest() throws FullContactException, InterruptedException {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    CompletableFuture<String> response = new CompletableFuture<>();
+    CompletableFuture<String> first =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, "request", () -> response);
+    CompletableFuture<String> second =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, "request", () -> response);
+    response.completeExceptionally(new IllegalStateException("failed"));
+    for (CompletableFuture<String> cf : Arrays.asList(first, second)) {
+      try {
+        cf.get();
+        Assert.fail();
+      } catch (ExecutionException e) {
+        Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+      }
+    }
+  }
+
+  @Test
+  public void cancellingOneCallerDoesNotAffectOthersTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    CompletableFuture<String> response = new CompletableFuture<>();
+    CompletableFuture<String> first =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, "request", () -> response);
+    CompletableFuture<String> second =
+        coalescer.coalesce(FCApiEndpoint.PERSON_ENRICH, "request", () -> response);
+    first.cancel(true);
+    response.complete("response");
+    Assert.assertEquals("response", second.get());
+  }
+
+  @Test
+  public void callExceptionIsThrownAndNotLeftInFlightTest() {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    try {
+      coalescer.coalesce(
+          FCApiEndpoint.PERSON_ENRICH,
+          "request",
+          () -> {
+            throw new FullContactException("failed");
+          });
+      Assert.fail();
+    } catch (FullContactException e) {
+      Assert.assertEquals("failed", e.getMessage());
+    }
+    Assert.assertEquals(0, coalescer.getInFlightCount());
+  }
+
+  @Test
+  public void clientCoalescesEnrichRequestsTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", "tc_001");
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .headers(customHeader)
+            .coalesceRequests(true)
+            .rateLimit(FCApiEndpoint.PERSON_ENRICH, 10, 1)
+            .build();
+    // Uses up the burst, so the next request waits in the rate limiter while the others arrive
+    fcTest.enrich(personRequest("other@example.com"));
+    List<CompletableFuture<PersonResponse>> responses = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      responses.add(fcTest.enrich(personRequest("marquitaross006@gmail.com")));
+    }
+    for (CompletableFuture<PersonResponse> response : responses) {
+      Assert.assertTrue(response.get().isSuccessful());
+    }
+    Assert.assertEquals(4, fcTest.getRequestCoalescer().getRequestCount());
+    Assert.assertEquals(2, fcTest.getRequestCoalescer().getCoalescedCount());
+    fcTest.close();
+  }
+}
@@ -0,0 +1,94 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.retry.HashedWheelTimer;
+import com.fullcontact.apilib.retry.RetryTimer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares scheduling and cancelling retries with the scheduler of the client and with a {@link
+ * HashedWheelTimer}, with 10k, 100k and 1M retries pending at once, as after a burst of 429
+ * responses. Retries are scheduled from several threads, like the callbacks of responses, with
+ * delays between 1 and 60 seconds so that none of them runs during the measurement.
+ *
+ * <p>Not a test, run with {@code java -cp ... com.fullcontact.apilib.enrich.RetryTimerBenchmark}.
+ */
+public class RetryTimerBenchmark {
+  private static final int THREADS = 4;
+  private static final int[] PENDING_RETRIES = {10_000, 100_000, 1_000_000};
+  private static final int ROUNDS = 5;
+
+  public static void main(String[] args) throws InterruptedException {
+    System.out.printf(
+        "%-24s %10s %14s %14s%n", "timer", "pending", "schedule ns/op", "cancel ns/op");
+    for (int pendingRetries : PENDING_RETRIES) {
+      for (int round = 0; round < ROUNDS; round++) {
+        // The first rounds warm up the JIT, only the last one is reported
+        boolean report = round == ROUNDS - 1;
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(5);
+        executor.setRemoveOnCancelPolicy(true);
+        run("ScheduledThreadPool", RetryTimer.of(executor), pendingRetries, report);
+        HashedWheelTimer hashedWheelTimer =
+            new HashedWheelTimer(HashedWheelTimer.DEFAULT_TICK_MILLIS, executor);
+        run("HashedWheelTimer", hashedWheelTimer, pendingRetries, report);
+        hashedWheelTimer.close();
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  private static void run(String name, RetryTimer retryTimer, int pendingRetries, boolean report)
+      throws InterruptedException {
+    int perThread = pendingRetries / THREADS;
+    List<List<RetryTimer.Timeout>> timeouts = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      timeouts.add(new ArrayList<>(perThread));
+    }
+    long scheduleNanos =
+        inThreads(
+            thread -> {
+              List<RetryTimer.Timeout> threadTimeouts = timeouts.get(thread);
+              ThreadLocalRandom random = ThreadLocalRandom.current();
+              for (int i = 0; i < perThread; i++) {
+                threadTimeouts.add(retryTimer.schedule(() -> {}, random.nextLong(1000, 60_000)));
+              }
+            });
+    long cancelNanos =
+        inThreads(
+            thread -> {
+              for (RetryTimer.Timeout timeout : timeouts.get(thread)) {
+                timeout.cancel();
+              }
+            });
+    if (report) {
+      int operations = perThread * THREADS;
+      System.out.printf(
+          "%-24s %10d %14d %14d%n",
+          name, operations, scheduleNanos / operations, cancelNanos / operations);
+    }
+  }
+
+  private interface ThreadTask {
+    void run(int thread);
+  }
+
+  /** @return time taken by the threads running the task at the same time */
+  private static long inThreads(ThreadTask task) throws InterruptedException {
+    Thread[] threads = new Thread[THREADS];
+    for (int i = 0; i < THREADS; i++) {
+      int thread = i;
+      threads[i] = new Thread(() -> task.run(thread));
+    }
+    long start = System.nanoTime();
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    return System.nanoTime() - start;
+  }
+}
@@ -0,0 +1,241 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
+import com.fullcontact.apilib.cache.SegmentLogResponseCache;
+import com.fullcontact.apilib.models.Request.ResolveRequest;
+import com.fullcontact.apilib.models.Response.ResolveResponse;
+import com.fullcontact.apilib.models.Response.ResolveResponseWithTags;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+public class SegmentLogResponseCacheTest {
+  private static final String RESPONSE = "{\"fullName\":\"Marquita H Ross\"}";
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Before
+  public void init() {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+  }
+
+  @After
+  public void reset() {
+    System.clearProperty("FC_TEST_ENV");
+  }
+
+  private static long segmentCount(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+
+  @Test
+  public void hitAndMissTest() throws IOException {
+    SegmentLogResponseCache cache =
+        new SegmentLogResponseCache(temporaryFolder.getRoot().toPath(), 60_000);
+    Assert.assertNull(cache.get("key"));
+    cache.put("key", RESPONSE);
+    Assert.assertEquals(RESPONSE, cache.get("key"));
+    Assert.assertEquals(1, cache.getStats().getHitCount());
+    Assert.assertEquals(1, cache.getStats().getMissCount());
+    Assert.assertEquals(1, cache.getStats().getEntryCount());
+    cache.close();
+  }
+
+  @Test
+  public void responsesSurviveReopenTest() throws IOException {
+    Path directory = temporaryFolder.getRoot().toPath();
+    SegmentLogResponseCache cache = new SegmentLogResponseCache(directory, 60_000);
+    cache.put("key1", RESPONSE);
+    cache.put("key2", "{}");
+    cache.put("key1", "{\"fullName\":\"Updated\"}");
+    cache.close();
+
+    SegmentLogResponseCache reopened = new SegmentLogResponseCache(directory, 60_000);
+    Assert.assertEquals("{\"fullName\":\"Updated\"}", reopened.get("key1"));
+    Assert.assertEquals("{}", reopened.get("key2"));
+    Assert.assertEquals(2, reopened.getStats().getEntryCount());
+    reopened.close();
+  }
+
+  @Test
+  public void entryExpiresAfterTtlTest() throws IOException, InterruptedException {
+    SegmentLogResponseCache cache =
+        new SegmentLogResponseCache(temporaryFolder.getRoot().toPath(), 50);
+    cache.put("key", RESPONSE);
+    Assert.assertEquals(RESPONSE, cache.get("key"));
+    Thread.sleep(100);
+    Assert.assertNull(cache.get("key"));
+    Assert.assertEquals(1, cache.getStats().getExpirationCount());
+    cache.close();
+  }
+
+  @Test
+  public void segmentsRollWhenFullTest() throws IOException {
+    Path directory = temporaryFolder.getRoot().toPath();
+    SegmentLogResponseCache cache = new SegmentLogResponseCache(directory, 60_000, 1024);
+    for (int i = 0; i < 50; i++) {
+      cache.put("key" + i, RESPONSE);
+    }
+    Assert.assertTrue(segmentCount(directory) > 1);
+    for (int i = 0; i < 50; i++) {
+      Assert.assertEquals(RESPONSE, cache.get("key" + i));
+    }
+    cache.close();
+  }
+
+  @Test
+  public void compactionRemovesDeadRecordsTest() throws IOException {
+    Path directory = temporaryFolder.getRoot().toPath();
+    SegmentLogResponseCache cache = new SegmentLogResponseCache(directory, 60_000, 1024);
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 5; i++) {
+        cache.put("key" + i, RESPONSE);
+      }
+    }
+    long logSizeBytes = cache.getLogSizeBytes();
+    cache.compact();
+    Assert.assertTrue(cache.getLogSizeBytes() < logSizeBytes);
+    Assert.assertEquals(cache.getStats().getSizeBytes(), cache.getLogSizeBytes());
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals(RESPONSE, cache.get("key" + i));
+    }
+    cache.close();
+
+    SegmentLogResponseCache reopened = new SegmentLogResponseCache(directory, 60_000, 1024);
+    Assert.assertEquals(5, reopened.getStats().getEntryCount());
+    Assert.assertEquals(RESPONSE, reopened.get("key4"));
+    reopened.close();
+  }
+
+  @Test
+  public void logSizeIsBoundedByAutomaticCompactionTest() throws IOException {
+    Path directory = temporaryFolder.getRoot().toPath();
+    SegmentLogResponseCache cache = new SegmentLogResponseCache(directory, 60_000, 1024);
+    for (int round = 0; round < 200; round++) {
+      cache.put("key" + (round % 3), RESPONSE);
+    }
+    Assert.assertTrue(segmentCount(directory) <= 2);
+    Assert.assertEquals(3, cache.getStats().getEntryCount());
+    cache.close();
+  }
+
+  @Test
+  public void corruptedRecordIsIgnoredOnReopenTest() throws IOException {
+    Path directory = temporaryFolder.getRoot().toPath();
+    SegmentLogResponseCache cache = new SegmentLogResponseCache(directory, 60_000, 1024);
+    cache.put("key1", RESPONSE);
+    cache.put("key2", RESPONSE);
+    cache.close();
+    Path segment;
+    try (Stream<Path> files = Files.list(directory)) {
+      segment = files.findFirst().get();
+    }
+    // Overwrites the last byte of the second record's response, as if the write was cut short
+    long secondRecordEnd = 2 * (cache.getLogSizeBytes() / 2);
+    try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+      file.seek(secondRecordEnd - 9);
+      file.write('x');
+    }
+
+    SegmentLogResponseCache reopened = new SegmentLogResponseCache(directory, 60_000, 1024);
+    Assert.assertEquals(RESPONSE, reopened.get("key1"));
+    Assert.assertNull(reopened.get("key2"));
+    reopened.close();
+  }
+
+  @Test
+  public void invalidateAllTest() throws IOException {
+    Path directory = temporaryFolder.getRoot().toPath();
+    SegmentLogResponseCache cache = new SegmentLogResponseCache(directory, 60_000);
+    cache.put("key", RESPONSE);
+    cache.invalidateAll();
+    Assert.assertNull(cache.get("key"));
+    cache.close();
+    SegmentLogResponseCache reopened = new SegmentLogResponseCache(directory, 60_000);
+    Assert.assertNull(reopened.get("key"));
+    reopened.close();
+  }
+
+  @Test
+  public void clientAnswersResolveFromStoreAfterRestartTest()
+      throws FullContactException, IOException, ExecutionException, InterruptedException {
+    Path directory = temporaryFolder.getRoot().toPath();
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", "tc_102");
+    ResolveRequest resolveRequest =
+        FullContact.buildResolveRequest().email("test").recordId("customer123").build();
+
+    SegmentLogResponseCache responseStore = new SegmentLogResponseCache(directory, 60_000);
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .headers(customHeader)
+            .responseStore(responseStore)
+            .build();
+    ResolveResponse response = fcTest.identityResolve(resolveRequest).get();
+    fcTest.close();
+    responseStore.close();
+
+    SegmentLogResponseCache reopenedStore = new SegmentLogResponseCache(directory, 60_000);
+    FullContact restartedClient =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .headers(customHeader)
+            .responseStore(reopenedStore)
+            .build();
+    ResolveResponse storedResponse = restartedClient.identityResolve(resolveRequest).get();
+    Assert.assertEquals(1, reopenedStore.getStats().getHitCount());
+    Assert.assertEquals(200, storedResponse.getStatusCode());
+    Assert.assertEquals(response.getRecordIds(), storedResponse.getRecordIds());
+    Assert.assertEquals(response.getPersonIds(), storedResponse.getPersonIds());
+    restartedClient.close();
+    reopenedStore.close();
+  }
+
+  @Test
+  public void resolveWithTagsIsNotAnsweredWithResolveResponseTest()
+      throws FullContactException, IOException, ExecutionException, InterruptedException {
+    SegmentLogResponseCache responseStore =
+        new SegmentLogResponseCache(temporaryFolder.getRoot().toPath(), 60_000);
+    ResolveRequest resolveRequest =
+        FullContact.buildResolveRequest().email("test").recordId("customer123").build();
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", "tc_102");
+    FullContact resolveClient =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .headers(customHeader)
+            .responseStore(responseStore)
+            .build();
+    Assert.assertEquals(200, resolveClient.identityResolve(resolveRequest).get().getStatusCode());
+    resolveClient.close();
+
+    customHeader.put("testCode", "tc_104");
+    FullContact tagsClient =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .headers(customHeader)
+            .responseStore(responseStore)
+            .build();
+    ResolveResponseWithTags response = tagsClient.identityResolveWithTags(resolveRequest).get();
+    Assert.assertEquals(0, responseStore.getStats().getHitCount());
+    Assert.assertEquals(2, response.getTags().get("customer123").size());
+    Assert.assertEquals(2, responseStore.getStats().getEntryCount());
+    tagsClient.close();
+    responseStore.close();
+  }
+}
@@ -0,0 +1,195 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
+import com.fullcontact.apilib.cache.CacheStats;
+import com.fullcontact.apilib.cache.TinyLfuResponseCache;
+import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.Response.PersonResponse;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class TinyLfuResponseCacheTest {
+  private static final String RESPONSE = "{\"fullName\":\"Marquita H Ross\"}";
+
+  @Before
+  public void init() {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+  }
+
+  @After
+  public void reset() {
+    System.clearProperty("FC_TEST_ENV");
+  }
+
+  @Test
+  public void hitAndMissTest() {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(1024 * 1024, 60_000);
+    Assert.assertNull(cache.get("key"));
+    cache.put("key", RESPONSE);
+    Assert.assertEquals(RESPONSE, cache.get("key"));
+    CacheStats stats = cache.getStats();
+    Assert.assertEquals(1, stats.getHitCount());
+    Assert.assertEquals(1, stats.getMissCount());
+    Assert.assertEquals(1, stats.getEntryCount());
+    Assert.assertTrue(stats.getSizeBytes() > 0);
+    Assert.assertEquals(0.5, stats.getHitRate(), 0.001);
+  }
+
+  @Test
+  public void entryExpiresAfterTtlTest() throws InterruptedException {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(1024 * 1024, 50);
+    cache.put("key", RESPONSE);
+    Assert.assertEquals(RESPONSE, cache.get("key"));
+    Thread.sleep(100);
+    Assert.assertNull(cache.get("key"));
+    Assert.assertEquals(1, cache.getStats().getExpirationCount());
+    Assert.assertEquals(0, cache.getStats().getEntryCount());
+  }
+
+  @Test
+  public void sizeIsBoundedTest() {
+    long maxSizeBytes = 64 * 1024;
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(maxSizeBytes, 60_000);
+    for (int i = 0; i < 10_000; i++) {
+      cache.put("key" + i, RESPONSE);
+      Assert.assertTrue(cache.getStats().getSizeBytes() <= maxSizeBytes);
+    }
+    Assert.assertTrue(cache.getStats().getEvictionCount() > 0);
+    Assert.assertTrue(cache.getStats().getEntryCount() < 10_000);
+  }
+
+  @Test
+  public void frequentlyUsedEntriesSurviveScanTest() {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(64 * 1024, 60_000);
+    for (int i = 0; i < 10; i++) {
+      cache.put("hot" + i, RESPONSE);
+    }
+    // Moves the hot entries out of the LRU window into the main cache
+    for (int i = 0; i < 20; i++) {
+      cache.put("filler" + i, RESPONSE);
+    }
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 10; i++) {
+        Assert.assertNotNull(cache.get("hot" + i));
+      }
+    }
+    // Records enriched only once shouldn't push out the frequently used ones
+    for (int i = 0; i < 5_000; i++) {
+      cache.get("cold" + i);
+      cache.put("cold" + i, RESPONSE);
+    }
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals(RESPONSE, cache.get("hot" + i));
+    }
+  }
+
+  @Test
+  public void oversizedResponseIsNotCachedTest() {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(100, 60_000);
+    cache.put("key", new String(new char[200]));
+    Assert.assertNull(cache.get("key"));
+    Assert.assertEquals(0, cache.getStats().getSizeBytes());
+  }
+
+  @Test
+  public void putReplacesEntryTest() {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(1024 * 1024, 60_000);
+    cache.put("key", "{}");
+    cache.put("key", RESPONSE);
+    Assert.assertEquals(RESPONSE, cache.get("key"));
+    Assert.assertEquals(1, cache.getStats().getEntryCount());
+  }
+
+  @Test
+  public void invalidateAllTest() {
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(1024 * 1024, 60_000);
+    cache.put("key", RESPONSE);
+    cache.invalidateAll();
+    Assert.assertNull(cache.get("key"));
+    Assert.assertEquals(0, cache.getStats().getSizeBytes());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidTtlTest() {
+    new TinyLfuResponseCache(1024, 0);
+  }
+
+  @Test
+  public void clientAnswersEnrichFromCacheTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", "tc_001");
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(1024 * 1024, 60_000);
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .headers(customHeader)
+            .responseCache(cache)
+            .build();
+    PersonRequest personRequest =
+        FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build();
+    PersonResponse response = fcTest.enrich(personRequest).get();
+    PersonResponse cachedResponse = fcTest.enrich(personRequest).get();
+    Assert.assertNotSame(response, cachedResponse);
+    Assert.assertTrue(cachedResponse.isSuccessful());
+    Assert.assertEquals(200, cachedResponse.getStatusCode());
+    Assert.assertEquals("OK", cachedResponse.getMessage());
+    Assert.assertEquals(response.getFullName(), cachedResponse.getFullName());
+    Assert.assertEquals(response.getDetails().isPresent(), cachedResponse.getDetails().isPresent());
+    Assert.assertEquals(1, cache.getStats().getHitCount());
+    Assert.assertEquals(1, cache.getStats().getMissCount());
+    fcTest.close();
+  }
+
+  @Test
+  public void cacheHitCompletesOnCallbackExecutorTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", "tc_001");
+    ExecutorService callbackExecutor =
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "fc-callback"));
+    TinyLfuResponseCache cache = new TinyLfuResponseCache(1024 * 1024, 60_000);
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .headers(customHeader)
+            .responseCache(cache)
+            .callbackExecutor(callbackExecutor)
+            .build();
+    try {
+      PersonRequest personRequest =
+          FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build();
+      fcTest.enrich(personRequest).get();
+      // Keep the callback thread busy until the callback is chained
+      CountDownLatch callbackChained = new CountDownLatch(1);
+      callbackExecutor.execute(
+          () -> {
+            try {
+              callbackChained.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      CompletableFuture<String> callbackThreadCF =
+          fcTest
+              .enrich(personRequest)
+              .thenApply(personResponse -> Thread.currentThread().getName());
+      callbackChained.countDown();
+      Assert.assertEquals("fc-callback", callbackThreadCF.get());
+      Assert.assertEquals(1, cache.getStats().getHitCount());
+    } finally {
+      fcTest.close();
+      callbackExecutor.shutdown();
+    }
+  }
+}
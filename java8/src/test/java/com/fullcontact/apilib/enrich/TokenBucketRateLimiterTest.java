@@ -0,0 +1,105 @@
+package com.fullcontact.apilib.enrich;
+
+import com.fullcontact.apilib.FullContactException;
+import com.fullcontact.apilib.auth.StaticApiKeyCredentialProvider;
+import com.fullcontact.apilib.models.Request.PersonRequest;
+import com.fullcontact.apilib.models.Response.PersonResponse;
+import com.fullcontact.apilib.models.enums.FCApiEndpoint;
+import com.fullcontact.apilib.ratelimit.TokenBucketRateLimiter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucketRateLimiterTest {
+  @Before
+  public void init() {
+    System.setProperty("FC_TEST_ENV", "FC_TEST");
+  }
+
+  @After
+  public void reset() {
+    System.clearProperty("FC_TEST_ENV");
+  }
+
+  @Test
+  public void burstIsSentWithoutWaitingTest() {
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 5);
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals(0, rateLimiter.reserve());
+    }
+    long waitNanos = rateLimiter.reserve();
+    Assert.assertTrue(waitNanos > TimeUnit.MILLISECONDS.toNanos(900));
+    Assert.assertTrue(waitNanos <= TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  public void requestsOverBurstAreSpacedByRateTest() {
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10, 1);
+    Assert.assertEquals(0, rateLimiter.reserve());
+    long first = rateLimiter.reserve();
+    long second = rateLimiter.reserve();
+    Assert.assertTrue(first > TimeUnit.MILLISECONDS.toNanos(90));
+    Assert.assertTrue(second - first > TimeUnit.MILLISECONDS.toNanos(90));
+    Assert.assertTrue(second - first <= TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  public void submitDelaysCallUntilPermitIsFreeTest()
+      throws ExecutionException, InterruptedException {
+    ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(20, 1);
+    long start = System.nanoTime();
+    CompletableFuture<Long> first =
+        rateLimiter.submit(() -> CompletableFuture.completedFuture(System.nanoTime()), scheduler);
+    CompletableFuture<Long> second =
+        rateLimiter.submit(() -> CompletableFuture.completedFuture(System.nanoTime()), scheduler);
+    Assert.assertTrue(first.isDone());
+    Assert.assertTrue(second.get() - start >= TimeUnit.MILLISECONDS.toNanos(45));
+    scheduler.shutdown();
+  }
+
+  @Test
+  public void clientRateLimitsEndpointTest()
+      throws FullContactException, ExecutionException, InterruptedException {
+    HashMap<String, String> customHeader = new HashMap<>();
+    customHeader.put("testCode", "tc_001");
+    FullContact fcTest =
+        FullContact.builder()
+            .credentialsProvider(new StaticApiKeyCredentialProvider("fc_test"))
+            .headers(customHeader)
+            .rateLimit(FCApiEndpoint.PERSON_ENRICH, 20, 2)
+            .build();
+    PersonRequest personRequest =
+        FullContact.buildPersonRequest().email("marquitaross006@gmail.com").build();
+    long start = System.nanoTime();
+    List<CompletableFuture<PersonResponse>> responses = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      responses.add(fcTest.enrich(personRequest));
+    }
+    for (CompletableFuture<PersonResponse> response : responses) {
+      Assert.assertTrue(response.get().isSuccessful());
+    }
+    Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(95));
+    fcTest.close();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidRateTest() {
+    new TokenBucketRateLimiter(0, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidBurstTest() {
+    new TokenBucketRateLimiter(1, 0);
+  }
+}